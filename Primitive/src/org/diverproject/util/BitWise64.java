@@ -119,7 +119,7 @@ public class BitWise64
 
 	public void unset(long propertie)
 	{
-		value -= value & propertie;
+		value &= ~propertie;
 	}
 
 	/**
@@ -133,26 +133,23 @@ public class BitWise64
 	{
 		StringBuilder str = new StringBuilder();
 
-		if (propertieNames.length == 0 || propertieNames == null)
+		if (propertieNames == null || propertieNames.length == 0)
 			str.append(Long.toBinaryString(value));
 
 		else
 		{
-			String binary = Long.toString(value);
-
-			for (int i = 0; i < binary.length(); i++)
+			for (long bits = value; bits != 0; bits &= bits - 1)
 			{
-				if (binary.charAt(i) == '0')
-					continue;
+				int i = Long.numberOfTrailingZeros(bits);
+
+				if (str.length() > 0)
+					str.append(", ");
 
 				if (i >= propertieNames.length)
 					str.append("BIT" +i);
 
 				else
 					str.append(propertieNames[i]);
-
-				if (i < binary.length() - 1)
-					str.append(", ");
 			}
 		}
 
@@ -210,6 +207,6 @@ public class BitWise64
 
 	public static long unset(long value, long propertie)
 	{
-		return (value -= value & propertie);
+		return value & ~propertie;
 	}
 }
@@ -119,7 +119,7 @@ public class BitWise8
 
 	public void unset(int propertie)
 	{
-		value -= value & propertie;
+		value &= ~propertie;
 	}
 
 	/**
@@ -133,26 +133,23 @@ public class BitWise8
 	{
 		StringBuilder str = new StringBuilder();
 
-		if (propertieNames.length == 0 || propertieNames == null)
-			str.append(Integer.toBinaryString(value));
+		if (propertieNames == null || propertieNames.length == 0)
+			str.append(Integer.toBinaryString(value & 0xFF));
 
 		else
 		{
-			String binary = Integer.toString(value);
-
-			for (int i = 0; i < binary.length(); i++)
+			for (int bits = value & 0xFF; bits != 0; bits &= bits - 1)
 			{
-				if (binary.charAt(i) == '0')
-					continue;
+				int i = Integer.numberOfTrailingZeros(bits);
+
+				if (str.length() > 0)
+					str.append(", ");
 
 				if (i >= propertieNames.length)
 					str.append("BIT" +i);
 
 				else
 					str.append(propertieNames[i]);
-
-				if (i < binary.length() - 1)
-					str.append(", ");
 			}
 		}
 
@@ -210,6 +207,6 @@ public class BitWise8
 
 	public static byte unset(byte value, int propertie)
 	{
-		return (value -= value & propertie);
+		return (byte) (value & ~propertie);
 	}
 }
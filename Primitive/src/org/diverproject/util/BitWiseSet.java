@@ -0,0 +1,596 @@
+package org.diverproject.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * <p><h1>Conjunto Bit Wise</h1></p>
+ *
+ * <p>Funciona como um BitWise porm sem se limitar aos bits de um nico nmero, podendo ter qualquer
+ * quantidade de bits. Os bits so guardados em um vetor de long, de modo que as operaes entre
+ * conjuntos (and, or, andNot e xor) e a contagem de bits so feitas de 64 em 64 bits.</p>
+ *
+ * <p>Os nomes das propriedades descrevem os bits de um registro, sendo que o conjunto pode ser visto
+ * como uma tabela onde cada registro (uma entidade por exemplo) ocupa uma quantidade de bits igual a
+ * quantidade de propriedades. Assim o bit de uma propriedade de um registro fica na posio
+ * <code>registro * propriedades + propriedade</code>. Sem nomes cada registro possui apenas um bit.</p>
+ *
+ * <p>A procura pelo nome de uma propriedade percorre os nomes, portanto para consultas frequentes o
+ * ndice da propriedade deve ser obtido uma nica vez atravs de <code>propertie(String)</code>.</p>
+ *
+ * @see BitWise
+ * @see BitWise64
+ *
+ * @author Andrew
+ */
+
+public class BitWiseSet
+{
+	/**
+	 * Quantidade de bits para obter o ndice de um long a partir do ndice de um bit.
+	 */
+	private static final int WORD_SHIFT = 6;
+
+	/**
+	 * Vetor que ir guardar o nome das propriedades.
+	 */
+	private String propertieNames[];
+
+	/**
+	 * Vetor contendo os bits do conjunto, 64 bits em cada long.
+	 */
+	private long words[];
+
+	/**
+	 * Quantidade de bits do conjunto.
+	 */
+	private int length;
+
+	/**
+	 * Quantidade de bits ocupados por cada registro.
+	 */
+	private int stride;
+
+	/**
+	 * Constri um novo conjunto bit wise contendo um nico registro com as propriedades.
+	 * @param propertieNames nome das propriedades de cada registro.
+	 */
+
+	public BitWiseSet(String... propertieNames)
+	{
+		this(1, propertieNames);
+	}
+
+	/**
+	 * Constri um novo conjunto bit wise com uma quantidade de registros especificada.
+	 * Caso nenhum nome de propriedade seja passado cada registro ser um nico bit.
+	 * @param records quantidade de registros que o conjunto ir comportar.
+	 * @param propertieNames nome das propriedades de cada registro.
+	 */
+
+	public BitWiseSet(int records, String... propertieNames)
+	{
+		if (propertieNames == null)
+			propertieNames = new String[0];
+
+		this.propertieNames = propertieNames;
+		this.stride = Math.max(propertieNames.length, 1);
+
+		long bits = (long) records * stride;
+
+		if (records < 0 || bits > Integer.MAX_VALUE)
+			throw new UtilRuntimeException("quantidade de registros invlida (records: %d, stride: %d)", records, stride);
+
+		this.length = (int) bits;
+		this.words = new long[(length + Long.SIZE - 1) >>> WORD_SHIFT];
+	}
+
+	/**
+	 * @return aquisio da quantidade de bits do conjunto.
+	 */
+
+	public int length()
+	{
+		return length;
+	}
+
+	/**
+	 * @return aquisio da quantidade de registros do conjunto.
+	 */
+
+	public int records()
+	{
+		return length / stride;
+	}
+
+	/**
+	 * @return aquisio da quantidade de bits ocupados por cada registro.
+	 */
+
+	public int stride()
+	{
+		return stride;
+	}
+
+	/**
+	 * Procura o ndice de uma propriedade atravs do seu nome.
+	 * @param name nome da propriedade do qual deseja o ndice.
+	 * @return aquisio do ndice da propriedade dentro de um registro ou -1 se no existir.
+	 */
+
+	public int propertie(String name)
+	{
+		for (int i = 0; i < propertieNames.length; i++)
+			if (propertieNames[i].equals(name))
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Verifica se um determinado bit do conjunto est definido.
+	 * @param index ndice do bit que ser verificado.
+	 * @return true se estiver definido ou false caso contrrio.
+	 */
+
+	public boolean is(int index)
+	{
+		check(index);
+
+		return (words[index >>> WORD_SHIFT] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Define um determinado bit do conjunto, caso j esteja definido ir continuar como definido.
+	 * @param index ndice do bit que ser definido.
+	 */
+
+	public void set(int index)
+	{
+		check(index);
+
+		words[index >>> WORD_SHIFT] |= 1L << index;
+	}
+
+	/**
+	 * Desconsidera um determinado bit do conjunto, caso no esteja definido ir continuar sem definir.
+	 * @param index ndice do bit que ser desconsiderado.
+	 */
+
+	public void unset(int index)
+	{
+		check(index);
+
+		words[index >>> WORD_SHIFT] &= ~(1L << index);
+	}
+
+	/**
+	 * Inverte um determinado bit do conjunto, se estiver definido ser desconsiderado e vice-versa.
+	 * @param index ndice do bit que ser invertido.
+	 */
+
+	public void flip(int index)
+	{
+		check(index);
+
+		words[index >>> WORD_SHIFT] ^= 1L << index;
+	}
+
+	/**
+	 * Verifica se uma propriedade de um registro est definida.
+	 * @param record nmero do registro que ser verificado.
+	 * @param propertie ndice da propriedade dentro do registro.
+	 * @return true se estiver definida ou false caso contrrio.
+	 */
+
+	public boolean is(int record, int propertie)
+	{
+		return is(bit(record, propertie));
+	}
+
+	/**
+	 * Define uma propriedade de um registro.
+	 * @param record nmero do registro que ter a propriedade definida.
+	 * @param propertie ndice da propriedade dentro do registro.
+	 */
+
+	public void set(int record, int propertie)
+	{
+		set(bit(record, propertie));
+	}
+
+	/**
+	 * Desconsidera uma propriedade de um registro.
+	 * @param record nmero do registro que ter a propriedade desconsiderada.
+	 * @param propertie ndice da propriedade dentro do registro.
+	 */
+
+	public void unset(int record, int propertie)
+	{
+		unset(bit(record, propertie));
+	}
+
+	/**
+	 * Verifica se uma propriedade de um registro est definida atravs do nome da propriedade.
+	 * @param record nmero do registro que ser verificado.
+	 * @param name nome da propriedade que ser verificada.
+	 * @return true se estiver definida ou false caso contrrio.
+	 */
+
+	public boolean is(int record, String name)
+	{
+		return is(record, named(name));
+	}
+
+	/**
+	 * Define uma propriedade de um registro atravs do nome da propriedade.
+	 * @param record nmero do registro que ter a propriedade definida.
+	 * @param name nome da propriedade que ser definida.
+	 */
+
+	public void set(int record, String name)
+	{
+		set(record, named(name));
+	}
+
+	/**
+	 * Desconsidera uma propriedade de um registro atravs do nome da propriedade.
+	 * @param record nmero do registro que ter a propriedade desconsiderada.
+	 * @param name nome da propriedade que ser desconsiderada.
+	 */
+
+	public void unset(int record, String name)
+	{
+		unset(record, named(name));
+	}
+
+	/**
+	 * Define todos os bits dentro de um intervalo, um long inteiro  escrito por vez.
+	 * @param from ndice do primeiro bit que ser definido.
+	 * @param to ndice do bit aps o ltimo que ser definido.
+	 */
+
+	public void setRange(int from, int to)
+	{
+		checkRange(from, to);
+
+		if (from == to)
+			return;
+
+		int first = from >>> WORD_SHIFT;
+		int last = (to - 1) >>> WORD_SHIFT;
+		long firstMask = -1L << from;
+		long lastMask = -1L >>> -to;
+
+		if (first == last)
+			words[first] |= firstMask & lastMask;
+
+		else
+		{
+			words[first] |= firstMask;
+			Arrays.fill(words, first + 1, last, -1L);
+			words[last] |= lastMask;
+		}
+	}
+
+	/**
+	 * Desconsidera todos os bits dentro de um intervalo, um long inteiro  escrito por vez.
+	 * @param from ndice do primeiro bit que ser desconsiderado.
+	 * @param to ndice do bit aps o ltimo que ser desconsiderado.
+	 */
+
+	public void unsetRange(int from, int to)
+	{
+		checkRange(from, to);
+
+		if (from == to)
+			return;
+
+		int first = from >>> WORD_SHIFT;
+		int last = (to - 1) >>> WORD_SHIFT;
+		long firstMask = -1L << from;
+		long lastMask = -1L >>> -to;
+
+		if (first == last)
+			words[first] &= ~(firstMask & lastMask);
+
+		else
+		{
+			words[first] &= ~firstMask;
+			Arrays.fill(words, first + 1, last, 0L);
+			words[last] &= ~lastMask;
+		}
+	}
+
+	/**
+	 * Desconsidera todos os bits do conjunto.
+	 */
+
+	public void clear()
+	{
+		Arrays.fill(words, 0L);
+	}
+
+	/**
+	 * Mantm definidos apenas os bits que tambm estejam definidos em outro conjunto.
+	 * Os bits alm do tamanho do outro conjunto sero desconsiderados.
+	 * @param set referncia do conjunto do qual ser feita a operao.
+	 */
+
+	public void and(BitWiseSet set)
+	{
+		int common = Math.min(words.length, set.words.length);
+
+		for (int i = 0; i < common; i++)
+			words[i] &= set.words[i];
+
+		Arrays.fill(words, common, words.length, 0L);
+	}
+
+	/**
+	 * Define os bits que estejam definidos em outro conjunto.
+	 * Os bits do outro conjunto alm do tamanho desse conjunto so ignorados.
+	 * @param set referncia do conjunto do qual ser feita a operao.
+	 */
+
+	public void or(BitWiseSet set)
+	{
+		int common = Math.min(words.length, set.words.length);
+
+		for (int i = 0; i < common; i++)
+			words[i] |= set.words[i];
+
+		trim();
+	}
+
+	/**
+	 * Desconsidera os bits que estejam definidos em outro conjunto.
+	 * @param set referncia do conjunto do qual ser feita a operao.
+	 */
+
+	public void andNot(BitWiseSet set)
+	{
+		int common = Math.min(words.length, set.words.length);
+
+		for (int i = 0; i < common; i++)
+			words[i] &= ~set.words[i];
+	}
+
+	/**
+	 * Inverte os bits que estejam definidos em outro conjunto.
+	 * Os bits do outro conjunto alm do tamanho desse conjunto so ignorados.
+	 * @param set referncia do conjunto do qual ser feita a operao.
+	 */
+
+	public void xor(BitWiseSet set)
+	{
+		int common = Math.min(words.length, set.words.length);
+
+		for (int i = 0; i < common; i++)
+			words[i] ^= set.words[i];
+
+		trim();
+	}
+
+	/**
+	 * Verifica se h ao menos um bit definido em ambos os conjuntos.
+	 * @param set referncia do conjunto do qual ser verificado.
+	 * @return true se houver algum bit em comum ou false caso contrrio.
+	 */
+
+	public boolean intersects(BitWiseSet set)
+	{
+		int common = Math.min(words.length, set.words.length);
+
+		for (int i = 0; i < common; i++)
+			if ((words[i] & set.words[i]) != 0)
+				return true;
+
+		return false;
+	}
+
+	/**
+	 * @return aquisio da quantidade de bits definidos no conjunto.
+	 */
+
+	public int cardinality()
+	{
+		int count = 0;
+
+		for (long word : words)
+			count += Long.bitCount(word);
+
+		return count;
+	}
+
+	/**
+	 * @return true se nenhum bit estiver definido ou false caso contrrio.
+	 */
+
+	public boolean isEmpty()
+	{
+		for (long word : words)
+			if (word != 0)
+				return false;
+
+		return true;
+	}
+
+	/**
+	 * Procura o prximo bit definido a partir de um determinado bit, incluindo o mesmo.
+	 * Os longs sem bits definidos so pulados sem que os seus bits sejam verificados.
+	 * @param from ndice do bit de onde a procura deve comear.
+	 * @return aquisio do ndice do bit definido ou -1 se no houver mais bits definidos.
+	 */
+
+	public int nextSetBit(int from)
+	{
+		if (from < 0)
+			throw new UtilRuntimeException("bit %d invlido", from);
+
+		if (from >= length)
+			return -1;
+
+		int i = from >>> WORD_SHIFT;
+		long word = words[i] & (-1L << from);
+
+		while (word == 0)
+		{
+			if (++i == words.length)
+				return -1;
+
+			word = words[i];
+		}
+
+		return (i << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+	}
+
+	/**
+	 * Procura o prximo bit no definido a partir de um determinado bit, incluindo o mesmo.
+	 * @param from ndice do bit de onde a procura deve comear.
+	 * @return aquisio do ndice do bit no definido ou -1 se todos estiverem definidos.
+	 */
+
+	public int nextClearBit(int from)
+	{
+		if (from < 0)
+			throw new UtilRuntimeException("bit %d invlido", from);
+
+		if (from >= length)
+			return -1;
+
+		int i = from >>> WORD_SHIFT;
+		long word = ~words[i] & (-1L << from);
+
+		while (word == 0)
+		{
+			if (++i == words.length)
+				return -1;
+
+			word = ~words[i];
+		}
+
+		int index = (i << WORD_SHIFT) + Long.numberOfTrailingZeros(word);
+
+		return index < length ? index : -1;
+	}
+
+	/**
+	 * Percorre todos os bits definidos do conjunto em ordem crescente sem criar nenhum objeto.
+	 * @param consumer referncia do consumidor que ir receber o ndice de cada bit definido.
+	 */
+
+	public void forEach(IntConsumer consumer)
+	{
+		for (int i = 0; i < words.length; i++)
+			for (long word = words[i]; word != 0; word &= word - 1)
+				consumer.accept((i << WORD_SHIFT) + Long.numberOfTrailingZeros(word));
+	}
+
+	/**
+	 * Procedimento interno que ir obter o ndice do bit de uma propriedade de um registro.
+	 * @param record nmero do registro.
+	 * @param propertie ndice da propriedade dentro do registro.
+	 * @return aquisio do ndice do bit no conjunto.
+	 */
+
+	private int bit(int record, int propertie)
+	{
+		if (propertie < 0 || propertie >= stride)
+			throw new UtilRuntimeException("propriedade %d invlida (stride: %d)", propertie, stride);
+
+		return record * stride + propertie;
+	}
+
+	/**
+	 * Procedimento interno que ir obter o ndice de uma propriedade que deve existir.
+	 * @param name nome da propriedade do qual deseja o ndice.
+	 * @return aquisio do ndice da propriedade dentro de um registro.
+	 */
+
+	private int named(String name)
+	{
+		int propertie = propertie(name);
+
+		if (propertie == -1)
+			throw new UtilRuntimeException("propriedade '%s' no encontrada", name);
+
+		return propertie;
+	}
+
+	/**
+	 * Procedimento interno que ir desconsiderar os bits do ltimo long alm do tamanho do conjunto.
+	 */
+
+	private void trim()
+	{
+		if (words.length > 0 && (length & (Long.SIZE - 1)) != 0)
+			words[words.length - 1] &= -1L >>> -length;
+	}
+
+	/**
+	 * Procedimento interno que ir verificar se um bit est dentro do conjunto.
+	 * @param index ndice do bit que ser verificado.
+	 */
+
+	private void check(int index)
+	{
+		if (index < 0 || index >= length)
+			throw new UtilRuntimeException("bit %d invlido (length: %d)", index, length);
+	}
+
+	/**
+	 * Procedimento interno que ir verificar se um intervalo de bits est dentro do conjunto.
+	 * @param from ndice do primeiro bit do intervalo.
+	 * @param to ndice do bit aps o ltimo do intervalo.
+	 */
+
+	private void checkRange(int from, int to)
+	{
+		if (from < 0 || to > length || from > to)
+			throw new UtilRuntimeException("intervalo %d~%d invlido (length: %d)", from, to, length);
+	}
+
+	/**
+	 * Constri uma string que ir guardar todas as propriedades definidas de um registro.
+	 * Ir considerar o nome das propriedades passado no construtor ou ento caso no
+	 * tenha sido definido ir usar o padro BIT{nmero do bit}.
+	 * @param record nmero do registro do qual deseja as propriedades.
+	 * @return string contendo todas as propriedades definidas separadas por vrgula.
+	 */
+
+	public String toStringProperties(int record)
+	{
+		StringBuilder str = new StringBuilder();
+
+		for (int i = 0; i < stride; i++)
+		{
+			if (!is(record, i))
+				continue;
+
+			if (str.length() > 0)
+				str.append(", ");
+
+			if (i >= propertieNames.length)
+				str.append("BIT").append(i);
+
+			else
+				str.append(propertieNames[i]);
+		}
+
+		return str.toString();
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("length", length);
+		description.append("records", records());
+		description.append("stride", stride);
+		description.append("cardinality", cardinality());
+
+		return description.toString();
+	}
+}
@@ -1,6 +1,7 @@
 package org.diverproject.util.collection;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 
 import org.diverproject.util.lang.HexUtil;
 import org.diverproject.util.lang.ShortUtil;
@@ -49,14 +50,8 @@ public class ArrayUtil
 		if (index < 0 || index >= array.length)
 			return false;
 
-		for (int i = index; i < array.length - 1; i++)
-			array[i] = array[i + 1];
-
-		try {
-			array[array.length - 1] = null;
-		} catch (Exception e) {
-			
-		}
+		System.arraycopy(array, index + 1, array, index, array.length - index - 1);
+		array[array.length - 1] = null;
 
 		return true;
 	}
@@ -77,14 +72,8 @@ public class ArrayUtil
 		if (index < 0 || index >= array.length)
 			return false;
 
-		for (int i = array.length - 1; i > index; i--)
-			array[i] = array[i - 1];
-
-		try {
-			array[index] = null;
-		} catch (Exception e) {
-			
-		}
+		System.arraycopy(array, index, array, index + 1, array.length - index - 1);
+		array[index] = null;
 
 		return true;
 	}
@@ -102,13 +91,7 @@ public class ArrayUtil
 
 	public static Object[] resizeTo(Object[] array, int length)
 	{
-		Object old[] = array;
-		array = new Object[length];
-
-		for (int i = 0; i < old.length && i < array.length; i++)
-			array[i] = old[i];
-
-		return array;
+		return Arrays.copyOf(array, length, Object[].class);
 	}
 
 	/**
@@ -124,19 +107,10 @@ public class ArrayUtil
 
 	public static Object[] increseIn(Object[] array, int length)
 	{
-		if (array == null || (long) (array.length + length) > Integer.MAX_VALUE)
+		if (array == null || (long) array.length + length > Integer.MAX_VALUE)
 			return null;
 
-		Object old[] = array;
-		Class<?> generic = Object.class;
-
-		length += array.length;
-		array = (Object[]) Array.newInstance(generic, length);
-
-		for (int i = 0; i < old.length && i < array.length; i++)
-			array[i] = old[i];
-
-		return array;
+		return Arrays.copyOf(array, array.length + length, Object[].class);
 	}
 
 	/**
@@ -154,18 +128,13 @@ public class ArrayUtil
 	@SuppressWarnings("unchecked")
 	public static <T> T[] increseIn(Class<T> generic, T[] array, int length)
 	{
-		if (array == null || (long) (array.length + length) > Integer.MAX_VALUE)
+		if (array == null || (long) array.length + length > Integer.MAX_VALUE)
 			return null;
 
-		T old[] = array;
+		T copy[] = (T[]) Array.newInstance(generic, array.length + length);
+		System.arraycopy(array, 0, copy, 0, array.length);
 
-		length += array.length;
-		array = (T[]) Array.newInstance(generic, length);
-
-		for (int i = 0; i < old.length && i < array.length; i++)
-			array[i] = old[i];
-
-		return array;
+		return copy;
 	}
 
 	/**
@@ -185,16 +154,7 @@ public class ArrayUtil
 		if (array == null || length > array.length)
 			return null;
 
-		Object old[] = array;
-		Class<?> generic = Object.class;
-
-		length = array.length - length;
-		array = (Object[]) Array.newInstance(generic, length);
-
-		for (int i = 0; i < old.length && i < array.length; i++)
-			array[i] = old[i];
-
-		return array;
+		return Arrays.copyOf(array, array.length - length, Object[].class);
 	}
 
 	/**
@@ -216,15 +176,10 @@ public class ArrayUtil
 		if (array == null || length > array.length)
 			return null;
 
-		T old[] = array;
-
-		length = array.length - length;
-		array = (T[]) Array.newInstance(generic, length);
-
-		for (int i = 0; i < old.length && i < array.length; i++)
-			array[i] = old[i];
+		T copy[] = (T[]) Array.newInstance(generic, array.length - length);
+		System.arraycopy(array, 0, copy, 0, copy.length);
 
-		return array;
+		return copy;
 	}
 
 	/**
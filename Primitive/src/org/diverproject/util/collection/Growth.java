@@ -0,0 +1,36 @@
+package org.diverproject.util.collection;
+
+/**
+ * <p><h1>Crescimento</h1></p>
+ *
+ * <p>Poltica usada pelas colees dinmicas para decidir a capacidade do vetor interno.
+ * Sempre que faltar espao a coleo pergunta qual ser o novo comprimento do vetor,
+ * e aps remover elementos pergunta se o vetor deve ser reduzido e para quanto.</p>
+ *
+ * <p>Permite que cada coleo dinmica utilize um crescimento diferente de acordo com o uso.
+ * Um crescimento geomtrico garante custo constante na mdia para adicionar elementos,
+ * enquanto um crescimento fixo economiza memria em colees pequenas e estveis.</p>
+ *
+ * @author Andrew
+ */
+
+public interface Growth
+{
+	/**
+	 * Calcula o comprimento que o vetor deve ter quando no houver mais espao.
+	 * @param length comprimento atual do vetor interno da coleo.
+	 * @param required quantidade mnima de elementos que o vetor precisa comportar.
+	 * @return aquisio do novo comprimento, nunca menor que o mnimo necessrio.
+	 */
+
+	int grow(int length, int required);
+
+	/**
+	 * Calcula o comprimento que o vetor deve ter aps elementos serem removidos.
+	 * @param length comprimento atual do vetor interno da coleo.
+	 * @param size quantidade de elementos que esto armazenados na coleo.
+	 * @return aquisio do novo comprimento ou o comprimento atual se no for reduzir.
+	 */
+
+	int shrink(int length, int size);
+}
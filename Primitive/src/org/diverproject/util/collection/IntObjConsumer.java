@@ -0,0 +1,24 @@
+package org.diverproject.util.collection;
+
+/**
+ * <p><h1>Consumidor de Inteiro e Objeto</h1></p>
+ *
+ * <p>Interface funcional usada pelas colees que possuem chaves do tipo int primitivo.
+ * Permite percorrer os elementos de um mapeador recebendo a chave sem que esta precise
+ * ser convertida para Integer, evitando a criao de objetos durante a iterao.</p>
+ *
+ * @author Andrew
+ *
+ * @param <E> qual ser o tipo de dado que ser recebido junto da chave.
+ */
+
+public interface IntObjConsumer<E>
+{
+	/**
+	 * Procedimento chamado para cada chave e elemento que for percorrido.
+	 * @param key valor primitivo da chave respectiva ao elemento.
+	 * @param element referncia do elemento que est ligado a chave.
+	 */
+
+	void accept(int key, E element);
+}
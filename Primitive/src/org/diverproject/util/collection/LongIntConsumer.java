@@ -0,0 +1,21 @@
+package org.diverproject.util.collection;
+
+/**
+ * <p><h1>Consumidor de Longs e Inteiros</h1></p>
+ *
+ * <p>Interface funcional usada pelos mapeadores com chaves do tipo long e valores do tipo int primitivos.
+ * Permite percorrer as chaves e valores do mapeador sem que estes precisem ser convertidos para objetos.</p>
+ *
+ * @author Andrew
+ */
+
+public interface LongIntConsumer
+{
+	/**
+	 * Procedimento chamado para cada chave e valor que for percorrido.
+	 * @param key valor primitivo da chave.
+	 * @param value valor primitivo que est ligado a chave.
+	 */
+
+	void accept(long key, int value);
+}
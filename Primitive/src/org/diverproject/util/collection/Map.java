@@ -1,6 +1,7 @@
 package org.diverproject.util.collection;
 
 import java.util.Iterator;
+import java.util.function.BiConsumer;
 
 import org.diverproject.util.ObjectDescription;
 
@@ -115,6 +116,22 @@ public interface Map<K, E> extends Collection<E>
 
 	Iterable<MapItem<K, E>> iterateItems();
 
+	/**
+	 * Percorre todos os elementos do mapeador repassando-os junto de suas chaves.
+	 * Deve ser feito diretamente sobre a estrutura do mapeador, sem criar objetos por elemento.
+	 * @param action procedimento que ir receber cada chave e o seu respectivo elemento.
+	 */
+
+	void forEach(BiConsumer<? super K, ? super E> action);
+
+	/**
+	 * Cria um novo cursor posicionado antes do primeiro elemento do mapeador.
+	 * O mesmo cursor pode ser usado em diversas passagens atravs de reset().
+	 * @return aquisio de um cursor para percorrer as chaves e elementos.
+	 */
+
+	MapCursor<K, E> cursor();
+
 	/**
 	 * <p><h1>Item Mapeado</h1></p>
 	 *
@@ -178,4 +195,50 @@ public interface Map<K, E> extends Collection<E>
 			return description.toString();
 		}
 	}
+
+	/**
+	 * <p><h1>Cursor de Mapa</h1></p>
+	 *
+	 * <p>Alternativa ao item mapeado para percorrer as chaves e elementos sem criar objetos.
+	 * O cursor  avanado um elemento por vez e a chave e o elemento em que est posicionado
+	 * so obtidos diretamente da estrutura do mapeador, podendo ser reiniciado para reutiliz-lo.</p>
+	 *
+	 * <p>Assim como os iteradores, alterar o mapeador enquanto um cursor estiver sendo usado
+	 * pode fazer com que elementos sejam pulados ou repetidos.</p>
+	 *
+	 * @author Andrew
+	 *
+	 * @param <K> qual o tipo da chave usada.
+	 * @param <E> qual o tipo do elemento usado.
+	 */
+
+	public interface MapCursor<K, E>
+	{
+		/**
+		 * Posiciona o cursor no prximo elemento do mapeador.
+		 * @return true se houver um prximo elemento ou false se chegou ao fim.
+		 */
+
+		boolean advance();
+
+		/**
+		 * Chave do elemento em que o cursor est posicionado.
+		 * @return aquisio da chave do elemento atual ou null se no estiver posicionado.
+		 */
+
+		K key();
+
+		/**
+		 * Elemento em que o cursor est posicionado.
+		 * @return aquisio do elemento atual ou null se no estiver posicionado.
+		 */
+
+		E value();
+
+		/**
+		 * Reposiciona o cursor antes do primeiro elemento do mapeador.
+		 */
+
+		void reset();
+	}
 }
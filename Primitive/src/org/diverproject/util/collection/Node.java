@@ -3,6 +3,7 @@ package org.diverproject.util.collection;
 import java.util.Iterator;
 
 import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.pool.Poolable;
 
 /**
  * <p><h1>N</h1></p>
@@ -30,7 +31,7 @@ import org.diverproject.util.ObjectDescription;
  * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
  */
 
-public class Node<E> implements Iterable<E>
+public class Node<E> implements Iterable<E>, Poolable
 {
 	/**
 	 * Referncia do valor que este n est armazenado.
@@ -119,6 +120,18 @@ public class Node<E> implements Iterable<E>
 		this.prev = prev;
 	}
 
+	/**
+	 * Remove o valor e as referncias do n anterior e seguinte, usado ao ser reciclado.
+	 */
+
+	@Override
+	public void reset()
+	{
+		value = null;
+		next = null;
+		prev = null;
+	}
+
 	@Override
 	public String toString()
 	{
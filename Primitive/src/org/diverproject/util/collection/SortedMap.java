@@ -0,0 +1,86 @@
+package org.diverproject.util.collection;
+
+import java.util.function.BiConsumer;
+
+/**
+ * <p><h1>Mapa Ordenado</h1></p>
+ *
+ * <p>Mapeador que mantm as suas chaves ordenadas, de acordo com a ordem natural das chaves (Comparable)
+ * ou de acordo com um comparador definido pela implementao. Alm das operaes de um mapa permite
+ * obter a menor e a maior chave, as chaves mais prximas de uma chave qualquer e percorrer
+ * apenas os elementos cujas chaves estejam dentro de um intervalo.</p>
+ *
+ * <p>Todas as iteraes de um mapa ordenado so feitas em ordem crescente das chaves.</p>
+ *
+ * @see Map
+ *
+ * @author Andrew
+ *
+ * @param <K> qual ser o tipo de dado que ser usado como chave.
+ * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
+ */
+
+public interface SortedMap<K, E> extends Map<K, E>
+{
+	/**
+	 * @return aquisio da menor chave do mapeador ou null se estiver vazio.
+	 */
+
+	K firstKey();
+
+	/**
+	 * @return aquisio da maior chave do mapeador ou null se estiver vazio.
+	 */
+
+	K lastKey();
+
+	/**
+	 * Procura a maior chave que seja menor ou igual a uma chave especificada.
+	 * @param key chave que ser usada como referncia na procura.
+	 * @return aquisio da chave encontrada ou null se no houver.
+	 */
+
+	K floorKey(K key);
+
+	/**
+	 * Procura a menor chave que seja maior ou igual a uma chave especificada.
+	 * @param key chave que ser usada como referncia na procura.
+	 * @return aquisio da chave encontrada ou null se no houver.
+	 */
+
+	K ceilingKey(K key);
+
+	/**
+	 * Procura a maior chave que seja menor que uma chave especificada.
+	 * @param key chave que ser usada como referncia na procura.
+	 * @return aquisio da chave encontrada ou null se no houver.
+	 */
+
+	K lowerKey(K key);
+
+	/**
+	 * Procura a menor chave que seja maior que uma chave especificada.
+	 * @param key chave que ser usada como referncia na procura.
+	 * @return aquisio da chave encontrada ou null se no houver.
+	 */
+
+	K higherKey(K key);
+
+	/**
+	 * Cria um novo cursor que ir percorrer apenas as chaves dentro de um intervalo.
+	 * @param from menor chave do intervalo (inclusive) ou null para iniciar na primeira chave.
+	 * @param to chave que encerra o intervalo (exclusive) ou null para ir at a ltima chave.
+	 * @return aquisio de um cursor posicionado antes da primeira chave do intervalo.
+	 */
+
+	MapCursor<K, E> subMap(K from, K to);
+
+	/**
+	 * Percorre apenas as chaves dentro de um intervalo repassando-as junto de seus elementos.
+	 * @param from menor chave do intervalo (inclusive) ou null para iniciar na primeira chave.
+	 * @param to chave que encerra o intervalo (exclusive) ou null para ir at a ltima chave.
+	 * @param action procedimento que ir receber cada chave e o seu respectivo elemento.
+	 */
+
+	void forEach(K from, K to, BiConsumer<? super K, ? super E> action);
+}
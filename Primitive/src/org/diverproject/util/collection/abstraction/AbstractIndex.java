@@ -1,9 +1,10 @@
 package org.diverproject.util.collection.abstraction;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.collection.ArrayUtil;
 import org.diverproject.util.collection.Index;
 
 /**
@@ -13,6 +14,10 @@ import org.diverproject.util.collection.Index;
  * Implementa alguns mtodos que so semelhantes entre a ndice esttica e dinmica.
  * Diferente de um vetor ele ir apenas ordenar por ndice mas no respectivamente.</p>
  *
+ * <p>Os ndices ficam em um vetor de int primitivo ordenado e os elementos em um vetor
+ * paralelo de objetos, assim a procura por um ndice  feita atravs de busca binria
+ * e para abrir ou fechar um espao os vetores so deslocados de uma s vez.</p>
+ *
  * <p>A diferena entre os dois modelos  uma funo adicional ao adicionar e remover.
  * No caso do dinmico o tamanho da lista  fixa e no dinmico pode ser varivel.</p>
  *
@@ -32,9 +37,14 @@ public abstract class AbstractIndex<E> extends AbstractCollection<E> implements
 	public static final int DEFAULT_SIZE = 10;
 
 	/**
-	 * Vetor que ir armazenar os elementos da lista.
+	 * Vetor ordenado contendo o ndice de cada elemento.
+	 */
+	protected int keys[];
+
+	/**
+	 * Vetor que ir armazenar os elementos na mesma posio dos seus ndices.
 	 */
-	protected Attach<E> elements[];
+	protected Object values[];
 
 	/**
 	 * Constri um novo ndice abstrata inicializando o vetor para armazenamento.
@@ -51,56 +61,212 @@ public abstract class AbstractIndex<E> extends AbstractCollection<E> implements
 	 * @param start quantos elementos podero ser armazenados nessa lista.
 	 */
 
-	@SuppressWarnings("unchecked")
 	public AbstractIndex(int start)
 	{
-		elements = new Attach[start];
+		keys = new int[start];
+		values = new Object[start];
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void clear()
 	{
+		Arrays.fill(values, 0, size, null);
 		size = 0;
-		elements = new Attach[elements.length];
 	}
 
 	@Override
 	public int length()
 	{
-		return elements.length;
+		return values.length;
 	}
 
 	@Override
 	public boolean contains(E element)
 	{
-		for (Object object : elements)
-			if (object != null)
-				if (object.equals(element))
-					return true;
+		return indexOf(element) != -1;
+	}
+
+	@Override
+	public boolean remove(E element)
+	{
+		int position = indexOf(element);
+
+		if (position == -1)
+			return false;
+
+		delete(position, 1);
+
+		return true;
+	}
+
+	@Override
+	public boolean remove(int index)
+	{
+		int first = lowerBound(index);
+
+		if (first == size || keys[first] != index)
+			return false;
+
+		int last = first + 1;
+
+		while (last < size && keys[last] == index)
+			last++;
+
+		delete(first, last - first);
+
+		return true;
+	}
+
+	@Override
+	public boolean update(int index, E element)
+	{
+		int position = find(index);
+
+		if (position == -1)
+			return false;
+
+		values[position] = element;
 
-		return false;
+		return true;
+	}
+
+	@Override
+	public boolean change(int first, int second)
+	{
+		int firstPosition = find(first);
+		int secondPosition = find(second);
+
+		if (firstPosition == -1 || secondPosition == -1)
+			return false;
+
+		Object aux = values[secondPosition];
+		values[secondPosition] = values[firstPosition];
+		values[firstPosition] = aux;
+
+		return true;
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
-	public boolean remove(E element)
+	public E get(int index)
+	{
+		int position = find(index);
+
+		return position == -1 ? null : (E) values[position];
+	}
+
+	/**
+	 * Insere um novo elemento na posio adequada para manter os ndices ordenados,
+	 * deve haver espao nos vetores para o elemento ser inserido.
+	 * @param index ndice do elemento que ser inserido.
+	 * @param element referncia do elemento que ser inserido.
+	 * @param repeat permitir que o ndice j exista, nesse caso o novo elemento
+	 * ficar aps os elementos que j possuem o mesmo ndice.
+	 * @return true se inserido ou false se o ndice j existir e no for permitido repetir.
+	 */
+
+	protected boolean insert(int index, E element, boolean repeat)
+	{
+		int position = lowerBound(index);
+
+		if (position < size && keys[position] == index)
+		{
+			if (!repeat)
+				return false;
+
+			while (position < size && keys[position] == index)
+				position++;
+		}
+
+		System.arraycopy(keys, position, keys, position + 1, size - position);
+		System.arraycopy(values, position, values, position + 1, size - position);
+
+		keys[position] = index;
+		values[position] = element;
+		size++;
+
+		return true;
+	}
+
+	/**
+	 * Remove uma sequncia de elementos deslocando os seguintes para trs.
+	 * @param position posio nos vetores do primeiro elemento a ser removido.
+	 * @param count quantidade de elementos que sero removidos.
+	 */
+
+	private void delete(int position, int count)
+	{
+		System.arraycopy(keys, position + count, keys, position, size - position - count);
+		System.arraycopy(values, position + count, values, position, size - position - count);
+
+		Arrays.fill(values, size - count, size, null);
+		size -= count;
+	}
+
+	/**
+	 * Busca binria pela primeira posio cujo ndice no  menor que o especificado.
+	 * @param index ndice do qual deseja encontrar a posio.
+	 * @return aquisio da posio encontrada ou o tamanho se todos forem menores.
+	 */
+
+	protected int lowerBound(int index)
+	{
+		int low = 0;
+		int high = size;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if (keys[middle] < index)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		return low;
+	}
+
+	/**
+	 * Procura a posio do primeiro elemento com um determinado ndice.
+	 * @param index ndice do elemento do qual deseja encontrar a posio.
+	 * @return aquisio da posio do elemento ou -1 se no houver.
+	 */
+
+	protected int find(int index)
+	{
+		int position = lowerBound(index);
+
+		return position < size && keys[position] == index ? position : -1;
+	}
+
+	/**
+	 * Procura a posio da primeira ocorrncia de um elemento.
+	 * @param element referncia do elemento que ser procurado.
+	 * @return aquisio da posio do elemento ou -1 se no for encontrado.
+	 */
+
+	private int indexOf(E element)
 	{
 		if (element == null)
-			return false;
+			return -1;
 
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i] != null)
-				if (elements[i].value.equals(element))
-					if (ArrayUtil.moveLeft(elements, i))
-					{
-						size--;
+		for (int i = 0; i < size; i++)
+			if (element.equals(values[i]))
+				return i;
 
-						if (elements.length - size >= DEFAULT_SIZE)
-							elements = (Attach<E>[]) ArrayUtil.decreaseIn(Attach.class, elements, DEFAULT_SIZE);
-					}
+		return -1;
+	}
+
+	/**
+	 * Altera o comprimento dos vetores internos mantendo os elementos.
+	 * @param length novo comprimento dos vetores, no pode ser menor que o tamanho.
+	 */
 
-		return false;
+	protected void resize(int length)
+	{
+		keys = Arrays.copyOf(keys, length);
+		values = Arrays.copyOf(values, length);
 	}
 
 	@Override
@@ -113,23 +279,17 @@ public abstract class AbstractIndex<E> extends AbstractCollection<E> implements
 			@Override
 			public boolean hasNext()
 			{
-				return iteration != size;
+				return iteration < size;
 			}
 
 			@Override
 			@SuppressWarnings("unchecked")
 			public E next()
 			{
-				for (int i = iteration; i < elements.length; i++)
-					if (elements[i] != null)
-					{
-						iteration++;
-						Object selected = elements[i].value;
-
-						return (E) selected;
-					}
+				if (iteration >= size)
+					throw new NoSuchElementException();
 
-				return null;
+				return (E) values[iteration++];
 			}
 
 			@Override
@@ -139,7 +299,7 @@ public abstract class AbstractIndex<E> extends AbstractCollection<E> implements
 
 				description.append("iteration", iteration);
 				description.append("size", size);
-				description.append("elements", elements.length);
+				description.append("elements", values.length);
 
 				return description.toString();
 			}
@@ -154,22 +314,9 @@ public abstract class AbstractIndex<E> extends AbstractCollection<E> implements
 		description.append("size", size());
 		description.append("length", length());
 
-		for (Attach<E> attach : elements)
-			if (attach != null)
-				description.append(attach);
+		for (int i = 0; i < size; i++)
+			description.append(String.format("%d: %s", keys[i], values[i]));
 
 		return description.toString();
 	}
-
-	protected static class Attach<E>
-	{
-		public int i;
-		public E value;
-
-		@Override
-		public String toString()
-		{
-			return String.format("%d: %s", i, value);
-		}
-	}
 }
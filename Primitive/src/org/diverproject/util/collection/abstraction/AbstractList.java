@@ -3,7 +3,6 @@ package org.diverproject.util.collection.abstraction;
 import java.util.Iterator;
 
 import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.collection.ArrayUtil;
 import org.diverproject.util.collection.List;
 
 /**
@@ -86,11 +85,10 @@ public abstract class AbstractList<E> extends AbstractCollection<E> implements L
 		if (element == null)
 			return false;
 
-		for (int i = 0; i < elements.length; i++)
+		for (int i = 0; i < size; i++)
 			if (elements[i] != null)
 				if (elements[i].equals(element))
-					if (ArrayUtil.moveLeft(elements, i))
-						return decreaseSize();
+					return remove(i);
 
 		return false;
 	}
@@ -98,12 +96,13 @@ public abstract class AbstractList<E> extends AbstractCollection<E> implements L
 	@Override
 	public boolean remove(int index)
 	{
-		boolean removed = false;
+		if (index < 0 || index >= size)
+			return false;
 
-		if (ArrayUtil.moveLeft(elements, index))
-			removed = decreaseSize();
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		elements[size - 1] = null;
 
-		return removed;
+		return decreaseSize();
 	}
 
 	@Override
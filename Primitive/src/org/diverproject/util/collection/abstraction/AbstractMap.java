@@ -1,10 +1,12 @@
 package org.diverproject.util.collection.abstraction;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.function.BiConsumer;
 
 import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.collection.ArrayUtil;
 import org.diverproject.util.collection.Map;
+import org.diverproject.util.pool.Pool;
 
 /**
  * <p><h1>Mapeador Abstrato</h1></p>
@@ -13,6 +15,17 @@ import org.diverproject.util.collection.Map;
  * Implementa alguns dos mtodos para um mapeador que so bsicos e de mesma ideia.
  * O restante  implementado obrigatoriamente pelos mapeadores mais especificados.</p>
  *
+ * <p>Os elementos ficam no vetor na ordem em que foram adicionados, enquanto um ndice
+ * espalhado (tabela de endereamento aberto) guarda a posio de cada chave no vetor.
+ * Assim as operaes por chave no precisam percorrer o vetor de elementos.</p>
+ *
+ * <p>Ao remover um elemento a sua posio no vetor apenas fica vazia, sem mover os demais.
+ * Quando houver muitas posies vazias o vetor  compactado mantendo a ordem de adio,
+ * o que tambm acontece quando for necessrio espao para um novo elemento.</p>
+ *
+ * <p>Opcionalmente os elementos mapeados removidos podem ser reciclados atravs de um pool
+ * compartilhado entre os mapeadores, evitando criar um novo objeto a cada chave adicionada.</p>
+ *
  * @see AbstractCollection
  * @see Map
  *
@@ -29,11 +42,36 @@ public abstract class AbstractMap<K, E> extends AbstractCollection<E> implements
 	 */
 	public static final int DEFAULT_SIZE = 16;
 
+	/**
+	 * Pool compartilhado pelos mapeadores para reciclagem dos elementos mapeados removidos.
+	 */
+	private static final Pool<MapElement<Object, Object>> ELEMENTS = new Pool<MapElement<Object, Object>>(() -> new MapElement<Object, Object>(null, null));
+
 	/**
 	 * Referncia mapeador dos elementos que podem ou j foram armazenados.
 	 */
 	protected MapElement<K, E> elements[];
 
+	/**
+	 * Quantas posies do vetor de elementos j foram utilizadas, incluindo as vazias.
+	 */
+	protected int end;
+
+	/**
+	 * Tabela espalhada contendo a posio de cada chave no vetor de elementos mais um.
+	 */
+	private int index[];
+
+	/**
+	 * Mscara usada para obter um ponto do ndice a partir de um cdigo hash.
+	 */
+	private int mask;
+
+	/**
+	 * Reciclagem dos elementos mapeados removidos.
+	 */
+	private boolean recycle;
+
 	/**
 	 * Constri um novo mapeador inicializando o vetor dos elementos.
 	 * No define nenhum tipo genrico para ser usado por toArray.
@@ -78,14 +116,21 @@ public abstract class AbstractMap<K, E> extends AbstractCollection<E> implements
 		setGeneric(generic);
 
 		elements = new MapElement[start];
+		allocate(start);
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void clear()
 	{
+		if (recycle)
+			for (int i = 0; i < end; i++)
+				recycle(elements[i]);
+
+		Arrays.fill(elements, 0, end, null);
+		Arrays.fill(index, 0);
+
 		size = 0;
-		elements = new MapElement[elements.length];
+		end = 0;
 	}
 
 	@Override
@@ -97,21 +142,379 @@ public abstract class AbstractMap<K, E> extends AbstractCollection<E> implements
 	@Override
 	public boolean contains(E element)
 	{
-		for (MapElement<K, E> hash : elements)
-			if (hash.value.equals(element))
-				return true;
-
-		return false;
+		return element != null && indexOf(element) != -1;
 	}
 
 	@Override
 	public boolean containsKey(K key)
 	{
-		for (MapElement<K, E> hash : elements)
-			if (hash != null && hash.key.equals(key))
-				return true;
+		return key != null && find(key, hash(key)) != -1;
+	}
+
+	@Override
+	public E get(K key)
+	{
+		if (key == null)
+			return null;
+
+		int slot = find(key, hash(key));
+
+		return slot == -1 ? null : elements[index[slot] - 1].value;
+	}
+
+	/**
+	 * Procedimento interno usado pelos mapeadores para adicionar um novo elemento.
+	 * Verifica se a chave j est em uso e caso no haja espao no vetor de elementos,
+	 * chama makeRoom() para que o mapeador possa compactar ou aumentar o vetor.
+	 * @param key chave que ser usada para definir a localizao do elemento.
+	 * @param element referncia do elemento do qual deseja adicionar ao mapeador.
+	 * @return true se conseguir adicionar false se valor nulo, chave usada ou sem espao.
+	 */
+
+	protected boolean insert(K key, E element)
+	{
+		if (key == null || element == null)
+			return false;
+
+		int hash = hash(key);
+
+		if (find(key, hash) != -1)
+			return false;
+
+		if (end == elements.length && !makeRoom())
+			return false;
+
+		MapElement<K, E> map = newElement(key, element);
+		map.hash = hash;
+
+		elements[end] = map;
+		link(end++);
+		size++;
+
+		return true;
+	}
+
+	/**
+	 * Permite saber se o mapeador est reciclando os elementos mapeados removidos.
+	 * @return true se estiver habilitado ou false caso contrrio.
+	 */
+
+	public boolean isRecycle()
+	{
+		return recycle;
+	}
+
+	/**
+	 * Definir a reciclagem ir devolver os elementos mapeados removidos a um pool compartilhado
+	 * entre os mapeadores, de onde sero obtidos os prximos elementos adicionados. Cursores no
+	 * devem continuar sendo usados aps a remoo de elementos enquanto estiver habilitado.
+	 * @param recycle true para habilitar ou false para desabilitar.
+	 */
+
+	public void setRecycle(boolean recycle)
+	{
+		this.recycle = recycle;
+	}
+
+	/**
+	 * Procedimento interno que ir obter um elemento mapeado para uma nova chave.
+	 * @param key chave que ser definida ao elemento mapeado.
+	 * @param element referncia do elemento que ser armazenado.
+	 * @return aquisio de um elemento mapeado reciclado se habilitado ou de um novo.
+	 */
+
+	@SuppressWarnings("unchecked")
+	private MapElement<K, E> newElement(K key, E element)
+	{
+		if (!recycle)
+			return new MapElement<K, E>(key, element);
+
+		MapElement<K, E> map = (MapElement<K, E>) (MapElement<?, ?>) ELEMENTS.acquire();
+		map.key = key;
+		map.value = element;
+
+		return map;
+	}
+
+	/**
+	 * Procedimento interno que ir devolver um elemento mapeado removido ao pool.
+	 * @param map referncia do elemento mapeado que foi removido, null  ignorado.
+	 */
+
+	@SuppressWarnings("unchecked")
+	private void recycle(MapElement<K, E> map)
+	{
+		ELEMENTS.release((MapElement<Object, Object>) (MapElement<?, ?>) map);
+	}
+
+	/**
+	 * Chamado quando todas as posies do vetor de elementos j foram utilizadas.
+	 * Por padro apenas compacta o vetor caso haja posies vazias de remoes.
+	 * @return true se houver espao aps o procedimento ou false caso contrrio.
+	 */
+
+	protected boolean makeRoom()
+	{
+		if (end == size)
+			return false;
+
+		resize(elements.length);
+
+		return true;
+	}
+
+	@Override
+	public boolean removeKey(K key)
+	{
+		if (key == null)
+			return false;
+
+		int slot = find(key, hash(key));
+
+		if (slot == -1)
+			return false;
+
+		delete(slot);
+
+		return true;
+	}
+
+	@Override
+	public boolean remove(E element)
+	{
+		if (element == null)
+			return false;
+
+		int position = indexOf(element);
+
+		if (position == -1)
+			return false;
+
+		MapElement<K, E> map = elements[position];
+		delete(find(map.key, map.hash));
+
+		return true;
+	}
+
+	@Override
+	public boolean renameKey(K oldKey, K newKey)
+	{
+		if (oldKey == null || newKey == null)
+			return false;
+
+		int hash = hash(newKey);
+
+		if (find(newKey, hash) != -1)
+			return false;
+
+		int slot = find(oldKey, hash(oldKey));
+
+		if (slot == -1)
+			return false;
+
+		int position = index[slot] - 1;
+
+		unlink(slot);
+
+		elements[position].key = newKey;
+		elements[position].hash = hash;
+
+		link(position);
+
+		return true;
+	}
+
+	@Override
+	public boolean update(K key, E value)
+	{
+		if (key == null || value == null)
+			return false;
+
+		int slot = find(key, hash(key));
+
+		if (slot == -1)
+			return false;
+
+		elements[index[slot] - 1].value = value;
+
+		return true;
+	}
+
+	/**
+	 * Redimensiona o vetor de elementos compactando os elementos na ordem em que foram adicionados.
+	 * O ndice espalhado  reconstrudo j que as posies dos elementos podem ter mudado.
+	 * @param length comprimento do novo vetor, no pode ser menor que o tamanho do mapeador.
+	 */
+
+	@SuppressWarnings("unchecked")
+	protected void resize(int length)
+	{
+		MapElement<K, E> old[] = elements;
+		int oldEnd = end;
+
+		elements = new MapElement[length];
+		end = 0;
+
+		for (int i = 0; i < oldEnd; i++)
+			if (old[i] != null)
+				elements[end++] = old[i];
+
+		allocate(length);
+
+		for (int i = 0; i < end; i++)
+			link(i);
+	}
+
+	/**
+	 * Procedimento interno que ir localizar o ponto do ndice ocupado por uma chave.
+	 * @param key chave do elemento do qual deseja encontrar o ponto no ndice.
+	 * @param hash cdigo hash espalhado da chave passada.
+	 * @return aquisio do ponto no ndice ou -1 caso a chave no tenha sido encontrada.
+	 */
+
+	private int find(K key, int hash)
+	{
+		int slot = hash & mask;
+
+		while (index[slot] != 0)
+		{
+			MapElement<K, E> map = elements[index[slot] - 1];
+
+			if (map.hash == hash && map.key.equals(key))
+				return slot;
+
+			slot = (slot + 1) & mask;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Procedimento interno que ir procurar a posio de um elemento no vetor de elementos.
+	 * @param element referncia do elemento do qual deseja encontrar a posio.
+	 * @return aquisio da posio do elemento no vetor ou -1 se no for encontrado.
+	 */
+
+	private int indexOf(E element)
+	{
+		for (int i = 0; i < end; i++)
+			if (elements[i] != null && elements[i].value.equals(element))
+				return i;
+
+		return -1;
+	}
 
-		return false;
+	/**
+	 * Procedimento interno que ir remover o elemento de um ponto do ndice.
+	 * A posio do elemento no vetor fica vazia, e caso existam muitas posies vazias
+	 * o vetor de elementos ser compactado para no desperdiar a iterao.
+	 * @param slot ponto do ndice que possui a posio do elemento a ser removido.
+	 */
+
+	private void delete(int slot)
+	{
+		int position = index[slot] - 1;
+
+		unlink(slot);
+
+		if (recycle)
+			recycle(elements[position]);
+
+		elements[position] = null;
+		size--;
+
+		if (position == end - 1)
+			while (end > 0 && elements[end - 1] == null)
+				end--;
+
+		else if (end - size > DEFAULT_SIZE && end - size > size)
+			resize(elements.length);
+	}
+
+	/**
+	 * Procedimento interno que ir adicionar ao ndice a posio de um elemento.
+	 * @param position posio do vetor de elementos que dever ser indexada.
+	 */
+
+	private void link(int position)
+	{
+		int slot = elements[position].hash & mask;
+
+		while (index[slot] != 0)
+			slot = (slot + 1) & mask;
+
+		index[slot] = position + 1;
+	}
+
+	/**
+	 * Procedimento interno que ir liberar um ponto do ndice que esteja ocupado.
+	 * Os pontos seguintes que foram deslocados por coliso so movidos para trs,
+	 * garantindo que nenhuma sondagem seja interrompida pelo ponto liberado.
+	 * @param slot ponto do ndice que est ocupado e dever ser liberado.
+	 */
+
+	private void unlink(int slot)
+	{
+		int next = slot;
+
+		while (true)
+		{
+			next = (next + 1) & mask;
+
+			if (index[next] == 0)
+				break;
+
+			int home = elements[index[next] - 1].hash & mask;
+
+			if (slot <= next ? (slot < home && home <= next) : (slot < home || home <= next))
+				continue;
+
+			index[slot] = index[next];
+			slot = next;
+		}
+
+		index[slot] = 0;
+	}
+
+	/**
+	 * Procedimento interno que ir criar o ndice espalhado para um vetor de elementos.
+	 * O ndice possui ao menos o dobro do comprimento do vetor para manter as sondagens curtas.
+	 * @param length comprimento do vetor de elementos que ser indexado.
+	 */
+
+	private void allocate(int length)
+	{
+		int capacity = Integer.highestOneBit(Math.max(length, 1)) << 2;
+
+		index = new int[capacity];
+		mask = capacity - 1;
+	}
+
+	/**
+	 * Procedimento que ir calcular o cdigo hash espalhado de uma determinada chave.
+	 * @param key chave do elemento do qual ser calculado o cdigo hash.
+	 * @return aquisio do cdigo hash espalhado da chave.
+	 */
+
+	protected int hash(K key)
+	{
+		int hash = key.hashCode() * 0x9E3779B9;
+
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Procedimento interno que ir obter a prxima posio ocupada no vetor de elementos.
+	 * @param position posio do vetor a partir da qual ser feita a procura.
+	 * @return aquisio da posio ocupada ou o fim das posies utilizadas se no houver.
+	 */
+
+	protected int nextPosition(int position)
+	{
+		while (position < end && elements[position] == null)
+			position++;
+
+		return position;
 	}
 
 	@Override
@@ -120,6 +523,7 @@ public abstract class AbstractMap<K, E> extends AbstractCollection<E> implements
 		return new Iterator<E>()
 		{
 			private int iterate;
+			private int position;
 
 			@Override
 			public boolean hasNext()
@@ -130,7 +534,10 @@ public abstract class AbstractMap<K, E> extends AbstractCollection<E> implements
 			@Override
 			public E next()
 			{
-				return elements[iterate++].value;
+				iterate++;
+				position = nextPosition(position);
+
+				return elements[position++].value;
 			}
 
 			@Override
@@ -148,68 +555,79 @@ public abstract class AbstractMap<K, E> extends AbstractCollection<E> implements
 	}
 
 	@Override
-	public boolean removeKey(K key)
+	public Iterator<K> iteratorKey()
 	{
-		for (int i = 0; i < size; i++)
+		return new Iterator<K>()
 		{
-			MapElement<K, E> hash = elements[i];
+			private int iterate;
+			private int position;
 
-			if (hash.key.equals(key))
-				if (ArrayUtil.moveLeft(elements, i))
-				{
-					size--;
-					return true;
-				}
-		}
+			@Override
+			public boolean hasNext()
+			{
+				return iterate < size;
+			}
 
-		return false;
-	}
+			@Override
+			public K next()
+			{
+				iterate++;
+				position = nextPosition(position);
 
-	@Override
-	public boolean remove(E element)
-	{
-		for (int i = 0; i < size; i++)
-		{
-			MapElement<K, E> hash = elements[i];
+				return elements[position++].key;
+			}
 
-			if (hash.value.equals(element))
+			@Override
+			public String toString()
 			{
-				size--;
-				return true;
-			}
-		}
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("iterate", iterate);
+				description.append("size", size);
 
-		return false;
+				return description.toString();
+			}
+		};
 	}
 
 	@Override
-	public boolean renameKey(K oldKey, K newKey)
+	public Iterator<MapItem<K, E>> iteratorItems()
 	{
-		for (MapElement<K, E> element : elements)
-			if (element != null && element.key.equals(oldKey))
+		return new Iterator<MapItem<K, E>>()
+		{
+			private int iterate;
+			private int position;
+
+			@Override
+			public boolean hasNext()
 			{
-				element.key = newKey;
-				return true;
+				return iterate < size;
 			}
 
-		return false;
-	}
+			@Override
+			public MapItem<K, E> next()
+			{
+				iterate++;
+				position = nextPosition(position);
 
-	@Override
-	public boolean update(K key, E value)
-	{
-		if (key == null || value == null)
-			return false;
+				MapElement<K, E> map = elements[position++];
 
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i] != null)
-				if (elements[i].key.equals(key))
-				{
-					elements[i].value = value;
-					return true;
-				}
+				return new MapItem<K, E>(map.key, map.value);
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("iterate", iterate);
+				description.append("size", size);
 
-		return false;
+				return description.toString();
+			}
+		};
 	}
 
 	@Override
@@ -238,15 +656,88 @@ public abstract class AbstractMap<K, E> extends AbstractCollection<E> implements
 		};
 	}
 
+	@Override
+	public void forEach(BiConsumer<? super K, ? super E> action)
+	{
+		for (int i = 0; i < end; i++)
+		{
+			MapElement<K, E> element = elements[i];
+
+			if (element != null)
+				action.accept(element.key, element.value);
+		}
+	}
+
+	@Override
+	public MapCursor<K, E> cursor()
+	{
+		return new MapCursor<K, E>()
+		{
+			private int position = -1;
+			private MapElement<K, E> element;
+
+			@Override
+			public boolean advance()
+			{
+				position = nextPosition(position + 1);
+
+				if (position >= end)
+				{
+					position = end;
+					element = null;
+
+					return false;
+				}
+
+				element = elements[position];
+
+				return true;
+			}
+
+			@Override
+			public K key()
+			{
+				return element == null ? null : element.key;
+			}
+
+			@Override
+			public E value()
+			{
+				return element == null ? null : element.value;
+			}
+
+			@Override
+			public void reset()
+			{
+				position = -1;
+				element = null;
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("position", position);
+				description.append("end", end);
+
+				return description.toString();
+			}
+		};
+	}
+
 	@Override
 	public String toString()
 	{
 		ObjectDescription description = new ObjectDescription(getClass());
 
-		for (int i = 0; i < size; i++)
+		for (int i = 0; i < end; i++)
 		{
 			MapElement<K, E> hash = elements[i];
-			description.append(hash.key.toString(), hash.value);
+
+			if (hash != null)
+				description.append(hash.key.toString(), hash.value);
 		}
 
 		return description.toString();
@@ -1,6 +1,7 @@
 package org.diverproject.util.collection.abstraction;
 
 import java.util.Iterator;
+import java.util.function.BiConsumer;
 
 import org.diverproject.util.ObjectDescription;
 import org.diverproject.util.collection.Map;
@@ -133,21 +134,23 @@ public abstract class AbstractNumber<E> extends AbstractCollection<E> implements
 	public Iterator<Integer> iteratorKey()
 	{
 		return new Iterator<Integer>()
-				{
-			private int iteration;
-			private Iterator<MapItem<Integer, E>> items = iteratorItems();
+		{
+			private NodeCursor cursor = new NodeCursor();
+			private boolean next = cursor.advance();
 
 			@Override
 			public boolean hasNext()
 			{
-				return items.hasNext();
+				return next;
 			}
 
 			@Override
 			public Integer next()
 			{
-				iteration++;
-				return items.next().getKey();
+				Integer key = cursor.key();
+				next = cursor.advance();
+
+				return key;
 			}
 
 			@Override
@@ -155,7 +158,7 @@ public abstract class AbstractNumber<E> extends AbstractCollection<E> implements
 			{
 				ObjectDescription description = new ObjectDescription(getClass());
 
-				description.append("iteration", iteration);
+				description.append("cursor", cursor);
 				description.append("size", size);
 
 				return description.toString();
@@ -168,20 +171,22 @@ public abstract class AbstractNumber<E> extends AbstractCollection<E> implements
 	{
 		return new Iterator<E>()
 		{
-			private int iteration;
-			private Iterator<MapItem<Integer, E>> items = iteratorItems();
+			private NodeCursor cursor = new NodeCursor();
+			private boolean next = cursor.advance();
 
 			@Override
 			public boolean hasNext()
 			{
-				return items.hasNext();
+				return next;
 			}
 
 			@Override
 			public E next()
 			{
-				iteration++;
-				return items.next().getValue();
+				E value = cursor.value();
+				next = cursor.advance();
+
+				return value;
 			}
 
 			@Override
@@ -189,7 +194,7 @@ public abstract class AbstractNumber<E> extends AbstractCollection<E> implements
 			{
 				ObjectDescription description = new ObjectDescription(getClass());
 
-				description.append("iteration", iteration);
+				description.append("cursor", cursor);
 				description.append("size", size);
 
 				return description.toString();
@@ -467,41 +472,22 @@ public abstract class AbstractNumber<E> extends AbstractCollection<E> implements
 	{
 		return new Iterator<MapItem<Integer, E>>()
 		{
-			private Node<MapElement<Integer, E>> nodes[] = toArrayNode();
-			private MapItem<Integer, E> node = getNext();
-			private int index;
-
-			private MapItem<Integer, E> getNext()
-			{
-				Node<MapElement<Integer, E>> node = nodes[index];
-
-				while ((index < nodes.length -1 && node == null) || (node != null && node.get() == null))
-					node = nodes[++index];
-
-				if (node != null)
-				{
-					nodes[index] = node.getNext();
-					MapItem<Integer, E> item = new MapItem<Integer, E>(node.get().key, node.get().value);
-
-					return item;
-				}
-
-				return null;
-			}
+			private NodeCursor cursor = new NodeCursor();
+			private boolean next = cursor.advance();
 
 			@Override
 			public boolean hasNext()
 			{
-				return node != null;
+				return next;
 			}
 
 			@Override
 			public MapItem<Integer, E> next()
 			{
-				MapItem<Integer, E> current = node;
-				node = getNext();
+				MapItem<Integer, E> item = new MapItem<Integer, E>(cursor.key(), cursor.value());
+				next = cursor.advance();
 
-				return current;
+				return item;
 			}
 
 			@Override
@@ -509,13 +495,27 @@ public abstract class AbstractNumber<E> extends AbstractCollection<E> implements
 			{
 				ObjectDescription description = new ObjectDescription(getClass());
 
-				description.append("nodeIndex", index);
+				description.append("cursor", cursor);
 
 				return description.toString();
 			}
 		};
 	}
 
+	@Override
+	public void forEach(BiConsumer<? super Integer, ? super E> action)
+	{
+		for (Node<MapElement<Integer, E>> node : toArrayNode())
+			for (; node != null && node.get() != null; node = node.getNext())
+				action.accept(node.get().key, node.get().value);
+	}
+
+	@Override
+	public MapCursor<Integer, E> cursor()
+	{
+		return new NodeCursor();
+	}
+
 	@Override
 	public Iterable<Integer> iterateKey()
 	{
@@ -557,4 +557,92 @@ public abstract class AbstractNumber<E> extends AbstractCollection<E> implements
 
 		return description.toString();
 	}
+
+	/**
+	 * <p><h1>Cursor de Ns</h1></p>
+	 *
+	 * <p>Percorre os ns razes do mapeador e em seguida os ns ligados a cada um deles.
+	 * Usado como base para as iteraes, assim nenhum item mapeado  criado por elemento.</p>
+	 */
+
+	private class NodeCursor implements MapCursor<Integer, E>
+	{
+		/**
+		 * Ns razes existentes no mapeador quando o cursor foi reiniciado.
+		 */
+		private Node<MapElement<Integer, E>> roots[];
+
+		/**
+		 * ndice do n raz que est sendo percorrido.
+		 */
+		private int index;
+
+		/**
+		 * N em que o cursor est posicionado.
+		 */
+		private Node<MapElement<Integer, E>> node;
+
+		/**
+		 * Cria um novo cursor de ns posicionado antes do primeiro elemento.
+		 */
+
+		private NodeCursor()
+		{
+			reset();
+		}
+
+		@Override
+		public boolean advance()
+		{
+			node = node == null ? null : node.getNext();
+
+			while (node == null || node.get() == null)
+			{
+				if (node != null)
+					node = node.getNext();
+
+				else if (index + 1 < roots.length)
+					node = roots[++index];
+
+				else
+				{
+					index = roots.length;
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public Integer key()
+		{
+			return node == null ? null : node.get().key;
+		}
+
+		@Override
+		public E value()
+		{
+			return node == null ? null : node.get().value;
+		}
+
+		@Override
+		public void reset()
+		{
+			roots = toArrayNode();
+			index = -1;
+			node = null;
+		}
+
+		@Override
+		public String toString()
+		{
+			ObjectDescription description = new ObjectDescription(getClass());
+
+			description.append("index", index);
+			description.append("roots", roots.length);
+
+			return description.toString();
+		}
+	}
 }
@@ -0,0 +1,1200 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.UtilRuntimeException;
+import org.diverproject.util.collection.Map;
+import org.diverproject.util.collection.SortedMap;
+
+/**
+ * <p><h1>Mapa de rvore B+</h1></p>
+ *
+ * <p>Mapeador ordenado feito atravs de uma rvore B+, onde cada n guarda diversas chaves em um vetor
+ * ordenado. Os elementos ficam apenas nas folhas, que so ligadas umas as outras em ordem crescente,
+ * enquanto os ns internos guardam apenas as chaves que separam os seus filhos. Assim adicionar,
+ * remover e procurar uma chave  feito em O(log n) com poucos ns visitados, e percorrer um
+ * intervalo de chaves  apenas seguir as folhas a partir da primeira chave do intervalo.</p>
+ *
+ * <p>As chaves so ordenadas pela sua ordem natural (Comparable) ou por um comparador especificado
+ * no construtor. Chaves e elementos nulos no so aceitos. No  seguro para uso entre threads.</p>
+ *
+ * @see SortedMap
+ * @see Map
+ *
+ * @author Andrew
+ *
+ * @param <K> qual ser o tipo de dado que ser usado como chave.
+ * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
+ */
+
+public class BTreeMap<K, E> extends AbstractCollection<E> implements SortedMap<K, E>
+{
+	/**
+	 * Quantidade padro mxima de chaves em cada n da rvore.
+	 */
+	public static final int DEFAULT_ORDER = 64;
+
+	/**
+	 * Quantidade mnima de chaves permitida como ordem da rvore.
+	 */
+	public static final int MIN_ORDER = 4;
+
+	/**
+	 * Comparador das chaves ou null para usar a ordem natural.
+	 */
+	private Comparator<? super K> comparator;
+
+	/**
+	 * Quantidade mxima de chaves em cada n da rvore.
+	 */
+	private int order;
+
+	/**
+	 * Quantidade mnima de chaves em cada n da rvore exceto a raz.
+	 */
+	private int minimum;
+
+	/**
+	 * N raz da rvore, uma folha enquanto houver poucos elementos.
+	 */
+	private Node root;
+
+	/**
+	 * Primeira folha da rvore, contendo as menores chaves.
+	 */
+	private Leaf head;
+
+	/**
+	 * Chave que separa um n dividido do seu novo irmo, definida ao dividir um n.
+	 */
+	private Object splitKey;
+
+	/**
+	 * Elemento substitudo durante a ltima insero ou null se no havia a chave.
+	 */
+	private Object replaced;
+
+	/**
+	 * Constri um novo mapa ordenado pela ordem natural das chaves.
+	 */
+
+	public BTreeMap()
+	{
+		this(null, DEFAULT_ORDER);
+	}
+
+	/**
+	 * Constri um novo mapa ordenado por um comparador especificado.
+	 * @param comparator comparador das chaves ou null para usar a ordem natural.
+	 */
+
+	public BTreeMap(Comparator<? super K> comparator)
+	{
+		this(comparator, DEFAULT_ORDER);
+	}
+
+	/**
+	 * Constri um novo mapa ordenado por um comparador e ordem da rvore especificados.
+	 * @param comparator comparador das chaves ou null para usar a ordem natural.
+	 * @param order quantidade mxima de chaves em cada n da rvore.
+	 */
+
+	public BTreeMap(Comparator<? super K> comparator, int order)
+	{
+		if (order < MIN_ORDER)
+			throw new UtilRuntimeException("ordem %d invlida (mnimo: %d)", order, MIN_ORDER);
+
+		this.comparator = comparator;
+		this.order = order & ~1;
+		this.minimum = this.order / 2;
+
+		clear();
+	}
+
+	@Override
+	public void clear()
+	{
+		head = new Leaf(order);
+		root = head;
+		size = 0;
+	}
+
+	@Override
+	public int length()
+	{
+		return Integer.MAX_VALUE;
+	}
+
+	/**
+	 * @return aquisio da quantidade de nveis da rvore, sendo 1 quando h apenas a raz.
+	 */
+
+	public int height()
+	{
+		int height = 1;
+
+		for (Node node = root; node instanceof Branch; node = ((Branch) node).children[0])
+			height++;
+
+		return height;
+	}
+
+	@Override
+	public boolean contains(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (Leaf leaf = head; leaf != null; leaf = leaf.next)
+			for (int i = 0; i < leaf.count; i++)
+				if (leaf.values[i].equals(element))
+					return true;
+
+		return false;
+	}
+
+	@Override
+	public boolean containsKey(K key)
+	{
+		return key != null && search(findLeaf(key), key) >= 0;
+	}
+
+	@Override
+	public boolean add(K key, E element)
+	{
+		if (key == null || element == null || containsKey(key))
+			return false;
+
+		put(key, element);
+
+		return true;
+	}
+
+	/**
+	 * Define o elemento de uma chave, adicionando a chave caso ainda no esteja sendo usada.
+	 * @param key chave do qual ter o elemento definido.
+	 * @param element referncia do elemento que ser definido a chave.
+	 * @return aquisio do elemento que estava definido a chave ou null se no estava sendo usada.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public E put(K key, E element)
+	{
+		if (key == null || element == null)
+			return null;
+
+		replaced = null;
+
+		Node right = insert(root, key, element);
+
+		if (right != null)
+		{
+			Branch branch = new Branch(order);
+			branch.keys[0] = splitKey;
+			branch.children[0] = root;
+			branch.children[1] = right;
+			branch.count = 1;
+			root = branch;
+		}
+
+		splitKey = null;
+
+		E old = (E) replaced;
+		replaced = null;
+
+		return old;
+	}
+
+	@Override
+	public boolean remove(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (Leaf leaf = head; leaf != null; leaf = leaf.next)
+			for (int i = 0; i < leaf.count; i++)
+				if (leaf.values[i].equals(element))
+					return removeKey(key(leaf.keys[i]));
+
+		return false;
+	}
+
+	@Override
+	public boolean removeKey(K key)
+	{
+		if (key == null || !delete(root, key))
+			return false;
+
+		if (root instanceof Branch && root.count == 0)
+			root = ((Branch) root).children[0];
+
+		return true;
+	}
+
+	@Override
+	public boolean renameKey(K oldKey, K newKey)
+	{
+		if (oldKey == null || newKey == null || containsKey(newKey))
+			return false;
+
+		E element = get(oldKey);
+
+		if (element == null)
+			return false;
+
+		removeKey(oldKey);
+
+		return add(newKey, element);
+	}
+
+	@Override
+	public boolean update(K key, E value)
+	{
+		if (key == null || value == null)
+			return false;
+
+		Leaf leaf = findLeaf(key);
+		int index = search(leaf, key);
+
+		if (index < 0)
+			return false;
+
+		leaf.values[index] = value;
+
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(K key)
+	{
+		if (key == null)
+			return null;
+
+		Leaf leaf = findLeaf(key);
+		int index = search(leaf, key);
+
+		return index < 0 ? null : (E) leaf.values[index];
+	}
+
+	@Override
+	public K firstKey()
+	{
+		return size == 0 ? null : key(head.keys[0]);
+	}
+
+	@Override
+	public K lastKey()
+	{
+		if (size == 0)
+			return null;
+
+		Node node = root;
+
+		while (node instanceof Branch)
+			node = ((Branch) node).children[node.count];
+
+		return key(node.keys[node.count - 1]);
+	}
+
+	@Override
+	public K floorKey(K key)
+	{
+		if (key == null)
+			return null;
+
+		Leaf leaf = findLeaf(key);
+		int index = search(leaf, key);
+
+		return index >= 0 ? key(leaf.keys[index]) : before(leaf, -index - 2);
+	}
+
+	@Override
+	public K ceilingKey(K key)
+	{
+		if (key == null)
+			return null;
+
+		Leaf leaf = findLeaf(key);
+		int index = search(leaf, key);
+
+		return after(leaf, index >= 0 ? index : -index - 1);
+	}
+
+	@Override
+	public K lowerKey(K key)
+	{
+		if (key == null)
+			return null;
+
+		Leaf leaf = findLeaf(key);
+		int index = search(leaf, key);
+
+		return before(leaf, (index >= 0 ? index : -index - 1) - 1);
+	}
+
+	@Override
+	public K higherKey(K key)
+	{
+		if (key == null)
+			return null;
+
+		Leaf leaf = findLeaf(key);
+		int index = search(leaf, key);
+
+		return after(leaf, index >= 0 ? index + 1 : -index - 1);
+	}
+
+	@Override
+	public MapCursor<K, E> subMap(K from, K to)
+	{
+		if (from != null && to != null && compare(from, to) > 0)
+			throw new UtilRuntimeException("intervalo invlido (from: %s, to: %s)", from, to);
+
+		return new Cursor(from, to);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(K from, K to, BiConsumer<? super K, ? super E> action)
+	{
+		if (size == 0)
+			return;
+
+		Leaf leaf = head;
+		int index = 0;
+
+		if (from != null)
+		{
+			leaf = findLeaf(from);
+			index = search(leaf, from);
+
+			if (index < 0)
+				index = -index - 1;
+		}
+
+		for (; leaf != null; leaf = leaf.next, index = 0)
+			for (; index < leaf.count; index++)
+			{
+				if (to != null && compare(leaf.keys[index], to) >= 0)
+					return;
+
+				action.accept((K) leaf.keys[index], (E) leaf.values[index]);
+			}
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super E> action)
+	{
+		forEach(null, null, action);
+	}
+
+	@Override
+	public MapCursor<K, E> cursor()
+	{
+		return new Cursor(null, null);
+	}
+
+	/**
+	 * Procedimento interno que ir obter a chave anterior a uma posio de uma folha.
+	 * @param leaf folha onde a posio se encontra.
+	 * @param index posio na folha, se for negativa ser considerada a folha anterior.
+	 * @return aquisio da chave ou null se no houver.
+	 */
+
+	private K before(Leaf leaf, int index)
+	{
+		if (index >= 0)
+			return key(leaf.keys[index]);
+
+		leaf = leaf.previous;
+
+		return leaf == null ? null : key(leaf.keys[leaf.count - 1]);
+	}
+
+	/**
+	 * Procedimento interno que ir obter a chave de uma posio de uma folha ou a prxima chave.
+	 * @param leaf folha onde a posio se encontra.
+	 * @param index posio na folha, se for alm das chaves ser considerada a prxima folha.
+	 * @return aquisio da chave ou null se no houver.
+	 */
+
+	private K after(Leaf leaf, int index)
+	{
+		if (index < leaf.count)
+			return key(leaf.keys[index]);
+
+		leaf = leaf.next;
+
+		return leaf == null ? null : key(leaf.keys[0]);
+	}
+
+	/**
+	 * Procedimento interno que ir descer pela rvore at a folha onde uma chave deve estar.
+	 * @param key chave do qual deseja encontrar a folha.
+	 * @return aquisio da folha onde a chave est ou deveria estar.
+	 */
+
+	private Leaf findLeaf(Object key)
+	{
+		Node node = root;
+
+		while (node instanceof Branch)
+			node = ((Branch) node).children[child(node, key)];
+
+		return (Leaf) node;
+	}
+
+	/**
+	 * Procedimento interno que ir fazer uma busca binria pelas chaves de um n.
+	 * @param node n do qual as chaves sero consideradas.
+	 * @param key chave que est sendo procurada.
+	 * @return aquisio da posio da chave ou (-(ponto de insero) - 1) se no existir.
+	 */
+
+	private int search(Node node, Object key)
+	{
+		int low = 0;
+		int high = node.count - 1;
+
+		while (low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			int compare = compare(node.keys[middle], key);
+
+			if (compare < 0)
+				low = middle + 1;
+			else if (compare > 0)
+				high = middle - 1;
+			else
+				return middle;
+		}
+
+		return -(low + 1);
+	}
+
+	/**
+	 * Procedimento interno que ir obter qual filho de um n interno deve conter uma chave.
+	 * O filho i contm as chaves maiores ou iguais a chave i - 1 e menores que a chave i.
+	 * @param node n interno do qual os filhos sero considerados.
+	 * @param key chave que est sendo procurada.
+	 * @return aquisio da posio do filho.
+	 */
+
+	private int child(Node node, Object key)
+	{
+		int index = search(node, key);
+
+		return index >= 0 ? index + 1 : -index - 1;
+	}
+
+	/**
+	 * Procedimento interno recursivo que ir inserir ou substituir um elemento em um n.
+	 * Caso o n fique com chaves demais ele ser dividido e o seu novo irmo retornado,
+	 * sendo a chave que separa os dois definida em splitKey.
+	 * @param node n onde a chave deve ser inserida.
+	 * @param key chave que ser inserida.
+	 * @param element elemento que ser definido a chave.
+	 * @return aquisio do novo irmo se o n for dividido ou null caso contrrio.
+	 */
+
+	private Node insert(Node node, Object key, Object element)
+	{
+		if (node instanceof Leaf)
+		{
+			Leaf leaf = (Leaf) node;
+			int index = search(leaf, key);
+
+			if (index >= 0)
+			{
+				replaced = leaf.values[index];
+				leaf.values[index] = element;
+
+				return null;
+			}
+
+			index = -index - 1;
+
+			System.arraycopy(leaf.keys, index, leaf.keys, index + 1, leaf.count - index);
+			System.arraycopy(leaf.values, index, leaf.values, index + 1, leaf.count - index);
+
+			leaf.keys[index] = key;
+			leaf.values[index] = element;
+			leaf.count++;
+			size++;
+
+			return leaf.count > order ? split(leaf) : null;
+		}
+
+		Branch branch = (Branch) node;
+		int index = child(branch, key);
+		Node right = insert(branch.children[index], key, element);
+
+		if (right == null)
+			return null;
+
+		System.arraycopy(branch.keys, index, branch.keys, index + 1, branch.count - index);
+		System.arraycopy(branch.children, index + 1, branch.children, index + 2, branch.count - index);
+
+		branch.keys[index] = splitKey;
+		branch.children[index + 1] = right;
+		branch.count++;
+
+		return branch.count > order ? split(branch) : null;
+	}
+
+	/**
+	 * Procedimento interno que ir dividir uma folha com chaves demais em duas folhas.
+	 * @param leaf folha que ser dividida, ficar com a metade menor das chaves.
+	 * @return aquisio da nova folha com a metade maior das chaves.
+	 */
+
+	private Leaf split(Leaf leaf)
+	{
+		Leaf right = new Leaf(order);
+		int half = leaf.count / 2;
+
+		right.count = leaf.count - half;
+		System.arraycopy(leaf.keys, half, right.keys, 0, right.count);
+		System.arraycopy(leaf.values, half, right.values, 0, right.count);
+		clear(leaf, half, leaf.count);
+		leaf.count = half;
+
+		right.next = leaf.next;
+		right.previous = leaf;
+
+		if (leaf.next != null)
+			leaf.next.previous = right;
+
+		leaf.next = right;
+		splitKey = right.keys[0];
+
+		return right;
+	}
+
+	/**
+	 * Procedimento interno que ir dividir um n interno com chaves demais em dois ns.
+	 * A chave do meio no fica em nenhum dos dois e passa a ser a chave que os separa.
+	 * @param branch n interno que ser dividido, ficar com a metade menor das chaves.
+	 * @return aquisio do novo n interno com a metade maior das chaves.
+	 */
+
+	private Branch split(Branch branch)
+	{
+		Branch right = new Branch(order);
+		int half = branch.count / 2;
+
+		right.count = branch.count - half - 1;
+		System.arraycopy(branch.keys, half + 1, right.keys, 0, right.count);
+		System.arraycopy(branch.children, half + 1, right.children, 0, right.count + 1);
+
+		splitKey = branch.keys[half];
+
+		for (int i = half; i < branch.count; i++)
+		{
+			branch.keys[i] = null;
+			branch.children[i + 1] = null;
+		}
+
+		branch.count = half;
+
+		return right;
+	}
+
+	/**
+	 * Procedimento interno recursivo que ir remover uma chave de um n.
+	 * Caso um filho fique com poucas chaves ele recebe chaves de um irmo ou  juntado a ele.
+	 * @param node n de onde a chave deve ser removida.
+	 * @param key chave que ser removida.
+	 * @return true se a chave existia e foi removida ou false caso contrrio.
+	 */
+
+	private boolean delete(Node node, Object key)
+	{
+		if (node instanceof Leaf)
+		{
+			Leaf leaf = (Leaf) node;
+			int index = search(leaf, key);
+
+			if (index < 0)
+				return false;
+
+			System.arraycopy(leaf.keys, index + 1, leaf.keys, index, leaf.count - index - 1);
+			System.arraycopy(leaf.values, index + 1, leaf.values, index, leaf.count - index - 1);
+			clear(leaf, leaf.count - 1, leaf.count);
+			leaf.count--;
+			size--;
+
+			return true;
+		}
+
+		Branch branch = (Branch) node;
+		int index = child(branch, key);
+
+		if (!delete(branch.children[index], key))
+			return false;
+
+		if (branch.children[index].count < minimum)
+			rebalance(branch, index);
+
+		return true;
+	}
+
+	/**
+	 * Procedimento interno que ir corrigir um filho que ficou com menos chaves que o mnimo.
+	 * Se um irmo tiver chaves sobrando uma delas  movida, caso contrrio os dois so juntados.
+	 * @param parent n interno que contm o filho.
+	 * @param index posio do filho no n interno.
+	 */
+
+	private void rebalance(Branch parent, int index)
+	{
+		Node node = parent.children[index];
+		Node left = index > 0 ? parent.children[index - 1] : null;
+		Node right = index < parent.count ? parent.children[index + 1] : null;
+
+		if (node instanceof Leaf)
+		{
+			Leaf leaf = (Leaf) node;
+
+			if (left != null && left.count > minimum)
+			{
+				Leaf sibling = (Leaf) left;
+				int last = sibling.count - 1;
+
+				System.arraycopy(leaf.keys, 0, leaf.keys, 1, leaf.count);
+				System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.count);
+				leaf.keys[0] = sibling.keys[last];
+				leaf.values[0] = sibling.values[last];
+				leaf.count++;
+				clear(sibling, last, sibling.count);
+				sibling.count--;
+				parent.keys[index - 1] = leaf.keys[0];
+			}
+
+			else if (right != null && right.count > minimum)
+			{
+				Leaf sibling = (Leaf) right;
+
+				leaf.keys[leaf.count] = sibling.keys[0];
+				leaf.values[leaf.count] = sibling.values[0];
+				leaf.count++;
+				System.arraycopy(sibling.keys, 1, sibling.keys, 0, sibling.count - 1);
+				System.arraycopy(sibling.values, 1, sibling.values, 0, sibling.count - 1);
+				clear(sibling, sibling.count - 1, sibling.count);
+				sibling.count--;
+				parent.keys[index] = sibling.keys[0];
+			}
+
+			else if (left != null)
+				merge((Leaf) left, leaf, parent, index - 1);
+
+			else
+				merge(leaf, (Leaf) right, parent, index);
+		}
+
+		else
+		{
+			Branch branch = (Branch) node;
+
+			if (left != null && left.count > minimum)
+			{
+				Branch sibling = (Branch) left;
+
+				System.arraycopy(branch.keys, 0, branch.keys, 1, branch.count);
+				System.arraycopy(branch.children, 0, branch.children, 1, branch.count + 1);
+				branch.keys[0] = parent.keys[index - 1];
+				branch.children[0] = sibling.children[sibling.count];
+				branch.count++;
+				parent.keys[index - 1] = sibling.keys[sibling.count - 1];
+				sibling.keys[sibling.count - 1] = null;
+				sibling.children[sibling.count] = null;
+				sibling.count--;
+			}
+
+			else if (right != null && right.count > minimum)
+			{
+				Branch sibling = (Branch) right;
+
+				branch.keys[branch.count] = parent.keys[index];
+				branch.children[branch.count + 1] = sibling.children[0];
+				branch.count++;
+				parent.keys[index] = sibling.keys[0];
+				System.arraycopy(sibling.keys, 1, sibling.keys, 0, sibling.count - 1);
+				System.arraycopy(sibling.children, 1, sibling.children, 0, sibling.count);
+				sibling.keys[sibling.count - 1] = null;
+				sibling.children[sibling.count] = null;
+				sibling.count--;
+			}
+
+			else if (left != null)
+				merge((Branch) left, branch, parent, index - 1);
+
+			else
+				merge(branch, (Branch) right, parent, index);
+		}
+	}
+
+	/**
+	 * Procedimento interno que ir juntar duas folhas vizinhas na folha da esquerda.
+	 * @param left folha da esquerda que ir receber as chaves.
+	 * @param right folha da direita que ser descartada.
+	 * @param parent n interno que contm as duas folhas.
+	 * @param separator posio no n interno da chave que separa as duas folhas.
+	 */
+
+	private void merge(Leaf left, Leaf right, Branch parent, int separator)
+	{
+		System.arraycopy(right.keys, 0, left.keys, left.count, right.count);
+		System.arraycopy(right.values, 0, left.values, left.count, right.count);
+		left.count += right.count;
+		left.next = right.next;
+
+		if (right.next != null)
+			right.next.previous = left;
+
+		detach(parent, separator);
+	}
+
+	/**
+	 * Procedimento interno que ir juntar dois ns internos vizinhos no n da esquerda.
+	 * A chave que separa os dois ns desce e fica entre as chaves dos dois ns.
+	 * @param left n interno da esquerda que ir receber as chaves.
+	 * @param right n interno da direita que ser descartado.
+	 * @param parent n interno que contm os dois ns.
+	 * @param separator posio no n interno da chave que separa os dois ns.
+	 */
+
+	private void merge(Branch left, Branch right, Branch parent, int separator)
+	{
+		left.keys[left.count] = parent.keys[separator];
+		System.arraycopy(right.keys, 0, left.keys, left.count + 1, right.count);
+		System.arraycopy(right.children, 0, left.children, left.count + 1, right.count + 1);
+		left.count += right.count + 1;
+
+		detach(parent, separator);
+	}
+
+	/**
+	 * Procedimento interno que ir remover de um n interno uma chave e o filho a sua direita.
+	 * @param parent n interno do qual a chave e o filho sero removidos.
+	 * @param separator posio da chave que ser removida.
+	 */
+
+	private void detach(Branch parent, int separator)
+	{
+		System.arraycopy(parent.keys, separator + 1, parent.keys, separator, parent.count - separator - 1);
+		System.arraycopy(parent.children, separator + 2, parent.children, separator + 1, parent.count - separator - 1);
+		parent.keys[parent.count - 1] = null;
+		parent.children[parent.count] = null;
+		parent.count--;
+	}
+
+	/**
+	 * Procedimento interno que ir limpar as referncias de um intervalo de uma folha.
+	 * @param leaf folha que ter as referncias limpas.
+	 * @param from primeira posio do intervalo.
+	 * @param to posio aps a ltima do intervalo.
+	 */
+
+	private void clear(Leaf leaf, int from, int to)
+	{
+		for (int i = from; i < to; i++)
+		{
+			leaf.keys[i] = null;
+			leaf.values[i] = null;
+		}
+	}
+
+	/**
+	 * Procedimento interno que ir comparar duas chaves do mapa.
+	 * @param a primeira chave que ser comparada.
+	 * @param b segunda chave que ser comparada.
+	 * @return menor que zero se a vier antes, zero se forem iguais ou maior que zero se a vier depois.
+	 */
+
+	@SuppressWarnings("unchecked")
+	private int compare(Object a, Object b)
+	{
+		if (comparator != null)
+			return comparator.compare((K) a, (K) b);
+
+		return ((Comparable<Object>) a).compareTo(b);
+	}
+
+	/**
+	 * @param key chave guardada em um n da rvore.
+	 * @return aquisio da chave com o seu tipo genrico.
+	 */
+
+	@SuppressWarnings("unchecked")
+	private K key(Object key)
+	{
+		return (K) key;
+	}
+
+	@Override
+	public Iterator<E> iterator()
+	{
+		return new Iterator<E>()
+		{
+			private Cursor cursor = new Cursor(null, null);
+			private int iterate;
+
+			@Override
+			public boolean hasNext()
+			{
+				return iterate < size();
+			}
+
+			@Override
+			public E next()
+			{
+				if (!cursor.advance())
+					throw new NoSuchElementException();
+
+				iterate++;
+
+				return cursor.value();
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("iterate", iterate);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public Iterator<K> iteratorKey()
+	{
+		return new Iterator<K>()
+		{
+			private Cursor cursor = new Cursor(null, null);
+			private int iterate;
+
+			@Override
+			public boolean hasNext()
+			{
+				return iterate < size();
+			}
+
+			@Override
+			public K next()
+			{
+				if (!cursor.advance())
+					throw new NoSuchElementException();
+
+				iterate++;
+
+				return cursor.key();
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("iterate", iterate);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public Iterator<MapItem<K, E>> iteratorItems()
+	{
+		return new Iterator<MapItem<K, E>>()
+		{
+			private Cursor cursor = new Cursor(null, null);
+			private int iterate;
+
+			@Override
+			public boolean hasNext()
+			{
+				return iterate < size();
+			}
+
+			@Override
+			public MapItem<K, E> next()
+			{
+				if (!cursor.advance())
+					throw new NoSuchElementException();
+
+				iterate++;
+
+				return new MapItem<K, E>(cursor.key(), cursor.value());
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("iterate", iterate);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public Iterable<K> iterateKey()
+	{
+		return new Iterable<K>()
+		{
+			@Override
+			public Iterator<K> iterator()
+			{
+				return iteratorKey();
+			}
+		};
+	}
+
+	@Override
+	public Iterable<MapItem<K, E>> iterateItems()
+	{
+		return new Iterable<Map.MapItem<K, E>>()
+		{
+			@Override
+			public Iterator<MapItem<K, E>> iterator()
+			{
+				return iteratorItems();
+			}
+		};
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size);
+		description.append("order", order);
+		description.append("height", height());
+
+		for (Leaf leaf = head; leaf != null; leaf = leaf.next)
+			for (int i = 0; i < leaf.count; i++)
+				description.append(String.valueOf(leaf.keys[i]), leaf.values[i]);
+
+		return description.toString();
+	}
+
+	/**
+	 * <h1>Cursor</h1>
+	 *
+	 * <p>Percorre as folhas em ordem crescente a partir da primeira chave de um intervalo,
+	 * encerrando ao encontrar uma chave igual ou maior que o fim do intervalo.</p>
+	 */
+
+	private class Cursor implements MapCursor<K, E>
+	{
+		/**
+		 * Menor chave do intervalo ou null para iniciar na primeira chave.
+		 */
+		private K from;
+
+		/**
+		 * Chave que encerra o intervalo ou null para ir at a ltima chave.
+		 */
+		private K to;
+
+		/**
+		 * Folha em que o cursor est posicionado ou null se no estiver posicionado.
+		 */
+		private Leaf leaf;
+
+		/**
+		 * Posio na folha em que o cursor est posicionado.
+		 */
+		private int index;
+
+		/**
+		 * Se o cursor j foi posicionado na primeira chave do intervalo.
+		 */
+		private boolean started;
+
+		/**
+		 * Cria um novo cursor para um intervalo de chaves.
+		 * @param from menor chave do intervalo (inclusive) ou null.
+		 * @param to chave que encerra o intervalo (exclusive) ou null.
+		 */
+
+		private Cursor(K from, K to)
+		{
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		public boolean advance()
+		{
+			if (!started)
+			{
+				started = true;
+				leaf = head;
+				index = 0;
+
+				if (from != null)
+				{
+					leaf = findLeaf(from);
+					index = search(leaf, from);
+
+					if (index < 0)
+						index = -index - 1;
+				}
+			}
+
+			else if (leaf != null)
+				index++;
+
+			while (leaf != null && index >= leaf.count)
+			{
+				leaf = leaf.next;
+				index = 0;
+			}
+
+			if (leaf != null && to != null && compare(leaf.keys[index], to) >= 0)
+				leaf = null;
+
+			return leaf != null;
+		}
+
+		@Override
+		public K key()
+		{
+			return leaf == null ? null : BTreeMap.this.key(leaf.keys[index]);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E value()
+		{
+			return leaf == null ? null : (E) leaf.values[index];
+		}
+
+		@Override
+		public void reset()
+		{
+			started = false;
+			leaf = null;
+		}
+
+		@Override
+		public String toString()
+		{
+			ObjectDescription description = new ObjectDescription(getClass());
+
+			description.append("from", from);
+			description.append("to", to);
+			description.append("key", key());
+
+			return description.toString();
+		}
+	}
+
+	/**
+	 * <h1>N</h1>
+	 *
+	 * <p>Base dos ns da rvore, contendo um vetor ordenado de chaves com espao para uma chave
+	 * a mais que a ordem da rvore, permitindo inserir antes de dividir o n.</p>
+	 */
+
+	private static class Node
+	{
+		/**
+		 * Vetor com as chaves do n em ordem crescente.
+		 */
+		protected Object keys[];
+
+		/**
+		 * Quantidade de chaves no n.
+		 */
+		protected int count;
+
+		/**
+		 * Cria um novo n vazio.
+		 * @param order quantidade mxima de chaves do n.
+		 */
+
+		private Node(int order)
+		{
+			keys = new Object[order + 1];
+		}
+	}
+
+	/**
+	 * <h1>Folha</h1>
+	 *
+	 * <p>N que guarda as chaves junto dos seus elementos, ligado as folhas vizinhas.</p>
+	 */
+
+	private static class Leaf extends Node
+	{
+		/**
+		 * Vetor com os elementos na mesma ordem das chaves.
+		 */
+		private Object values[];
+
+		/**
+		 * Prxima folha da rvore, contendo chaves maiores.
+		 */
+		private Leaf next;
+
+		/**
+		 * Folha anterior da rvore, contendo chaves menores.
+		 */
+		private Leaf previous;
+
+		/**
+		 * Cria uma nova folha vazia.
+		 * @param order quantidade mxima de chaves da folha.
+		 */
+
+		private Leaf(int order)
+		{
+			super(order);
+
+			values = new Object[order + 1];
+		}
+	}
+
+	/**
+	 * <h1>N Interno</h1>
+	 *
+	 * <p>N que guarda apenas as chaves que separam os seus filhos, sempre um filho a mais que chaves.</p>
+	 */
+
+	private static class Branch extends Node
+	{
+		/**
+		 * Vetor com os filhos do n.
+		 */
+		private Node children[];
+
+		/**
+		 * Cria um novo n interno vazio.
+		 * @param order quantidade mxima de chaves do n.
+		 */
+
+		private Branch(int order)
+		{
+			super(order);
+
+			children = new Node[order + 2];
+		}
+	}
+}
@@ -0,0 +1,625 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.List;
+import org.diverproject.util.collection.Queue;
+
+/**
+ * <h1>Lista por Blocos</h1>
+ *
+ * <p>Essa lista armazena os elementos em blocos, onde cada bloco  um pequeno vetor com alguns
+ * elementos da lista, ao invs de um n para cada elemento como  feito na lista por n.
+ * Dessa forma h bem menos objetos alocados e o acesso por ndice s precisa percorrer os blocos,
+ * o que  cerca de 64 vezes mais rpido que percorrer os ns um a um.</p>
+ *
+ * <p>Funciona como uma lista qualquer e tambm como uma fila, onde enfileirar adiciona ao final
+ * e desenfileirar remove do inicio sem mover os demais elementos do bloco. Assim como na lista
+ * por n permite usar a interface Comparable como critrio ao adicionar, nesse caso a posio
+ *  encontrada atravs de busca binria entre os blocos e depois dentro do bloco.</p>
+ *
+ * <p>Quando um bloco fica cheio ele  dividido em dois, e quando fica com poucos elementos aps
+ * uma remoo  juntado a um bloco vizinho, mantendo os blocos sempre razoavelmente ocupados.</p>
+ *
+ * @see List
+ * @see Queue
+ * @see Comparable
+ *
+ * @author Andrew
+ *
+ * @param <E> tipo de dado que ser armazenado
+ */
+
+public class ChunkedList<E> extends AbstractCollection<E> implements List<E>, Queue<E>
+{
+	/**
+	 * Quantidade padro de elementos em cada bloco.
+	 */
+	public static final int DEFAULT_CHUNK = 64;
+
+	/**
+	 * Menor quantidade de elementos que um bloco pode possuir.
+	 */
+	public static final int MIN_CHUNK = 32;
+
+	/**
+	 * Maior quantidade de elementos que um bloco pode possuir.
+	 */
+	public static final int MAX_CHUNK = 256;
+
+	/**
+	 * Quantidade de elementos que cabem em cada bloco.
+	 */
+	private final int chunk;
+
+	/**
+	 * Utilizao da interface Comparable.
+	 */
+	private boolean compare;
+
+	/**
+	 * Vetor contendo os blocos da lista em ordem.
+	 */
+	private Chunk chunks[];
+
+	/**
+	 * Quantidade de blocos em uso no vetor de blocos.
+	 */
+	private int count;
+
+	/**
+	 * Cria uma nova lista para armazenamento de elementos em blocos.
+	 * Para esse construtor ser usado o tamanho de bloco padro.
+	 */
+
+	public ChunkedList()
+	{
+		this(DEFAULT_CHUNK);
+	}
+
+	/**
+	 * Cria uma nova lista para armazenamento de elementos em blocos.
+	 * @param chunk quantidade de elementos em cada bloco, entre MIN_CHUNK e MAX_CHUNK.
+	 */
+
+	public ChunkedList(int chunk)
+	{
+		this.chunk = Math.min(Math.max(chunk, MIN_CHUNK), MAX_CHUNK);
+		this.chunks = new Chunk[4];
+	}
+
+	/**
+	 * Permite saber se a lista est utilizando o critrio de comparao.
+	 * O critrio de comparao  aplicado ao adicionar elementos na lista.
+	 * @return true se estiver habilitado ou false caso contrrio.
+	 * @see Comparable
+	 */
+
+	public boolean isCompare()
+	{
+		return compare;
+	}
+
+	/**
+	 * Definir a lista como comparvel ir habilitar o critrio de comparao por Comparable.
+	 * Quando um novo elemento for adicionar e estiver habilitado ir considerar Comparable.
+	 * Caso seja igual a zero no ser adicionado, menor que zero a frente e maior atrs.
+	 * Se o elemento no tiver implementado Comparable ser adicionado ao fim da lista.
+	 * @param compare true para habilitar ou false para desabilitar.
+	 * @see Comparable
+	 */
+
+	public void setCompare(boolean compare)
+	{
+		this.compare = compare;
+	}
+
+	/**
+	 * Quantidade de elementos em cada bloco determina o tamanho dos vetores alocados.
+	 * @return aquisio da quantidade de elementos que cabem em um bloco.
+	 */
+
+	public int getChunk()
+	{
+		return chunk;
+	}
+
+	@Override
+	public void clear()
+	{
+		size = 0;
+		count = 0;
+		chunks = new Chunk[4];
+	}
+
+	@Override
+	public int length()
+	{
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public boolean add(E element)
+	{
+		if (isFull() || element == null)
+			return false;
+
+		if (compare && element instanceof Comparable)
+			return insertSorted(element);
+
+		Chunk last = count == 0 ? null : chunks[count - 1];
+
+		if (last == null || last.size == chunk)
+			last = insertChunk(count);
+
+		last.insert(last.size, element);
+		size++;
+
+		return true;
+	}
+
+	/**
+	 * Adiciona um elemento na posio adequada de acordo com Comparable.
+	 * Primeiro procura o bloco atravs do ltimo elemento de cada bloco,
+	 * depois procura a posio dentro do bloco, ambos por busca binria.
+	 * @param element referncia do elemento que ser adicionado.
+	 * @return true se adicionado ou false se j houver um elemento igual.
+	 */
+
+	@SuppressWarnings("unchecked")
+	private boolean insertSorted(E element)
+	{
+		Comparable<Object> comparable = (Comparable<Object>) element;
+
+		if (count == 0)
+			insertChunk(0);
+
+		int low = 0;
+		int high = count - 1;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if (comparable.compareTo(chunks[middle].last()) > 0)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		int c = low;
+		int offset = chunks[c].search(comparable);
+
+		if (offset < 0)
+			return false;
+
+		if (chunks[c].size == chunk)
+		{
+			split(c);
+
+			if (offset > chunks[c].size)
+			{
+				offset -= chunks[c].size;
+				c++;
+			}
+		}
+
+		chunks[c].insert(offset, element);
+		size++;
+
+		return true;
+	}
+
+	@Override
+	public boolean offer(E element)
+	{
+		return add(element);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E poll()
+	{
+		if (count == 0)
+			return null;
+
+		Chunk first = chunks[0];
+		Object element = first.elements[first.start];
+
+		first.elements[first.start++] = null;
+		first.size--;
+		size--;
+
+		if (first.size == 0)
+			removeChunk(0);
+
+		return (E) element;
+	}
+
+	@Override
+	public boolean remove(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (int c = 0, index = 0; c < count; index += chunks[c++].size)
+		{
+			Chunk current = chunks[c];
+
+			for (int i = 0; i < current.size; i++)
+				if (current.get(i).equals(element))
+					return remove(index + i);
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean remove(int index)
+	{
+		long location = locate(index);
+
+		if (location < 0)
+			return false;
+
+		int c = (int) (location >>> 32);
+		Chunk current = chunks[c];
+
+		current.delete((int) location);
+		size--;
+
+		if (current.size == 0)
+			removeChunk(c);
+
+		else if (current.size < chunk >> 2)
+		{
+			if (c + 1 < count && current.size + chunks[c + 1].size <= chunk)
+				merge(c);
+
+			else if (c > 0 && current.size + chunks[c - 1].size <= chunk)
+				merge(c - 1);
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean update(int index, E element)
+	{
+		long location = locate(index);
+
+		if (location < 0 || element == null)
+			return false;
+
+		Chunk current = chunks[(int) (location >>> 32)];
+		current.elements[current.start + (int) location] = element;
+
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index)
+	{
+		long location = locate(index);
+
+		if (location < 0)
+			return null;
+
+		return (E) chunks[(int) (location >>> 32)].get((int) location);
+	}
+
+	@Override
+	public boolean contains(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (int c = 0; c < count; c++)
+		{
+			Chunk current = chunks[c];
+
+			for (int i = 0; i < current.size; i++)
+				if (current.get(i).equals(element))
+					return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Localiza em qual bloco est um determinado ndice da lista, percorrendo os blocos
+	 * pelo inicio ou pelo fim da lista, o que estiver mais prximo do ndice.
+	 * @param index ndice do elemento na lista do qual deseja localizar.
+	 * @return aquisio do bloco nos 32 bits mais altos e da posio dentro
+	 * do bloco nos 32 bits mais baixos, ou -1 se o ndice for invlido.
+	 */
+
+	private long locate(int index)
+	{
+		if (index < 0 || index >= size)
+			return -1;
+
+		if (index < size >> 1)
+		{
+			for (int c = 0; ; c++)
+			{
+				if (index < chunks[c].size)
+					return ((long) c << 32) | index;
+
+				index -= chunks[c].size;
+			}
+		}
+
+		int remaining = size - index;
+
+		for (int c = count - 1; ; c--)
+		{
+			if (remaining <= chunks[c].size)
+				return ((long) c << 32) | (chunks[c].size - remaining);
+
+			remaining -= chunks[c].size;
+		}
+	}
+
+	/**
+	 * Cria um novo bloco vazio e o insere em uma determinada posio do vetor de blocos.
+	 * @param c posio no vetor de blocos onde o novo bloco ser inserido.
+	 * @return aquisio do bloco que foi criado.
+	 */
+
+	private Chunk insertChunk(int c)
+	{
+		if (count == chunks.length)
+			chunks = Arrays.copyOf(chunks, count << 1);
+
+		System.arraycopy(chunks, c, chunks, c + 1, count - c);
+		count++;
+
+		return chunks[c] = new Chunk(chunk);
+	}
+
+	/**
+	 * Remove um bloco do vetor de blocos movendo os seguintes para trs.
+	 * @param c posio no vetor de blocos do bloco que ser removido.
+	 */
+
+	private void removeChunk(int c)
+	{
+		System.arraycopy(chunks, c + 1, chunks, c, count - c - 1);
+		chunks[--count] = null;
+	}
+
+	/**
+	 * Divide um bloco cheio em dois, passando a segunda metade para um novo bloco logo aps.
+	 * @param c posio no vetor de blocos do bloco que ser dividido.
+	 */
+
+	private void split(int c)
+	{
+		Chunk current = chunks[c];
+		Chunk next = insertChunk(c + 1);
+
+		int half = current.size >> 1;
+		int moved = current.size - half;
+
+		System.arraycopy(current.elements, current.start + half, next.elements, 0, moved);
+		Arrays.fill(current.elements, current.start + half, current.start + current.size, null);
+
+		next.size = moved;
+		current.size = half;
+	}
+
+	/**
+	 * Junta um bloco com o bloco seguinte, passando todos os elementos para o primeiro.
+	 * @param c posio no vetor de blocos do bloco que ir receber os elementos.
+	 */
+
+	private void merge(int c)
+	{
+		Chunk current = chunks[c];
+		Chunk next = chunks[c + 1];
+
+		current.compact();
+
+		System.arraycopy(next.elements, next.start, current.elements, current.size, next.size);
+		current.size += next.size;
+
+		removeChunk(c + 1);
+	}
+
+	@Override
+	public Iterator<E> iterator()
+	{
+		return new Iterator<E>()
+		{
+			private int c;
+			private int offset;
+
+			@Override
+			public boolean hasNext()
+			{
+				return c < count;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next()
+			{
+				if (c >= count)
+					throw new NoSuchElementException();
+
+				Chunk current = chunks[c];
+				Object element = current.get(offset++);
+
+				if (offset == current.size)
+				{
+					offset = 0;
+					c++;
+				}
+
+				return (E) element;
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("hasNext", hasNext());
+				description.append("chunk", c);
+				description.append("offset", offset);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size());
+		description.append("chunks", count);
+
+		int i = 0;
+
+		for (E element : this)
+			description.append("i" +(i++), element);
+
+		return description.toString();
+	}
+
+	/**
+	 * <h1>Bloco</h1>
+	 *
+	 * <p>Vetor com parte dos elementos da lista, os elementos ficam em sequncia a partir
+	 * de um ndice de inicio, permitindo remover o primeiro elemento sem mover os demais.</p>
+	 */
+
+	private static class Chunk
+	{
+		/**
+		 * Vetor contendo os elementos do bloco.
+		 */
+		private Object elements[];
+
+		/**
+		 * ndice no vetor do primeiro elemento do bloco.
+		 */
+		private int start;
+
+		/**
+		 * Quantidade de elementos no bloco.
+		 */
+		private int size;
+
+		/**
+		 * Cria um novo bloco vazio.
+		 * @param length quantidade de elementos que cabem no bloco.
+		 */
+
+		private Chunk(int length)
+		{
+			elements = new Object[length];
+		}
+
+		/**
+		 * @param offset posio do elemento dentro do bloco.
+		 * @return aquisio do elemento na posio do bloco.
+		 */
+
+		private Object get(int offset)
+		{
+			return elements[start + offset];
+		}
+
+		/**
+		 * @return aquisio do ltimo elemento do bloco.
+		 */
+
+		private Object last()
+		{
+			return elements[start + size - 1];
+		}
+
+		/**
+		 * Move os elementos para o inicio do vetor caso no estejam.
+		 */
+
+		private void compact()
+		{
+			if (start > 0)
+			{
+				System.arraycopy(elements, start, elements, 0, size);
+				Arrays.fill(elements, size, start + size, null);
+				start = 0;
+			}
+		}
+
+		/**
+		 * Insere um elemento em uma posio do bloco, o bloco no pode estar cheio.
+		 * @param offset posio dentro do bloco onde o elemento ser inserido.
+		 * @param element referncia do elemento que ser inserido.
+		 */
+
+		private void insert(int offset, Object element)
+		{
+			if (start + size == elements.length)
+				compact();
+
+			int index = start + offset;
+
+			System.arraycopy(elements, index, elements, index + 1, size - offset);
+			elements[index] = element;
+			size++;
+		}
+
+		/**
+		 * Remove o elemento em uma posio do bloco movendo os seguintes para trs.
+		 * @param offset posio dentro do bloco do elemento que ser removido.
+		 */
+
+		private void delete(int offset)
+		{
+			int index = start + offset;
+
+			System.arraycopy(elements, index + 1, elements, index, size - offset - 1);
+			elements[start + --size] = null;
+		}
+
+		/**
+		 * Busca binria pela posio de um elemento dentro do bloco.
+		 * @param comparable elemento que ser procurado.
+		 * @return aquisio da posio onde o elemento deve ser inserido
+		 * ou -1 se j houver um elemento igual no bloco.
+		 */
+
+		private int search(Comparable<Object> comparable)
+		{
+			int low = 0;
+			int high = size - 1;
+
+			while (low <= high)
+			{
+				int middle = (low + high) >>> 1;
+				int compare = comparable.compareTo(elements[start + middle]);
+
+				if (compare > 0)
+					low = middle + 1;
+
+				else if (compare < 0)
+					high = middle - 1;
+
+				else
+					return -1;
+			}
+
+			return low;
+		}
+	}
+}
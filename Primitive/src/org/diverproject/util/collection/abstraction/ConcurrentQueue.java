@@ -0,0 +1,403 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.Queue;
+
+/**
+ * <p><h1>Fila Concorrente</h1></p>
+ *
+ * <p>Fila circular de capacidade limitada que pode ser usada por diversas threads ao mesmo tempo,
+ * tanto para enfileirar quanto para desenfileirar, sem utilizar bloqueios (synchronized ou locks).
+ * Cada ponto do vetor possui um nmero de sequncia que indica se est livre ou ocupado e em qual
+ * volta da fila, assim uma thread s precisa disputar o ndice de inicio ou de fim da fila.</p>
+ *
+ * <p>Para enfileirar a thread reserva a posio do fim da fila se a sequncia do ponto for igual
+ * a posio, ento escreve o elemento e publica a sequncia como posio + 1. Para desenfileirar
+ * reserva a posio do inicio se a sequncia for igual a posio + 1, l o elemento e libera o
+ * ponto para a prxima volta publicando a sequncia como posio + capacidade.</p>
+ *
+ * <p>Os ndices de inicio e fim ficam distantes um do outro em memria para que as threads que
+ * enfileiram no invalidem a linha de cache das threads que desenfileiram (falso compartilhamento).
+ * O tamanho e a iterao so apenas aproximados enquanto houver outras threads usando a fila.</p>
+ *
+ * @see Queue
+ *
+ * @author Andrew
+ *
+ * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
+ */
+
+public class ConcurrentQueue<E> extends AbstractCollection<E> implements Queue<E>
+{
+	/**
+	 * Distncia em longs entre os ndices, equivalente a duas linhas de cache.
+	 */
+	private static final int PADDING = 16;
+
+	/**
+	 * Posio no vetor de ndices onde fica o ndice do fim da fila.
+	 */
+	private static final int TAIL = PADDING - 1;
+
+	/**
+	 * Posio no vetor de ndices onde fica o ndice do inicio da fila.
+	 */
+	private static final int HEAD = TAIL + PADDING;
+
+	/**
+	 * Vetor usado para armazenar os elementos adicionados na fila.
+	 */
+	private final Object elements[];
+
+	/**
+	 * Nmero de sequncia de cada ponto do vetor de elementos.
+	 */
+	private final AtomicLongArray sequences;
+
+	/**
+	 * ndices de inicio e fim da fila separados por espaos vazios.
+	 */
+	private final AtomicLongArray indexes;
+
+	/**
+	 * Mscara usada para obter o ponto do vetor a partir de uma posio.
+	 */
+	private final int mask;
+
+	/**
+	 * Constri uma nova fila concorrente com capacidade limitada.
+	 * @param length quantidade mnima de elementos que a fila poder armazenar,
+	 * ser arredondada para a prxima potncia de dois.
+	 */
+
+	public ConcurrentQueue(int length)
+	{
+		this(null, length);
+	}
+
+	/**
+	 * Constri uma nova fila concorrente com capacidade limitada.
+	 * Alm disso tambm define do tipo de objeto que ser usado em toArray.
+	 * @param generic classe respectiva ao tipo de dado armazenado.
+	 * @param length quantidade mnima de elementos que a fila poder armazenar,
+	 * ser arredondada para a prxima potncia de dois.
+	 */
+
+	public ConcurrentQueue(Class<?> generic, int length)
+	{
+		int capacity = Integer.highestOneBit(Math.max(length, 2) - 1) << 1;
+
+		elements = new Object[capacity];
+		sequences = new AtomicLongArray(capacity);
+		indexes = new AtomicLongArray(HEAD + PADDING);
+		mask = capacity - 1;
+
+		for (int i = 0; i < capacity; i++)
+			sequences.lazySet(i, i);
+
+		setGeneric(generic);
+	}
+
+	@Override
+	public void clear()
+	{
+		while (poll() != null);
+	}
+
+	@Override
+	public int size()
+	{
+		while (true)
+		{
+			long head = indexes.get(HEAD);
+			long tail = indexes.get(TAIL);
+
+			if (head == indexes.get(HEAD))
+				return (int) Math.max(0, Math.min(tail - head, elements.length));
+		}
+	}
+
+	@Override
+	public int length()
+	{
+		return elements.length;
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return size() == 0;
+	}
+
+	@Override
+	public boolean isFull()
+	{
+		return size() == elements.length;
+	}
+
+	@Override
+	public boolean contains(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (E queued : this)
+			if (queued.equals(element))
+				return true;
+
+		return false;
+	}
+
+	@Override
+	public boolean offer(E element)
+	{
+		if (element == null)
+			return false;
+
+		long position = indexes.get(TAIL);
+
+		while (true)
+		{
+			int slot = (int) position & mask;
+			long difference = sequences.get(slot) - position;
+
+			if (difference == 0)
+			{
+				if (indexes.compareAndSet(TAIL, position, position + 1))
+				{
+					elements[slot] = element;
+					sequences.lazySet(slot, position + 1);
+
+					return true;
+				}
+			}
+
+			else if (difference < 0)
+				return false;
+
+			position = indexes.get(TAIL);
+		}
+	}
+
+	/**
+	 * Enfileira diversos elementos de um vetor reservando todas as posies de uma s vez.
+	 * Caso no haja espao para todos, apenas os primeiros que couberem sero enfileirados.
+	 * @param array vetor contendo os elementos que sero enfileirados, no podem ser nulos.
+	 * @param offset ndice do primeiro elemento no vetor que ser enfileirado.
+	 * @param length quantidade de elementos do vetor que devem ser enfileirados.
+	 * @return aquisio da quantidade de elementos que foram enfileirados.
+	 */
+
+	public int offer(E array[], int offset, int length)
+	{
+		while (true)
+		{
+			long position = indexes.get(TAIL);
+			int reserved = 0;
+
+			while (reserved < length && array[offset + reserved] != null)
+			{
+				long sequence = sequences.get((int) (position + reserved) & mask);
+
+				if (sequence != position + reserved)
+					break;
+
+				reserved++;
+			}
+
+			if (reserved == 0)
+			{
+				if (length == 0 || array[offset] == null || sequences.get((int) position & mask) < position)
+					return 0;
+
+				continue;
+			}
+
+			if (indexes.compareAndSet(TAIL, position, position + reserved))
+			{
+				for (int i = 0; i < reserved; i++)
+				{
+					int slot = (int) (position + i) & mask;
+
+					elements[slot] = array[offset + i];
+					sequences.lazySet(slot, position + i + 1);
+				}
+
+				return reserved;
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E poll()
+	{
+		long position = indexes.get(HEAD);
+
+		while (true)
+		{
+			int slot = (int) position & mask;
+			long difference = sequences.get(slot) - (position + 1);
+
+			if (difference == 0)
+			{
+				if (indexes.compareAndSet(HEAD, position, position + 1))
+				{
+					Object element = elements[slot];
+					elements[slot] = null;
+					sequences.lazySet(slot, position + elements.length);
+
+					return (E) element;
+				}
+			}
+
+			else if (difference < 0)
+				return null;
+
+			position = indexes.get(HEAD);
+		}
+	}
+
+	/**
+	 * Desenfileira diversos elementos reservando todas as posies de uma s vez.
+	 * Os elementos so retirados na ordem em que foram enfileirados.
+	 * @param array vetor onde sero colocados os elementos desenfileirados.
+	 * @param offset ndice no vetor onde ser colocado o primeiro elemento.
+	 * @param length quantidade mxima de elementos que devem ser desenfileirados.
+	 * @return aquisio da quantidade de elementos que foram desenfileirados.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public int poll(E array[], int offset, int length)
+	{
+		while (true)
+		{
+			long position = indexes.get(HEAD);
+			int reserved = 0;
+
+			while (reserved < length)
+			{
+				long sequence = sequences.get((int) (position + reserved) & mask);
+
+				if (sequence != position + reserved + 1)
+					break;
+
+				reserved++;
+			}
+
+			if (reserved == 0)
+			{
+				if (length == 0 || sequences.get((int) position & mask) < position + 1)
+					return 0;
+
+				continue;
+			}
+
+			if (indexes.compareAndSet(HEAD, position, position + reserved))
+			{
+				for (int i = 0; i < reserved; i++)
+				{
+					int slot = (int) (position + i) & mask;
+
+					array[offset + i] = (E) elements[slot];
+					elements[slot] = null;
+					sequences.lazySet(slot, position + i + elements.length);
+				}
+
+				return reserved;
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray()
+	{
+		DynamicList<E> list = new DynamicList<E>(Math.max(size(), DynamicList.DEFAULT_SIZE));
+
+		for (E element : this)
+			list.add(element);
+
+		E[] array = (E[]) Array.newInstance(getGeneric(), list.size());
+
+		for (int i = 0; i < array.length; i++)
+			array[i] = list.get(i);
+
+		return array;
+	}
+
+	@Override
+	public Iterator<E> iterator()
+	{
+		return new Iterator<E>()
+		{
+			private long position = indexes.get(HEAD);
+			private long end = indexes.get(TAIL);
+			private Object next = advance();
+
+			private Object advance()
+			{
+				for (; position < end; position++)
+				{
+					int slot = (int) position & mask;
+					Object element = elements[slot];
+
+					if (element != null && sequences.get(slot) == position + 1)
+					{
+						position++;
+						return element;
+					}
+				}
+
+				return null;
+			}
+
+			@Override
+			public boolean hasNext()
+			{
+				return next != null;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next()
+			{
+				if (next == null)
+					throw new NoSuchElementException();
+
+				Object element = next;
+				next = advance();
+
+				return (E) element;
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric().getSimpleName());
+				description.append("position", position);
+				description.append("end", end);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size());
+		description.append("length", length());
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,975 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.Map;
+
+/**
+ * <p><h1>Mapa Concorrente de Strings</h1></p>
+ *
+ * <p>Mapeador de chaves String que pode ser usado por diversas threads ao mesmo tempo.
+ * A tabela  dividida em segmentos, cada um com a sua prpria tabela espalhada e o seu
+ * prprio bloqueio, assim threads alterando chaves de segmentos diferentes no disputam
+ * entre si, e apenas as alteraes (adicionar, atualizar e remover) utilizam bloqueio.</p>
+ *
+ * <p>A leitura no utiliza bloqueio algum: a tabela de cada segmento  publicada de forma
+ * voltil e cada entrada possui chave, cdigo hash e prxima entrada imutveis, sendo apenas
+ * o elemento voltil. Ao remover uma entrada as anteriores do mesmo ponto so copiadas, de modo
+ * que uma leitura em andamento sempre enxerga uma corrente de entradas consistente.</p>
+ *
+ * <p>As iteraes so fracamente consistentes: nunca lanam exceo por alteraes concorrentes,
+ * enxergam os elementos existentes ao comear e podem ou no enxergar alteraes posteriores.
+ * Possui ainda operaes atmicas para adicionar se ausente, computar se ausente e substituir.</p>
+ *
+ * @see Map
+ * @see StringMap
+ *
+ * @author Andrew
+ *
+ * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
+ */
+
+public class ConcurrentStringMap<E> extends AbstractCollection<E> implements Map<String, E>
+{
+	/**
+	 * Quantidade padro de segmentos, determina quantas threads podem alterar ao mesmo tempo.
+	 */
+	public static final int DEFAULT_CONCURRENCY = 16;
+
+	/**
+	 * Capacidade padro da tabela de cada segmento ao ser iniciada.
+	 */
+	public static final int DEFAULT_SIZE = 16;
+
+	/**
+	 * Fator de carga para determinar quando a tabela de um segmento deve ser aumentada.
+	 */
+	public static final float DEFAULT_LOAD = 0.75f;
+
+	/**
+	 * Vetor contendo os segmentos do mapeador.
+	 */
+	private final Segment<E> segments[];
+
+	/**
+	 * Deslocamento do cdigo hash para obter o segmento atravs dos bits mais altos.
+	 */
+	private final int shift;
+
+	/**
+	 * Constri um novo mapeador concorrente com a quantidade padro de segmentos.
+	 */
+
+	public ConcurrentStringMap()
+	{
+		this(DEFAULT_CONCURRENCY);
+	}
+
+	/**
+	 * Constri um novo mapeador concorrente.
+	 * @param concurrency quantidade estimada de threads que iro alterar o mapeador ao mesmo tempo,
+	 * ser arredondada para a prxima potncia de dois.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public ConcurrentStringMap(int concurrency)
+	{
+		int count = Integer.highestOneBit(Math.max(concurrency, 2) - 1) << 1;
+
+		segments = (Segment<E>[]) new Segment<?>[count];
+		shift = 32 - Integer.numberOfTrailingZeros(count);
+
+		for (int i = 0; i < count; i++)
+			segments[i] = new Segment<E>();
+	}
+
+	@Override
+	public void clear()
+	{
+		for (Segment<E> segment : segments)
+			segment.clear();
+	}
+
+	@Override
+	public int size()
+	{
+		long size = 0;
+
+		for (Segment<E> segment : segments)
+			size += segment.count;
+
+		return (int) Math.min(size, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public int length()
+	{
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		for (Segment<E> segment : segments)
+			if (segment.count > 0)
+				return false;
+
+		return true;
+	}
+
+	@Override
+	public boolean isFull()
+	{
+		return false;
+	}
+
+	@Override
+	public boolean contains(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (E value : this)
+			if (value.equals(element))
+				return true;
+
+		return false;
+	}
+
+	@Override
+	public boolean containsKey(String key)
+	{
+		return get(key) != null;
+	}
+
+	@Override
+	public E get(String key)
+	{
+		if (key == null)
+			return null;
+
+		int hash = hash(key);
+
+		return segmentOf(hash).get(key, hash);
+	}
+
+	@Override
+	public boolean add(String key, E element)
+	{
+		return key != null && element != null && putIfAbsent(key, element) == null;
+	}
+
+	@Override
+	public boolean update(String key, E value)
+	{
+		return key != null && value != null && replace(key, value) != null;
+	}
+
+	@Override
+	public boolean removeKey(String key)
+	{
+		if (key == null)
+			return false;
+
+		int hash = hash(key);
+
+		return segmentOf(hash).remove(key, hash, null) != null;
+	}
+
+	@Override
+	public boolean remove(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (MapItem<String, E> item : iterateItems())
+			if (item.getValue().equals(element))
+			{
+				int hash = hash(item.getKey());
+
+				if (segmentOf(hash).remove(item.getKey(), hash, element) != null)
+					return true;
+			}
+
+		return false;
+	}
+
+	@Override
+	public boolean renameKey(String oldKey, String newKey)
+	{
+		if (oldKey == null || newKey == null)
+			return false;
+
+		int oldHash = hash(oldKey);
+		int newHash = hash(newKey);
+
+		Segment<E> oldSegment = segmentOf(oldHash);
+		Segment<E> newSegment = segmentOf(newHash);
+
+		Segment<E> first = segments[Math.min(oldHash >>> shift, newHash >>> shift)];
+		Segment<E> second = segments[Math.max(oldHash >>> shift, newHash >>> shift)];
+
+		first.lock();
+		second.lock();
+
+		try {
+
+			E element = oldSegment.get(oldKey, oldHash);
+
+			if (element == null || newSegment.get(newKey, newHash) != null)
+				return false;
+
+			oldSegment.remove(oldKey, oldHash, null);
+			newSegment.put(newKey, newHash, element, true);
+
+			return true;
+
+		} finally {
+			second.unlock();
+			first.unlock();
+		}
+	}
+
+	/**
+	 * Adiciona ou substitui o elemento de uma chave no mapeador.
+	 * @param key chave que ser usada para identificar o elemento.
+	 * @param element referncia do elemento que ser armazenado.
+	 * @return aquisio do elemento que estava na chave ou null se no havia.
+	 */
+
+	public E put(String key, E element)
+	{
+		if (key == null || element == null)
+			return null;
+
+		int hash = hash(key);
+
+		return segmentOf(hash).put(key, hash, element, false);
+	}
+
+	/**
+	 * Adiciona um elemento apenas se a chave ainda no estiver no mapeador, de forma atmica.
+	 * @param key chave que ser usada para identificar o elemento.
+	 * @param element referncia do elemento que ser armazenado.
+	 * @return aquisio do elemento que j estava na chave ou null se foi adicionado.
+	 */
+
+	public E putIfAbsent(String key, E element)
+	{
+		if (key == null || element == null)
+			return null;
+
+		int hash = hash(key);
+
+		return segmentOf(hash).put(key, hash, element, true);
+	}
+
+	/**
+	 * Obtm o elemento de uma chave e caso no exista o cria e adiciona, de forma atmica.
+	 * A funo  chamada com o segmento bloqueado e no deve alterar este mapeador.
+	 * @param key chave do elemento que ser obtido ou criado.
+	 * @param function funo que ir criar o elemento a partir da chave,
+	 * se retornar null nada ser adicionado.
+	 * @return aquisio do elemento existente, do elemento criado ou null.
+	 */
+
+	public E computeIfAbsent(String key, Function<? super String, ? extends E> function)
+	{
+		if (key == null)
+			return null;
+
+		int hash = hash(key);
+		Segment<E> segment = segmentOf(hash);
+		E element = segment.get(key, hash);
+
+		if (element != null)
+			return element;
+
+		segment.lock();
+
+		try {
+
+			element = segment.get(key, hash);
+
+			if (element == null)
+			{
+				element = function.apply(key);
+
+				if (element != null)
+					segment.put(key, hash, element, true);
+			}
+
+			return element;
+
+		} finally {
+			segment.unlock();
+		}
+	}
+
+	/**
+	 * Substitui o elemento de uma chave apenas se a chave existir, de forma atmica.
+	 * @param key chave do elemento que ser substitudo.
+	 * @param element referncia do novo elemento para a chave.
+	 * @return aquisio do elemento que estava na chave ou null se no existir.
+	 */
+
+	public E replace(String key, E element)
+	{
+		if (key == null || element == null)
+			return null;
+
+		int hash = hash(key);
+
+		return segmentOf(hash).replace(key, hash, null, element);
+	}
+
+	/**
+	 * Substitui o elemento de uma chave apenas se ainda for o elemento esperado, de forma atmica.
+	 * @param key chave do elemento que ser substitudo.
+	 * @param expected referncia do elemento que deve estar na chave.
+	 * @param element referncia do novo elemento para a chave.
+	 * @return true se foi substitudo ou false se a chave no tiver o elemento esperado.
+	 */
+
+	public boolean replace(String key, E expected, E element)
+	{
+		if (key == null || expected == null || element == null)
+			return false;
+
+		int hash = hash(key);
+
+		return segmentOf(hash).replace(key, hash, expected, element) != null;
+	}
+
+	/**
+	 * Remove uma chave apenas se ainda estiver com o elemento esperado, de forma atmica.
+	 * @param key chave do elemento que ser removido.
+	 * @param expected referncia do elemento que deve estar na chave.
+	 * @return true se foi removido ou false se a chave no tiver o elemento esperado.
+	 */
+
+	public boolean remove(String key, E expected)
+	{
+		if (key == null || expected == null)
+			return false;
+
+		int hash = hash(key);
+
+		return segmentOf(hash).remove(key, hash, expected) != null;
+	}
+
+	/**
+	 * Calcula o cdigo hash usado para posicionar uma chave, espalhando os bits do hash
+	 * da string para que os bits altos escolham o segmento e os baixos o ponto da tabela.
+	 * @param key chave da qual deseja obter o cdigo hash.
+	 * @return aquisio do cdigo hash espalhado da chave.
+	 */
+
+	protected int hash(String key)
+	{
+		int h = key.hashCode() * 0x9E3779B9;
+
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * @param hash cdigo hash espalhado de uma chave.
+	 * @return aquisio do segmento responsvel pela chave.
+	 */
+
+	private Segment<E> segmentOf(int hash)
+	{
+		return segments[hash >>> shift];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray()
+	{
+		DynamicList<E> list = new DynamicList<E>(Math.max(size(), DynamicList.DEFAULT_SIZE));
+
+		for (E element : this)
+			list.add(element);
+
+		E[] array = (E[]) Array.newInstance(getGeneric(), list.size());
+
+		for (int i = 0; i < array.length; i++)
+			array[i] = list.get(i);
+
+		return array;
+	}
+
+	@Override
+	public Iterator<E> iterator()
+	{
+		return new Traverser<E>()
+		{
+			@Override
+			protected E item()
+			{
+				return value();
+			}
+		};
+	}
+
+	@Override
+	public Iterator<String> iteratorKey()
+	{
+		return new Traverser<String>()
+		{
+			@Override
+			protected String item()
+			{
+				return key();
+			}
+		};
+	}
+
+	@Override
+	public Iterator<MapItem<String, E>> iteratorItems()
+	{
+		return new Traverser<MapItem<String, E>>()
+		{
+			@Override
+			protected MapItem<String, E> item()
+			{
+				return new MapItem<String, E>(key(), value());
+			}
+		};
+	}
+
+	@Override
+	public Iterable<String> iterateKey()
+	{
+		return new Iterable<String>()
+		{
+			@Override
+			public Iterator<String> iterator()
+			{
+				return iteratorKey();
+			}
+		};
+	}
+
+	@Override
+	public Iterable<MapItem<String, E>> iterateItems()
+	{
+		return new Iterable<Map.MapItem<String, E>>()
+		{
+			@Override
+			public Iterator<MapItem<String, E>> iterator()
+			{
+				return iteratorItems();
+			}
+		};
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super String, ? super E> action)
+	{
+		for (Segment<E> segment : segments)
+		{
+			AtomicReferenceArray<Entry> table = segment.table;
+
+			for (int i = 0; i < table.length(); i++)
+				for (Entry entry = table.get(i); entry != null; entry = entry.next)
+				{
+					Object value = entry.value;
+
+					if (value != null)
+						action.accept(entry.key, (E) value);
+				}
+		}
+	}
+
+	@Override
+	public MapCursor<String, E> cursor()
+	{
+		return new Cursor();
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size());
+		description.append("segments", segments.length);
+
+		for (MapItem<String, E> item : iterateItems())
+			description.append(item.getKey(), item.getValue());
+
+		return description.toString();
+	}
+
+	/**
+	 * <p><h1>Cursor</h1></p>
+	 *
+	 * <p>Cursor fracamente consistente que percorre as entradas de todos os segmentos,
+	 * usando a tabela de cada segmento no momento em que chega nele.</p>
+	 */
+
+	private class Cursor implements MapCursor<String, E>
+	{
+		/**
+		 * ndice do segmento que est sendo percorrido.
+		 */
+		private int segment;
+
+		/**
+		 * Tabela do segmento que est sendo percorrido.
+		 */
+		private AtomicReferenceArray<Entry> table;
+
+		/**
+		 * Ponto da tabela que est sendo percorrido.
+		 */
+		private int slot;
+
+		/**
+		 * Entrada em que o cursor est posicionado.
+		 */
+		private Entry entry;
+
+		/**
+		 * Elemento da entrada lido ao encontr-la.
+		 */
+		private Object value;
+
+		/**
+		 * Cria um novo cursor posicionado antes da primeira entrada.
+		 */
+
+		private Cursor()
+		{
+			reset();
+		}
+
+		@Override
+		public boolean advance()
+		{
+			Entry current = entry == null ? null : entry.next;
+
+			while (true)
+			{
+				for (; current != null; current = current.next)
+				{
+					Object value = current.value;
+
+					if (value != null)
+					{
+						this.entry = current;
+						this.value = value;
+
+						return true;
+					}
+				}
+
+				if (table != null && slot < table.length())
+					current = table.get(slot++);
+
+				else if (segment + 1 < segments.length)
+				{
+					table = segments[++segment].table;
+					slot = 0;
+				}
+
+				else
+				{
+					segment = segments.length;
+					table = null;
+					entry = null;
+					value = null;
+
+					return false;
+				}
+			}
+		}
+
+		@Override
+		public String key()
+		{
+			return entry == null ? null : entry.key;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E value()
+		{
+			return (E) value;
+		}
+
+		@Override
+		public void reset()
+		{
+			segment = -1;
+			table = null;
+			slot = 0;
+			entry = null;
+			value = null;
+		}
+
+		@Override
+		public String toString()
+		{
+			ObjectDescription description = new ObjectDescription(getClass());
+
+			description.append("segment", segment);
+			description.append("slot", slot);
+
+			return description.toString();
+		}
+	}
+
+	/**
+	 * <p><h1>Percorredor</h1></p>
+	 *
+	 * <p>Iterador construdo sobre o cursor, mantendo sempre a prxima entrada j encontrada.</p>
+	 *
+	 * @param <T> tipo de dado que ser obtido de cada entrada.
+	 */
+
+	private abstract class Traverser<T> extends Cursor implements Iterator<T>
+	{
+		/**
+		 * Se o cursor est posicionado na prxima entrada do iterador.
+		 */
+		private boolean next;
+
+		/**
+		 * Cria o percorredor j posicionando na primeira entrada.
+		 */
+
+		private Traverser()
+		{
+			next = advance();
+		}
+
+		/**
+		 * @return aquisio do objeto que ser retornado pelo iterador para a entrada atual.
+		 */
+
+		protected abstract T item();
+
+		@Override
+		public boolean hasNext()
+		{
+			return next;
+		}
+
+		@Override
+		public T next()
+		{
+			if (!next)
+				throw new NoSuchElementException();
+
+			T item = item();
+			next = advance();
+
+			return item;
+		}
+
+		@Override
+		public String toString()
+		{
+			ObjectDescription description = new ObjectDescription(getClass());
+
+			description.append("hasNext", hasNext());
+			description.append("cursor", super.toString());
+
+			return description.toString();
+		}
+	}
+
+	/**
+	 * <p><h1>Entrada</h1></p>
+	 *
+	 * <p>Ligao de uma chave ao seu elemento dentro de um ponto da tabela de um segmento.
+	 * Apenas o elemento pode ser alterado, o restante  imutvel para a leitura sem bloqueio.</p>
+	 */
+
+	private static final class Entry
+	{
+		/**
+		 * Chave que identifica o elemento.
+		 */
+		private final String key;
+
+		/**
+		 * Cdigo hash espalhado da chave.
+		 */
+		private final int hash;
+
+		/**
+		 * Prxima entrada no mesmo ponto da tabela.
+		 */
+		private final Entry next;
+
+		/**
+		 * Elemento ligado a chave.
+		 */
+		private volatile Object value;
+
+		/**
+		 * Cria uma nova entrada.
+		 * @param key chave que identifica o elemento.
+		 * @param hash cdigo hash espalhado da chave.
+		 * @param value elemento ligado a chave.
+		 * @param next prxima entrada no mesmo ponto da tabela.
+		 */
+
+		private Entry(String key, int hash, Object value, Entry next)
+		{
+			this.key = key;
+			this.hash = hash;
+			this.value = value;
+			this.next = next;
+		}
+	}
+
+	/**
+	 * <p><h1>Segmento</h1></p>
+	 *
+	 * <p>Parte do mapeador com a sua prpria tabela espalhada e o seu prprio bloqueio,
+	 * toda alterao  feita com o segmento bloqueado e a leitura no utiliza bloqueio.</p>
+	 *
+	 * @param <E> qual ser o tipo de dado que ser armazenado no segmento.
+	 */
+
+	@SuppressWarnings("serial")
+	private static final class Segment<E> extends ReentrantLock
+	{
+		/**
+		 * Tabela espalhada do segmento, substituda por inteiro ao ser aumentada.
+		 */
+		private volatile AtomicReferenceArray<Entry> table;
+
+		/**
+		 * Quantidade de entradas no segmento.
+		 */
+		private volatile int count;
+
+		/**
+		 * Quantidade de entradas que a tabela suporta antes de ser aumentada.
+		 */
+		private int threshold;
+
+		/**
+		 * Cria um novo segmento com a tabela no tamanho padro.
+		 */
+
+		private Segment()
+		{
+			table = new AtomicReferenceArray<Entry>(DEFAULT_SIZE);
+			threshold = (int) (DEFAULT_SIZE * DEFAULT_LOAD);
+		}
+
+		/**
+		 * Procura o elemento de uma chave sem utilizar bloqueio.
+		 * @param key chave do elemento que ser procurado.
+		 * @param hash cdigo hash espalhado da chave.
+		 * @return aquisio do elemento ou null se no for encontrado.
+		 */
+
+		@SuppressWarnings("unchecked")
+		private E get(String key, int hash)
+		{
+			AtomicReferenceArray<Entry> table = this.table;
+
+			for (Entry entry = table.get(hash & (table.length() - 1)); entry != null; entry = entry.next)
+				if (entry.hash == hash && entry.key.equals(key))
+					return (E) entry.value;
+
+			return null;
+		}
+
+		/**
+		 * Adiciona ou substitui o elemento de uma chave.
+		 * @param key chave que ser usada para identificar o elemento.
+		 * @param hash cdigo hash espalhado da chave.
+		 * @param element referncia do elemento que ser armazenado.
+		 * @param absent true para no substituir caso a chave j exista.
+		 * @return aquisio do elemento que estava na chave ou null se no havia.
+		 */
+
+		@SuppressWarnings("unchecked")
+		private E put(String key, int hash, E element, boolean absent)
+		{
+			lock();
+
+			try {
+
+				AtomicReferenceArray<Entry> table = this.table;
+				int slot = hash & (table.length() - 1);
+				Entry first = table.get(slot);
+
+				for (Entry entry = first; entry != null; entry = entry.next)
+					if (entry.hash == hash && entry.key.equals(key))
+					{
+						Object old = entry.value;
+
+						if (!absent)
+							entry.value = element;
+
+						return (E) old;
+					}
+
+				if (count >= threshold)
+				{
+					table = rehash();
+					slot = hash & (table.length() - 1);
+					first = table.get(slot);
+				}
+
+				table.set(slot, new Entry(key, hash, element, first));
+				count++;
+
+				return null;
+
+			} finally {
+				unlock();
+			}
+		}
+
+		/**
+		 * Substitui o elemento de uma chave existente.
+		 * @param key chave do elemento que ser substitudo.
+		 * @param hash cdigo hash espalhado da chave.
+		 * @param expected elemento que deve estar na chave ou null para qualquer um.
+		 * @param element referncia do novo elemento para a chave.
+		 * @return aquisio do elemento substitudo ou null se no foi substitudo.
+		 */
+
+		@SuppressWarnings("unchecked")
+		private E replace(String key, int hash, E expected, E element)
+		{
+			lock();
+
+			try {
+
+				AtomicReferenceArray<Entry> table = this.table;
+
+				for (Entry entry = table.get(hash & (table.length() - 1)); entry != null; entry = entry.next)
+					if (entry.hash == hash && entry.key.equals(key))
+					{
+						Object old = entry.value;
+
+						if (expected != null && !expected.equals(old))
+							return null;
+
+						entry.value = element;
+
+						return (E) old;
+					}
+
+				return null;
+
+			} finally {
+				unlock();
+			}
+		}
+
+		/**
+		 * Remove uma chave do segmento, as entradas anteriores a ela no mesmo ponto
+		 * so copiadas j que a prxima entrada de cada uma  imutvel.
+		 * @param key chave do elemento que ser removido.
+		 * @param hash cdigo hash espalhado da chave.
+		 * @param expected elemento que deve estar na chave ou null para qualquer um.
+		 * @return aquisio do elemento removido ou null se no foi removido.
+		 */
+
+		@SuppressWarnings("unchecked")
+		private E remove(String key, int hash, Object expected)
+		{
+			lock();
+
+			try {
+
+				AtomicReferenceArray<Entry> table = this.table;
+				int slot = hash & (table.length() - 1);
+				Entry first = table.get(slot);
+				Entry entry = first;
+
+				while (entry != null && (entry.hash != hash || !entry.key.equals(key)))
+					entry = entry.next;
+
+				if (entry == null)
+					return null;
+
+				Object old = entry.value;
+
+				if (expected != null && !expected.equals(old))
+					return null;
+
+				Entry head = entry.next;
+
+				for (Entry copy = first; copy != entry; copy = copy.next)
+					head = new Entry(copy.key, copy.hash, copy.value, head);
+
+				entry.value = null;
+				table.set(slot, head);
+				count--;
+
+				return (E) old;
+
+			} finally {
+				unlock();
+			}
+		}
+
+		/**
+		 * Remove todas as entradas do segmento substituindo a tabela.
+		 */
+
+		private void clear()
+		{
+			lock();
+
+			try {
+
+				AtomicReferenceArray<Entry> table = this.table;
+
+				for (int i = 0; i < table.length(); i++)
+					table.set(i, null);
+
+				count = 0;
+
+			} finally {
+				unlock();
+			}
+		}
+
+		/**
+		 * Dobra a tabela do segmento copiando as entradas para a nova tabela,
+		 * a tabela antiga continua vlida para as leituras em andamento.
+		 * @return aquisio da nova tabela j publicada.
+		 */
+
+		private AtomicReferenceArray<Entry> rehash()
+		{
+			AtomicReferenceArray<Entry> old = table;
+			AtomicReferenceArray<Entry> table = new AtomicReferenceArray<Entry>(old.length() << 1);
+			int mask = table.length() - 1;
+
+			for (int i = 0; i < old.length(); i++)
+				for (Entry entry = old.get(i); entry != null; entry = entry.next)
+				{
+					int slot = entry.hash & mask;
+					table.set(slot, new Entry(entry.key, entry.hash, entry.value, table.get(slot)));
+				}
+
+			threshold = (int) (table.length() * DEFAULT_LOAD);
+			this.table = table;
+
+			return table;
+		}
+	}
+}
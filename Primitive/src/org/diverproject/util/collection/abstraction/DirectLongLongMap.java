@@ -0,0 +1,626 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.LongLongConsumer;
+
+/**
+ * <p><h1>Mapa Direto de Longs para Longs</h1></p>
+ *
+ * <p>Mapeador com chaves e valores do tipo long primitivo cuja tabela espalhada fica fora da heap
+ * do java, em buffers diretos. Funciona da mesma forma que LongLongMap: endereamento aberto com
+ * sondagem linear, a chave zero  guardada fora da tabela e na remoo as chaves seguintes so
+ * deslocadas para trs, porm cada ponto da tabela so 16 bytes (chave e valor) em um buffer direto.</p>
+ *
+ * <p>Como a heap contm apenas os objetos dos buffers, o coletor de lixo no  afetado pela
+ * quantidade de chaves armazenadas. A tabela  dividida em segmentos de tamanho fixo para que
+ * possa ultrapassar o limite de um nico buffer, a memria de uma tabela substituda ao ser
+ * aumentada  liberada quando os seus buffers forem coletados.</p>
+ *
+ * @see LongLongMap
+ *
+ * @author Andrew
+ */
+
+public class DirectLongLongMap
+{
+	/**
+	 * Capacidade padro da tabela espalhada ao ser iniciada.
+	 */
+	public static final int DEFAULT_SIZE = 16;
+
+	/**
+	 * Fator de carga padro para determinar quando a tabela deve ser aumentada.
+	 */
+	public static final float DEFAULT_LOAD = 0.75f;
+
+	/**
+	 * Quantidade de bits usada para obter o segmento de um ponto da tabela.
+	 */
+	private static final int SEGMENT_SHIFT = 16;
+
+	/**
+	 * Quantidade de bytes ocupada por cada ponto da tabela (chave e valor).
+	 */
+	private static final int SLOT_BYTES = 16;
+
+	/**
+	 * Segmentos da tabela espalhada.
+	 */
+	private ByteBuffer segments[];
+
+	/**
+	 * Quantidade de chaves armazenadas, incluindo a chave zero.
+	 */
+	private int size;
+
+	/**
+	 * Se a chave zero est sendo usada.
+	 */
+	private boolean hasZero;
+
+	/**
+	 * Valor definido a chave zero quando esta estiver sendo usada.
+	 */
+	private long zeroValue;
+
+	/**
+	 * Capacidade da tabela espalhada.
+	 */
+	private int capacity;
+
+	/**
+	 * Mscara usada para obter um ponto da tabela a partir de um cdigo hash.
+	 */
+	private int mask;
+
+	/**
+	 * Mscara usada para obter a posio de um ponto dentro do seu segmento.
+	 */
+	private int segmentMask;
+
+	/**
+	 * Quantidade de chaves que a tabela suporta antes de ser aumentada.
+	 */
+	private int threshold;
+
+	/**
+	 * Fator de carga usado para calcular o limite da tabela.
+	 */
+	private float load;
+
+	/**
+	 * Constri um novo mapeador com a capacidade e fator de carga padro.
+	 */
+
+	public DirectLongLongMap()
+	{
+		this(DEFAULT_SIZE, DEFAULT_LOAD);
+	}
+
+	/**
+	 * Constri um novo mapeador com uma capacidade inicial especificada.
+	 * @param start quantas chaves devem caber na tabela sem que esta seja aumentada.
+	 */
+
+	public DirectLongLongMap(int start)
+	{
+		this(start, DEFAULT_LOAD);
+	}
+
+	/**
+	 * Constri um novo mapeador com uma capacidade inicial e fator de carga especificados.
+	 * @param start quantas chaves devem caber na tabela sem que esta seja aumentada.
+	 * @param load fator de carga da tabela, deve ser maior que 0 e menor que 1.
+	 */
+
+	public DirectLongLongMap(int start, float load)
+	{
+		if (load <= 0f || load >= 1f)
+			load = DEFAULT_LOAD;
+
+		this.load = load;
+
+		allocate(capacityFor(Math.max(start, 2), load));
+	}
+
+	/**
+	 * Remove todas as chaves do mapeador mantendo a capacidade da tabela.
+	 */
+
+	public void clear()
+	{
+		size = 0;
+		hasZero = false;
+		zeroValue = 0;
+
+		for (int slot = 0; slot < capacity; slot++)
+			setKey(slot, 0);
+	}
+
+	/**
+	 * @return aquisio da quantidade de chaves armazenadas no mapeador.
+	 */
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * @return aquisio da quantidade de pontos da tabela espalhada.
+	 */
+
+	public int length()
+	{
+		return capacity;
+	}
+
+	/**
+	 * @return true se no houver nenhuma chave no mapeador ou false caso contrrio.
+	 */
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Verifica se um determinada chave j est sendo utilizada no mapeador.
+	 * @param key chave do qual deve ser verificado a existncia.
+	 * @return true se conter ou false caso contrrio.
+	 */
+
+	public boolean containsKey(long key)
+	{
+		return key == 0 ? hasZero : find(key) != -1;
+	}
+
+	/**
+	 * Adiciona uma nova chave ao mapeador ligada a um determinado valor.
+	 * @param key chave que ser adicionada ao mapeador.
+	 * @param value valor que ser definido a chave.
+	 * @return true se conseguir adicionar ou false se a chave j estiver sendo usada.
+	 */
+
+	public boolean add(long key, long value)
+	{
+		if (key == 0)
+		{
+			if (hasZero)
+				return false;
+
+			addZero(value);
+
+			return true;
+		}
+
+		int slot = slot(key);
+		long current;
+
+		while ((current = getKey(slot)) != 0)
+		{
+			if (current == key)
+				return false;
+
+			slot = (slot + 1) & mask;
+		}
+
+		insert(slot, key, value);
+
+		return true;
+	}
+
+	/**
+	 * Define o valor de uma chave, adicionando a chave caso ainda no esteja sendo usada.
+	 * @param key chave do qual ter o valor definido.
+	 * @param value valor que ser definido a chave.
+	 * @return aquisio do valor que estava definido a chave ou zero se no estava sendo usada.
+	 */
+
+	public long put(long key, long value)
+	{
+		if (key == 0)
+		{
+			long old = zeroValue;
+
+			if (hasZero)
+				zeroValue = value;
+			else
+				addZero(value);
+
+			return old;
+		}
+
+		int slot = slot(key);
+		long current;
+
+		while ((current = getKey(slot)) != 0)
+		{
+			if (current == key)
+			{
+				long old = getValue(slot);
+				setValue(slot, value);
+
+				return old;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		insert(slot, key, value);
+
+		return 0;
+	}
+
+	/**
+	 * Soma um valor ao valor atual de uma chave, caso a chave ainda no esteja sendo usada
+	 * ela ser adicionada com o prprio valor a ser somado, com uma nica sondagem na tabela.
+	 * @param key chave do qual ter o valor incrementado.
+	 * @param delta valor que ser somado ao valor da chave, pode ser negativo.
+	 * @return aquisio do valor da chave aps a soma.
+	 */
+
+	public long addTo(long key, long delta)
+	{
+		if (key == 0)
+		{
+			if (hasZero)
+				return zeroValue += delta;
+
+			addZero(delta);
+
+			return delta;
+		}
+
+		int slot = slot(key);
+		long current;
+
+		while ((current = getKey(slot)) != 0)
+		{
+			if (current == key)
+			{
+				long value = getValue(slot) + delta;
+				setValue(slot, value);
+
+				return value;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		insert(slot, key, delta);
+
+		return delta;
+	}
+
+	/**
+	 * Atualiza o valor de uma chave que j esteja sendo usada no mapeador.
+	 * @param key chave do qual ter o valor atualizado.
+	 * @param value novo valor que ser definido a chave.
+	 * @return true se a chave existir e for atualizada ou false caso contrrio.
+	 */
+
+	public boolean update(long key, long value)
+	{
+		if (key == 0)
+		{
+			if (!hasZero)
+				return false;
+
+			zeroValue = value;
+
+			return true;
+		}
+
+		int slot = find(key);
+
+		if (slot == -1)
+			return false;
+
+		setValue(slot, value);
+
+		return true;
+	}
+
+	/**
+	 * Obtm o valor de uma determinada chave do mapeador.
+	 * @param key chave do qual deseja obter o valor.
+	 * @return aquisio do valor da chave ou zero se no estiver sendo usada.
+	 */
+
+	public long get(long key)
+	{
+		return getOrDefault(key, 0);
+	}
+
+	/**
+	 * Obtm o valor de uma determinada chave do mapeador.
+	 * @param key chave do qual deseja obter o valor.
+	 * @param defaultValue valor que ser retornado caso a chave no esteja sendo usada.
+	 * @return aquisio do valor da chave ou o valor padro se no estiver sendo usada.
+	 */
+
+	public long getOrDefault(long key, long defaultValue)
+	{
+		if (key == 0)
+			return hasZero ? zeroValue : defaultValue;
+
+		int slot = find(key);
+
+		return slot == -1 ? defaultValue : getValue(slot);
+	}
+
+	/**
+	 * Remove uma determinada chave e o seu valor do mapeador.
+	 * @param key chave do qual deseja remover.
+	 * @return true se a chave existir e for removida ou false caso contrrio.
+	 */
+
+	public boolean removeKey(long key)
+	{
+		if (key == 0)
+		{
+			if (!hasZero)
+				return false;
+
+			hasZero = false;
+			zeroValue = 0;
+			size--;
+
+			return true;
+		}
+
+		int slot = find(key);
+
+		if (slot == -1)
+			return false;
+
+		delete(slot);
+
+		return true;
+	}
+
+	/**
+	 * Percorre todas as chaves do mapeador repassando-as junto de seus valores.
+	 * No cria nenhum objeto durante a iterao, a chave zero  repassada primeiro.
+	 * @param consumer referncia do consumidor que ir receber as chaves e valores.
+	 */
+
+	public void forEach(LongLongConsumer consumer)
+	{
+		if (hasZero)
+			consumer.accept(0, zeroValue);
+
+		for (int slot = 0; slot < capacity; slot++)
+		{
+			long key = getKey(slot);
+
+			if (key != 0)
+				consumer.accept(key, getValue(slot));
+		}
+	}
+
+	/**
+	 * Procedimento interno que ir adicionar a chave zero que fica fora da tabela.
+	 * @param value valor que ser definido a chave zero.
+	 */
+
+	private void addZero(long value)
+	{
+		hasZero = true;
+		zeroValue = value;
+		size++;
+	}
+
+	/**
+	 * Procedimento interno que ir localizar o ponto da tabela ocupado por uma chave.
+	 * @param key chave diferente de zero do qual deseja encontrar o ponto na tabela.
+	 * @return aquisio do ponto da tabela ou -1 caso a chave no tenha sido encontrada.
+	 */
+
+	private int find(long key)
+	{
+		int slot = slot(key);
+		long current;
+
+		while ((current = getKey(slot)) != 0)
+		{
+			if (current == key)
+				return slot;
+
+			slot = (slot + 1) & mask;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Procedimento interno que ir ocupar um ponto livre da tabela com uma nova chave.
+	 * Caso a quantidade de chaves ultrapasse o limite a tabela ser aumentada.
+	 * @param slot ponto livre da tabela que ser ocupado.
+	 * @param key chave diferente de zero que ser armazenada.
+	 * @param value valor que ser definido a chave.
+	 */
+
+	private void insert(int slot, long key, long value)
+	{
+		setKey(slot, key);
+		setValue(slot, value);
+
+		if (++size > threshold)
+			rehash(capacity << 1);
+	}
+
+	/**
+	 * Procedimento interno que ir liberar um ponto da tabela que esteja ocupado.
+	 * As chaves seguintes que foram deslocadas por coliso so movidas para trs,
+	 * garantindo que nenhuma sondagem seja interrompida pelo ponto liberado.
+	 * @param slot ponto da tabela que est ocupado e dever ser liberado.
+	 */
+
+	private void delete(int slot)
+	{
+		int next = slot;
+
+		while (true)
+		{
+			next = (next + 1) & mask;
+
+			long key = getKey(next);
+
+			if (key == 0)
+				break;
+
+			int home = slot(key);
+
+			if (slot <= next ? (slot < home && home <= next) : (slot < home || home <= next))
+				continue;
+
+			setKey(slot, key);
+			setValue(slot, getValue(next));
+			slot = next;
+		}
+
+		setKey(slot, 0);
+		setValue(slot, 0);
+		size--;
+	}
+
+	/**
+	 * Procedimento interno que ir criar uma nova tabela e reposicionar todas as chaves.
+	 * @param capacity nova capacidade da tabela, deve ser uma potncia de dois.
+	 */
+
+	private void rehash(int capacity)
+	{
+		ByteBuffer oldSegments[] = segments;
+		int oldCapacity = this.capacity;
+		int oldMask = segmentMask;
+
+		allocate(capacity);
+
+		for (int i = 0; i < oldCapacity; i++)
+		{
+			ByteBuffer segment = oldSegments[i >>> SEGMENT_SHIFT];
+			int position = (i & oldMask) * SLOT_BYTES;
+			long key = segment.getLong(position);
+
+			if (key != 0)
+			{
+				int slot = slot(key);
+
+				while (getKey(slot) != 0)
+					slot = (slot + 1) & mask;
+
+				setKey(slot, key);
+				setValue(slot, segment.getLong(position + Long.BYTES));
+			}
+		}
+	}
+
+	/**
+	 * Procedimento interno que ir criar os segmentos da tabela e definir seus limites.
+	 * @param capacity capacidade da tabela, deve ser uma potncia de dois.
+	 */
+
+	private void allocate(int capacity)
+	{
+		int perSegment = Math.min(capacity, 1 << SEGMENT_SHIFT);
+
+		this.segments = new ByteBuffer[capacity / perSegment];
+		this.capacity = capacity;
+		this.mask = capacity - 1;
+		this.segmentMask = perSegment - 1;
+		this.threshold = capacity == 1 << 30 ? Integer.MAX_VALUE : (int) (capacity * load);
+
+		for (int i = 0; i < segments.length; i++)
+			segments[i] = ByteBuffer.allocateDirect(perSegment * SLOT_BYTES).order(ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * Calcula qual deve ser a capacidade da tabela para comportar algumas chaves.
+	 * @param elements quantidade de chaves que deve caber sem aumentar a tabela.
+	 * @param load fator de carga que ser considerado pela tabela.
+	 * @return aquisio da menor potncia de dois que comporta as chaves.
+	 */
+
+	private static int capacityFor(int elements, float load)
+	{
+		long required = (long) Math.ceil(elements / (double) load) + 1;
+
+		if (required >= 1 << 30)
+			return 1 << 30;
+
+		return Integer.highestOneBit((int) required - 1) << 1;
+	}
+
+	/**
+	 * Procedimento que ir calcular qual o ponto inicial para uma determinada chave.
+	 * A chave  multiplicada pela razo urea para que chaves sequenciais fiquem espalhadas.
+	 * @param key chave que ser usada para fazer o calculo do ponto.
+	 * @return aquisio do ponto para determinar a localizao de uma chave.
+	 */
+
+	protected int slot(long key)
+	{
+		long hash = key * 0x9E3779B97F4A7C15L;
+		int folded = (int) (hash ^ (hash >>> 32));
+
+		return (folded ^ (folded >>> 16)) & mask;
+	}
+
+	/**
+	 * @param slot ponto da tabela.
+	 * @return aquisio da chave no ponto da tabela, zero se estiver livre.
+	 */
+
+	private long getKey(int slot)
+	{
+		return segments[slot >>> SEGMENT_SHIFT].getLong((slot & segmentMask) * SLOT_BYTES);
+	}
+
+	/**
+	 * @param slot ponto da tabela.
+	 * @param key chave que ser escrita no ponto da tabela.
+	 */
+
+	private void setKey(int slot, long key)
+	{
+		segments[slot >>> SEGMENT_SHIFT].putLong((slot & segmentMask) * SLOT_BYTES, key);
+	}
+
+	/**
+	 * @param slot ponto da tabela.
+	 * @return aquisio do valor no ponto da tabela.
+	 */
+
+	private long getValue(int slot)
+	{
+		return segments[slot >>> SEGMENT_SHIFT].getLong((slot & segmentMask) * SLOT_BYTES + Long.BYTES);
+	}
+
+	/**
+	 * @param slot ponto da tabela.
+	 * @param value valor que ser escrito no ponto da tabela.
+	 */
+
+	private void setValue(int slot, long value)
+	{
+		segments[slot >>> SEGMENT_SHIFT].putLong((slot & segmentMask) * SLOT_BYTES + Long.BYTES, value);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size);
+		description.append("length", capacity);
+		description.append("segments", segments.length);
+
+		return description.toString();
+	}
+}
@@ -1,6 +1,6 @@
 package org.diverproject.util.collection.abstraction;
 
-import org.diverproject.util.collection.ArrayUtil;
+import org.diverproject.util.collection.Growth;
 
 /**
  * <p><h1>ndice Dinmico</h1></p>
@@ -13,6 +13,11 @@ import org.diverproject.util.collection.ArrayUtil;
  * tambm  bem simples, posiciona os elementos no vetor ordenando-os de acordo com
  * o ndice que foi passado para tal quando adicionados na lista.</p>
  *
+ * <p>Para ndices com muitas inseres fora de ordem e centenas de milhares de elementos,
+ * o ndice por rvore evita deslocar os vetores a cada insero.</p>
+ *
+ * @see TreeIndex
+ *
  * @author Andrew
  *
  * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
@@ -20,128 +25,81 @@ import org.diverproject.util.collection.ArrayUtil;
 
 public class DynamicIndex<E> extends AbstractIndex<E>
 {
+	/**
+	 * Permite que dois elementos possuam o mesmo ndice.
+	 */
 	private boolean repet;
 
-	@Override
-	@SuppressWarnings("unchecked")
-	public boolean add(int index, E element)
-	{
-		if (isFull())
-			elements = (Attach<E>[]) ArrayUtil.increseIn(Attach.class, elements, DEFAULT_SIZE);
+	/**
+	 * Poltica de crescimento usada para aumentar ou reduzir o vetor interno.
+	 */
+	private Growth growth = GeometricGrowth.HALF;
 
-		Attach<E> attach = new Attach<E>();
-		attach.i = index;
-		attach.value = element;
+	/**
+	 * Constri um novo ndice dinmico com a capacidade inicial padro.
+	 */
 
-		for (int i = 0; i < elements.length; i++)
-		{
-			if (elements[i] == null)
-			{
-				elements[i] = attach;
-				break;
-			}
-
-			if (elements[i].i == index && !repet)
-				return false;
-
-			if (elements[i].i >= index)
-			{
-				ArrayUtil.moveRight(elements, i);
-				elements[i] = attach;
-				break;
-			}
-		}
+	public DynamicIndex()
+	{
+		super();
+	}
 
-		size++;
+	/**
+	 * Constri um novo ndice dinmico com uma capacidade inicial especificada.
+	 * @param start quantos elementos podero ser armazenados antes de crescer.
+	 */
 
-		return true;
+	public DynamicIndex(int start)
+	{
+		super(start);
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
-	public boolean remove(int index)
+	public boolean add(int index, E element)
 	{
-		if (isEmpty())
+		if (element == null)
 			return false;
 
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i].i == index)
-			{
-				size--;
-				elements[i] = null;
-			}
-
-		if (elements.length - size >= DEFAULT_SIZE)
-			elements = (Attach<E>[]) ArrayUtil.decreaseIn(Attach.class, elements, DEFAULT_SIZE);
+		if (isFull())
+			resize(growth.grow(values.length, size + 1));
 
-		return false;
+		return insert(index, element, repet);
 	}
 
 	@Override
-	public boolean update(int index, E element)
+	public boolean remove(int index)
 	{
-		if (isEmpty())
-			return false;
-
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i].i == index)
-			{
-				elements[i].value = element;
-				return true;
-			}
+		if (super.remove(index))
+		{
+			shrink();
+			return true;
+		}
 
 		return false;
 	}
 
 	@Override
-	public boolean change(int first, int second)
+	public boolean remove(E element)
 	{
-		if (size() < 2)
-			return false;
-
-		Attach<E> firstAttach = null;
-		Attach<E> secondAttach = null;
-
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i].i == first)
-			{
-				firstAttach = elements[i];
-				break;
-			}
-
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i].i == second)
-			{
-				secondAttach = elements[i];
-				break;
-			}
-
-		if (firstAttach != null && secondAttach != null)
+		if (super.remove(element))
 		{
-			E aux = secondAttach.value;
-
-			secondAttach.value = firstAttach.value;
-			firstAttach.value = aux;
-
+			shrink();
 			return true;
 		}
 
 		return false;
 	}
 
-	@Override
-	public E get(int index)
-	{
-		for (int i = 0; i < elements.length; i++)
-		{
-			if (elements[i] == null)
-				return null;
+	/**
+	 * Procedimento interno que ir reduzir o vetor interno caso a poltica de crescimento permita.
+	 */
 
-			if (elements[i].i == index)
-				return elements[i].value;
-		}
+	private void shrink()
+	{
+		int length = growth.shrink(values.length, size);
 
-		return null;
+		if (length < values.length)
+			resize(length);
 	}
 
 	/**
@@ -164,4 +122,45 @@ public class DynamicIndex<E> extends AbstractIndex<E>
 	{
 		this.repet = repet;
 	}
+
+	/**
+	 * Poltica de crescimento determina como o vetor interno ser aumentado ou reduzido.
+	 * @return aquisio da poltica de crescimento usada pela coleo.
+	 */
+
+	public Growth getGrowth()
+	{
+		return growth;
+	}
+
+	/**
+	 * Permite definir qual ser a poltica de crescimento usada pela coleo.
+	 * @param growth referncia da nova poltica de crescimento, se nulo usa a padro.
+	 */
+
+	public void setGrowth(Growth growth)
+	{
+		this.growth = growth == null ? GeometricGrowth.HALF : growth;
+	}
+
+	/**
+	 * Garante que o vetor interno comporte uma quantidade de elementos sem precisar crescer.
+	 * @param capacity quantidade de elementos que dever caber no vetor interno.
+	 */
+
+	public void ensureCapacity(int capacity)
+	{
+		if (capacity > values.length)
+			resize(growth.grow(values.length, capacity));
+	}
+
+	/**
+	 * Reduz o vetor interno para que tenha exatamente o tamanho atual da coleo.
+	 */
+
+	public void trimToSize()
+	{
+		if (values.length > size)
+			resize(size);
+	}
 }
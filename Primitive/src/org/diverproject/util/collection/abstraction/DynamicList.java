@@ -1,7 +1,9 @@
 package org.diverproject.util.collection.abstraction;
 
+import java.util.Arrays;
+
 import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.collection.ArrayUtil;
+import org.diverproject.util.collection.Growth;
 
 /**
  * <p><h1>Lista Esttica</h1><p>
@@ -14,6 +16,9 @@ import org.diverproject.util.collection.ArrayUtil;
  * Quando adicionado verifica se est cheio, e se estiver ir aumentar o tamanho deste.
  * No caso da remoo de um elemento verifica se h espaos demais sobrando e o corta.</p>
  *
+ * <p>Quanto e quando aumentar ou reduzir  decidido pela poltica de crescimento,
+ * que por padro  geomtrica, mantendo o custo para adicionar constante na mdia.</p>
+ *
  * @see AbstractList
  *
  * @author Andrew
@@ -23,6 +28,11 @@ import org.diverproject.util.collection.ArrayUtil;
 
 public class DynamicList<E> extends AbstractList<E>
 {
+	/**
+	 * Poltica de crescimento usada para aumentar ou reduzir o vetor interno.
+	 */
+	private Growth growth = GeometricGrowth.HALF;
+
 	/**
 	 * Constri uma nova lista esttica e inicializando o seu vetor interno.
 	 */
@@ -62,7 +72,7 @@ public class DynamicList<E> extends AbstractList<E>
 			return false;
 
 		if (isFull())
-			elements = ArrayUtil.increseIn(elements, DEFAULT_SIZE);
+			ensureCapacity(size + 1);
 
 		elements[size++] = element;
 
@@ -73,11 +83,10 @@ public class DynamicList<E> extends AbstractList<E>
 	public boolean remove(E element)
 	{
 		if (super.remove(element))
-			if (elements.length - size >= DEFAULT_SIZE)
-			{
-				elements = ArrayUtil.decreaseIn(elements, DEFAULT_SIZE);
-				return true;
-			}
+		{
+			shrink();
+			return true;
+		}
 
 		return false;
 	}
@@ -86,15 +95,68 @@ public class DynamicList<E> extends AbstractList<E>
 	public boolean remove(int index)
 	{
 		if (super.remove(index))
-			if (elements.length - size >= DEFAULT_SIZE)
-			{
-				elements = ArrayUtil.decreaseIn(elements, DEFAULT_SIZE);
-				return true;
-			}
+		{
+			shrink();
+			return true;
+		}
 
 		return false;
 	}
 
+	/**
+	 * Procedimento interno que ir reduzir o vetor interno caso a poltica de crescimento permita.
+	 */
+
+	private void shrink()
+	{
+		int length = growth.shrink(elements.length, size);
+
+		if (length < elements.length)
+			elements = Arrays.copyOf(elements, length);
+	}
+
+	/**
+	 * Poltica de crescimento determina como o vetor interno ser aumentado ou reduzido.
+	 * @return aquisio da poltica de crescimento usada pela coleo.
+	 */
+
+	public Growth getGrowth()
+	{
+		return growth;
+	}
+
+	/**
+	 * Permite definir qual ser a poltica de crescimento usada pela coleo.
+	 * @param growth referncia da nova poltica de crescimento, se nulo usa a padro.
+	 */
+
+	public void setGrowth(Growth growth)
+	{
+		this.growth = growth == null ? GeometricGrowth.HALF : growth;
+	}
+
+	/**
+	 * Garante que o vetor interno comporte uma quantidade de elementos sem precisar crescer.
+	 * til antes de adicionar muitos elementos de uma s vez, evitando cpias intermedirias.
+	 * @param capacity quantidade de elementos que dever caber no vetor interno.
+	 */
+
+	public void ensureCapacity(int capacity)
+	{
+		if (capacity > elements.length)
+			elements = Arrays.copyOf(elements, growth.grow(elements.length, capacity));
+	}
+
+	/**
+	 * Reduz o vetor interno para que tenha exatamente o tamanho atual da coleo.
+	 */
+
+	public void trimToSize()
+	{
+		if (elements.length > size)
+			elements = Arrays.copyOf(elements, size);
+	}
+
 	@Override
 	public String toString()
 	{
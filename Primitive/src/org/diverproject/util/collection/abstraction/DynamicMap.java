@@ -1,9 +1,6 @@
 package org.diverproject.util.collection.abstraction;
 
-import java.util.Iterator;
-
-import org.diverproject.util.ObjectDescription;
-import org.diverproject.util.collection.ArrayUtil;
+import org.diverproject.util.collection.Growth;
 
 /**
  * <p><h1>Mapeador Abstrato</h1></p>
@@ -17,6 +14,10 @@ import org.diverproject.util.collection.ArrayUtil;
  * Quando adicionados verifica se necessita de mais espao e quando um for removido,
  * ir verificar se h muito espao internamente sobrando sem elementos ocupando-os.</p>
  *
+ * <p>Quanto e quando aumentar ou reduzir  decidido pela poltica de crescimento,
+ * que por padro  geomtrica, assim adicionar e remover elementos possuem custo
+ * constante na mdia mesmo com milhes de elementos.</p>
+ *
  * @see AbstractMap
  *
  * @author Andrew
@@ -27,6 +28,11 @@ import org.diverproject.util.collection.ArrayUtil;
 
 public class DynamicMap<K, E> extends AbstractMap<K, E>
 {
+	/**
+	 * Poltica de crescimento usada para aumentar ou reduzir o vetor interno.
+	 */
+	private Growth growth = GeometricGrowth.HALF;
+
 	/**
 	 * Constri um novo mapeador dinmico iniciando o vetor interno.
 	 * Neste caso no determina o tipo de dado obtido por toArray.
@@ -70,26 +76,28 @@ public class DynamicMap<K, E> extends AbstractMap<K, E>
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public boolean add(K key, E element)
 	{
-		if (isFull())
-			elements = (MapElement<K, E>[]) ArrayUtil.increseIn(MapElement.class, elements, DEFAULT_SIZE);
+		return insert(key, element);
+	}
 
-		elements[size++] = new MapElement<K, E>(key, element);
+	@Override
+	protected boolean makeRoom()
+	{
+		if (end - size > elements.length >> 2)
+			resize(elements.length);
+		else
+			resize(growth.grow(elements.length, size + 1));
 
 		return true;
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public boolean removeKey(K key)
 	{
 		if (super.removeKey(key))
 		{
-			if (elements.length - DEFAULT_SIZE > size)
-				elements = (MapElement<K, E>[]) ArrayUtil.decreaseIn(MapElement.class, elements, DEFAULT_SIZE);
-
+			shrink();
 			return true;
 		}
 
@@ -97,93 +105,68 @@ public class DynamicMap<K, E> extends AbstractMap<K, E>
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public boolean remove(E element)
 	{
 		if (super.remove(element))
 		{
-			if (elements.length - DEFAULT_SIZE > size)
-				elements = (MapElement<K, E>[]) ArrayUtil.decreaseIn(elements, DEFAULT_SIZE);
-
+			shrink();
 			return true;
 		}
 
 		return false;
 	}
 
-	@Override
-	public E get(K key)
+	/**
+	 * Procedimento interno que ir reduzir o vetor interno caso a poltica de crescimento permita.
+	 */
+
+	private void shrink()
 	{
-		for (MapElement<K, E> element : elements)
-			if (element != null && element.key.equals(key))
-				return element.value;
+		int length = growth.shrink(elements.length, size);
 
-		return null;
+		if (length < elements.length)
+			resize(length);
 	}
 
-	@Override
-	public Iterator<K> iteratorKey()
+	/**
+	 * Poltica de crescimento determina como o vetor interno ser aumentado ou reduzido.
+	 * @return aquisio da poltica de crescimento usada pela coleo.
+	 */
+
+	public Growth getGrowth()
 	{
-		return new Iterator<K>()
-		{
-			private int iterate;
-
-			@Override
-			public boolean hasNext()
-			{
-				return iterate < size;
-			}
-
-			@Override
-			public K next()
-			{
-				return elements[iterate++].key;
-			}
-
-			@Override
-			public String toString()
-			{
-				ObjectDescription description = new ObjectDescription(getClass());
-
-				description.append("generic", getGeneric());
-				description.append("iterate", iterate);
-				description.append("size", size);
-
-				return description.toString();
-			}
-		};
+		return growth;
 	}
 
-	@Override
-	public Iterator<MapItem<K, E>> iteratorItems()
+	/**
+	 * Permite definir qual ser a poltica de crescimento usada pela coleo.
+	 * @param growth referncia da nova poltica de crescimento, se nulo usa a padro.
+	 */
+
+	public void setGrowth(Growth growth)
 	{
-		return new Iterator<MapItem<K, E>>()
-		{
-			private int iterate;
-
-			@Override
-			public boolean hasNext()
-			{
-				return iterate < size;
-			}
-
-			@Override
-			public MapItem<K, E> next()
-			{
-				return new MapItem<K, E>(elements[iterate].key, elements[iterate++].value);
-			}
-
-			@Override
-			public String toString()
-			{
-				ObjectDescription description = new ObjectDescription(getClass());
-
-				description.append("generic", getGeneric());
-				description.append("iterate", iterate);
-				description.append("size", size);
-
-				return description.toString();
-			}
-		};
+		this.growth = growth == null ? GeometricGrowth.HALF : growth;
+	}
+
+	/**
+	 * Garante que o vetor interno comporte uma quantidade de elementos sem precisar crescer.
+	 * til antes de adicionar muitos elementos de uma s vez, evitando cpias intermedirias.
+	 * @param capacity quantidade de elementos que dever caber no vetor interno.
+	 */
+
+	public void ensureCapacity(int capacity)
+	{
+		if (capacity > elements.length)
+			resize(growth.grow(elements.length, capacity));
+	}
+
+	/**
+	 * Reduz o vetor interno para que tenha exatamente o tamanho atual da coleo.
+	 */
+
+	public void trimToSize()
+	{
+		if (elements.length > size)
+			resize(size);
 	}
 }
@@ -1,6 +1,8 @@
 package org.diverproject.util.collection.abstraction;
 
-import org.diverproject.util.collection.ArrayUtil;
+import java.util.Arrays;
+
+import org.diverproject.util.collection.Growth;
 
 /**
  * <p><h1>Pilha Dinmica</h1></p>
@@ -19,6 +21,11 @@ import org.diverproject.util.collection.ArrayUtil;
 
 public class DynamicStack<E> extends AbstractStack<E>
 {
+	/**
+	 * Poltica de crescimento usada para aumentar ou reduzir o vetor interno.
+	 */
+	private Growth growth = GeometricGrowth.HALF;
+
 	/**
 	 * Constri uma nova pilha dinmica e inicializa o vetor para armazenamento.
 	 * A capacidade inicial neste construtor  definido por DEFAULT_SIZE.
@@ -43,7 +50,7 @@ public class DynamicStack<E> extends AbstractStack<E>
 	public boolean push(E element)
 	{
 		if (isFull())
-			elements = ArrayUtil.increseIn(elements, DEFAULT_SIZE);
+			ensureCapacity(size + 1);
 
 		elements[size++] = element;
 
@@ -57,11 +64,56 @@ public class DynamicStack<E> extends AbstractStack<E>
 		if (isEmpty())
 			return null;
 
-		E pop = (E) elements[size--];
+		E pop = (E) elements[--size];
+		elements[size] = null;
 
-		if (elements.length - size >= DEFAULT_SIZE)
-			elements = ArrayUtil.decreaseIn(elements, DEFAULT_SIZE);
+		int length = growth.shrink(elements.length, size);
+
+		if (length < elements.length)
+			elements = Arrays.copyOf(elements, length);
 
 		return pop;
 	}
+
+	/**
+	 * Poltica de crescimento determina como o vetor interno ser aumentado ou reduzido.
+	 * @return aquisio da poltica de crescimento usada pela coleo.
+	 */
+
+	public Growth getGrowth()
+	{
+		return growth;
+	}
+
+	/**
+	 * Permite definir qual ser a poltica de crescimento usada pela coleo.
+	 * @param growth referncia da nova poltica de crescimento, se nulo usa a padro.
+	 */
+
+	public void setGrowth(Growth growth)
+	{
+		this.growth = growth == null ? GeometricGrowth.HALF : growth;
+	}
+
+	/**
+	 * Garante que o vetor interno comporte uma quantidade de elementos sem precisar crescer.
+	 * til antes de adicionar muitos elementos de uma s vez, evitando cpias intermedirias.
+	 * @param capacity quantidade de elementos que dever caber no vetor interno.
+	 */
+
+	public void ensureCapacity(int capacity)
+	{
+		if (capacity > elements.length)
+			elements = Arrays.copyOf(elements, growth.grow(elements.length, capacity));
+	}
+
+	/**
+	 * Reduz o vetor interno para que tenha exatamente o tamanho atual da coleo.
+	 */
+
+	public void trimToSize()
+	{
+		if (elements.length > size)
+			elements = Arrays.copyOf(elements, size);
+	}
 }
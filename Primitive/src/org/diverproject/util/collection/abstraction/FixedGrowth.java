@@ -0,0 +1,71 @@
+package org.diverproject.util.collection.abstraction;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.Growth;
+
+/**
+ * <p><h1>Crescimento Fixo</h1></p>
+ *
+ * <p>Poltica de crescimento que aumenta ou reduz a capacidade sempre em um mesmo passo.
+ * Era o comportamento original das colees dinmicas, economiza memria em colees
+ * pequenas, porm o custo para adicionar elementos cresce junto com a coleo.</p>
+ *
+ * @see Growth
+ *
+ * @author Andrew
+ */
+
+public class FixedGrowth implements Growth
+{
+	/**
+	 * Quantidade de espaos que sero adicionados ou removidos do vetor.
+	 */
+	private final int step;
+
+	/**
+	 * Constri uma nova poltica de crescimento fixo.
+	 * @param step quantidade de espaos que sero adicionados ou removidos do vetor.
+	 */
+
+	public FixedGrowth(int step)
+	{
+		this.step = Math.max(step, 1);
+	}
+
+	@Override
+	public int grow(int length, int required)
+	{
+		long grown = Math.min((long) length + step, GeometricGrowth.MAX_LENGTH);
+
+		return (int) Math.max(grown, required);
+	}
+
+	@Override
+	public int shrink(int length, int size)
+	{
+		if (length - size >= step * 2)
+			return length - step;
+
+		return length;
+	}
+
+	/**
+	 * Passo de crescimento determina quantos espaos so adicionados ou removidos.
+	 * @return aquisio do passo de crescimento.
+	 */
+
+	public int getStep()
+	{
+		return step;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("step", step);
+
+		return description.toString();
+	}
+}
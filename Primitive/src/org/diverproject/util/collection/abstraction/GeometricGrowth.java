@@ -0,0 +1,114 @@
+package org.diverproject.util.collection.abstraction;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.UtilRuntimeException;
+import org.diverproject.util.collection.Growth;
+
+/**
+ * <p><h1>Crescimento Geomtrico</h1></p>
+ *
+ * <p>Poltica de crescimento que multiplica a capacidade do vetor por um fator sempre que faltar espao.
+ * Dessa forma o custo de copiar os elementos para um novo vetor  diludo entre as adies,
+ * resultando em um custo constante na mdia para adicionar elementos na coleo.</p>
+ *
+ * <p>A reduo possui histerese: s acontece quando a ocupao for menor que o inverso do fator
+ * ao quadrado, e ento divide a capacidade pelo fator. Assim adicionar e remover um elemento
+ * alternadamente prximo ao limite no faz com que o vetor seja recriado a cada operao.</p>
+ *
+ * @see Growth
+ *
+ * @author Andrew
+ */
+
+public class GeometricGrowth implements Growth
+{
+	/**
+	 * Maior comprimento de vetor que pode ser alocado com segurana pela mquina virtual.
+	 */
+	public static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Crescimento geomtrico que aumenta a capacidade pela metade (x1.5).
+	 */
+	public static final GeometricGrowth HALF = new GeometricGrowth(1.5f, 10);
+
+	/**
+	 * Crescimento geomtrico que dobra a capacidade (x2).
+	 */
+	public static final GeometricGrowth DOUBLE = new GeometricGrowth(2f, 16);
+
+	/**
+	 * Fator de multiplicao da capacidade ao crescer.
+	 */
+	private final float factor;
+
+	/**
+	 * Capacidade mnima, o vetor no ser reduzido abaixo desta e cresce ao menos at ela.
+	 */
+	private final int minimum;
+
+	/**
+	 * Constri uma nova poltica de crescimento geomtrico.
+	 * @param factor fator de multiplicao da capacidade, deve ser maior que 1.
+	 * @param minimum capacidade mnima que o vetor dever possuir.
+	 */
+
+	public GeometricGrowth(float factor, int minimum)
+	{
+		if (factor <= 1f)
+			throw new UtilRuntimeException("fator de crescimento invlido (%.2f)", factor);
+
+		this.factor = factor;
+		this.minimum = Math.max(minimum, 1);
+	}
+
+	@Override
+	public int grow(int length, int required)
+	{
+		long grown = Math.max((long) (length * (double) factor), (long) length + 1);
+		grown = Math.max(grown, minimum);
+		grown = Math.min(grown, MAX_LENGTH);
+
+		return (int) Math.max(grown, required);
+	}
+
+	@Override
+	public int shrink(int length, int size)
+	{
+		if (length <= minimum || size >= length / (factor * factor))
+			return length;
+
+		return Math.max(Math.max((int) (length / factor), size), minimum);
+	}
+
+	/**
+	 * Fator de crescimento determina quanto a capacidade ser multiplicada.
+	 * @return aquisio do fator de multiplicao da capacidade.
+	 */
+
+	public float getFactor()
+	{
+		return factor;
+	}
+
+	/**
+	 * Capacidade mnima  o menor comprimento que o vetor pode ter aps crescer ou reduzir.
+	 * @return aquisio da capacidade mnima do vetor.
+	 */
+
+	public int getMinimum()
+	{
+		return minimum;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("factor", factor);
+		description.append("minimum", minimum);
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,1550 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.UtilRuntimeException;
+
+/**
+ * <p><h1>Bitmap de Inteiros</h1></p>
+ *
+ * <p>Conjunto de nmeros inteiros comprimido no formato conhecido como roaring bitmap. Os valores so
+ * separados em blocos de acordo com os seus 16 bits mais altos e cada bloco guarda os 16 bits mais
+ * baixos dos seus valores na representao que ocupar menos memria:</p>
+ *
+ * <p><b>Vetor:</b> at 4096 valores ordenados em um vetor de char, 2 bytes por valor;<br>
+ * <b>Bitmap:</b> 65536 bits em 1024 longs, usado quando h mais de 4096 valores;<br>
+ * <b>Sequncias:</b> pares de inicio e comprimento para intervalos de valores consecutivos.</p>
+ *
+ * <p>Dessa forma conjuntos esparsos usam apenas 2 bytes por valor e conjuntos densos um bit por valor,
+ * sem nenhum objeto por valor como em uma lista de Integer. As operaes entre conjuntos (or, and
+ * e andNot) so feitas bloco a bloco, sendo que entre bitmaps so laos simples sobre os longs.</p>
+ *
+ * <p>Os blocos de sequncias so criados apenas por <code>runOptimize()</code> ou ao carregar um
+ * bloco, ao ser alterado um bloco de sequncias volta a ser um vetor ou bitmap.
+ * Os valores so tratados como inteiros sem sinal na ordem de iterao.</p>
+ *
+ * @see BitWiseSet
+ *
+ * @author Andrew
+ */
+
+public class IntBitmap
+{
+	/**
+	 * Tipo de bloco que guarda os valores em um vetor ordenado.
+	 */
+	public static final int ARRAY = 0;
+
+	/**
+	 * Tipo de bloco que guarda os valores em um bitmap de 65536 bits.
+	 */
+	public static final int BITMAP = 1;
+
+	/**
+	 * Tipo de bloco que guarda os valores em pares de inicio e comprimento - 1.
+	 */
+	public static final int RUN = 2;
+
+	/**
+	 * Quantidade mxima de valores em um bloco do tipo vetor.
+	 */
+	public static final int ARRAY_MAX = 4096;
+
+	/**
+	 * Quantidade de longs de um bloco do tipo bitmap.
+	 */
+	public static final int BITMAP_WORDS = 1024;
+
+	/**
+	 * Vetor com os 16 bits mais altos de cada bloco em ordem crescente.
+	 */
+	private char keys[];
+
+	/**
+	 * Vetor com os blocos na mesma ordem das chaves.
+	 */
+	private Container containers[];
+
+	/**
+	 * Quantidade de blocos existentes.
+	 */
+	private int size;
+
+	/**
+	 * Cria um novo bitmap de inteiros vazio.
+	 */
+
+	public IntBitmap()
+	{
+		keys = new char[4];
+		containers = new Container[4];
+	}
+
+	/**
+	 * Cria um novo bitmap de inteiros contendo os mesmos valores de outro bitmap.
+	 * @param bitmap referncia do bitmap do qual os valores sero copiados.
+	 */
+
+	public IntBitmap(IntBitmap bitmap)
+	{
+		keys = Arrays.copyOf(bitmap.keys, Math.max(bitmap.size, 4));
+		containers = new Container[keys.length];
+		size = bitmap.size;
+
+		for (int i = 0; i < size; i++)
+			containers[i] = bitmap.containers[i].copy();
+	}
+
+	/**
+	 * Remove todos os valores do bitmap.
+	 */
+
+	public void clear()
+	{
+		Arrays.fill(containers, 0, size, null);
+		size = 0;
+	}
+
+	/**
+	 * @return true se no houver nenhum valor no bitmap ou false caso contrrio.
+	 */
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * @return aquisio da quantidade de valores no bitmap.
+	 */
+
+	public long cardinality()
+	{
+		long cardinality = 0;
+
+		for (int i = 0; i < size; i++)
+			cardinality += containers[i].cardinality();
+
+		return cardinality;
+	}
+
+	/**
+	 * Verifica se um determinado valor est no bitmap.
+	 * @param value valor do qual deseja verificar a existncia.
+	 * @return true se estiver no bitmap ou false caso contrrio.
+	 */
+
+	public boolean contains(int value)
+	{
+		int index = indexOf((char) (value >>> 16));
+
+		return index >= 0 && containers[index].contains((char) value);
+	}
+
+	/**
+	 * Adiciona um valor ao bitmap.
+	 * @param value valor que ser adicionado ao bitmap.
+	 * @return true se foi adicionado ou false se j estava no bitmap.
+	 */
+
+	public boolean add(int value)
+	{
+		char key = (char) (value >>> 16);
+		char low = (char) value;
+		int index = indexOf(key);
+
+		if (index < 0)
+		{
+			ArrayContainer container = new ArrayContainer(4);
+			container.values[container.size++] = low;
+			insert(-index - 1, key, container);
+
+			return true;
+		}
+
+		Container container = containers[index];
+
+		if (container.contains(low))
+			return false;
+
+		containers[index] = container.add(low);
+
+		return true;
+	}
+
+	/**
+	 * Remove um valor do bitmap.
+	 * @param value valor que ser removido do bitmap.
+	 * @return true se foi removido ou false se no estava no bitmap.
+	 */
+
+	public boolean remove(int value)
+	{
+		char low = (char) value;
+		int index = indexOf((char) (value >>> 16));
+
+		if (index < 0 || !containers[index].contains(low))
+			return false;
+
+		Container container = containers[index].remove(low);
+
+		if (container.cardinality() == 0)
+			delete(index);
+		else
+			containers[index] = container;
+
+		return true;
+	}
+
+	/**
+	 * Adiciona ao bitmap todos os valores de outro bitmap (unio).
+	 * @param bitmap referncia do bitmap do qual os valores sero adicionados.
+	 */
+
+	public void or(IntBitmap bitmap)
+	{
+		char newKeys[] = new char[Math.max(size + bitmap.size, 4)];
+		Container newContainers[] = new Container[newKeys.length];
+		int i = 0, j = 0, k = 0;
+
+		while (i < size && j < bitmap.size)
+		{
+			if (keys[i] < bitmap.keys[j])
+			{
+				newKeys[k] = keys[i];
+				newContainers[k++] = containers[i++];
+			}
+
+			else if (keys[i] > bitmap.keys[j])
+			{
+				newKeys[k] = bitmap.keys[j];
+				newContainers[k++] = bitmap.containers[j++].copy();
+			}
+
+			else
+			{
+				newKeys[k] = keys[i];
+				newContainers[k++] = containers[i++].or(bitmap.containers[j++]);
+			}
+		}
+
+		for (; i < size; i++, k++)
+		{
+			newKeys[k] = keys[i];
+			newContainers[k] = containers[i];
+		}
+
+		for (; j < bitmap.size; j++, k++)
+		{
+			newKeys[k] = bitmap.keys[j];
+			newContainers[k] = bitmap.containers[j].copy();
+		}
+
+		keys = newKeys;
+		containers = newContainers;
+		size = k;
+	}
+
+	/**
+	 * Mantm no bitmap apenas os valores que tambm estejam em outro bitmap (interseco).
+	 * @param bitmap referncia do bitmap do qual os valores sero considerados.
+	 */
+
+	public void and(IntBitmap bitmap)
+	{
+		int i = 0, j = 0, k = 0;
+
+		while (i < size && j < bitmap.size)
+		{
+			if (keys[i] < bitmap.keys[j])
+				i++;
+
+			else if (keys[i] > bitmap.keys[j])
+				j++;
+
+			else
+			{
+				Container container = containers[i].and(bitmap.containers[j]);
+
+				if (container != null)
+				{
+					keys[k] = keys[i];
+					containers[k++] = container;
+				}
+
+				i++;
+				j++;
+			}
+		}
+
+		Arrays.fill(containers, k, size, null);
+		size = k;
+	}
+
+	/**
+	 * Remove do bitmap todos os valores que estejam em outro bitmap (diferena).
+	 * @param bitmap referncia do bitmap do qual os valores sero removidos.
+	 */
+
+	public void andNot(IntBitmap bitmap)
+	{
+		int i = 0, j = 0, k = 0;
+
+		while (i < size)
+		{
+			while (j < bitmap.size && bitmap.keys[j] < keys[i])
+				j++;
+
+			Container container = containers[i];
+
+			if (j < bitmap.size && bitmap.keys[j] == keys[i])
+				container = container.andNot(bitmap.containers[j++]);
+
+			if (container != null)
+			{
+				keys[k] = keys[i];
+				containers[k++] = container;
+			}
+
+			i++;
+		}
+
+		Arrays.fill(containers, k, size, null);
+		size = k;
+	}
+
+	/**
+	 * Verifica se h ao menos um valor em comum com outro bitmap.
+	 * @param bitmap referncia do bitmap do qual ser verificado.
+	 * @return true se houver algum valor em comum ou false caso contrrio.
+	 */
+
+	public boolean intersects(IntBitmap bitmap)
+	{
+		int i = 0, j = 0;
+
+		while (i < size && j < bitmap.size)
+		{
+			if (keys[i] < bitmap.keys[j])
+				i++;
+
+			else if (keys[i] > bitmap.keys[j])
+				j++;
+
+			else if (containers[i++].and(bitmap.containers[j++]) != null)
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Converte cada bloco para a representao que ocupar menos memria,
+	 * incluindo a representao por sequncias para intervalos de valores consecutivos.
+	 * Deve ser usado aps o bitmap ser montado, pois as sequncias no so mantidas ao alterar.
+	 */
+
+	public void runOptimize()
+	{
+		for (int i = 0; i < size; i++)
+			containers[i] = containers[i].optimize();
+	}
+
+	/**
+	 * Reduz os vetores internos dos blocos e das chaves para a quantidade em uso.
+	 */
+
+	public void trim()
+	{
+		keys = Arrays.copyOf(keys, Math.max(size, 4));
+		containers = Arrays.copyOf(containers, keys.length);
+
+		for (int i = 0; i < size; i++)
+			containers[i].trim();
+	}
+
+	/**
+	 * Percorre todos os valores do bitmap em ordem crescente sem criar nenhum objeto.
+	 * @param consumer referncia do consumidor que ir receber os valores.
+	 */
+
+	public void forEach(IntConsumer consumer)
+	{
+		for (int i = 0; i < size; i++)
+			containers[i].forEach(keys[i] << 16, consumer);
+	}
+
+	/**
+	 * @return aquisio de um vetor com todos os valores do bitmap em ordem crescente.
+	 */
+
+	public int[] toArray()
+	{
+		long cardinality = cardinality();
+
+		if (cardinality > Integer.MAX_VALUE - 8)
+			throw new UtilRuntimeException("bitmap com valores demais para um vetor (cardinality: %d)", cardinality);
+
+		int array[] = new int[(int) cardinality];
+		int offset = 0;
+
+		for (int i = 0; i < size; i++)
+			offset = containers[i].toArray(keys[i] << 16, array, offset);
+
+		return array;
+	}
+
+	/**
+	 * @return aquisio de uma estimativa da quantidade de bytes ocupada pelos blocos.
+	 */
+
+	public long sizeInBytes()
+	{
+		long bytes = keys.length * 2L + containers.length * 4L;
+
+		for (int i = 0; i < size; i++)
+			bytes += containers[i].bytes();
+
+		return bytes;
+	}
+
+	/**
+	 * @return aquisio da quantidade de blocos do bitmap.
+	 */
+
+	public int chunks()
+	{
+		return size;
+	}
+
+	/**
+	 * @param chunk nmero do bloco.
+	 * @return aquisio dos 16 bits mais altos dos valores do bloco.
+	 */
+
+	public int chunkKey(int chunk)
+	{
+		check(chunk);
+
+		return keys[chunk];
+	}
+
+	/**
+	 * @param chunk nmero do bloco.
+	 * @return aquisio do tipo do bloco: ARRAY, BITMAP ou RUN.
+	 */
+
+	public int chunkType(int chunk)
+	{
+		check(chunk);
+
+		return containers[chunk].type();
+	}
+
+	/**
+	 * @param chunk nmero do bloco.
+	 * @return aquisio da quantidade de valores de um bloco ARRAY, da quantidade de sequncias
+	 * de um bloco RUN ou da quantidade de valores de um bloco BITMAP.
+	 */
+
+	public int chunkLength(int chunk)
+	{
+		check(chunk);
+
+		Container container = containers[chunk];
+
+		return container instanceof RunContainer ? ((RunContainer) container).count : container.cardinality();
+	}
+
+	/**
+	 * Obtm o vetor interno de um bloco ARRAY ou RUN, usado para serializar o bitmap.
+	 * O vetor pode ser maior que o necessrio e no deve ser alterado.
+	 * @param chunk nmero do bloco.
+	 * @return aquisio dos valores de um bloco ARRAY ou dos pares de inicio e comprimento - 1
+	 * de um bloco RUN, a quantidade vlida  definida por <code>chunkLength(int)</code>.
+	 */
+
+	public char[] chunkChars(int chunk)
+	{
+		check(chunk);
+
+		Container container = containers[chunk];
+
+		if (container instanceof ArrayContainer)
+			return ((ArrayContainer) container).values;
+
+		if (container instanceof RunContainer)
+			return ((RunContainer) container).runs;
+
+		throw new UtilRuntimeException("bloco %d no  ARRAY ou RUN", chunk);
+	}
+
+	/**
+	 * Obtm o vetor interno de um bloco BITMAP, usado para serializar o bitmap.
+	 * O vetor no deve ser alterado.
+	 * @param chunk nmero do bloco.
+	 * @return aquisio dos 1024 longs do bloco.
+	 */
+
+	public long[] chunkWords(int chunk)
+	{
+		check(chunk);
+
+		Container container = containers[chunk];
+
+		if (container instanceof BitmapContainer)
+			return ((BitmapContainer) container).words;
+
+		throw new UtilRuntimeException("bloco %d no  BITMAP", chunk);
+	}
+
+	/**
+	 * Adiciona um bloco ARRAY ou RUN ao final do bitmap, usado para carregar um bitmap serializado.
+	 * O vetor passar a ser usado pelo bloco e portanto no deve mais ser alterado.
+	 * @param key 16 bits mais altos dos valores, deve ser maior que a chave do ltimo bloco.
+	 * @param type tipo do bloco: ARRAY ou RUN.
+	 * @param chars valores ordenados de um bloco ARRAY ou pares de inicio e comprimento - 1 de um bloco RUN.
+	 * @param length quantidade de valores de um bloco ARRAY ou de sequncias de um bloco RUN.
+	 */
+
+	public void appendChunk(int key, int type, char chars[], int length)
+	{
+		if (length <= 0)
+			throw new UtilRuntimeException("bloco vazio (key: %d)", key);
+
+		switch (type)
+		{
+			case ARRAY:
+				if (length > ARRAY_MAX || chars.length < length)
+					throw new UtilRuntimeException("bloco ARRAY invlido (key: %d, length: %d)", key, length);
+
+				append(key, new ArrayContainer(chars, length));
+				break;
+
+			case RUN:
+				if (chars.length < length * 2)
+					throw new UtilRuntimeException("bloco RUN invlido (key: %d, length: %d)", key, length);
+
+				append(key, new RunContainer(chars, length));
+				break;
+
+			default:
+				throw new UtilRuntimeException("tipo de bloco %d invlido", type);
+		}
+	}
+
+	/**
+	 * Adiciona um bloco BITMAP ao final do bitmap, usado para carregar um bitmap serializado.
+	 * O vetor passar a ser usado pelo bloco e portanto no deve mais ser alterado.
+	 * @param key 16 bits mais altos dos valores, deve ser maior que a chave do ltimo bloco.
+	 * @param words vetor com os 1024 longs do bloco.
+	 */
+
+	public void appendChunk(int key, long words[])
+	{
+		if (words.length != BITMAP_WORDS)
+			throw new UtilRuntimeException("bloco BITMAP invlido (key: %d, words: %d)", key, words.length);
+
+		BitmapContainer container = new BitmapContainer(words);
+
+		if (container.cardinality == 0)
+			throw new UtilRuntimeException("bloco vazio (key: %d)", key);
+
+		append(key, container);
+	}
+
+	/**
+	 * Procedimento interno que ir adicionar um bloco aps o ltimo bloco.
+	 * @param key 16 bits mais altos dos valores do bloco.
+	 * @param container referncia do bloco que ser adicionado.
+	 */
+
+	private void append(int key, Container container)
+	{
+		if (key < 0 || key > Character.MAX_VALUE || (size > 0 && key <= keys[size - 1]))
+			throw new UtilRuntimeException("chave de bloco %d fora de ordem", key);
+
+		insert(size, (char) key, container);
+	}
+
+	/**
+	 * Procedimento interno que ir localizar um bloco atravs de uma busca binria.
+	 * @param key 16 bits mais altos dos valores do bloco.
+	 * @return aquisio do nmero do bloco ou (-(ponto de insero) - 1) se no existir.
+	 */
+
+	private int indexOf(char key)
+	{
+		if (size > 0 && keys[size - 1] == key)
+			return size - 1;
+
+		return Arrays.binarySearch(keys, 0, size, key);
+	}
+
+	/**
+	 * Procedimento interno que ir inserir um novo bloco em uma posio.
+	 * @param index posio onde o bloco ser inserido.
+	 * @param key 16 bits mais altos dos valores do bloco.
+	 * @param container referncia do bloco que ser inserido.
+	 */
+
+	private void insert(int index, char key, Container container)
+	{
+		if (size == keys.length)
+		{
+			keys = Arrays.copyOf(keys, size * 2);
+			containers = Arrays.copyOf(containers, size * 2);
+		}
+
+		System.arraycopy(keys, index, keys, index + 1, size - index);
+		System.arraycopy(containers, index, containers, index + 1, size - index);
+
+		keys[index] = key;
+		containers[index] = container;
+		size++;
+	}
+
+	/**
+	 * Procedimento interno que ir remover um bloco de uma posio.
+	 * @param index posio do bloco que ser removido.
+	 */
+
+	private void delete(int index)
+	{
+		System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+		System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+
+		containers[--size] = null;
+	}
+
+	/**
+	 * Procedimento interno que ir verificar se um nmero de bloco  vlido.
+	 * @param chunk nmero do bloco que ser verificado.
+	 */
+
+	private void check(int chunk)
+	{
+		if (chunk < 0 || chunk >= size)
+			throw new UtilRuntimeException("bloco %d invlido (chunks: %d)", chunk, size);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("cardinality", cardinality());
+		description.append("chunks", size);
+		description.append("bytes", sizeInBytes());
+
+		return description.toString();
+	}
+
+	/**
+	 * <h1>Bloco</h1>
+	 *
+	 * <p>Guarda os 16 bits mais baixos dos valores que possuem os mesmos 16 bits mais altos.
+	 * As operaes que podem mudar a representao do bloco retornam o bloco que deve ser usado,
+	 * enquanto as operaes entre blocos nunca alteram os blocos envolvidos e retornam um novo
+	 * bloco ou null caso o resultado no tenha nenhum valor.</p>
+	 */
+
+	private static abstract class Container
+	{
+		/**
+		 * @return aquisio do tipo do bloco: ARRAY, BITMAP ou RUN.
+		 */
+
+		abstract int type();
+
+		/**
+		 * @return aquisio da quantidade de valores no bloco.
+		 */
+
+		abstract int cardinality();
+
+		/**
+		 * @return aquisio da quantidade aproximada de bytes ocupada pelo bloco.
+		 */
+
+		abstract int bytes();
+
+		/**
+		 * @param value 16 bits mais baixos do valor.
+		 * @return true se o valor estiver no bloco ou false caso contrrio.
+		 */
+
+		abstract boolean contains(char value);
+
+		/**
+		 * @param value 16 bits mais baixos do valor, no deve estar no bloco.
+		 * @return aquisio do bloco que contm o valor adicionado.
+		 */
+
+		abstract Container add(char value);
+
+		/**
+		 * @param value 16 bits mais baixos do valor, deve estar no bloco.
+		 * @return aquisio do bloco sem o valor removido.
+		 */
+
+		abstract Container remove(char value);
+
+		/**
+		 * @return aquisio de uma cpia do bloco que no compartilha nenhum vetor.
+		 */
+
+		abstract Container copy();
+
+		/**
+		 * Reduz o vetor interno do bloco para a quantidade em uso.
+		 */
+
+		abstract void trim();
+
+		/**
+		 * @param high 16 bits mais altos j deslocados que sero juntados aos valores.
+		 * @param consumer referncia do consumidor que ir receber os valores.
+		 */
+
+		abstract void forEach(int high, IntConsumer consumer);
+
+		/**
+		 * @param high 16 bits mais altos j deslocados que sero juntados aos valores.
+		 * @param array vetor onde os valores sero copiados.
+		 * @param offset posio no vetor do primeiro valor.
+		 * @return aquisio da posio no vetor aps o ltimo valor.
+		 */
+
+		abstract int toArray(int high, int array[], int offset);
+
+		/**
+		 * @return aquisio do bloco convertido para vetor ou bitmap, usado nas operaes entre blocos.
+		 */
+
+		Container plain()
+		{
+			return this;
+		}
+
+		/**
+		 * @return aquisio do bloco na representao que ocupar menos memria.
+		 */
+
+		Container optimize()
+		{
+			int runs = runs();
+			int cardinality = cardinality();
+
+			if (runs * 4 < Math.min(cardinality * 2, BITMAP_WORDS * 8))
+				return RunContainer.from(this, runs);
+
+			return cardinality <= ARRAY_MAX ? toArrayContainer() : toBitmapContainer();
+		}
+
+		/**
+		 * @return aquisio da quantidade de sequncias de valores consecutivos do bloco.
+		 */
+
+		abstract int runs();
+
+		/**
+		 * @return aquisio do bloco como vetor, deve ter no mximo ARRAY_MAX valores.
+		 */
+
+		abstract ArrayContainer toArrayContainer();
+
+		/**
+		 * @return aquisio do bloco como bitmap.
+		 */
+
+		abstract BitmapContainer toBitmapContainer();
+
+		/**
+		 * @param container bloco do qual os valores sero unidos.
+		 * @return aquisio de um novo bloco com a unio dos valores.
+		 */
+
+		Container or(Container container)
+		{
+			Container a = plain();
+			Container b = container.plain();
+
+			if (a instanceof BitmapContainer)
+				return ((BitmapContainer) a).union(b);
+
+			if (b instanceof BitmapContainer)
+				return ((BitmapContainer) b).union(a);
+
+			return ((ArrayContainer) a).union((ArrayContainer) b);
+		}
+
+		/**
+		 * @param container bloco do qual os valores sero considerados.
+		 * @return aquisio de um novo bloco com a interseco dos valores ou null se for vazia.
+		 */
+
+		Container and(Container container)
+		{
+			Container a = plain();
+			Container b = container.plain();
+
+			if (a instanceof ArrayContainer)
+				return ((ArrayContainer) a).intersect(b);
+
+			if (b instanceof ArrayContainer)
+				return ((ArrayContainer) b).intersect(a);
+
+			return ((BitmapContainer) a).intersect((BitmapContainer) b);
+		}
+
+		/**
+		 * @param container bloco do qual os valores sero removidos.
+		 * @return aquisio de um novo bloco com a diferena dos valores ou null se for vazia.
+		 */
+
+		Container andNot(Container container)
+		{
+			Container a = plain();
+			Container b = container.plain();
+
+			if (a instanceof ArrayContainer)
+				return ((ArrayContainer) a).subtract(b);
+
+			return ((BitmapContainer) a).subtract(b);
+		}
+	}
+
+	/**
+	 * <h1>Bloco de Vetor</h1>
+	 *
+	 * <p>Guarda at ARRAY_MAX valores em um vetor ordenado, a procura  feita por busca binria.</p>
+	 */
+
+	private static class ArrayContainer extends Container
+	{
+		/**
+		 * Vetor com os valores do bloco em ordem crescente.
+		 */
+		private char values[];
+
+		/**
+		 * Quantidade de valores no bloco.
+		 */
+		private int size;
+
+		/**
+		 * Cria um novo bloco de vetor vazio.
+		 * @param length quantidade de valores que cabem no vetor.
+		 */
+
+		private ArrayContainer(int length)
+		{
+			values = new char[length];
+		}
+
+		/**
+		 * Cria um novo bloco de vetor a partir de um vetor j ordenado.
+		 * @param values vetor com os valores em ordem crescente.
+		 * @param size quantidade de valores no vetor.
+		 */
+
+		private ArrayContainer(char values[], int size)
+		{
+			this.values = values;
+			this.size = size;
+		}
+
+		@Override
+		int type()
+		{
+			return ARRAY;
+		}
+
+		@Override
+		int cardinality()
+		{
+			return size;
+		}
+
+		@Override
+		int bytes()
+		{
+			return 16 + values.length * 2;
+		}
+
+		@Override
+		boolean contains(char value)
+		{
+			return Arrays.binarySearch(values, 0, size, value) >= 0;
+		}
+
+		@Override
+		Container add(char value)
+		{
+			if (size == ARRAY_MAX)
+				return toBitmapContainer().add(value);
+
+			int index = -Arrays.binarySearch(values, 0, size, value) - 1;
+
+			if (size == values.length)
+				values = Arrays.copyOf(values, Math.min(size * 2, ARRAY_MAX));
+
+			System.arraycopy(values, index, values, index + 1, size - index);
+			values[index] = value;
+			size++;
+
+			return this;
+		}
+
+		@Override
+		Container remove(char value)
+		{
+			int index = Arrays.binarySearch(values, 0, size, value);
+
+			System.arraycopy(values, index + 1, values, index, size - index - 1);
+			size--;
+
+			return this;
+		}
+
+		@Override
+		Container copy()
+		{
+			return new ArrayContainer(Arrays.copyOf(values, size), size);
+		}
+
+		@Override
+		void trim()
+		{
+			if (values.length > size)
+				values = Arrays.copyOf(values, size);
+		}
+
+		@Override
+		void forEach(int high, IntConsumer consumer)
+		{
+			for (int i = 0; i < size; i++)
+				consumer.accept(high | values[i]);
+		}
+
+		@Override
+		int toArray(int high, int array[], int offset)
+		{
+			for (int i = 0; i < size; i++)
+				array[offset++] = high | values[i];
+
+			return offset;
+		}
+
+		@Override
+		int runs()
+		{
+			int runs = size == 0 ? 0 : 1;
+
+			for (int i = 1; i < size; i++)
+				if (values[i] != values[i - 1] + 1)
+					runs++;
+
+			return runs;
+		}
+
+		@Override
+		ArrayContainer toArrayContainer()
+		{
+			return this;
+		}
+
+		@Override
+		BitmapContainer toBitmapContainer()
+		{
+			BitmapContainer container = new BitmapContainer(new long[BITMAP_WORDS]);
+
+			for (int i = 0; i < size; i++)
+				container.words[values[i] >>> 6] |= 1L << values[i];
+
+			container.cardinality = size;
+
+			return container;
+		}
+
+		/**
+		 * @param container bloco de vetor do qual os valores sero unidos.
+		 * @return aquisio de um novo bloco com a unio dos valores.
+		 */
+
+		private Container union(ArrayContainer container)
+		{
+			if (size + container.size > ARRAY_MAX)
+			{
+				BitmapContainer bitmap = toBitmapContainer();
+
+				return bitmap.union(container);
+			}
+
+			char merged[] = new char[size + container.size];
+			int i = 0, j = 0, k = 0;
+
+			while (i < size && j < container.size)
+			{
+				char a = values[i];
+				char b = container.values[j];
+
+				if (a < b)
+					merged[k++] = values[i++];
+
+				else if (a > b)
+					merged[k++] = container.values[j++];
+
+				else
+				{
+					merged[k++] = a;
+					i++;
+					j++;
+				}
+			}
+
+			while (i < size)
+				merged[k++] = values[i++];
+
+			while (j < container.size)
+				merged[k++] = container.values[j++];
+
+			return new ArrayContainer(merged, k);
+		}
+
+		/**
+		 * @param container bloco de vetor ou bitmap do qual os valores sero considerados.
+		 * @return aquisio de um novo bloco com a interseco ou null se for vazia.
+		 */
+
+		private Container intersect(Container container)
+		{
+			char result[] = new char[size];
+			int k = 0;
+
+			if (container instanceof BitmapContainer)
+			{
+				long words[] = ((BitmapContainer) container).words;
+
+				for (int i = 0; i < size; i++)
+				{
+					char value = values[i];
+
+					if ((words[value >>> 6] & (1L << value)) != 0)
+						result[k++] = value;
+				}
+			}
+
+			else
+			{
+				ArrayContainer other = (ArrayContainer) container;
+				int i = 0, j = 0;
+
+				while (i < size && j < other.size)
+				{
+					char a = values[i];
+					char b = other.values[j];
+
+					if (a < b)
+						i++;
+
+					else if (a > b)
+						j++;
+
+					else
+					{
+						result[k++] = a;
+						i++;
+						j++;
+					}
+				}
+			}
+
+			return k == 0 ? null : new ArrayContainer(result, k);
+		}
+
+		/**
+		 * @param container bloco de vetor ou bitmap do qual os valores sero removidos.
+		 * @return aquisio de um novo bloco com a diferena ou null se for vazia.
+		 */
+
+		private Container subtract(Container container)
+		{
+			char result[] = new char[size];
+			int k = 0;
+
+			if (container instanceof BitmapContainer)
+			{
+				long words[] = ((BitmapContainer) container).words;
+
+				for (int i = 0; i < size; i++)
+				{
+					char value = values[i];
+
+					if ((words[value >>> 6] & (1L << value)) == 0)
+						result[k++] = value;
+				}
+			}
+
+			else
+			{
+				ArrayContainer other = (ArrayContainer) container;
+				int j = 0;
+
+				for (int i = 0; i < size; i++)
+				{
+					char value = values[i];
+
+					while (j < other.size && other.values[j] < value)
+						j++;
+
+					if (j == other.size || other.values[j] != value)
+						result[k++] = value;
+				}
+			}
+
+			return k == 0 ? null : new ArrayContainer(result, k);
+		}
+	}
+
+	/**
+	 * <h1>Bloco de Bitmap</h1>
+	 *
+	 * <p>Guarda os valores como bits de 1024 longs, usado quando h mais de ARRAY_MAX valores.</p>
+	 */
+
+	private static class BitmapContainer extends Container
+	{
+		/**
+		 * Vetor com os 65536 bits do bloco.
+		 */
+		private long words[];
+
+		/**
+		 * Quantidade de bits definidos no bloco.
+		 */
+		private int cardinality;
+
+		/**
+		 * Cria um novo bloco de bitmap a partir de um vetor de longs.
+		 * @param words vetor com os 1024 longs do bloco.
+		 */
+
+		private BitmapContainer(long words[])
+		{
+			this.words = words;
+
+			for (long word : words)
+				cardinality += Long.bitCount(word);
+		}
+
+		@Override
+		int type()
+		{
+			return BITMAP;
+		}
+
+		@Override
+		int cardinality()
+		{
+			return cardinality;
+		}
+
+		@Override
+		int bytes()
+		{
+			return 32 + BITMAP_WORDS * 8;
+		}
+
+		@Override
+		boolean contains(char value)
+		{
+			return (words[value >>> 6] & (1L << value)) != 0;
+		}
+
+		@Override
+		Container add(char value)
+		{
+			words[value >>> 6] |= 1L << value;
+			cardinality++;
+
+			return this;
+		}
+
+		@Override
+		Container remove(char value)
+		{
+			words[value >>> 6] &= ~(1L << value);
+			cardinality--;
+
+			return cardinality <= ARRAY_MAX ? toArrayContainer() : this;
+		}
+
+		@Override
+		Container copy()
+		{
+			return new BitmapContainer(words.clone());
+		}
+
+		@Override
+		void trim()
+		{
+		}
+
+		@Override
+		void forEach(int high, IntConsumer consumer)
+		{
+			for (int i = 0; i < BITMAP_WORDS; i++)
+				for (long word = words[i]; word != 0; word &= word - 1)
+					consumer.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+		}
+
+		@Override
+		int toArray(int high, int array[], int offset)
+		{
+			for (int i = 0; i < BITMAP_WORDS; i++)
+				for (long word = words[i]; word != 0; word &= word - 1)
+					array[offset++] = high | (i << 6) | Long.numberOfTrailingZeros(word);
+
+			return offset;
+		}
+
+		@Override
+		int runs()
+		{
+			int runs = 0;
+			long previous = 0;
+
+			for (long word : words)
+			{
+				runs += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+				previous = word;
+			}
+
+			return runs;
+		}
+
+		@Override
+		ArrayContainer toArrayContainer()
+		{
+			char values[] = new char[cardinality];
+			int k = 0;
+
+			for (int i = 0; i < BITMAP_WORDS; i++)
+				for (long word = words[i]; word != 0; word &= word - 1)
+					values[k++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+
+			return new ArrayContainer(values, k);
+		}
+
+		@Override
+		BitmapContainer toBitmapContainer()
+		{
+			return this;
+		}
+
+		/**
+		 * @param container bloco de vetor ou bitmap do qual os valores sero unidos.
+		 * @return aquisio de um novo bloco com a unio dos valores.
+		 */
+
+		private Container union(Container container)
+		{
+			long result[] = words.clone();
+
+			if (container instanceof BitmapContainer)
+			{
+				long other[] = ((BitmapContainer) container).words;
+
+				for (int i = 0; i < BITMAP_WORDS; i++)
+					result[i] |= other[i];
+			}
+
+			else
+			{
+				ArrayContainer other = (ArrayContainer) container;
+
+				for (int i = 0; i < other.size; i++)
+					result[other.values[i] >>> 6] |= 1L << other.values[i];
+			}
+
+			return new BitmapContainer(result);
+		}
+
+		/**
+		 * @param container bloco de bitmap do qual os valores sero considerados.
+		 * @return aquisio de um novo bloco com a interseco ou null se for vazia.
+		 */
+
+		private Container intersect(BitmapContainer container)
+		{
+			long result[] = new long[BITMAP_WORDS];
+
+			for (int i = 0; i < BITMAP_WORDS; i++)
+				result[i] = words[i] & container.words[i];
+
+			return shrink(new BitmapContainer(result));
+		}
+
+		/**
+		 * @param container bloco de vetor ou bitmap do qual os valores sero removidos.
+		 * @return aquisio de um novo bloco com a diferena ou null se for vazia.
+		 */
+
+		private Container subtract(Container container)
+		{
+			long result[] = words.clone();
+
+			if (container instanceof BitmapContainer)
+			{
+				long other[] = ((BitmapContainer) container).words;
+
+				for (int i = 0; i < BITMAP_WORDS; i++)
+					result[i] &= ~other[i];
+			}
+
+			else
+			{
+				ArrayContainer other = (ArrayContainer) container;
+
+				for (int i = 0; i < other.size; i++)
+					result[other.values[i] >>> 6] &= ~(1L << other.values[i]);
+			}
+
+			return shrink(new BitmapContainer(result));
+		}
+
+		/**
+		 * @param container bloco de bitmap resultante de uma operao.
+		 * @return aquisio do bloco como vetor se tiver poucos valores ou null se for vazio.
+		 */
+
+		private static Container shrink(BitmapContainer container)
+		{
+			if (container.cardinality == 0)
+				return null;
+
+			return container.cardinality <= ARRAY_MAX ? container.toArrayContainer() : container;
+		}
+	}
+
+	/**
+	 * <h1>Bloco de Sequncias</h1>
+	 *
+	 * <p>Guarda os valores como sequncias de valores consecutivos, cada sequncia ocupa dois chars:
+	 * o valor inicial e o comprimento - 1. Ao ser alterado  convertido para vetor ou bitmap.</p>
+	 */
+
+	private static class RunContainer extends Container
+	{
+		/**
+		 * Vetor com os pares de inicio e comprimento - 1 das sequncias em ordem crescente.
+		 */
+		private char runs[];
+
+		/**
+		 * Quantidade de sequncias no bloco.
+		 */
+		private int count;
+
+		/**
+		 * Cria um novo bloco de sequncias a partir de um vetor de pares.
+		 * @param runs vetor com os pares de inicio e comprimento - 1.
+		 * @param count quantidade de sequncias no vetor.
+		 */
+
+		private RunContainer(char runs[], int count)
+		{
+			this.runs = runs;
+			this.count = count;
+		}
+
+		/**
+		 * Cria um novo bloco de sequncias com os mesmos valores de outro bloco.
+		 * @param container bloco do qual os valores sero copiados.
+		 * @param count quantidade de sequncias de valores consecutivos do bloco.
+		 * @return aquisio do novo bloco de sequncias.
+		 */
+
+		private static RunContainer from(Container container, int count)
+		{
+			if (container instanceof RunContainer)
+				return (RunContainer) container;
+
+			int values[] = new int[container.cardinality()];
+			char runs[] = new char[count * 2];
+			int run = -1;
+
+			container.toArray(0, values, 0);
+
+			for (int i = 0; i < values.length; i++)
+			{
+				if (i == 0 || values[i] != values[i - 1] + 1)
+					runs[++run * 2] = (char) values[i];
+
+				runs[run * 2 + 1] = (char) (values[i] - runs[run * 2]);
+			}
+
+			return new RunContainer(runs, count);
+		}
+
+		@Override
+		int type()
+		{
+			return RUN;
+		}
+
+		@Override
+		int cardinality()
+		{
+			int cardinality = count;
+
+			for (int i = 0; i < count; i++)
+				cardinality += runs[i * 2 + 1];
+
+			return cardinality;
+		}
+
+		@Override
+		int bytes()
+		{
+			return 16 + runs.length * 2;
+		}
+
+		@Override
+		boolean contains(char value)
+		{
+			int low = 0;
+			int high = count - 1;
+
+			while (low <= high)
+			{
+				int middle = (low + high) >>> 1;
+				int start = runs[middle * 2];
+
+				if (value < start)
+					high = middle - 1;
+
+				else if (value - start > runs[middle * 2 + 1])
+					low = middle + 1;
+
+				else
+					return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		Container add(char value)
+		{
+			return plain().add(value);
+		}
+
+		@Override
+		Container remove(char value)
+		{
+			return plain().remove(value);
+		}
+
+		@Override
+		Container copy()
+		{
+			return new RunContainer(Arrays.copyOf(runs, count * 2), count);
+		}
+
+		@Override
+		void trim()
+		{
+			if (runs.length > count * 2)
+				runs = Arrays.copyOf(runs, count * 2);
+		}
+
+		@Override
+		void forEach(int high, IntConsumer consumer)
+		{
+			for (int i = 0; i < count; i++)
+			{
+				int start = runs[i * 2];
+				int end = start + runs[i * 2 + 1];
+
+				for (int value = start; value <= end; value++)
+					consumer.accept(high | value);
+			}
+		}
+
+		@Override
+		int toArray(int high, int array[], int offset)
+		{
+			for (int i = 0; i < count; i++)
+			{
+				int start = runs[i * 2];
+				int end = start + runs[i * 2 + 1];
+
+				for (int value = start; value <= end; value++)
+					array[offset++] = high | value;
+			}
+
+			return offset;
+		}
+
+		@Override
+		Container plain()
+		{
+			return cardinality() <= ARRAY_MAX ? toArrayContainer() : toBitmapContainer();
+		}
+
+		@Override
+		int runs()
+		{
+			return count;
+		}
+
+		@Override
+		ArrayContainer toArrayContainer()
+		{
+			char values[] = new char[cardinality()];
+			int k = 0;
+
+			for (int i = 0; i < count; i++)
+			{
+				int start = runs[i * 2];
+				int end = start + runs[i * 2 + 1];
+
+				for (int value = start; value <= end; value++)
+					values[k++] = (char) value;
+			}
+
+			return new ArrayContainer(values, k);
+		}
+
+		@Override
+		BitmapContainer toBitmapContainer()
+		{
+			long words[] = new long[BITMAP_WORDS];
+
+			for (int i = 0; i < count; i++)
+			{
+				int start = runs[i * 2];
+				int end = start + runs[i * 2 + 1] + 1;
+				int first = start >>> 6;
+				int last = (end - 1) >>> 6;
+
+				if (first == last)
+					words[first] |= (-1L << start) & (-1L >>> -end);
+
+				else
+				{
+					words[first] |= -1L << start;
+					Arrays.fill(words, first + 1, last, -1L);
+					words[last] |= -1L >>> -end;
+				}
+			}
+
+			return new BitmapContainer(words);
+		}
+	}
+}
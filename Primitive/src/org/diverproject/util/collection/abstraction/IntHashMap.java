@@ -0,0 +1,798 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiConsumer;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.IntObjConsumer;
+import org.diverproject.util.collection.Map;
+
+/**
+ * <p><h1>Mapa Espalhado de Inteiros</h1></p>
+ *
+ * <p>Mapeador com chaves do tipo int primitivo utilizando uma tabela espalhada de endereamento aberto.
+ * As chaves ficam em um vetor de int e os elementos em um vetor paralelo de objetos, no havendo
+ * ns ou elementos mapeados alocados para cada elemento adicionado e nem converso da chave.</p>
+ *
+ * <p>Possui procedimentos com chaves primitivas (get, put, addInt, updateInt, removeInt e forEachInt) que no criam objetos,
+ * os que recebem chave e elemento possuem nomes prprios para no serem ambguos quando o elemento tambm for Integer.
+ * Alm disso implementa o mapeador com chaves Integer, podendo substituir os mapeadores de nmeros,
+ * porm nesse caso as chaves sero convertidas automaticamente pelo prprio java.</p>
+ *
+ * <p>Todos os valores de int so aceitos como chave, pois um ponto livre na tabela  identificado
+ * pela ausncia de elemento, visto que elementos nulos no podem ser adicionados ao mapeador.
+ * A tabela  dobrada quando o fator de carga  ultrapassado e na remoo os elementos
+ * seguintes na sondagem so deslocados para trs, no havendo marcaes de removido.</p>
+ *
+ * @see Map
+ *
+ * @author Andrew
+ *
+ * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
+ */
+
+public class IntHashMap<E> extends AbstractCollection<E> implements Map<Integer, E>
+{
+	/**
+	 * Capacidade padro da tabela espalhada ao ser iniciada.
+	 */
+	public static final int DEFAULT_SIZE = 16;
+
+	/**
+	 * Fator de carga padro para determinar quando a tabela deve ser aumentada.
+	 */
+	public static final float DEFAULT_LOAD = 0.75f;
+
+	/**
+	 * Vetor contendo as chaves de cada ponto da tabela espalhada.
+	 */
+	protected int keys[];
+
+	/**
+	 * Vetor contendo os elementos de cada ponto da tabela espalhada.
+	 */
+	protected Object values[];
+
+	/**
+	 * Mscara usada para obter um ponto da tabela a partir de um cdigo hash.
+	 */
+	private int mask;
+
+	/**
+	 * Quantidade de elementos que a tabela suporta antes de ser aumentada.
+	 */
+	private int threshold;
+
+	/**
+	 * Fator de carga usado para calcular o limite da tabela.
+	 */
+	private float load;
+
+	/**
+	 * Quantos elementos podem ser armazenados nesse mapa.
+	 */
+	private int length;
+
+	/**
+	 * Constri um novo mapeamento espalhado para armazenar elementos de chave int.
+	 * Nesse construtor ir definir o nmero mximo de elementos para armazenar.
+	 */
+
+	public IntHashMap()
+	{
+		this(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Constri um novo mapeamento espalhado para armazenar elementos de chave int.
+	 * @param length quantos elementos podem ser armazenados.
+	 */
+
+	public IntHashMap(int length)
+	{
+		this(length, DEFAULT_SIZE, DEFAULT_LOAD);
+	}
+
+	/**
+	 * Constri um novo mapeamento espalhado para armazenar elementos de chave int.
+	 * @param length quantos elementos podem ser armazenados.
+	 * @param start quantos elementos devem caber na tabela sem que esta seja aumentada.
+	 * @param load fator de carga da tabela, deve ser maior que 0 e menor que 1.
+	 */
+
+	public IntHashMap(int length, int start, float load)
+	{
+		if (load <= 0f || load >= 1f)
+			load = DEFAULT_LOAD;
+
+		this.length = length;
+		this.load = load;
+
+		allocate(capacityFor(Math.max(start, 2), load));
+	}
+
+	@Override
+	public void clear()
+	{
+		size = 0;
+
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, null);
+	}
+
+	@Override
+	public int length()
+	{
+		return length;
+	}
+
+	@Override
+	public boolean contains(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (int i = 0; i < values.length; i++)
+			if (values[i] != null && values[i].equals(element))
+				return true;
+
+		return false;
+	}
+
+	/**
+	 * Verifica se um determinada chave j est sendo utilizada no mapeador.
+	 * @param key valor primitivo da chave do qual deve ser verificado a existncia.
+	 * @return true se conter ou false caso contrrio.
+	 */
+
+	public boolean containsKey(int key)
+	{
+		return find(key) != -1;
+	}
+
+	@Override
+	public boolean containsKey(Integer key)
+	{
+		return key != null && find(key) != -1;
+	}
+
+	/**
+	 * Permite adicionar um novo elemento ligado a uma chave de localizao.
+	 * @param key valor primitivo da chave que ser usada para localizar o elemento.
+	 * @param element referncia do elemento do qual deseja adicionar ao mapeador.
+	 * @return true se conseguir adicionar false se valor nulo ou chave usada.
+	 */
+
+	public boolean addInt(int key, E element)
+	{
+		if (element == null || size >= length)
+			return false;
+
+		int slot = slot(key);
+
+		while (values[slot] != null)
+		{
+			if (keys[slot] == key)
+				return false;
+
+			slot = (slot + 1) & mask;
+		}
+
+		insert(slot, key, element);
+
+		return true;
+	}
+
+	@Override
+	public boolean add(Integer key, E element)
+	{
+		return key != null && addInt(key.intValue(), element);
+	}
+
+	/**
+	 * Define o elemento de uma chave, adicionando a chave caso ainda no esteja sendo usada.
+	 * @param key valor primitivo da chave que ser usada para localizar o elemento.
+	 * @param element referncia do elemento que ser definido a chave.
+	 * @return aquisio do elemento que estava definido a chave anteriormente,
+	 * null se a chave no estava sendo utilizada ou se no for possvel adicionar.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public E put(int key, E element)
+	{
+		if (element == null)
+			return null;
+
+		int slot = slot(key);
+
+		while (values[slot] != null)
+		{
+			if (keys[slot] == key)
+			{
+				E old = (E) values[slot];
+				values[slot] = element;
+
+				return old;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		if (size < length)
+			insert(slot, key, element);
+
+		return null;
+	}
+
+	@Override
+	public boolean remove(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (int i = 0; i < values.length; i++)
+			if (values[i] != null && values[i].equals(element))
+			{
+				delete(i);
+				return true;
+			}
+
+		return false;
+	}
+
+	/**
+	 * Remove o elemento ligado a uma determinada chave do mapeador.
+	 * @param key valor primitivo da chave respectiva ao elemento do qual ser removido.
+	 * @return aquisio do elemento removido ou null se a chave no estava sendo usada.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public E removeInt(int key)
+	{
+		int slot = find(key);
+
+		if (slot == -1)
+			return null;
+
+		E old = (E) values[slot];
+		delete(slot);
+
+		return old;
+	}
+
+	@Override
+	public boolean removeKey(Integer key)
+	{
+		if (key == null)
+			return false;
+
+		int slot = find(key);
+
+		if (slot == -1)
+			return false;
+
+		delete(slot);
+
+		return true;
+	}
+
+	/**
+	 * Permite renomear a chave de um determinado elemento para se possvel.
+	 * @param oldKey valor primitivo da chave utilizada no momento pelo elemento.
+	 * @param newKey valor primitivo da nova chave a ser definida ao elemento.
+	 * @return true se conseguir renomear ou false se a chave antiga no existir
+	 * ou ento a nova chave j estiver sendo utilizada por outro elemento.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public boolean renameKey(int oldKey, int newKey)
+	{
+		if (containsKey(newKey))
+			return false;
+
+		int slot = find(oldKey);
+
+		if (slot == -1)
+			return false;
+
+		E element = (E) values[slot];
+		delete(slot);
+
+		return addInt(newKey, element);
+	}
+
+	@Override
+	public boolean renameKey(Integer oldKey, Integer newKey)
+	{
+		return oldKey != null && newKey != null && renameKey(oldKey.intValue(), newKey.intValue());
+	}
+
+	/**
+	 * Permite atualizar um determinado valor no mapeador pela sua chave.
+	 * @param key valor primitivo da chave respectiva ao elemento do qual ser atualizado.
+	 * @param value referncia do valor que ser definido a chave.
+	 * @return true se existir e atualizar ou false caso contrrio.
+	 */
+
+	public boolean updateInt(int key, E value)
+	{
+		if (value == null)
+			return false;
+
+		int slot = find(key);
+
+		if (slot == -1)
+			return false;
+
+		values[slot] = value;
+
+		return true;
+	}
+
+	@Override
+	public boolean update(Integer key, E value)
+	{
+		return key != null && updateInt(key.intValue(), value);
+	}
+
+	/**
+	 * Permite obter um determinado elemento pela sua chave definida.
+	 * @param key valor primitivo da chave respectiva ao elemento desejado do mapeador.
+	 * @return aquisio do elemento respectivo na chave passada.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public E get(int key)
+	{
+		int slot = slot(key);
+
+		while (values[slot] != null)
+		{
+			if (keys[slot] == key)
+				return (E) values[slot];
+
+			slot = (slot + 1) & mask;
+		}
+
+		return null;
+	}
+
+	@Override
+	public E get(Integer key)
+	{
+		return key == null ? null : get(key.intValue());
+	}
+
+	/**
+	 * Percorre todos os elementos do mapeador repassando-os junto de suas chaves primitivas.
+	 * No cria nenhum objeto durante a iterao, nem mesmo para converter as chaves.
+	 * @param consumer referncia do consumidor que ir receber as chaves e elementos.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public void forEachInt(IntObjConsumer<? super E> consumer)
+	{
+		for (int i = 0; i < values.length; i++)
+			if (values[i] != null)
+				consumer.accept(keys[i], (E) values[i]);
+	}
+
+	/**
+	 * Constri um novo vetor contendo todas as chaves utilizadas no mapeador.
+	 * @return aquisio do vetor com as chaves primitivas na ordem da tabela.
+	 */
+
+	public int[] toArrayKey()
+	{
+		int array[] = new int[size];
+
+		for (int i = 0, j = 0; i < values.length; i++)
+			if (values[i] != null)
+				array[j++] = keys[i];
+
+		return array;
+	}
+
+	/**
+	 * Procedimento interno que ir localizar o ponto da tabela ocupado por uma chave.
+	 * @param key valor primitivo da chave do qual deseja encontrar o ponto na tabela.
+	 * @return aquisio do ponto da tabela ou -1 caso a chave no tenha sido encontrada.
+	 */
+
+	private int find(int key)
+	{
+		int slot = slot(key);
+
+		while (values[slot] != null)
+		{
+			if (keys[slot] == key)
+				return slot;
+
+			slot = (slot + 1) & mask;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Procedimento interno que ir ocupar um ponto livre da tabela com um novo elemento.
+	 * Caso a quantidade de elementos ultrapasse o limite a tabela ser aumentada.
+	 * @param slot ponto livre da tabela que ser ocupado.
+	 * @param key valor primitivo da chave do elemento.
+	 * @param element referncia do elemento que ser armazenado.
+	 */
+
+	private void insert(int slot, int key, E element)
+	{
+		keys[slot] = key;
+		values[slot] = element;
+
+		if (++size > threshold)
+			rehash(keys.length << 1);
+	}
+
+	/**
+	 * Procedimento interno que ir liberar um ponto da tabela que esteja ocupado.
+	 * Os elementos seguintes que foram deslocados por coliso so movidos para trs,
+	 * garantindo que nenhuma sondagem seja interrompida pelo ponto liberado.
+	 * @param slot ponto da tabela que est ocupado e dever ser liberado.
+	 */
+
+	private void delete(int slot)
+	{
+		int next = slot;
+
+		while (true)
+		{
+			next = (next + 1) & mask;
+
+			if (values[next] == null)
+				break;
+
+			int home = slot(keys[next]);
+
+			if (slot <= next ? (slot < home && home <= next) : (slot < home || home <= next))
+				continue;
+
+			keys[slot] = keys[next];
+			values[slot] = values[next];
+			slot = next;
+		}
+
+		keys[slot] = 0;
+		values[slot] = null;
+		size--;
+	}
+
+	/**
+	 * Procedimento interno que ir criar uma nova tabela e reposicionar todos os elementos.
+	 * @param capacity nova capacidade da tabela, deve ser uma potncia de dois.
+	 */
+
+	private void rehash(int capacity)
+	{
+		int oldKeys[] = keys;
+		Object oldValues[] = values;
+
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++)
+			if (oldValues[i] != null)
+			{
+				int slot = slot(oldKeys[i]);
+
+				while (values[slot] != null)
+					slot = (slot + 1) & mask;
+
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+	}
+
+	/**
+	 * Procedimento interno que ir criar os vetores da tabela e definir seus limites.
+	 * @param capacity capacidade da tabela, deve ser uma potncia de dois.
+	 */
+
+	private void allocate(int capacity)
+	{
+		keys = new int[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		threshold = capacity == 1 << 30 ? Integer.MAX_VALUE : (int) (capacity * load);
+	}
+
+	/**
+	 * Calcula qual deve ser a capacidade da tabela para comportar alguns elementos.
+	 * @param elements quantidade de elementos que deve caber sem aumentar a tabela.
+	 * @param load fator de carga que ser considerado pela tabela.
+	 * @return aquisio da menor potncia de dois que comporta os elementos.
+	 */
+
+	private static int capacityFor(int elements, float load)
+	{
+		long required = (long) Math.ceil(elements / (double) load) + 1;
+
+		if (required >= 1 << 30)
+			return 1 << 30;
+
+		return Integer.highestOneBit((int) required - 1) << 1;
+	}
+
+	/**
+	 * Procedimento que ir calcular qual o ponto inicial para uma determinada chave.
+	 * A chave  multiplicada pela razo urea para que chaves sequenciais fiquem espalhadas.
+	 * @param key valor primitivo da chave que ser usada para fazer o calculo do ponto.
+	 * @return aquisio do ponto para determinar a localizao de uma chave.
+	 */
+
+	protected int slot(int key)
+	{
+		int hash = key * 0x9E3779B9;
+
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	/**
+	 * Procedimento interno que ir obter o prximo ponto ocupado na tabela.
+	 * @param slot ponto da tabela a partir do qual ser feita a procura.
+	 * @return aquisio do ponto ocupado ou o tamanho da tabela se no houver.
+	 */
+
+	private int nextSlot(int slot)
+	{
+		while (slot < values.length && values[slot] == null)
+			slot++;
+
+		return slot;
+	}
+
+	@Override
+	public Iterator<E> iterator()
+	{
+		return new Iterator<E>()
+		{
+			private int iterate;
+			private int slot;
+
+			@Override
+			public boolean hasNext()
+			{
+				return iterate < size();
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next()
+			{
+				iterate++;
+				slot = nextSlot(slot);
+
+				return (E) values[slot++];
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("slot", slot);
+				description.append("iterate", iterate);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public Iterator<Integer> iteratorKey()
+	{
+		return new Iterator<Integer>()
+		{
+			private int iterate;
+			private int slot;
+
+			@Override
+			public boolean hasNext()
+			{
+				return iterate < size();
+			}
+
+			@Override
+			public Integer next()
+			{
+				iterate++;
+				slot = nextSlot(slot);
+
+				return keys[slot++];
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("slot", slot);
+				description.append("iterate", iterate);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public Iterator<MapItem<Integer, E>> iteratorItems()
+	{
+		return new Iterator<MapItem<Integer, E>>()
+		{
+			private int iterate;
+			private int slot;
+
+			@Override
+			public boolean hasNext()
+			{
+				return iterate < size();
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public MapItem<Integer, E> next()
+			{
+				iterate++;
+				slot = nextSlot(slot);
+
+				int key = keys[slot];
+				E value = (E) values[slot++];
+
+				return new MapItem<Integer, E>(key, value);
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("slot", slot);
+				description.append("iterate", iterate);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public Iterable<Integer> iterateKey()
+	{
+		return new Iterable<Integer>()
+		{
+			@Override
+			public Iterator<Integer> iterator()
+			{
+				return iteratorKey();
+			}
+		};
+	}
+
+	@Override
+	public Iterable<MapItem<Integer, E>> iterateItems()
+	{
+		return new Iterable<Map.MapItem<Integer, E>>()
+		{
+			@Override
+			public Iterator<MapItem<Integer, E>> iterator()
+			{
+				return iteratorItems();
+			}
+		};
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super Integer, ? super E> action)
+	{
+		for (int i = 0; i < values.length; i++)
+			if (values[i] != null)
+				action.accept(keys[i], (E) values[i]);
+	}
+
+	/**
+	 * Cria um novo cursor posicionado antes do primeiro elemento do mapeador.
+	 * A chave obtida por key()  convertida em Integer a cada chamada, para percorrer
+	 * sem criar objetos use intKey() do prprio cursor ou ento forEachInt.
+	 * @return aquisio de um cursor para percorrer as chaves e elementos.
+	 */
+
+	@Override
+	public IntMapCursor<E> cursor()
+	{
+		return new IntMapCursor<E>()
+		{
+			private int slot = -1;
+
+			@Override
+			public boolean advance()
+			{
+				slot = slot < values.length ? nextSlot(slot + 1) : values.length;
+
+				return slot < values.length;
+			}
+
+			@Override
+			public Integer key()
+			{
+				return slot >= 0 && slot < values.length ? keys[slot] : null;
+			}
+
+			@Override
+			public int intKey()
+			{
+				if (slot < 0 || slot >= values.length)
+					throw new NoSuchElementException();
+
+				return keys[slot];
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E value()
+			{
+				return slot >= 0 && slot < values.length ? (E) values[slot] : null;
+			}
+
+			@Override
+			public void reset()
+			{
+				slot = -1;
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("slot", slot);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		for (int i = 0; i < values.length; i++)
+			if (values[i] != null)
+				description.append(Integer.toString(keys[i]), values[i]);
+
+		return description.toString();
+	}
+
+	/**
+	 * <p><h1>Cursor de Mapa de Inteiros</h1></p>
+	 *
+	 * <p>Cursor de mapa que alm da chave convertida em Integer permite obter a chave primitiva,
+	 * assim nenhum objeto precisa ser criado para percorrer as chaves e elementos do mapeador.</p>
+	 *
+	 * @author Andrew
+	 *
+	 * @param <E> qual o tipo do elemento usado.
+	 */
+
+	public interface IntMapCursor<E> extends MapCursor<Integer, E>
+	{
+		/**
+		 * Chave primitiva do elemento em que o cursor est posicionado.
+		 * @return aquisio da chave do elemento atual, sem convert-la em Integer.
+		 * @throws NoSuchElementException se o cursor no estiver posicionado em um elemento.
+		 */
+
+		int intKey();
+	}
+}
@@ -71,10 +71,18 @@ public class IntegerLargeMap<E> extends AbstractNumber<E>
 	@SuppressWarnings("unchecked")
 	protected Node<MapElement<Integer, E>>[] toArrayNode()
 	{
-		Node<MapElement<Integer, E>> array[] = new Node[size];
-
 		int i = 0;
 
+		for (int j = 0; j < nodes.length; j++)
+			for (int k = 0; k < nodes[j].length; k++)
+				for (int l = 0; l < nodes[j][k].length; l++)
+					if (nodes[j][k][l] != null)
+						i++;
+
+		Node<MapElement<Integer, E>> array[] = new Node[i];
+
+		i = 0;
+
 		for (int j = 0; j < nodes.length; j++)
 			for (int k = 0; k < nodes[j].length; k++)
 				for (int l = 0; l < nodes[j][k].length; l++)
@@ -0,0 +1,355 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.Arrays;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.UtilRuntimeException;
+import org.diverproject.util.collection.Growth;
+
+/**
+ * <p><h1>Lista de Longos</h1></p>
+ *
+ * <p>Lista que armazena inteiros longos diretamente em um vetor do tipo long primitivo.
+ * Diferente das listas de objetos, os valores no so convertidos para Long,
+ * no havendo um objeto alocado por valor adicionado e nem converses ao obter.</p>
+ *
+ * <p>Segue o mesmo protocolo das listas: novos valores so adicionados ao fim,
+ * na remoo os valores seguintes so movidos para trs e  possvel atualizar
+ * um determinado ndice. Como os valores so primitivos, no implementa List.</p>
+ *
+ * <p>O vetor interno cresce e  reduzido de acordo com a poltica de crescimento,
+ * que por padro  geomtrica, permitindo armazenar milhes de valores com
+ * custo constante na mdia para adicionar.</p>
+ *
+ * @see Growth
+ *
+ * @author Andrew
+ */
+
+public class LongList
+{
+	/**
+	 * Capacidade padro do vetor interno ao ser iniciado.
+	 */
+	public static final int DEFAULT_SIZE = 16;
+
+	/**
+	 * Vetor contendo os valores da lista.
+	 */
+	protected long elements[];
+
+	/**
+	 * Quantidade de valores armazenados na lista.
+	 */
+	protected int size;
+
+	/**
+	 * Poltica de crescimento usada para aumentar ou reduzir o vetor interno.
+	 */
+	private Growth growth = GeometricGrowth.HALF;
+
+	/**
+	 * Constri uma nova lista iniciando o vetor interno com a capacidade padro.
+	 */
+
+	public LongList()
+	{
+		this(DEFAULT_SIZE);
+	}
+
+	/**
+	 * Constri uma nova lista iniciando o vetor interno com uma capacidade especificada.
+	 * @param start quantidade de valores que devem caber na lista sem que esta cresa.
+	 */
+
+	public LongList(int start)
+	{
+		elements = new long[Math.max(start, 0)];
+	}
+
+	/**
+	 * Constri uma nova lista iniciando-a com os valores de um vetor.
+	 * @param values vetor contendo os valores que sero adicionados a lista.
+	 */
+
+	public LongList(long values[])
+	{
+		elements = Arrays.copyOf(values, Math.max(values.length, DEFAULT_SIZE));
+		size = values.length;
+	}
+
+	/**
+	 * Remove todos os valores da lista, o vetor interno no  reduzido.
+	 */
+
+	public void clear()
+	{
+		size = 0;
+	}
+
+	/**
+	 * Tamanho da lista determina quantos valores esto armazenados na mesma.
+	 * @return aquisio da quantidade de valores armazenados na lista.
+	 */
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Comprimento da lista determina quantos valores cabem no vetor interno.
+	 * @return aquisio do comprimento atual do vetor interno.
+	 */
+
+	public int length()
+	{
+		return elements.length;
+	}
+
+	/**
+	 * Verifica se a lista est vazia, ou seja, se no h valores armazenados.
+	 * @return true se estiver vazia ou false caso contrrio.
+	 */
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Adiciona um novo valor especificado posicionando-o ao final da lista.
+	 * @param value valor que ser adicionado a lista.
+	 */
+
+	public void add(long value)
+	{
+		if (size == elements.length)
+			ensureCapacity(size + 1);
+
+		elements[size++] = value;
+	}
+
+	/**
+	 * Adiciona um novo valor em um determinado ndice da lista,
+	 * os valores a partir deste ndice sero movidos para a direita.
+	 * @param index nmero do ndice onde o valor ser posicionado.
+	 * @param value valor que ser adicionado a lista.
+	 * @return true se conseguir adicionar ou false caso o ndice seja invlido.
+	 */
+
+	public boolean add(int index, long value)
+	{
+		if (index < 0 || index > size)
+			return false;
+
+		if (size == elements.length)
+			ensureCapacity(size + 1);
+
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		elements[index] = value;
+		size++;
+
+		return true;
+	}
+
+	/**
+	 * Adiciona todos os valores de um vetor ao final da lista de uma s vez.
+	 * @param values vetor contendo os valores que sero adicionados.
+	 */
+
+	public void addAll(long values[])
+	{
+		addAll(values, 0, values.length);
+	}
+
+	/**
+	 * Adiciona parte dos valores de um vetor ao final da lista de uma s vez.
+	 * @param values vetor contendo os valores que sero adicionados.
+	 * @param offset ndice do primeiro valor no vetor que ser adicionado.
+	 * @param length quantidade de valores do vetor que sero adicionados.
+	 */
+
+	public void addAll(long values[], int offset, int length)
+	{
+		if (offset < 0 || length < 0 || offset + length > values.length)
+			throw new UtilRuntimeException("intervalo invlido (offset: %d, length: %d, vetor: %d)", offset, length, values.length);
+
+		ensureCapacity(size + length);
+
+		System.arraycopy(values, offset, elements, size, length);
+		size += length;
+	}
+
+	/**
+	 * Remove um valor atravs do seu ndice de posicionamento na lista.
+	 * Quando um valor  removido todos os seguintes passam para a esquerda.
+	 * @param index nmero do ndice do valor que ser removido da lista.
+	 * @return true se conseguir remover ou false caso o ndice seja invlido.
+	 */
+
+	public boolean remove(int index)
+	{
+		if (index < 0 || index >= size)
+			return false;
+
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+
+		shrink();
+
+		return true;
+	}
+
+	/**
+	 * Remove a primeira ocorrncia de um valor da lista.
+	 * Quando um valor  removido todos os seguintes passam para a esquerda.
+	 * @param value valor que ser procurado e removido da lista.
+	 * @return true se encontrar e portanto remover ou false se no encontrar.
+	 */
+
+	public boolean removeValue(long value)
+	{
+		return remove(indexOf(value));
+	}
+
+	/**
+	 * Atualiza um determinado ndice da lista forando a sobrescrita do valor.
+	 * @param index nmero do ndice na lista que ter o seu valor substitudo.
+	 * @param value novo valor que ser inserido nesse ndice.
+	 * @return true se conseguir atualizar ou false caso o ndice seja invlido.
+	 */
+
+	public boolean update(int index, long value)
+	{
+		if (index < 0 || index >= size)
+			return false;
+
+		elements[index] = value;
+
+		return true;
+	}
+
+	/**
+	 * Obtm um determinado valor de dentro da lista a partir do seu ndice.
+	 * @param index nmero do ndice do valor que ser obtido da lista.
+	 * @return aquisio do valor respectivo no ndice especificado.
+	 */
+
+	public long get(int index)
+	{
+		if (index < 0 || index >= size)
+			throw new UtilRuntimeException("ndice invlido (index: %d, size: %d)", index, size);
+
+		return elements[index];
+	}
+
+	/**
+	 * Procura a primeira ocorrncia de um valor na lista.
+	 * @param value valor que ser procurado na lista.
+	 * @return aquisio do ndice do valor ou -1 se no for encontrado.
+	 */
+
+	public int indexOf(long value)
+	{
+		for (int i = 0; i < size; i++)
+			if (elements[i] == value)
+				return i;
+
+		return -1;
+	}
+
+	/**
+	 * Verifica se um determinado valor est armazenado na lista.
+	 * @param value valor que ser procurado na lista.
+	 * @return true se for encontrado ou false caso contrrio.
+	 */
+
+	public boolean contains(long value)
+	{
+		return indexOf(value) != -1;
+	}
+
+	/**
+	 * Ordena os valores da lista em ordem crescente.
+	 */
+
+	public void sort()
+	{
+		Arrays.sort(elements, 0, size);
+	}
+
+	/**
+	 * Cria um novo vetor contendo apenas os valores armazenados na lista.
+	 * @return aquisio do vetor com os valores na ordem em que esto na lista.
+	 */
+
+	public long[] toArray()
+	{
+		return Arrays.copyOf(elements, size);
+	}
+
+	/**
+	 * Procedimento interno que ir reduzir o vetor interno caso a poltica de crescimento permita.
+	 */
+
+	private void shrink()
+	{
+		int length = growth.shrink(elements.length, size);
+
+		if (length < elements.length)
+			elements = Arrays.copyOf(elements, length);
+	}
+
+	/**
+	 * Poltica de crescimento determina como o vetor interno ser aumentado ou reduzido.
+	 * @return aquisio da poltica de crescimento usada pela lista.
+	 */
+
+	public Growth getGrowth()
+	{
+		return growth;
+	}
+
+	/**
+	 * Permite definir qual ser a poltica de crescimento usada pela lista.
+	 * @param growth referncia da nova poltica de crescimento, se nulo usa a padro.
+	 */
+
+	public void setGrowth(Growth growth)
+	{
+		this.growth = growth == null ? GeometricGrowth.HALF : growth;
+	}
+
+	/**
+	 * Garante que o vetor interno comporte uma quantidade de valores sem precisar crescer.
+	 * @param capacity quantidade de valores que dever caber no vetor interno.
+	 */
+
+	public void ensureCapacity(int capacity)
+	{
+		if (capacity > elements.length)
+			elements = Arrays.copyOf(elements, growth.grow(elements.length, capacity));
+	}
+
+	/**
+	 * Reduz o vetor interno para que tenha exatamente o tamanho atual da lista.
+	 */
+
+	public void trimToSize()
+	{
+		if (elements.length > size)
+			elements = Arrays.copyOf(elements, size);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size);
+		description.append("length", length());
+
+		return description.toString();
+	}
+}
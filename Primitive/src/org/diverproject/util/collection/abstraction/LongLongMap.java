@@ -0,0 +1,617 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.Arrays;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.LongLongConsumer;
+
+/**
+ * <p><h1>Mapa de Longs para Longs</h1></p>
+ *
+ * <p>Mapeador com chaves e valores do tipo long e long primitivos usando uma tabela espalhada de
+ * endereamento aberto. As chaves e os valores ficam em dois vetores paralelos, portanto nenhum
+ * objeto  criado ao adicionar, obter ou alterar um valor, sendo indicado para contadores e
+ * para remapear identificadores. Como no h objetos envolvidos no implementa Map.</p>
+ *
+ * <p>Todos os valores de long so aceitos como chave: um ponto livre da tabela  identificado pela
+ * chave zero, enquanto a prpria chave zero, quando usada,  guardada fora da tabela.
+ * Consultas por chaves que no existem retornam zero ou o valor padro especificado.</p>
+ *
+ * <p>A tabela  dobrada quando o fator de carga  ultrapassado e na remoo os valores
+ * seguintes na sondagem so deslocados para trs, no havendo marcaes de removido.</p>
+ *
+ * @see IntHashMap
+ * @see LongLongConsumer
+ *
+ * @author Andrew
+ */
+
+public class LongLongMap
+{
+	/**
+	 * Capacidade padro da tabela espalhada ao ser iniciada.
+	 */
+	public static final int DEFAULT_SIZE = 16;
+
+	/**
+	 * Fator de carga padro para determinar quando a tabela deve ser aumentada.
+	 */
+	public static final float DEFAULT_LOAD = 0.75f;
+
+	/**
+	 * Vetor contendo as chaves de cada ponto da tabela, zero indica um ponto livre.
+	 */
+	protected long keys[];
+
+	/**
+	 * Vetor contendo os valores de cada ponto da tabela.
+	 */
+	protected long values[];
+
+	/**
+	 * Quantidade de chaves armazenadas, incluindo a chave zero.
+	 */
+	private int size;
+
+	/**
+	 * Se a chave zero est sendo usada.
+	 */
+	private boolean hasZero;
+
+	/**
+	 * Valor definido a chave zero quando esta estiver sendo usada.
+	 */
+	private long zeroValue;
+
+	/**
+	 * Mscara usada para obter um ponto da tabela a partir de um cdigo hash.
+	 */
+	private int mask;
+
+	/**
+	 * Quantidade de chaves que a tabela suporta antes de ser aumentada.
+	 */
+	private int threshold;
+
+	/**
+	 * Fator de carga usado para calcular o limite da tabela.
+	 */
+	private float load;
+
+	/**
+	 * Constri um novo mapeador com a capacidade e fator de carga padro.
+	 */
+
+	public LongLongMap()
+	{
+		this(DEFAULT_SIZE, DEFAULT_LOAD);
+	}
+
+	/**
+	 * Constri um novo mapeador com uma capacidade inicial especificada.
+	 * @param start quantas chaves devem caber na tabela sem que esta seja aumentada.
+	 */
+
+	public LongLongMap(int start)
+	{
+		this(start, DEFAULT_LOAD);
+	}
+
+	/**
+	 * Constri um novo mapeador com uma capacidade inicial e fator de carga especificados.
+	 * @param start quantas chaves devem caber na tabela sem que esta seja aumentada.
+	 * @param load fator de carga da tabela, deve ser maior que 0 e menor que 1.
+	 */
+
+	public LongLongMap(int start, float load)
+	{
+		if (load <= 0f || load >= 1f)
+			load = DEFAULT_LOAD;
+
+		this.load = load;
+
+		allocate(capacityFor(Math.max(start, 2), load));
+	}
+
+	/**
+	 * Remove todas as chaves do mapeador mantendo a capacidade da tabela.
+	 */
+
+	public void clear()
+	{
+		size = 0;
+		hasZero = false;
+		zeroValue = 0;
+
+		Arrays.fill(keys, 0);
+		Arrays.fill(values, 0);
+	}
+
+	/**
+	 * @return aquisio da quantidade de chaves armazenadas no mapeador.
+	 */
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * @return aquisio da quantidade de pontos da tabela espalhada.
+	 */
+
+	public int length()
+	{
+		return keys.length;
+	}
+
+	/**
+	 * @return true se no houver nenhuma chave no mapeador ou false caso contrrio.
+	 */
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Verifica se um determinada chave j est sendo utilizada no mapeador.
+	 * @param key chave do qual deve ser verificado a existncia.
+	 * @return true se conter ou false caso contrrio.
+	 */
+
+	public boolean containsKey(long key)
+	{
+		return key == 0 ? hasZero : find(key) != -1;
+	}
+
+	/**
+	 * Verifica se um determinado valor est definido a alguma das chaves.
+	 * @param value valor do qual deve ser procurado em todo o mapeador.
+	 * @return true se encontrar ou false caso contrrio.
+	 */
+
+	public boolean containsValue(long value)
+	{
+		if (hasZero && zeroValue == value)
+			return true;
+
+		for (int i = 0; i < keys.length; i++)
+			if (keys[i] != 0 && values[i] == value)
+				return true;
+
+		return false;
+	}
+
+	/**
+	 * Adiciona uma nova chave ao mapeador ligada a um determinado valor.
+	 * @param key chave que ser adicionada ao mapeador.
+	 * @param value valor que ser definido a chave.
+	 * @return true se conseguir adicionar ou false se a chave j estiver sendo usada.
+	 */
+
+	public boolean add(long key, long value)
+	{
+		if (key == 0)
+		{
+			if (hasZero)
+				return false;
+
+			addZero(value);
+
+			return true;
+		}
+
+		int slot = slot(key);
+
+		while (keys[slot] != 0)
+		{
+			if (keys[slot] == key)
+				return false;
+
+			slot = (slot + 1) & mask;
+		}
+
+		insert(slot, key, value);
+
+		return true;
+	}
+
+	/**
+	 * Define o valor de uma chave, adicionando a chave caso ainda no esteja sendo usada.
+	 * @param key chave do qual ter o valor definido.
+	 * @param value valor que ser definido a chave.
+	 * @return aquisio do valor que estava definido a chave ou zero se no estava sendo usada.
+	 */
+
+	public long put(long key, long value)
+	{
+		if (key == 0)
+		{
+			long old = zeroValue;
+
+			if (hasZero)
+				zeroValue = value;
+			else
+				addZero(value);
+
+			return old;
+		}
+
+		int slot = slot(key);
+
+		while (keys[slot] != 0)
+		{
+			if (keys[slot] == key)
+			{
+				long old = values[slot];
+				values[slot] = value;
+
+				return old;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		insert(slot, key, value);
+
+		return 0;
+	}
+
+	/**
+	 * Soma um valor ao valor atual de uma chave, caso a chave ainda no esteja sendo usada
+	 * ela ser adicionada com o prprio valor a ser somado, com uma nica sondagem na tabela.
+	 * @param key chave do qual ter o valor incrementado.
+	 * @param delta valor que ser somado ao valor da chave, pode ser negativo.
+	 * @return aquisio do valor da chave aps a soma.
+	 */
+
+	public long addTo(long key, long delta)
+	{
+		if (key == 0)
+		{
+			if (hasZero)
+				return zeroValue += delta;
+
+			addZero(delta);
+
+			return delta;
+		}
+
+		int slot = slot(key);
+
+		while (keys[slot] != 0)
+		{
+			if (keys[slot] == key)
+				return values[slot] += delta;
+
+			slot = (slot + 1) & mask;
+		}
+
+		insert(slot, key, delta);
+
+		return delta;
+	}
+
+	/**
+	 * Atualiza o valor de uma chave que j esteja sendo usada no mapeador.
+	 * @param key chave do qual ter o valor atualizado.
+	 * @param value novo valor que ser definido a chave.
+	 * @return true se a chave existir e for atualizada ou false caso contrrio.
+	 */
+
+	public boolean update(long key, long value)
+	{
+		if (key == 0)
+		{
+			if (!hasZero)
+				return false;
+
+			zeroValue = value;
+
+			return true;
+		}
+
+		int slot = find(key);
+
+		if (slot == -1)
+			return false;
+
+		values[slot] = value;
+
+		return true;
+	}
+
+	/**
+	 * Obtm o valor de uma determinada chave do mapeador.
+	 * @param key chave do qual deseja obter o valor.
+	 * @return aquisio do valor da chave ou zero se no estiver sendo usada.
+	 */
+
+	public long get(long key)
+	{
+		return getOrDefault(key, 0);
+	}
+
+	/**
+	 * Obtm o valor de uma determinada chave do mapeador.
+	 * @param key chave do qual deseja obter o valor.
+	 * @param defaultValue valor que ser retornado caso a chave no esteja sendo usada.
+	 * @return aquisio do valor da chave ou o valor padro se no estiver sendo usada.
+	 */
+
+	public long getOrDefault(long key, long defaultValue)
+	{
+		if (key == 0)
+			return hasZero ? zeroValue : defaultValue;
+
+		int slot = slot(key);
+
+		while (keys[slot] != 0)
+		{
+			if (keys[slot] == key)
+				return values[slot];
+
+			slot = (slot + 1) & mask;
+		}
+
+		return defaultValue;
+	}
+
+	/**
+	 * Remove uma determinada chave e o seu valor do mapeador.
+	 * @param key chave do qual deseja remover.
+	 * @return true se a chave existir e for removida ou false caso contrrio.
+	 */
+
+	public boolean removeKey(long key)
+	{
+		if (key == 0)
+		{
+			if (!hasZero)
+				return false;
+
+			hasZero = false;
+			zeroValue = 0;
+			size--;
+
+			return true;
+		}
+
+		int slot = find(key);
+
+		if (slot == -1)
+			return false;
+
+		delete(slot);
+
+		return true;
+	}
+
+	/**
+	 * Percorre todas as chaves do mapeador repassando-as junto de seus valores.
+	 * No cria nenhum objeto durante a iterao, a chave zero  repassada primeiro.
+	 * @param consumer referncia do consumidor que ir receber as chaves e valores.
+	 */
+
+	public void forEach(LongLongConsumer consumer)
+	{
+		if (hasZero)
+			consumer.accept(0, zeroValue);
+
+		for (int i = 0; i < keys.length; i++)
+			if (keys[i] != 0)
+				consumer.accept(keys[i], values[i]);
+	}
+
+	/**
+	 * Constri um novo vetor contendo todas as chaves utilizadas no mapeador.
+	 * @return aquisio do vetor com as chaves na mesma ordem de toArrayValue().
+	 */
+
+	public long[] toArrayKey()
+	{
+		long array[] = new long[size];
+		int j = 0;
+
+		if (hasZero)
+			array[j++] = 0;
+
+		for (int i = 0; i < keys.length; i++)
+			if (keys[i] != 0)
+				array[j++] = keys[i];
+
+		return array;
+	}
+
+	/**
+	 * Constri um novo vetor contendo os valores de todas as chaves do mapeador.
+	 * @return aquisio do vetor com os valores na mesma ordem de toArrayKey().
+	 */
+
+	public long[] toArrayValue()
+	{
+		long array[] = new long[size];
+		int j = 0;
+
+		if (hasZero)
+			array[j++] = zeroValue;
+
+		for (int i = 0; i < keys.length; i++)
+			if (keys[i] != 0)
+				array[j++] = values[i];
+
+		return array;
+	}
+
+	/**
+	 * Procedimento interno que ir adicionar a chave zero que fica fora da tabela.
+	 * @param value valor que ser definido a chave zero.
+	 */
+
+	private void addZero(long value)
+	{
+		hasZero = true;
+		zeroValue = value;
+		size++;
+	}
+
+	/**
+	 * Procedimento interno que ir localizar o ponto da tabela ocupado por uma chave.
+	 * @param key chave diferente de zero do qual deseja encontrar o ponto na tabela.
+	 * @return aquisio do ponto da tabela ou -1 caso a chave no tenha sido encontrada.
+	 */
+
+	private int find(long key)
+	{
+		int slot = slot(key);
+
+		while (keys[slot] != 0)
+		{
+			if (keys[slot] == key)
+				return slot;
+
+			slot = (slot + 1) & mask;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Procedimento interno que ir ocupar um ponto livre da tabela com uma nova chave.
+	 * Caso a quantidade de chaves ultrapasse o limite a tabela ser aumentada.
+	 * @param slot ponto livre da tabela que ser ocupado.
+	 * @param key chave diferente de zero que ser armazenada.
+	 * @param value valor que ser definido a chave.
+	 */
+
+	private void insert(int slot, long key, long value)
+	{
+		keys[slot] = key;
+		values[slot] = value;
+
+		if (++size > threshold)
+			rehash(keys.length << 1);
+	}
+
+	/**
+	 * Procedimento interno que ir liberar um ponto da tabela que esteja ocupado.
+	 * As chaves seguintes que foram deslocadas por coliso so movidas para trs,
+	 * garantindo que nenhuma sondagem seja interrompida pelo ponto liberado.
+	 * @param slot ponto da tabela que est ocupado e dever ser liberado.
+	 */
+
+	private void delete(int slot)
+	{
+		int next = slot;
+
+		while (true)
+		{
+			next = (next + 1) & mask;
+
+			if (keys[next] == 0)
+				break;
+
+			int home = slot(keys[next]);
+
+			if (slot <= next ? (slot < home && home <= next) : (slot < home || home <= next))
+				continue;
+
+			keys[slot] = keys[next];
+			values[slot] = values[next];
+			slot = next;
+		}
+
+		keys[slot] = 0;
+		values[slot] = 0;
+		size--;
+	}
+
+	/**
+	 * Procedimento interno que ir criar uma nova tabela e reposicionar todas as chaves.
+	 * @param capacity nova capacidade da tabela, deve ser uma potncia de dois.
+	 */
+
+	private void rehash(int capacity)
+	{
+		long oldKeys[] = keys;
+		long oldValues[] = values;
+
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++)
+			if (oldKeys[i] != 0)
+			{
+				int slot = slot(oldKeys[i]);
+
+				while (keys[slot] != 0)
+					slot = (slot + 1) & mask;
+
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+	}
+
+	/**
+	 * Procedimento interno que ir criar os vetores da tabela e definir seus limites.
+	 * @param capacity capacidade da tabela, deve ser uma potncia de dois.
+	 */
+
+	private void allocate(int capacity)
+	{
+		keys = new long[capacity];
+		values = new long[capacity];
+		mask = capacity - 1;
+		threshold = capacity == 1 << 30 ? Integer.MAX_VALUE : (int) (capacity * load);
+	}
+
+	/**
+	 * Calcula qual deve ser a capacidade da tabela para comportar algumas chaves.
+	 * @param elements quantidade de chaves que deve caber sem aumentar a tabela.
+	 * @param load fator de carga que ser considerado pela tabela.
+	 * @return aquisio da menor potncia de dois que comporta as chaves.
+	 */
+
+	private static int capacityFor(int elements, float load)
+	{
+		long required = (long) Math.ceil(elements / (double) load) + 1;
+
+		if (required >= 1 << 30)
+			return 1 << 30;
+
+		return Integer.highestOneBit((int) required - 1) << 1;
+	}
+
+	/**
+	 * Procedimento que ir calcular qual o ponto inicial para uma determinada chave.
+	 * A chave  multiplicada pela razo urea para que chaves sequenciais fiquem espalhadas.
+	 * @param key chave que ser usada para fazer o calculo do ponto.
+	 * @return aquisio do ponto para determinar a localizao de uma chave.
+	 */
+
+	protected int slot(long key)
+	{
+		long hash = key * 0x9E3779B97F4A7C15L;
+		int folded = (int) (hash ^ (hash >>> 32));
+
+		return (folded ^ (folded >>> 16)) & mask;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size);
+		description.append("length", length());
+
+		if (hasZero)
+			description.append("0", zeroValue);
+
+		for (int i = 0; i < keys.length; i++)
+			if (keys[i] != 0)
+				description.append(Long.toString(keys[i]), values[i]);
+
+		return description.toString();
+	}
+}
@@ -1,6 +1,7 @@
 package org.diverproject.util.collection.abstraction;
 
 import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.pool.Poolable;
 
 /**
  * <p><h1>Elemento Mapeado</h1></p>
@@ -19,7 +20,7 @@ import org.diverproject.util.ObjectDescription;
  * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
  */
 
-class MapElement<K, E>
+class MapElement<K, E> implements Poolable
 {
 	/**
 	 * Qual ser a chama desse elemento para ser mapevel.
@@ -31,6 +32,11 @@ class MapElement<K, E>
 	 */
 	E value;
 
+	/**
+	 * Cdigo hash espalhado da chave, usado pelos mapeadores que indexam as chaves.
+	 */
+	int hash;
+
 	/**
 	 * Constri um novo elemento mapevel iniciando seus atributos.
 	 * @param key chave que ser definido ao elemento mapevel.
@@ -43,6 +49,18 @@ class MapElement<K, E>
 		this.value = element;
 	}
 
+	/**
+	 * Remove a chave e o elemento, usado ao ser reciclado por um mapeador.
+	 */
+
+	@Override
+	public void reset()
+	{
+		key = null;
+		value = null;
+		hash = 0;
+	}
+
 	@Override
 	public String toString()
 	{
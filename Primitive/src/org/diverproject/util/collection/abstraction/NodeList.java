@@ -6,6 +6,7 @@ import org.diverproject.util.ObjectDescription;
 import org.diverproject.util.collection.List;
 import org.diverproject.util.collection.Node;
 import org.diverproject.util.lang.IntUtil;
+import org.diverproject.util.pool.Pool;
 
 /**
  * <h1>Lista por N</h1>
@@ -14,9 +15,13 @@ import org.diverproject.util.lang.IntUtil;
  * Alm de funcionar como uma lista qualquer (tipos de mtodos) permite usar a interface Comparable como critrio.
  * Se habilitado, ao adicionar ir priorizar o valor de Comparable, onde - 0: igual, >1: maior, <1: menor.</p>
  *
+ * <p>Opcionalmente os ns removidos podem ser reciclados atravs de um pool compartilhado entre as listas,
+ * evitando criar um novo n a cada elemento adicionado em listas com muitas inseres e remoes.</p>
+ *
  * @see List
  * @see Node
  * @see Comparable
+ * @see Pool
  *
  * @author Andrew Mello
  *
@@ -25,6 +30,11 @@ import org.diverproject.util.lang.IntUtil;
 
 public class NodeList<E> extends AbstractCollection<E> implements List<E>
 {
+	/**
+	 * Pool compartilhado pelas listas para reciclagem dos ns removidos.
+	 */
+	private static final Pool<Node<Object>> NODES = new Pool<Node<Object>>(() -> new Node<Object>(null));
+
 	/**
 	 * Quantidade limite de elementos na lista.
 	 */
@@ -35,6 +45,11 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 	 */
 	private boolean compare;
 
+	/**
+	 * Reciclagem dos ns removidos.
+	 */
+	private boolean recycle;
+
 	/**
 	 * Primeiro elemento da lista.
 	 */
@@ -92,6 +107,58 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 		this.compare = compare;
 	}
 
+	/**
+	 * Permite saber se a lista est reciclando os ns dos elementos removidos.
+	 * @return true se estiver habilitado ou false caso contrrio.
+	 */
+
+	public boolean isRecycle()
+	{
+		return recycle;
+	}
+
+	/**
+	 * Definir a reciclagem ir devolver os ns removidos a um pool compartilhado entre as listas,
+	 * de onde sero obtidos os ns dos prximos elementos adicionados. Iteradores no devem
+	 * continuar sendo usados aps a remoo de elementos enquanto estiver habilitado.
+	 * @param recycle true para habilitar ou false para desabilitar.
+	 */
+
+	public void setRecycle(boolean recycle)
+	{
+		this.recycle = recycle;
+	}
+
+	/**
+	 * Procedimento interno que ir obter um n para armazenar um novo elemento na lista.
+	 * @param element referncia do elemento que ser armazenado no n.
+	 * @return aquisio de um n reciclado se habilitado ou de um novo n.
+	 */
+
+	@SuppressWarnings("unchecked")
+	private Node<E> newNode(E element)
+	{
+		if (!recycle)
+			return new Node<E>(element);
+
+		Node<E> node = (Node<E>) (Node<?>) NODES.acquire();
+		node.set(element);
+
+		return node;
+	}
+
+	/**
+	 * Procedimento interno que ir devolver um n removido ao pool se a reciclagem estiver habilitada.
+	 * @param node referncia do n que foi removido da lista.
+	 */
+
+	@SuppressWarnings("unchecked")
+	private void recycle(Node<E> node)
+	{
+		if (recycle)
+			NODES.release((Node<Object>) (Node<?>) node);
+	}
+
 	/**
 	 * Remove o primeiro elemento da lista, alocando o segundo n como primrio.
 	 * @return true se removido ou false caso contrrio (lista vazia).
@@ -102,6 +169,8 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 		if (first == null)
 			return false;
 
+		Node<E> node = first;
+
 		if (size == 1)
 			first = last = null;
 
@@ -112,6 +181,7 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 		}
 
 		size--;
+		recycle(node);
 
 		return true;
 	}
@@ -126,6 +196,8 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 		if (last == null)
 			return false;
 
+		Node<E> node = last;
+
 		if (size == 1)
 			last = first = null;
 		else
@@ -135,6 +207,7 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 		}
 
 		size--;
+		recycle(node);
 
 		return true;
 	}
@@ -153,6 +226,7 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 
 		size--;
 		Node.attach(node.getPrev(), node.getNext());
+		recycle(node);
 
 		return true;
 	}
@@ -197,7 +271,17 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 	@Override
 	public void clear()
 	{
+		if (recycle)
+			while (first != null)
+			{
+				Node<E> node = first;
+				first = first.getNext();
+				recycle(node);
+			}
+
 		first = null;
+		last = null;
+		size = 0;
 	}
 
 	@Override
@@ -213,7 +297,7 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 		if (isFull() || element == null)
 			return false;
 
-		Node<E> node = new Node<E>(element);
+		Node<E> node = newNode(element);
 
 		if (first == null)
 			first = last = node;
@@ -230,7 +314,10 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 				int compare = comparable.compareTo((Object) aux.get());
 
 				if (compare == 0)
+				{
+					recycle(node);
 					return false;
+				}
 
 				else if (compare > 0)
 				{
@@ -280,15 +367,7 @@ public class NodeList<E> extends AbstractCollection<E> implements List<E>
 		Node<E> node = first;
 
 		if (node.get().equals(element))
-		{
-			if (size == 1)
-				first = last = null;
-			else
-				first = first.getNext();
-
-			size--;
-			return true;
-		}
+			return removeFirst();
 
 		node = node.getNext();
 
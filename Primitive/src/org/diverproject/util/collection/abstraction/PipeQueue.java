@@ -0,0 +1,342 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.lang.reflect.Array;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.Queue;
+
+/**
+ * <p><h1>Fila de Passagem</h1></p>
+ *
+ * <p>Fila circular de capacidade limitada feita para passar elementos de uma nica thread
+ * para outra nica thread, como a leitura de um socket para um decodificador ou a gerao
+ * de registros para quem os escreve em arquivo. Apenas uma thread pode enfileirar e apenas
+ * uma thread pode desenfileirar, nesse caso nenhuma das operaes precisa esperar ou disputar.</p>
+ *
+ * <p>Cada lado escreve somente o seu prprio ndice usando uma escrita ordenada (lazySet), que 
+ * bem mais barata que uma escrita voltil, e guarda ao lado dele uma cpia do ndice do outro lado que s 
+ * atualizada quando a fila parecer cheia ou vazia. Assim na maior parte das operaes nenhuma
+ * leitura da memria compartilhada  feita, e o vetor circula atravs de uma mscara.</p>
+ *
+ * <p>O desenfileiramento em lote atravs de <code>drainTo</code> libera todos os pontos de uma s vez.
+ * O tamanho e a iterao so apenas aproximados enquanto a outra thread estiver usando a fila.</p>
+ *
+ * @see Queue
+ *
+ * @author Andrew
+ *
+ * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
+ */
+
+public class PipeQueue<E> extends AbstractCollection<E> implements Queue<E>
+{
+	/**
+	 * Distncia em longs entre os ndices, equivalente a duas linhas de cache.
+	 */
+	private static final int PADDING = 16;
+
+	/**
+	 * Posio no vetor de ndices onde fica o ndice do fim da fila.
+	 */
+	private static final int TAIL = PADDING - 1;
+
+	/**
+	 * Posio no vetor de ndices onde fica o ndice do inicio da fila.
+	 */
+	private static final int HEAD = TAIL + PADDING;
+
+	/**
+	 * Posio no vetor de ndices da cpia do inicio feita pela thread que enfileira, ao lado do fim.
+	 */
+	private static final int TAIL_CACHE = TAIL + 1;
+
+	/**
+	 * Posio no vetor de ndices da cpia do fim feita pela thread que desenfileira, ao lado do inicio.
+	 */
+	private static final int HEAD_CACHE = HEAD + 1;
+
+	/**
+	 * Vetor usado para armazenar os elementos adicionados na fila.
+	 */
+	private final Object elements[];
+
+	/**
+	 * ndices de inicio e fim da fila separados por espaos vazios, cada um seguido
+	 * da cpia do ndice do outro lado feita pela mesma thread que o escreve.
+	 */
+	private final AtomicLongArray indexes;
+
+	/**
+	 * Mscara usada para obter o ponto do vetor a partir de uma posio.
+	 */
+	private final int mask;
+
+	/**
+	 * Constri uma nova fila de passagem com capacidade limitada.
+	 * @param length quantidade mnima de elementos que a fila poder armazenar,
+	 * ser arredondada para a prxima potncia de dois.
+	 */
+
+	public PipeQueue(int length)
+	{
+		this(null, length);
+	}
+
+	/**
+	 * Constri uma nova fila de passagem com capacidade limitada.
+	 * Alm disso tambm define do tipo de objeto que ser usado em toArray.
+	 * @param generic classe respectiva ao tipo de dado armazenado.
+	 * @param length quantidade mnima de elementos que a fila poder armazenar,
+	 * ser arredondada para a prxima potncia de dois.
+	 */
+
+	public PipeQueue(Class<?> generic, int length)
+	{
+		int capacity = Integer.highestOneBit(Math.max(length, 2) - 1) << 1;
+
+		elements = new Object[capacity];
+		indexes = new AtomicLongArray(HEAD + PADDING);
+		mask = capacity - 1;
+
+		setGeneric(generic);
+	}
+
+	/**
+	 * Remove todos os elementos da fila, deve ser chamado pela thread que desenfileira.
+	 */
+
+	@Override
+	public void clear()
+	{
+		while (poll() != null);
+	}
+
+	@Override
+	public int size()
+	{
+		while (true)
+		{
+			long head = indexes.get(HEAD);
+			long tail = indexes.get(TAIL);
+
+			if (head == indexes.get(HEAD))
+				return (int) Math.max(0, Math.min(tail - head, elements.length));
+		}
+	}
+
+	@Override
+	public int length()
+	{
+		return elements.length;
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return size() == 0;
+	}
+
+	@Override
+	public boolean isFull()
+	{
+		return size() == elements.length;
+	}
+
+	@Override
+	public boolean contains(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (E queued : this)
+			if (queued.equals(element))
+				return true;
+
+		return false;
+	}
+
+	/**
+	 * Enfileira um elemento ao final da fila, deve ser chamado apenas pela thread que enfileira.
+	 */
+
+	@Override
+	public boolean offer(E element)
+	{
+		if (element == null)
+			return false;
+
+		long tail = indexes.get(TAIL);
+
+		if (tail - indexes.get(TAIL_CACHE) >= elements.length)
+		{
+			indexes.lazySet(TAIL_CACHE, indexes.get(HEAD));
+
+			if (tail - indexes.get(TAIL_CACHE) >= elements.length)
+				return false;
+		}
+
+		elements[(int) tail & mask] = element;
+		indexes.lazySet(TAIL, tail + 1);
+
+		return true;
+	}
+
+	/**
+	 * Desenfileira o elemento mais antigo, deve ser chamado apenas pela thread que desenfileira.
+	 */
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E poll()
+	{
+		long head = indexes.get(HEAD);
+
+		if (head >= indexes.get(HEAD_CACHE))
+		{
+			indexes.lazySet(HEAD_CACHE, indexes.get(TAIL));
+
+			if (head >= indexes.get(HEAD_CACHE))
+				return null;
+		}
+
+		int slot = (int) head & mask;
+		Object element = elements[slot];
+
+		elements[slot] = null;
+		indexes.lazySet(HEAD, head + 1);
+
+		return (E) element;
+	}
+
+	/**
+	 * Desenfileira diversos elementos passando-os um a um para um consumidor,
+	 * os pontos liberados s ficam disponveis para enfileirar ao final do lote.
+	 * Deve ser chamado apenas pela thread que desenfileira.
+	 * @param consumer consumidor que ir receber os elementos na ordem da fila.
+	 * @param max quantidade mxima de elementos que devem ser desenfileirados.
+	 * @return aquisio da quantidade de elementos que foram desenfileirados.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public int drainTo(Consumer<? super E> consumer, int max)
+	{
+		long head = indexes.get(HEAD);
+
+		long tail = indexes.get(HEAD_CACHE);
+
+		if (head + max > tail)
+			indexes.lazySet(HEAD_CACHE, tail = indexes.get(TAIL));
+
+		int available = (int) Math.min(tail - head, max);
+		int drained = 0;
+
+		try {
+
+			while (drained < available)
+			{
+				int slot = (int) (head + drained) & mask;
+				Object element = elements[slot];
+
+				elements[slot] = null;
+				drained++;
+
+				consumer.accept((E) element);
+			}
+
+		} finally {
+			indexes.lazySet(HEAD, head + drained);
+		}
+
+		return drained;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E[] toArray()
+	{
+		DynamicList<E> list = new DynamicList<E>(Math.max(size(), DynamicList.DEFAULT_SIZE));
+
+		for (E element : this)
+			list.add(element);
+
+		E[] array = (E[]) Array.newInstance(getGeneric(), list.size());
+
+		for (int i = 0; i < array.length; i++)
+			array[i] = list.get(i);
+
+		return array;
+	}
+
+	@Override
+	public Iterator<E> iterator()
+	{
+		return new Iterator<E>()
+		{
+			private long position = indexes.get(HEAD);
+			private long end = indexes.get(TAIL);
+			private Object next = advance();
+
+			private Object advance()
+			{
+				for (; position < end; position++)
+				{
+					Object element = elements[(int) position & mask];
+
+					if (element != null)
+					{
+						position++;
+						return element;
+					}
+				}
+
+				return null;
+			}
+
+			@Override
+			public boolean hasNext()
+			{
+				return next != null;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next()
+			{
+				if (next == null)
+					throw new NoSuchElementException();
+
+				Object element = next;
+				next = advance();
+
+				return (E) element;
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric().getSimpleName());
+				description.append("position", position);
+				description.append("end", end);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size());
+		description.append("length", length());
+
+		return description.toString();
+	}
+}
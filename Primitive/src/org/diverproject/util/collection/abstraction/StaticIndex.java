@@ -1,7 +1,5 @@
 package org.diverproject.util.collection.abstraction;
 
-import org.diverproject.util.collection.ArrayUtil;
-
 /**
  * <p><h1>ndice Esttico</h1></p>
  *
@@ -13,6 +11,9 @@ import org.diverproject.util.collection.ArrayUtil;
  * tambm  bem simples, posiciona os elementos no vetor ordenando-os de acordo com
  * o ndice que foi passado para tal quando adicionados na lista.</p>
  *
+ * <p>No caso do ndice esttico a capacidade no muda e cada ndice pode ser usado
+ * por apenas um elemento, adicionar um ndice j existente no ter efeito.</p>
+ *
  * @author Andrew
  *
  * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
@@ -20,101 +21,31 @@ import org.diverproject.util.collection.ArrayUtil;
 
 public class StaticIndex<E> extends AbstractIndex<E>
 {
-	@Override
-	public boolean add(int index, E element)
-	{
-		if (isFull())
-			return false;
-
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i].i > index)
-				if (ArrayUtil.moveRight(elements, i))
-				{
-					Attach<E> attach = new Attach<E>();
-					attach.i = index;
-					attach.value = element;
-
-					elements[i] = attach;
-				}
+	/**
+	 * Constri um novo ndice esttico com a capacidade padro.
+	 */
 
-		return true;
-	}
-
-	@Override
-	public boolean remove(int index)
+	public StaticIndex()
 	{
-		if (isEmpty())
-			return false;
-
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i].i == index)
-			{
-				size--;
-				elements[i] = null;
-			}
-
-		return false;
+		super();
 	}
 
-	@Override
-	public boolean update(int index, E element)
-	{
-		if (isEmpty())
-			return false;
-
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i].i == index)
-			{
-				elements[i].value = element;
-				return true;
-			}
-
-		return false;
-	}
+	/**
+	 * Constri um novo ndice esttico com uma capacidade especificada.
+	 * @param length quantos elementos podero ser armazenados nesse ndice.
+	 */
 
-	@Override
-	public boolean change(int first, int second)
+	public StaticIndex(int length)
 	{
-		if (size() < 2)
-			return false;
-
-		Attach<E> firstAttach = null;
-		Attach<E> secondAttach = null;
-
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i].i == first)
-			{
-				firstAttach = elements[i];
-				break;
-			}
-
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i].i == second)
-			{
-				secondAttach = elements[i];
-				break;
-			}
-
-		if (firstAttach != null && secondAttach != null)
-		{
-			E aux = secondAttach.value;
-
-			secondAttach.value = firstAttach.value;
-			firstAttach.value = aux;
-
-			return true;
-		}
-
-		return false;
+		super(length);
 	}
 
 	@Override
-	public E get(int index)
+	public boolean add(int index, E element)
 	{
-		for (int i = 0; i < elements.length; i++)
-			if (elements[i].i == index)
-				return elements[i].value;
+		if (isFull() || element == null)
+			return false;
 
-		return null;
+		return insert(index, element, false);
 	}
 }
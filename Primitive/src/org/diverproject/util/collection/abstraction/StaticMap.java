@@ -1,9 +1,5 @@
 package org.diverproject.util.collection.abstraction;
 
-import java.util.Iterator;
-
-import org.diverproject.util.ObjectDescription;
-
 /**
  * <p><h1>Mapeador Esttico</h1></p>
  *
@@ -53,80 +49,6 @@ public class StaticMap<K, E> extends AbstractMap<K, E>
 		if (isFull())
 			return false;
 
-		elements[size++] = new MapElement<K, E>(key, element);
-
-		return true;
-	}
-
-	@Override
-	public E get(K key)
-	{
-		return null;
-	}
-
-	@Override
-	public Iterator<K> iteratorKey()
-	{
-		return new Iterator<K>()
-		{
-			private int iterate;
-
-			@Override
-			public boolean hasNext()
-			{
-				return iterate < size;
-			}
-
-			@Override
-			public K next()
-			{
-				return elements[iterate++].key;
-			}
-
-			@Override
-			public String toString()
-			{
-				ObjectDescription description = new ObjectDescription(getClass());
-
-				description.append("generic", getGeneric());
-				description.append("iterate", iterate);
-				description.append("size", size);
-
-				return description.toString();
-			}
-		};
-	}
-
-	@Override
-	public Iterator<MapItem<K, E>> iteratorItems()
-	{
-		return new Iterator<MapItem<K, E>>()
-		{
-			private int iterate;
-
-			@Override
-			public boolean hasNext()
-			{
-				return iterate < size;
-			}
-
-			@Override
-			public MapItem<K, E> next()
-			{
-				return new MapItem<K, E>(elements[iterate++].key, elements[iterate++].value);
-			}
-
-			@Override
-			public String toString()
-			{
-				ObjectDescription description = new ObjectDescription(getClass());
-
-				description.append("generic", getGeneric());
-				description.append("iterate", iterate);
-				description.append("size", size);
-
-				return description.toString();
-			}
-		};
+		return insert(key, element);
 	}
 }
@@ -1,26 +1,30 @@
 package org.diverproject.util.collection.abstraction;
 
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.function.BiConsumer;
 
 import org.diverproject.util.ObjectDescription;
 import org.diverproject.util.collection.Map;
-import org.diverproject.util.collection.Node;
 
 /**
  * <p><h1>Mapa de String</h1></p>
  *
  * <p>Esse tipo de mapa  recomendvel ser utilizado com chaves do tipo String.
- * Porm  vivel apenas se houver muitos elementos para armazenar no mesmo.
- * Utiliza o conceito de tabela espelhada para armazenar seus elementos.</p>
+ * Utiliza o conceito de tabela espalhada com endereamento aberto, de modo que,
+ * todas as chaves e elementos sejam armazenados diretamente em vetores paralelos.</p>
  *
- * <p>Esse conceito considera que cada chave ter um ponto para armazen-lo.
- * Ponto este que  utilizado tambm para remover, obter ou atualizar.
- * Cada ponto no mapa  respectivo a um determinado ndice de um vetor.
- * Esses vetores iro armazenar ns que iro conter elementos daquele ponto.</p>
+ * <p>Cada chave tem o seu cdigo hash espalhado para determinar o ponto inicial na tabela.
+ * Caso esse ponto j esteja ocupado ser usado o prximo ponto livre (sondagem linear).
+ * Assim no h alocao de ns ou elementos mapeados para cada elemento adicionado.</p>
  *
- * <p>Para esse tipo de mapeamento ser considerado as chaves o primeiro caracter.
- * Sendo assim, existem 256 chaves possveis para todos os elementos serem encontrados.
- * Utiliza um pouco mais de memria, se no for muito usado no  recomendado.</p>
+ * <p>Quando a quantidade de elementos ultrapassar o fator de carga a tabela ser dobrada.
+ * Na remoo os elementos seguintes na sondagem so deslocados para trs preenchendo o espao,
+ * dessa forma no existem marcaes de removido e as buscas continuam curtas.</p>
+ *
+ * <p>Opcionalmente pode ser habilitado um ndice reverso dos elementos armazenados,
+ * assim a verificao e remoo pela referncia do elemento no percorrem a tabela.
+ * Em troca cada adio, atualizao ou remoo tambm precisa atualizar esse ndice.</p>
  *
  * @author Andrew
  *
@@ -30,15 +34,55 @@ import org.diverproject.util.collection.Node;
 public class StringMap<E> extends AbstractCollection<E> implements Map<String, E>
 {
 	/**
-	 * Referncia mapeador dos elementos que podem ou j foram armazenados.
+	 * Capacidade padro da tabela espalhada ao ser iniciada.
+	 */
+	public static final int DEFAULT_SIZE = 16;
+
+	/**
+	 * Fator de carga padro para determinar quando a tabela deve ser aumentada.
+	 */
+	public static final float DEFAULT_LOAD = 0.75f;
+
+	/**
+	 * Vetor contendo as chaves de cada ponto da tabela espalhada.
+	 */
+	protected String keys[];
+
+	/**
+	 * Vetor contendo os elementos de cada ponto da tabela espalhada.
+	 */
+	protected Object values[];
+
+	/**
+	 * Vetor contendo o cdigo hash j espalhado das chaves de cada ponto.
+	 */
+	private int hashes[];
+
+	/**
+	 * Mscara usada para obter um ponto da tabela a partir de um cdigo hash.
 	 */
-	protected Node<MapElement<String, E>> table[];
+	private int mask;
+
+	/**
+	 * Quantidade de elementos que a tabela suporta antes de ser aumentada.
+	 */
+	private int threshold;
+
+	/**
+	 * Fator de carga usado para calcular o limite da tabela.
+	 */
+	private float load;
 
 	/**
 	 * Quantos elementos podem ser armazenados nesse mapa.
 	 */
 	private int length;
 
+	/**
+	 * ndice reverso dos elementos para as suas chaves quando habilitado.
+	 */
+	private ValueIndex<String> index;
+
 	/**
 	 * Constri um novo mapeamento simples para armazenar elementos de key String.
 	 * Nesse construtor ir definir o nmero mximo de elementos para armazenar.
@@ -54,19 +98,40 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 	 * @param length quantos elementos podem ser armazenados.
 	 */
 
-	@SuppressWarnings("unchecked")
 	public StringMap(int length)
 	{
+		this(length, DEFAULT_SIZE, DEFAULT_LOAD);
+	}
+
+	/**
+	 * Constri um novo mapeamento simples para armazenar elementos de key String.
+	 * @param length quantos elementos podem ser armazenados.
+	 * @param start quantos elementos devem caber na tabela sem que esta seja aumentada.
+	 * @param load fator de carga da tabela, deve ser maior que 0 e menor que 1.
+	 */
+
+	public StringMap(int length, int start, float load)
+	{
+		if (load <= 0f || load >= 1f)
+			load = DEFAULT_LOAD;
+
 		this.length = length;
-		this.table = new Node[255];
+		this.load = load;
+
+		allocate(capacityFor(Math.max(start, 2), load));
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public void clear()
 	{
 		size = 0;
-		table = new Node[table.length];
+
+		Arrays.fill(keys, null);
+		Arrays.fill(values, null);
+		Arrays.fill(hashes, 0);
+
+		if (index != null)
+			index.clear();
 	}
 
 	@Override
@@ -78,25 +143,21 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 	@Override
 	public boolean containsKey(String key)
 	{
-		for (Node<MapElement<String, E>> node : table)
-			while (node != null)
-				if (node.get().key.equals(key))
-					return true;
-				else
-					node = node.getNext();
-
-		return false;
+		return key != null && find(key) != -1;
 	}
 
 	@Override
 	public boolean contains(E element)
 	{
-		for (Node<MapElement<String, E>> node : table)
-			while (node != null)
-				if (node.get().value.equals(element))
-					return true;
-				else
-					node = node.getNext();
+		if (element == null)
+			return false;
+
+		if (index != null)
+			return index.contains(element);
+
+		for (int i = 0; i < values.length; i++)
+			if (keys[i] != null && values[i].equals(element))
+				return true;
 
 		return false;
 	}
@@ -104,223 +165,309 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 	@Override
 	public boolean add(String key, E element)
 	{
-		if (key == null || element == null)
+		if (key == null || element == null || size >= length)
 			return false;
 
-		int letter = map(key);
+		int hash = hash(key);
+		int slot = hash & mask;
 
-		if (table[letter] == null)
+		while (keys[slot] != null)
 		{
-			MapElement<String, E> map = new MapElement<String, E>(key, element);
-			Node<MapElement<String, E>> node = new Node<MapElement<String,E>>(map);
+			if (hashes[slot] == hash && keys[slot].equals(key))
+				return false;
 
-			table[letter] = node;
+			slot = (slot + 1) & mask;
 		}
 
-		else
-		{
-			Node<MapElement<String, E>> node = table[letter];
+		keys[slot] = key;
+		values[slot] = element;
+		hashes[slot] = hash;
 
-			if (node.getNext() == null)
-			{
-				MapElement<String, E> map = new MapElement<String, E>(key, element);
-				Node<MapElement<String, E>> newNode = new Node<MapElement<String,E>>(map);
+		if (index != null)
+			index.add(element, key);
 
-				int compare = node.get().key.compareTo(key);
+		if (++size > threshold)
+			rehash(keys.length << 1);
 
-				if (compare == 0)
-					return false;
+		return true;
+	}
 
-				if (compare > 0)
-				{
-					Node.attach(newNode, node);
-					table[letter] = newNode;
-				}
+	@Override
+	public boolean remove(E element)
+	{
+		if (element == null)
+			return false;
 
-				else
-					Node.attach(node, newNode);
-			}
+		if (index != null)
+			return removeKey(index.keyOf(element));
 
-			else if (node.get().key.compareTo(key) > 0)
+		for (int i = 0; i < values.length; i++)
+			if (keys[i] != null && values[i].equals(element))
 			{
-				MapElement<String, E> map = new MapElement<String, E>(key, element);
-				Node<MapElement<String, E>> newNode = new Node<MapElement<String,E>>(map);
-
-				Node.attach(newNode, node);
-				table[letter] = newNode;
+				delete(i);
+				return true;
 			}
 
-			else
-			{
-				while (node != null && node.getNext() != null)
-				{
-					int compare = node.get().key.compareTo(key);
+		return false;
+	}
 
-					if (compare == 0)
-						return false;
+	@Override
+	public boolean removeKey(String key)
+	{
+		if (key == null)
+			return false;
 
-					if (compare > 0)
-						break;
+		int slot = find(key);
 
-					node = node.getNext();
-				}
+		if (slot == -1)
+			return false;
 
-				MapElement<String, E> map = new MapElement<String, E>(key, element);
-				Node<MapElement<String, E>> next;
+		delete(slot);
 
-				if (node.get().key.compareTo(key) < 0)
-					next = new Node<MapElement<String,E>>(map);
+		return true;
+	}
 
-				else
-				{
-					next = new Node<MapElement<String,E>>(node.get());
-					node.set(map);
-				}
+	@Override
+	@SuppressWarnings("unchecked")
+	public boolean renameKey(String oldKey, String newKey)
+	{
+		if (oldKey == null || newKey == null || containsKey(newKey))
+			return false;
 
-				Node.attach(next, node.getNext());
-				Node.attach(node, next);
-			}
-		}
+		int slot = find(oldKey);
+
+		if (slot == -1)
+			return false;
 
-		size++;
+		E element = (E) values[slot];
+		delete(slot);
 
-		return true;
+		return add(newKey, element);
 	}
 
 	@Override
-	public boolean remove(E element)
+	public boolean update(String key, E value)
 	{
-		if (element == null)
+		if (key == null || value == null)
 			return false;
 
-		for (Node<MapElement<String, E>> node : table)
-		{
-			while (node != null)
-			{
-				if (node.get().value.equals(element))
-					break;
-			}
+		int slot = find(key);
 
-			if (node == null)
-				return false;
-
-			Node<MapElement<String, E>> prev = node.getPrev();
-			Node<MapElement<String, E>> next = node.getNext();
-
-			size--;
+		if (slot == -1)
+			return false;
 
-			return Node.attach(prev, next);
+		if (index != null)
+		{
+			index.remove(values[slot], key);
+			index.add(value, key);
 		}
 
-		return false;
+		values[slot] = value;
+
+		return true;
 	}
 
 	@Override
-	public boolean removeKey(String key)
+	@SuppressWarnings("unchecked")
+	public E get(String key)
 	{
 		if (key == null)
-			return false;
+			return null;
 
-		int letter = map(key);
+		int slot = find(key);
 
-		if (table[letter] == null)
-			return false;
+		return slot == -1 ? null : (E) values[slot];
+	}
 
-		Node<MapElement<String, E>> node = table[letter];
+	/**
+	 * Procedimento interno que ir localizar o ponto da tabela ocupado por uma chave.
+	 * Inicia no ponto calculado pelo cdigo hash e segue at encontrar um ponto livre.
+	 * @param key chave do elemento do qual deseja encontrar o ponto na tabela.
+	 * @return aquisio do ponto da tabela ou -1 caso a chave no tenha sido encontrada.
+	 */
+
+	protected int find(String key)
+	{
+		int hash = hash(key);
+		int slot = hash & mask;
 
-		if (node.get().key.equals(key))
+		while (keys[slot] != null)
 		{
-			table[letter] = node.getNext();
+			if (hashes[slot] == hash && keys[slot].equals(key))
+				return slot;
 
-			if (table[letter] != null)
-				table[letter].setPrev(null);
+			slot = (slot + 1) & mask;
+		}
 
-			node.setNext(null);
-			node = null;
+		return -1;
+	}
 
-			size--;
+	/**
+	 * Procedimento interno que ir liberar um ponto da tabela que esteja ocupado.
+	 * Os elementos seguintes que foram deslocados por coliso so movidos para trs,
+	 * garantindo que nenhuma sondagem seja interrompida pelo ponto liberado.
+	 * @param slot ponto da tabela que est ocupado e dever ser liberado.
+	 */
 
-			return true;
-		}
+	private void delete(int slot)
+	{
+		if (index != null)
+			index.remove(values[slot], keys[slot]);
 
-		while (node != null && !node.get().key.equals(key))
-			node = node.getNext();
+		int next = slot;
 
-		if (node == null)
-			return false;
+		while (true)
+		{
+			next = (next + 1) & mask;
 
-		Node<MapElement<String, E>> prev = node.getPrev();
-		Node<MapElement<String, E>> next = node.getNext();
+			if (keys[next] == null)
+				break;
 
-		size--;
+			int home = hashes[next] & mask;
+
+			if (slot <= next ? (slot < home && home <= next) : (slot < home || home <= next))
+				continue;
+
+			keys[slot] = keys[next];
+			values[slot] = values[next];
+			hashes[slot] = hashes[next];
+			slot = next;
+		}
 
-		return Node.attach(prev, next);
+		keys[slot] = null;
+		values[slot] = null;
+		hashes[slot] = 0;
+		size--;
 	}
 
-	@Override
-	public boolean renameKey(String oldKey, String newKey)
+	/**
+	 * Procedimento interno que ir criar uma nova tabela e reposicionar todos os elementos.
+	 * Como os cdigos hash ficam armazenados no  necessrio calcul-los novamente.
+	 * @param capacity nova capacidade da tabela, deve ser uma potncia de dois.
+	 */
+
+	private void rehash(int capacity)
 	{
-		if (oldKey == null || newKey == null || containsKey(newKey))
-			return false;
+		String oldKeys[] = keys;
+		Object oldValues[] = values;
+		int oldHashes[] = hashes;
+
+		allocate(capacity);
+
+		for (int i = 0; i < oldKeys.length; i++)
+			if (oldKeys[i] != null)
+			{
+				int slot = oldHashes[i] & mask;
 
-		E element = get(oldKey);
+				while (keys[slot] != null)
+					slot = (slot + 1) & mask;
 
-		return removeKey(oldKey) && add(newKey, element);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+				hashes[slot] = oldHashes[i];
+			}
 	}
 
-	@Override
-	public boolean update(String key, E value)
-	{
-		if (key == null || value == null)
-			return false;
+	/**
+	 * Procedimento interno que ir criar os vetores da tabela e definir seus limites.
+	 * @param capacity capacidade da tabela, deve ser uma potncia de dois.
+	 */
 
-		int letter = map(key);
+	private void allocate(int capacity)
+	{
+		keys = new String[capacity];
+		values = new Object[capacity];
+		hashes = new int[capacity];
+		mask = capacity - 1;
+		threshold = capacity == 1 << 30 ? Integer.MAX_VALUE : (int) (capacity * load);
+	}
 
-		if (table[letter] == null)
-			return false;
+	/**
+	 * Calcula qual deve ser a capacidade da tabela para comportar alguns elementos.
+	 * @param elements quantidade de elementos que deve caber sem aumentar a tabela.
+	 * @param load fator de carga que ser considerado pela tabela.
+	 * @return aquisio da menor potncia de dois que comporta os elementos.
+	 */
 
-		Node<MapElement<String, E>> node = table[letter];
+	private static int capacityFor(int elements, float load)
+	{
+		long required = (long) Math.ceil(elements / (double) load) + 1;
 
-		while (node != null)
-		{
-			int compare = node.get().key.compareTo(key);
+		if (required >= 1 << 30)
+			return 1 << 30;
 
-			if (compare == 0)
-			{
-				node.get().value = value;
-				return true;
-			}
+		return Integer.highestOneBit((int) required - 1) << 1;
+	}
 
-			node = node.getNext();
-		}
+	/**
+	 * ndice reverso permite localizar a chave de um elemento sem percorrer a tabela.
+	 * @return true se o ndice reverso estiver habilitado ou false caso contrrio.
+	 */
 
-		return false;
+	public boolean isValueIndex()
+	{
+		return index != null;
 	}
 
-	@Override
-	public E get(String key)
+	/**
+	 * Permite habilitar ou desabilitar o ndice reverso dos elementos para as chaves.
+	 * Quando habilitado todos os elementos j armazenados sero indexados no momento.
+	 * @param enabled true para habilitar o ndice ou false para descart-lo.
+	 */
+
+	public void setValueIndex(boolean enabled)
 	{
-		if (key == null)
-			return null;
+		if (!enabled)
+			index = null;
 
-		int letter = map(key);
+		else if (index == null)
+		{
+			index = new ValueIndex<String>();
 
-		if (table[letter] == null)
-			return null;
+			for (int i = 0; i < keys.length; i++)
+				if (keys[i] != null)
+					index.add(values[i], keys[i]);
+		}
+	}
 
-		Node<MapElement<String, E>> node = table[letter];
+	/**
+	 * Procedimento que ir calcular o cdigo hash espalhado de uma determinada chave.
+	 * O cdigo hash da string  multiplicado pela razo urea para distribuir os bits,
+	 * assim chaves com um mesmo prefixo no ficam concentradas em uma mesma regio.
+	 * @param key nome da chave que ser usada para fazer o calculo do ponto.
+	 * @return aquisio do cdigo hash espalhado da chave.
+	 */
 
-		while (node != null)
-		{
-			int compare = node.get().key.compareTo(key);
+	protected int hash(String key)
+	{
+		int hash = key.hashCode() * 0x9E3779B9;
 
-			if (compare == 0)
-				return node.get().value;
+		return hash ^ (hash >>> 16);
+	}
 
-			node = node.getNext();
-		}
+	/**
+	 * Procedimento que ir calcular qual o ponto para uma determinada chave.
+	 * @param key nome da chave que ser usada para fazer o calculo do ponto.
+	 * @return aquisio do ponto para determinar a localizao de uma chave.
+	 */
 
-		return null;
+	protected int map(String key)
+	{
+		return hash(key) & mask;
+	}
+
+	/**
+	 * Procedimento interno que ir obter o prximo ponto ocupado na tabela.
+	 * @param slot ponto da tabela a partir do qual ser feita a procura.
+	 * @return aquisio do ponto ocupado ou o tamanho da tabela se no houver.
+	 */
+
+	private int nextSlot(int slot)
+	{
+		while (slot < keys.length && keys[slot] == null)
+			slot++;
+
+		return slot;
 	}
 
 	@Override
@@ -329,8 +476,7 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 		return new Iterator<String>()
 		{
 			private int iterate;
-			private int letter;
-			private Node<MapElement<String, E>> node = table[0];
+			private int slot;
 
 			@Override
 			public boolean hasNext()
@@ -341,31 +487,10 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 			@Override
 			public String next()
 			{
-				if (node != null)
-				{
-					String key = node.get().key;
-					node = node.getNext();
-
-					return key;
-				}
-
-				while (letter < table.length)
-				{
-					if (table[letter] != null)
-					{
-						node = table[letter++];
-						break;
-					}
-
-					letter++;
-				}
-
 				iterate++;
+				slot = nextSlot(slot);
 
-				String key = node.get().key;
-				node = node.getNext();
-
-				return key;
+				return keys[slot++];
 			}
 
 			@Override
@@ -374,7 +499,7 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 				ObjectDescription description = new ObjectDescription(getClass());
 
 				description.append("generic", getGeneric());
-				description.append("letter", (char) (letter + 'a'));
+				description.append("slot", slot);
 				description.append("iterate", iterate);
 
 				return description.toString();
@@ -388,8 +513,7 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 		return new Iterator<E>()
 		{
 			private int iterate;
-			private int letter;
-			private Node<MapElement<String, E>> node = table[0];
+			private int slot;
 
 			@Override
 			public boolean hasNext()
@@ -398,29 +522,13 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 			}
 
 			@Override
+			@SuppressWarnings("unchecked")
 			public E next()
 			{
 				iterate++;
+				slot = nextSlot(slot);
 
-				if (node == null)
-					while (letter < table.length)
-					{
-						letter++;
-
-						if (table[letter] != null)
-						{
-							node = table[letter];
-							break;
-						}
-					}
-
-				if (node == null)
-					return null;
-
-				E value = node.get().value;
-				node = node.getNext();
-
-				return value;
+				return (E) values[slot++];
 			}
 
 			@Override
@@ -429,7 +537,7 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 				ObjectDescription description = new ObjectDescription(getClass());
 
 				description.append("generic", getGeneric());
-				description.append("letter", (char) (letter + 'a'));
+				description.append("slot", slot);
 				description.append("iterate", iterate);
 
 				return description.toString();
@@ -437,15 +545,60 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 		};
 	}
 
-	/**
-	 * Procedimento que ir calcular qual o ponto para uma determinada chave.
-	 * @param key nome da chave que ser usada para fazer o calculo do ponto.
-	 * @return aquisio do ponto para determinar a localizao de uma chave.
-	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super String, ? super E> action)
+	{
+		for (int i = 0; i < keys.length; i++)
+			if (keys[i] != null)
+				action.accept(keys[i], (E) values[i]);
+	}
 
-	protected int map(String key)
+	@Override
+	public MapCursor<String, E> cursor()
 	{
-		return key.charAt(0) % 256;
+		return new MapCursor<String, E>()
+		{
+			private int slot = -1;
+
+			@Override
+			public boolean advance()
+			{
+				slot = slot < keys.length ? nextSlot(slot + 1) : keys.length;
+
+				return slot < keys.length;
+			}
+
+			@Override
+			public String key()
+			{
+				return slot >= 0 && slot < keys.length ? keys[slot] : null;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E value()
+			{
+				return slot >= 0 && slot < keys.length ? (E) values[slot] : null;
+			}
+
+			@Override
+			public void reset()
+			{
+				slot = -1;
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("slot", slot);
+
+				return description.toString();
+			}
+		};
 	}
 
 	/**
@@ -456,39 +609,33 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 
 	protected void toString(ObjectDescription description)
 	{
-		
+
 	}
 
 	/**
 	 * Procedimento que deve informar os dados contidos dentro desse objeto.
-	 * Chamado sempre que um n for encontrado com dados includos no mesmo.
+	 * Chamado sempre que um ponto da tabela for encontrado com um elemento.
 	 * @param description referncia da descrio do objeto que ser usada.
-	 * @param node referncia do n contendo as informaes do elemento.
+	 * @param key chave do elemento encontrado no ponto da tabela.
+	 * @param value referncia do elemento encontrado no ponto da tabela.
 	 */
 
-	protected void toString(ObjectDescription description, Node<MapElement<String, E>> node)
+	protected void toString(ObjectDescription description, String key, E value)
 	{
-		description.append(node.get().key, node.get().value);
+		description.append(key, value);
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public String toString()
 	{
 		ObjectDescription description = new ObjectDescription(getClass());
 
 		toString(description);
 
-		for (int i = 0; i < table.length; i++)
-			if (table[i] != null)
-			{
-				Node<MapElement<String, E>> node = table[i];
-
-				while (node != null)
-				{
-					toString(description, node);
-					node = node.getNext();
-				}
-			}
+		for (int i = 0; i < keys.length; i++)
+			if (keys[i] != null)
+				toString(description, keys[i], (E) values[i]);
 
 		return description.toString();
 	}
@@ -525,8 +672,7 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 		return new Iterator<MapItem<String,E>>()
 		{
 			private int iterate;
-			private int letter;
-			private Node<MapElement<String, E>> node;
+			private int slot;
 
 			@Override
 			public boolean hasNext()
@@ -535,28 +681,14 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 			}
 
 			@Override
+			@SuppressWarnings("unchecked")
 			public MapItem<String, E> next()
 			{
 				iterate++;
+				slot = nextSlot(slot);
 
-				if (node == null)
-					while (letter < table.length)
-					{
-						letter++;
-
-						if (table[letter] != null)
-						{
-							node = table[letter];
-							break;
-						}
-					}
-
-				if (node == null)
-					return null;
-
-				String key = node.get().key;
-				E value = node.get().value;
-				node = node.getNext();
+				String key = keys[slot];
+				E value = (E) values[slot++];
 
 				return new MapItem<String, E>(key, value);
 			}
@@ -567,7 +699,7 @@ public class StringMap<E> extends AbstractCollection<E> implements Map<String, E
 				ObjectDescription description = new ObjectDescription(getClass());
 
 				description.append("generic", getGeneric());
-				description.append("letter", (char) (letter + 'a'));
+				description.append("slot", slot);
 				description.append("iterate", iterate);
 
 				return description.toString();
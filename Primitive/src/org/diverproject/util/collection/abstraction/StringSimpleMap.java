@@ -1,6 +1,7 @@
 package org.diverproject.util.collection.abstraction;
 
 import java.util.Iterator;
+import java.util.function.BiConsumer;
 
 import org.diverproject.util.ObjectDescription;
 import org.diverproject.util.collection.Map;
@@ -22,6 +23,10 @@ import org.diverproject.util.collection.Node;
  * Sendo assim, 26 casas para letras (A-Z) e 10 casas para nmeros (0-9).
  * Essas casas sero consideradas apenas do primeiro caracter ignorando case.</p>
  *
+ * <p>Os ns de cada casa so ordenados pela chave, de modo que as operaes por chave
+ * percorrem apenas a casa da chave e param assim que passarem da posio esperada.
+ * Opcionalmente pode ser habilitado um ndice reverso para as operaes por elemento.</p>
+ *
  * @author Andrew
  *
  * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
@@ -39,6 +44,11 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 	 */
 	private int length;
 
+	/**
+	 * ndice reverso dos elementos para as suas chaves quando habilitado.
+	 */
+	private ValueIndex<String> index;
+
 	/**
 	 * Constri um novo mapeamento simples para armazenar elementos de key String.
 	 * Nesse construtor ir definir o nmero mximo de elementos para armazenar.
@@ -67,6 +77,9 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 	{
 		size = 0;
 		table = new Node[table.length];
+
+		if (index != null)
+			index.clear();
 	}
 
 	@Override
@@ -78,19 +91,18 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 	@Override
 	public boolean containsKey(String key)
 	{
-		for (Node<MapElement<String, E>> node : table)
-			while (node != null)
-				if (node.get().key.equals(key))
-					return true;
-				else
-					node = node.getNext();
-
-		return false;
+		return key != null && find(key) != null;
 	}
 
 	@Override
 	public boolean contains(E element)
 	{
+		if (element == null)
+			return false;
+
+		if (index != null)
+			return index.contains(element);
+
 		for (Node<MapElement<String, E>> node : table)
 			while (node != null)
 				if (node.get().value.equals(element))
@@ -165,10 +177,15 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 					node = node.getNext();
 				}
 
+				int compare = node.get().key.compareTo(key);
+
+				if (compare == 0)
+					return false;
+
 				MapElement<String, E> map = new MapElement<String, E>(key, element);
 				Node<MapElement<String, E>> next;
 
-				if (node.get().key.compareTo(key) < 0)
+				if (compare < 0)
 					next = new Node<MapElement<String,E>>(map);
 
 				else
@@ -182,6 +199,9 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 			}
 		}
 
+		if (index != null)
+			index.add(element, key);
+
 		size++;
 
 		return true;
@@ -193,23 +213,23 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 		if (element == null)
 			return false;
 
-		for (Node<MapElement<String, E>> node : table)
+		if (index != null)
+			return removeKey(index.keyOf(element));
+
+		for (int letter = 0; letter < table.length; letter++)
 		{
+			Node<MapElement<String, E>> node = table[letter];
+
 			while (node != null)
 			{
 				if (node.get().value.equals(element))
-					break;
-			}
-
-			if (node == null)
-				return false;
-
-			Node<MapElement<String, E>> prev = node.getPrev();
-			Node<MapElement<String, E>> next = node.getNext();
-
-			size--;
+				{
+					unlink(letter, node);
+					return true;
+				}
 
-			return Node.attach(prev, next);
+				node = node.getNext();
+			}
 		}
 
 		return false;
@@ -221,40 +241,14 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 		if (key == null)
 			return false;
 
-		int letter = map(key);
-
-		if (table[letter] == null)
-			return false;
-
-		Node<MapElement<String, E>> node = table[letter];
-
-		if (node.get().key.equals(key))
-		{
-			table[letter] = node.getNext();
-
-			if (table[letter] != null)
-				table[letter].setPrev(null);
-
-			node.setNext(null);
-			node = null;
-
-			size--;
-
-			return true;
-		}
-
-		while (node != null && !node.get().key.equals(key))
-			node = node.getNext();
+		Node<MapElement<String, E>> node = find(key);
 
 		if (node == null)
 			return false;
 
-		Node<MapElement<String, E>> prev = node.getPrev();
-		Node<MapElement<String, E>> next = node.getNext();
-
-		size--;
+		unlink(map(key), node);
 
-		return Node.attach(prev, next);
+		return true;
 	}
 
 	@Override
@@ -274,27 +268,20 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 		if (key == null || value == null)
 			return false;
 
-		int letter = map(key);
+		Node<MapElement<String, E>> node = find(key);
 
-		if (table[letter] == null)
+		if (node == null)
 			return false;
 
-		Node<MapElement<String, E>> node = table[letter];
-
-		while (node != null)
+		if (index != null)
 		{
-			int compare = node.get().key.compareTo(key);
-
-			if (compare == 0)
-			{
-				node.get().value = value;
-				return true;
-			}
-
-			node = node.getNext();
+			index.remove(node.get().value, key);
+			index.add(value, key);
 		}
 
-		return false;
+		node.get().value = value;
+
+		return true;
 	}
 
 	@Override
@@ -303,19 +290,32 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 		if (key == null)
 			return null;
 
-		int letter = map(key);
+		Node<MapElement<String, E>> node = find(key);
 
-		if (table[letter] == null)
-			return null;
+		return node == null ? null : node.get().value;
+	}
+
+	/**
+	 * Procedimento interno que ir localizar o n de uma chave apenas no seu ponto do mapa.
+	 * Como os ns de um ponto so ordenados pela chave, a procura termina assim que
+	 * for encontrado um n com a chave maior do que a chave procurada.
+	 * @param key chave do elemento do qual deseja encontrar o n no mapa.
+	 * @return aquisio do n contendo a chave ou null se no for encontrado.
+	 */
 
-		Node<MapElement<String, E>> node = table[letter];
+	protected Node<MapElement<String, E>> find(String key)
+	{
+		Node<MapElement<String, E>> node = table[map(key)];
 
 		while (node != null)
 		{
 			int compare = node.get().key.compareTo(key);
 
 			if (compare == 0)
-				return node.get().value;
+				return node;
+
+			if (compare > 0)
+				break;
 
 			node = node.getNext();
 		}
@@ -323,6 +323,69 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 		return null;
 	}
 
+	/**
+	 * Procedimento interno que ir desligar um n do seu ponto no mapa.
+	 * Liga o n anterior ao prximo ou atualiza o primeiro n do ponto.
+	 * @param letter ponto do mapa do qual o n faz parte.
+	 * @param node referncia do n que ser removido do mapa.
+	 */
+
+	private void unlink(int letter, Node<MapElement<String, E>> node)
+	{
+		Node<MapElement<String, E>> prev = node.getPrev();
+		Node<MapElement<String, E>> next = node.getNext();
+
+		if (prev == null)
+			table[letter] = next;
+		else
+			prev.setNext(next);
+
+		if (next != null)
+			next.setPrev(prev);
+
+		node.setPrev(null);
+		node.setNext(null);
+
+		if (index != null)
+			index.remove(node.get().value, node.get().key);
+
+		size--;
+	}
+
+	/**
+	 * ndice reverso permite localizar a chave de um elemento sem percorrer o mapa.
+	 * @return true se o ndice reverso estiver habilitado ou false caso contrrio.
+	 */
+
+	public boolean isValueIndex()
+	{
+		return index != null;
+	}
+
+	/**
+	 * Permite habilitar ou desabilitar o ndice reverso dos elementos para as chaves.
+	 * Quando habilitado todos os elementos j armazenados sero indexados no momento.
+	 * @param enabled true para habilitar o ndice ou false para descart-lo.
+	 */
+
+	public void setValueIndex(boolean enabled)
+	{
+		if (!enabled)
+			index = null;
+
+		else if (index == null)
+		{
+			index = new ValueIndex<String>();
+
+			for (Node<MapElement<String, E>> node : table)
+				while (node != null)
+				{
+					index.add(node.get().value, node.get().key);
+					node = node.getNext();
+				}
+		}
+	}
+
 	@Override
 	public Iterator<String> iteratorKey()
 	{
@@ -430,6 +493,78 @@ public class StringSimpleMap<E> extends AbstractCollection<E> implements Map<Str
 		};
 	}
 
+	@Override
+	public void forEach(BiConsumer<? super String, ? super E> action)
+	{
+		for (Node<MapElement<String, E>> node : table)
+			for (; node != null; node = node.getNext())
+				if (node.get() != null)
+					action.accept(node.get().key, node.get().value);
+	}
+
+	@Override
+	public MapCursor<String, E> cursor()
+	{
+		return new MapCursor<String, E>()
+		{
+			private int letter = -1;
+			private Node<MapElement<String, E>> node;
+
+			@Override
+			public boolean advance()
+			{
+				node = node == null ? null : node.getNext();
+
+				while (node == null || node.get() == null)
+				{
+					if (node != null)
+						node = node.getNext();
+
+					else if (letter + 1 < table.length)
+						node = table[++letter];
+
+					else
+					{
+						letter = table.length;
+						return false;
+					}
+				}
+
+				return true;
+			}
+
+			@Override
+			public String key()
+			{
+				return node == null ? null : node.get().key;
+			}
+
+			@Override
+			public E value()
+			{
+				return node == null ? null : node.get().value;
+			}
+
+			@Override
+			public void reset()
+			{
+				letter = -1;
+				node = null;
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("generic", getGeneric());
+				description.append("letter", letter);
+
+				return description.toString();
+			}
+		};
+	}
+
 	/**
 	 * Procedimento que ir calcular qual o ponto para uma determinada chave.
 	 * @param key nome da chave que ser usada para fazer o calculo do ponto.
@@ -0,0 +1,743 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.UtilRuntimeException;
+
+/**
+ * <p><h1>Lista de Estruturas</h1></p>
+ *
+ * <p>Lista de registros de tamanho fixo armazenados fora da heap do java, em buffers diretos ou
+ * ento em trechos de um arquivo mapeado em memria. Cada registro  apenas um intervalo de bytes
+ * onde os campos ficam em posies fixas definidas por quem usa a lista, portanto o coletor de lixo
+ * no precisa percorrer nenhum dos registros, independente de quantos forem armazenados.</p>
+ *
+ * <p>Os registros ficam distribudos em segmentos com a mesma quantidade de registros, sendo esta
+ * uma potncia de dois, assim localizar um registro  apenas um deslocamento de bits e crescer a
+ * lista  apenas alocar um novo segmento, sem copiar os registros j existentes.</p>
+ *
+ * <p>Os campos so lidos e escritos em big-endian, a mesma ordem usada por Bits e ByteUtil,
+ * podendo ser acessados pela lista informando o registro e a posio do campo, ou atravs de
+ * um registro (flyweight) que  reposicionado entre os registros sem criar novos objetos.</p>
+ *
+ * @see Record
+ *
+ * @author Andrew
+ */
+
+public class StructList
+{
+	/**
+	 * Tamanho padro em bytes de cada segmento.
+	 */
+	public static final int DEFAULT_SEGMENT = 1 << 20;
+
+	/**
+	 * Tamanho em bytes de cada registro.
+	 */
+	private final int recordSize;
+
+	/**
+	 * Quantidade de bits usada para obter o segmento de um registro.
+	 */
+	private final int shift;
+
+	/**
+	 * Mscara usada para obter a posio de um registro dentro do seu segmento.
+	 */
+	private final int mask;
+
+	/**
+	 * Canal do arquivo mapeado que contm os segmentos ou null se forem buffers diretos.
+	 */
+	private final FileChannel channel;
+
+	/**
+	 * Segmentos j alocados contendo os registros.
+	 */
+	private ByteBuffer segments[];
+
+	/**
+	 * Quantidade de segmentos alocados.
+	 */
+	private int allocated;
+
+	/**
+	 * Quantidade de registros armazenados na lista.
+	 */
+	private int size;
+
+	/**
+	 * Constri uma nova lista de estruturas usando buffers diretos com segmentos de tamanho padro.
+	 * @param recordSize tamanho em bytes de cada registro.
+	 */
+
+	public StructList(int recordSize)
+	{
+		this(recordSize, DEFAULT_SEGMENT, null);
+	}
+
+	/**
+	 * Constri uma nova lista de estruturas usando buffers diretos.
+	 * @param recordSize tamanho em bytes de cada registro.
+	 * @param segmentSize tamanho aproximado em bytes de cada segmento, a quantidade de registros
+	 * por segmento ser a maior potncia de dois que caiba nesse tamanho.
+	 */
+
+	public StructList(int recordSize, int segmentSize)
+	{
+		this(recordSize, segmentSize, null);
+	}
+
+	/**
+	 * Constri uma nova lista de estruturas mapeando os segmentos em um arquivo, os segmentos
+	 * ficam um aps o outro a partir do inicio do arquivo que cresce conforme for necessrio.
+	 * A quantidade de registros no  guardada no arquivo, a lista sempre inicia vazia.
+	 * @param recordSize tamanho em bytes de cada registro.
+	 * @param segmentSize tamanho aproximado em bytes de cada segmento, a quantidade de registros
+	 * por segmento ser a maior potncia de dois que caiba nesse tamanho.
+	 * @param channel canal de um arquivo aberto para leitura e escrita ou null para usar buffers diretos.
+	 */
+
+	public StructList(int recordSize, int segmentSize, FileChannel channel)
+	{
+		if (recordSize <= 0 || recordSize > segmentSize)
+			throw new UtilRuntimeException("tamanho de registro invlido (recordSize: %d, segmentSize: %d)", recordSize, segmentSize);
+
+		this.recordSize = recordSize;
+		this.shift = 31 - Integer.numberOfLeadingZeros(segmentSize / recordSize);
+		this.mask = (1 << shift) - 1;
+		this.channel = channel;
+		this.segments = new ByteBuffer[4];
+	}
+
+	/**
+	 * Remove todos os registros da lista, os segmentos continuam alocados para serem reutilizados.
+	 */
+
+	public void clear()
+	{
+		size = 0;
+	}
+
+	/**
+	 * @return aquisio da quantidade de registros armazenados na lista.
+	 */
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * @return aquisio da quantidade de registros que cabem nos segmentos j alocados.
+	 */
+
+	public int length()
+	{
+		return allocated << shift;
+	}
+
+	/**
+	 * @return true se no houver nenhum registro na lista ou false caso contrrio.
+	 */
+
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * @return aquisio do tamanho em bytes de cada registro.
+	 */
+
+	public int recordSize()
+	{
+		return recordSize;
+	}
+
+	/**
+	 * Adiciona um novo registro ao final da lista com todos os bytes zerados.
+	 * @return aquisio do ndice do registro adicionado.
+	 */
+
+	public int add()
+	{
+		if (size == length())
+			allocate();
+
+		int index = size++;
+		ByteBuffer segment = segments[index >>> shift];
+		int position = (index & mask) * recordSize;
+		int i = 0;
+
+		for (; i + Long.BYTES <= recordSize; i += Long.BYTES)
+			segment.putLong(position + i, 0L);
+
+		for (; i < recordSize; i++)
+			segment.put(position + i, (byte) 0);
+
+		return index;
+	}
+
+	/**
+	 * Adiciona um novo registro ao final da lista copiando os seus bytes de um vetor.
+	 * @param bytes vetor contendo os bytes do registro, deve ter ao menos o tamanho de um registro.
+	 * @return aquisio do ndice do registro adicionado.
+	 */
+
+	public int add(byte bytes[])
+	{
+		checkBytes(bytes);
+
+		if (size == length())
+			allocate();
+
+		int index = size++;
+
+		putBytes(index, bytes);
+
+		return index;
+	}
+
+	/**
+	 * Remove um registro da lista movendo o ltimo registro para o seu lugar,
+	 * dessa forma nenhum outro registro  deslocado mas a ordem no  mantida.
+	 * @param index ndice do registro que ser removido.
+	 * @return true se o ndice for vlido e o registro removido ou false caso contrrio.
+	 */
+
+	public boolean remove(int index)
+	{
+		if (index < 0 || index >= size)
+			return false;
+
+		int last = size - 1;
+
+		if (index != last)
+			copy(last, index);
+
+		size--;
+
+		return true;
+	}
+
+	/**
+	 * Copia todos os bytes de um registro para outro registro da lista.
+	 * @param from ndice do registro que ser copiado.
+	 * @param to ndice do registro que receber os bytes copiados.
+	 */
+
+	public void copy(int from, int to)
+	{
+		check(from);
+		check(to);
+
+		ByteBuffer source = segments[from >>> shift];
+		ByteBuffer target = segments[to >>> shift];
+		int sourcePosition = (from & mask) * recordSize;
+		int targetPosition = (to & mask) * recordSize;
+		int i = 0;
+
+		for (; i + Long.BYTES <= recordSize; i += Long.BYTES)
+			target.putLong(targetPosition + i, source.getLong(sourcePosition + i));
+
+		for (; i < recordSize; i++)
+			target.put(targetPosition + i, source.get(sourcePosition + i));
+	}
+
+	/**
+	 * Copia os bytes de um registro para um vetor.
+	 * @param index ndice do registro que ser copiado.
+	 * @param bytes vetor que receber os bytes, deve ter ao menos o tamanho de um registro.
+	 */
+
+	public void getBytes(int index, byte bytes[])
+	{
+		check(index);
+
+		ByteBuffer segment = segments[index >>> shift].duplicate();
+		segment.position((index & mask) * recordSize);
+		segment.get(bytes, 0, recordSize);
+	}
+
+	/**
+	 * Copia os bytes de um vetor para um registro.
+	 * @param index ndice do registro que ser alterado.
+	 * @param bytes vetor contendo os bytes, deve ter ao menos o tamanho de um registro.
+	 */
+
+	public void putBytes(int index, byte bytes[])
+	{
+		check(index);
+		checkBytes(bytes);
+
+		ByteBuffer segment = segments[index >>> shift].duplicate();
+		segment.position((index & mask) * recordSize);
+		segment.put(bytes, 0, recordSize);
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @return aquisio do byte na posio do registro.
+	 */
+
+	public byte getByte(int index, int offset)
+	{
+		return segment(index, offset, Byte.BYTES).get(position(index, offset));
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @param value valor que ser escrito na posio do registro.
+	 */
+
+	public void putByte(int index, int offset, byte value)
+	{
+		segment(index, offset, Byte.BYTES).put(position(index, offset), value);
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @return aquisio do short na posio do registro.
+	 */
+
+	public short getShort(int index, int offset)
+	{
+		return segment(index, offset, Short.BYTES).getShort(position(index, offset));
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @param value valor que ser escrito na posio do registro.
+	 */
+
+	public void putShort(int index, int offset, short value)
+	{
+		segment(index, offset, Short.BYTES).putShort(position(index, offset), value);
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @return aquisio do int na posio do registro.
+	 */
+
+	public int getInt(int index, int offset)
+	{
+		return segment(index, offset, Integer.BYTES).getInt(position(index, offset));
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @param value valor que ser escrito na posio do registro.
+	 */
+
+	public void putInt(int index, int offset, int value)
+	{
+		segment(index, offset, Integer.BYTES).putInt(position(index, offset), value);
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @return aquisio do long na posio do registro.
+	 */
+
+	public long getLong(int index, int offset)
+	{
+		return segment(index, offset, Long.BYTES).getLong(position(index, offset));
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @param value valor que ser escrito na posio do registro.
+	 */
+
+	public void putLong(int index, int offset, long value)
+	{
+		segment(index, offset, Long.BYTES).putLong(position(index, offset), value);
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @return aquisio do float na posio do registro.
+	 */
+
+	public float getFloat(int index, int offset)
+	{
+		return segment(index, offset, Float.BYTES).getFloat(position(index, offset));
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @param value valor que ser escrito na posio do registro.
+	 */
+
+	public void putFloat(int index, int offset, float value)
+	{
+		segment(index, offset, Float.BYTES).putFloat(position(index, offset), value);
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @return aquisio do double na posio do registro.
+	 */
+
+	public double getDouble(int index, int offset)
+	{
+		return segment(index, offset, Double.BYTES).getDouble(position(index, offset));
+	}
+
+	/**
+	 * @param index ndice do registro.
+	 * @param offset posio do campo dentro do registro.
+	 * @param value valor que ser escrito na posio do registro.
+	 */
+
+	public void putDouble(int index, int offset, double value)
+	{
+		segment(index, offset, Double.BYTES).putDouble(position(index, offset), value);
+	}
+
+	/**
+	 * Cria um novo registro (flyweight) para acessar os registros dessa lista.
+	 * O mesmo registro pode ser reposicionado para qualquer ndice atravs de moveTo.
+	 * @return aquisio de um novo registro posicionado no primeiro ndice.
+	 */
+
+	public Record record()
+	{
+		return new Record();
+	}
+
+	/**
+	 * Libera os segmentos que no possuem nenhum registro, no caso de um arquivo mapeado
+	 * o tamanho do arquivo no  alterado.
+	 */
+
+	public void trimToSize()
+	{
+		int used = (size + mask) >>> shift;
+
+		Arrays.fill(segments, used, allocated, null);
+		allocated = used;
+	}
+
+	/**
+	 * Procedimento interno que ir alocar um novo segmento ao final da lista,
+	 * o vetor de segmentos  dobrado caso esteja cheio.
+	 */
+
+	private void allocate()
+	{
+		if (allocated == segments.length)
+			segments = Arrays.copyOf(segments, allocated << 1);
+
+		int bytes = (mask + 1) * recordSize;
+
+		if (channel == null)
+			segments[allocated] = ByteBuffer.allocateDirect(bytes).order(ByteOrder.BIG_ENDIAN);
+
+		else
+		{
+			try {
+				segments[allocated] = channel.map(FileChannel.MapMode.READ_WRITE, (long) allocated * bytes, bytes);
+			} catch (IOException e) {
+				throw new UtilRuntimeException(e);
+			}
+		}
+
+		allocated++;
+	}
+
+	/**
+	 * Procedimento interno que ir obter o segmento de um campo verificando os limites.
+	 * @param index ndice do registro que ser acessado.
+	 * @param offset posio do campo dentro do registro.
+	 * @param bytes quantidade de bytes do campo.
+	 * @return aquisio do segmento onde o registro est armazenado.
+	 */
+
+	private ByteBuffer segment(int index, int offset, int bytes)
+	{
+		check(index);
+
+		if (offset < 0 || offset + bytes > recordSize)
+			throw new UtilRuntimeException("campo fora do registro (offset: %d, bytes: %d, recordSize: %d)", offset, bytes, recordSize);
+
+		return segments[index >>> shift];
+	}
+
+	/**
+	 * @param index ndice do registro que ser acessado.
+	 * @param offset posio do campo dentro do registro.
+	 * @return aquisio da posio do campo dentro do segmento.
+	 */
+
+	private int position(int index, int offset)
+	{
+		return (index & mask) * recordSize + offset;
+	}
+
+	/**
+	 * Verifica se um ndice corresponde a um registro da lista.
+	 * @param index ndice do registro que ser verificado.
+	 */
+
+	private void check(int index)
+	{
+		if (index < 0 || index >= size)
+			throw new UtilRuntimeException("ndice invlido (index: %d, size: %d)", index, size);
+	}
+
+	/**
+	 * Verifica se um vetor possui bytes suficientes para preencher um registro.
+	 * @param bytes vetor contendo os bytes que sero copiados para o registro.
+	 */
+
+	private void checkBytes(byte bytes[])
+	{
+		if (bytes.length < recordSize)
+			throw new UtilRuntimeException("registro incompleto (bytes: %d, recordSize: %d)", bytes.length, recordSize);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size);
+		description.append("length", length());
+		description.append("recordSize", recordSize);
+		description.append("segments", allocated);
+		description.append("mapped", channel != null);
+
+		return description.toString();
+	}
+
+	/**
+	 * <p><h1>Registro</h1></p>
+	 *
+	 * <p>Visualizao reutilizvel de um dos registros da lista, os campos so lidos e escritos
+	 * diretamente no segmento do registro. Para acessar outro registro basta reposicion-lo,
+	 * permitindo percorrer a lista inteira com um nico objeto. Pode ser estendido para
+	 * nomear os campos de um determinado tipo de registro.</p>
+	 */
+
+	public class Record
+	{
+		/**
+		 * ndice do registro em que est posicionado.
+		 */
+		private int index;
+
+		/**
+		 * Segmento onde o registro est armazenado.
+		 */
+		private ByteBuffer segment;
+
+		/**
+		 * Posio do inicio do registro dentro do segmento.
+		 */
+		private int base;
+
+		/**
+		 * Cria um novo registro ainda no posicionado.
+		 */
+
+		protected Record()
+		{
+			index = -1;
+		}
+
+		/**
+		 * Posiciona o registro em um determinado ndice da lista.
+		 * @param index ndice do registro que ser acessado.
+		 * @return aquisio do prprio registro.
+		 */
+
+		public Record moveTo(int index)
+		{
+			check(index);
+
+			this.index = index;
+			this.segment = segments[index >>> shift];
+			this.base = (index & mask) * recordSize;
+
+			return this;
+		}
+
+		/**
+		 * @return aquisio do ndice do registro em que est posicionado.
+		 */
+
+		public int index()
+		{
+			return index;
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @return aquisio do byte do campo.
+		 */
+
+		public byte getByte(int offset)
+		{
+			return segment.get(field(offset, Byte.BYTES));
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @param value valor que ser escrito no campo.
+		 */
+
+		public void putByte(int offset, byte value)
+		{
+			segment.put(field(offset, Byte.BYTES), value);
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @return aquisio do short do campo.
+		 */
+
+		public short getShort(int offset)
+		{
+			return segment.getShort(field(offset, Short.BYTES));
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @param value valor que ser escrito no campo.
+		 */
+
+		public void putShort(int offset, short value)
+		{
+			segment.putShort(field(offset, Short.BYTES), value);
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @return aquisio do int do campo.
+		 */
+
+		public int getInt(int offset)
+		{
+			return segment.getInt(field(offset, Integer.BYTES));
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @param value valor que ser escrito no campo.
+		 */
+
+		public void putInt(int offset, int value)
+		{
+			segment.putInt(field(offset, Integer.BYTES), value);
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @return aquisio do long do campo.
+		 */
+
+		public long getLong(int offset)
+		{
+			return segment.getLong(field(offset, Long.BYTES));
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @param value valor que ser escrito no campo.
+		 */
+
+		public void putLong(int offset, long value)
+		{
+			segment.putLong(field(offset, Long.BYTES), value);
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @return aquisio do float do campo.
+		 */
+
+		public float getFloat(int offset)
+		{
+			return segment.getFloat(field(offset, Float.BYTES));
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @param value valor que ser escrito no campo.
+		 */
+
+		public void putFloat(int offset, float value)
+		{
+			segment.putFloat(field(offset, Float.BYTES), value);
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @return aquisio do double do campo.
+		 */
+
+		public double getDouble(int offset)
+		{
+			return segment.getDouble(field(offset, Double.BYTES));
+		}
+
+		/**
+		 * @param offset posio do campo dentro do registro.
+		 * @param value valor que ser escrito no campo.
+		 */
+
+		public void putDouble(int offset, double value)
+		{
+			segment.putDouble(field(offset, Double.BYTES), value);
+		}
+
+		/**
+		 * Procedimento interno que ir obter a posio de um campo verificando os limites.
+		 * @param offset posio do campo dentro do registro.
+		 * @param bytes quantidade de bytes do campo.
+		 * @return aquisio da posio do campo dentro do segmento.
+		 */
+
+		private int field(int offset, int bytes)
+		{
+			if (segment == null)
+				throw new UtilRuntimeException("registro no posicionado");
+
+			if (offset < 0 || offset + bytes > recordSize)
+				throw new UtilRuntimeException("campo fora do registro (offset: %d, bytes: %d, recordSize: %d)", offset, bytes, recordSize);
+
+			return base + offset;
+		}
+
+		@Override
+		public String toString()
+		{
+			ObjectDescription description = new ObjectDescription(getClass());
+
+			description.append("index", index);
+			description.append("recordSize", recordSize);
+
+			return description.toString();
+		}
+	}
+}
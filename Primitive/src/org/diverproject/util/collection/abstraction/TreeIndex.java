@@ -0,0 +1,595 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.Index;
+
+/**
+ * <p><h1>ndice por rvore</h1></p>
+ *
+ * <p>ndice organizado em uma rvore B+, onde cada n possui um pequeno vetor ordenado de ndices.
+ * Os elementos ficam apenas nas folhas e as folhas so ligadas umas s outras em ordem, j os
+ * ramos guardam apenas os ndices que separam os seus filhos para direcionar a procura.</p>
+ *
+ * <p>Procurar, adicionar e remover percorrem apenas a altura da rvore, fazendo uma busca binria
+ * em cada n, e ao adicionar apenas o vetor de uma folha  deslocado. Assim diferente do ndice
+ * dinmico as inseres fora de ordem no deslocam todos os elementos seguintes, sendo o mais
+ * adequado para ndices com centenas de milhares de elementos e muitas inseres.</p>
+ *
+ * <p>Quando um n fica cheio ele  dividido em dois, e quando fica com poucos ndices aps uma
+ * remoo  juntado a um n vizinho caso caibam em um nico n. Neste ndice cada ndice pode
+ * ser usado por apenas um elemento, adicionar um ndice j existente no ter efeito.</p>
+ *
+ * @see Index
+ * @see DynamicIndex
+ *
+ * @author Andrew
+ *
+ * @param <E> qual ser o tipo de dado que ser armazenado na coleo.
+ */
+
+public class TreeIndex<E> extends AbstractCollection<E> implements Index<E>
+{
+	/**
+	 * Quantidade padro de ndices em cada n da rvore.
+	 */
+	public static final int DEFAULT_ORDER = 64;
+
+	/**
+	 * Quantidade mxima de ndices em cada n da rvore.
+	 */
+	private final int order;
+
+	/**
+	 * N raiz da rvore, pode ser uma folha ou um ramo.
+	 */
+	private Node root;
+
+	/**
+	 * Primeira folha da rvore, usada para percorrer os elementos em ordem.
+	 */
+	private Leaf first;
+
+	/**
+	 * ndice que separa o n dividido do novo n criado na ltima insero.
+	 */
+	private int splitKey;
+
+	/**
+	 * Constri um novo ndice por rvore com a quantidade padro de ndices por n.
+	 */
+
+	public TreeIndex()
+	{
+		this(DEFAULT_ORDER);
+	}
+
+	/**
+	 * Constri um novo ndice por rvore.
+	 * @param order quantidade mxima de ndices em cada n da rvore, no mnimo 4.
+	 */
+
+	public TreeIndex(int order)
+	{
+		this.order = Math.max(order, 4);
+
+		clear();
+	}
+
+	@Override
+	public void clear()
+	{
+		size = 0;
+		root = first = new Leaf(order);
+	}
+
+	@Override
+	public int length()
+	{
+		return Integer.MAX_VALUE;
+	}
+
+	@Override
+	public boolean contains(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (Leaf leaf = first; leaf != null; leaf = leaf.next)
+			for (int i = 0; i < leaf.size; i++)
+				if (element.equals(leaf.values[i]))
+					return true;
+
+		return false;
+	}
+
+	@Override
+	public boolean add(int index, E element)
+	{
+		if (element == null)
+			return false;
+
+		int previous = size;
+		Node split = insert(root, index, element);
+
+		if (split != null)
+		{
+			Branch branch = new Branch(order);
+
+			branch.keys[0] = splitKey;
+			branch.children[0] = root;
+			branch.children[1] = split;
+			branch.size = 1;
+
+			root = branch;
+		}
+
+		return size > previous;
+	}
+
+	@Override
+	public boolean remove(E element)
+	{
+		if (element == null)
+			return false;
+
+		for (Leaf leaf = first; leaf != null; leaf = leaf.next)
+			for (int i = 0; i < leaf.size; i++)
+				if (element.equals(leaf.values[i]))
+					return remove(leaf.keys[i]);
+
+		return false;
+	}
+
+	@Override
+	public boolean remove(int index)
+	{
+		if (!delete(root, index))
+			return false;
+
+		if (root instanceof Branch && root.size == 0)
+			root = ((Branch) root).children[0];
+
+		return true;
+	}
+
+	@Override
+	public boolean update(int index, E element)
+	{
+		Leaf leaf = leafOf(index);
+		int position = lowerBound(leaf.keys, leaf.size, index);
+
+		if (element == null || position == leaf.size || leaf.keys[position] != index)
+			return false;
+
+		leaf.values[position] = element;
+
+		return true;
+	}
+
+	@Override
+	public boolean change(int first, int second)
+	{
+		Leaf firstLeaf = leafOf(first);
+		Leaf secondLeaf = leafOf(second);
+
+		int firstPosition = lowerBound(firstLeaf.keys, firstLeaf.size, first);
+		int secondPosition = lowerBound(secondLeaf.keys, secondLeaf.size, second);
+
+		if (firstPosition == firstLeaf.size || firstLeaf.keys[firstPosition] != first)
+			return false;
+
+		if (secondPosition == secondLeaf.size || secondLeaf.keys[secondPosition] != second)
+			return false;
+
+		Object aux = secondLeaf.values[secondPosition];
+		secondLeaf.values[secondPosition] = firstLeaf.values[firstPosition];
+		firstLeaf.values[firstPosition] = aux;
+
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public E get(int index)
+	{
+		Leaf leaf = leafOf(index);
+		int position = lowerBound(leaf.keys, leaf.size, index);
+
+		if (position == leaf.size || leaf.keys[position] != index)
+			return null;
+
+		return (E) leaf.values[position];
+	}
+
+	/**
+	 * Desce a rvore a partir da raiz at a folha onde um ndice deve estar.
+	 * @param index ndice do qual deseja encontrar a folha.
+	 * @return aquisio da folha onde o ndice est ou deveria estar.
+	 */
+
+	private Leaf leafOf(int index)
+	{
+		Node node = root;
+
+		while (node instanceof Branch)
+		{
+			Branch branch = (Branch) node;
+			node = branch.children[upperBound(branch.keys, branch.size, index)];
+		}
+
+		return (Leaf) node;
+	}
+
+	/**
+	 * Insere um elemento em um n da rvore descendo at a folha adequada.
+	 * Os ns cheios so divididos no caminho de volta at a raiz.
+	 * @param node n da rvore do qual o elemento deve ser inserido.
+	 * @param index ndice do elemento que ser inserido.
+	 * @param element referncia do elemento que ser inserido.
+	 * @return aquisio do novo n caso o n tenha sido dividido ou null se no for,
+	 * o ndice que separa os dois ns  guardado em splitKey.
+	 */
+
+	private Node insert(Node node, int index, Object element)
+	{
+		if (node instanceof Leaf)
+		{
+			Leaf leaf = (Leaf) node;
+			int position = lowerBound(leaf.keys, leaf.size, index);
+
+			if (position < leaf.size && leaf.keys[position] == index)
+				return null;
+
+			System.arraycopy(leaf.keys, position, leaf.keys, position + 1, leaf.size - position);
+			System.arraycopy(leaf.values, position, leaf.values, position + 1, leaf.size - position);
+
+			leaf.keys[position] = index;
+			leaf.values[position] = element;
+			leaf.size++;
+			size++;
+
+			if (leaf.size <= order)
+				return null;
+
+			Leaf right = new Leaf(order);
+			int half = leaf.size >> 1;
+
+			right.size = leaf.size - half;
+			System.arraycopy(leaf.keys, half, right.keys, 0, right.size);
+			System.arraycopy(leaf.values, half, right.values, 0, right.size);
+
+			for (int i = half; i < leaf.size; i++)
+				leaf.values[i] = null;
+
+			leaf.size = half;
+			right.next = leaf.next;
+			leaf.next = right;
+
+			splitKey = right.keys[0];
+
+			return right;
+		}
+
+		Branch branch = (Branch) node;
+		int child = upperBound(branch.keys, branch.size, index);
+		Node split = insert(branch.children[child], index, element);
+
+		if (split == null)
+			return null;
+
+		System.arraycopy(branch.keys, child, branch.keys, child + 1, branch.size - child);
+		System.arraycopy(branch.children, child + 1, branch.children, child + 2, branch.size - child);
+
+		branch.keys[child] = splitKey;
+		branch.children[child + 1] = split;
+		branch.size++;
+
+		if (branch.size <= order)
+			return null;
+
+		Branch right = new Branch(order);
+		int middle = branch.size >> 1;
+
+		right.size = branch.size - middle - 1;
+		System.arraycopy(branch.keys, middle + 1, right.keys, 0, right.size);
+		System.arraycopy(branch.children, middle + 1, right.children, 0, right.size + 1);
+
+		for (int i = middle + 1; i <= branch.size; i++)
+			branch.children[i] = null;
+
+		splitKey = branch.keys[middle];
+		branch.size = middle;
+
+		return right;
+	}
+
+	/**
+	 * Remove um ndice de um n da rvore descendo at a folha onde ele est.
+	 * Os ns que ficarem com poucos ndices so juntados a um vizinho se possvel.
+	 * @param node n da rvore do qual o ndice deve ser removido.
+	 * @param index ndice do elemento que ser removido.
+	 * @return true se o ndice foi encontrado e removido ou false caso contrrio.
+	 */
+
+	private boolean delete(Node node, int index)
+	{
+		if (node instanceof Leaf)
+		{
+			Leaf leaf = (Leaf) node;
+			int position = lowerBound(leaf.keys, leaf.size, index);
+
+			if (position == leaf.size || leaf.keys[position] != index)
+				return false;
+
+			System.arraycopy(leaf.keys, position + 1, leaf.keys, position, leaf.size - position - 1);
+			System.arraycopy(leaf.values, position + 1, leaf.values, position, leaf.size - position - 1);
+
+			leaf.values[--leaf.size] = null;
+			size--;
+
+			return true;
+		}
+
+		Branch branch = (Branch) node;
+		int child = upperBound(branch.keys, branch.size, index);
+
+		if (!delete(branch.children[child], index))
+			return false;
+
+		if (branch.children[child].size < order >> 2)
+			merge(branch, child < branch.size ? child : child - 1);
+
+		return true;
+	}
+
+	/**
+	 * Junta dois filhos vizinhos de um ramo caso os ndices de ambos caibam em um nico n.
+	 * @param branch ramo do qual os filhos sero juntados.
+	 * @param child posio do filho da esquerda, o da direita ser removido do ramo.
+	 */
+
+	private void merge(Branch branch, int child)
+	{
+		if (child < 0)
+			return;
+
+		Node left = branch.children[child];
+		Node right = branch.children[child + 1];
+
+		if (left instanceof Leaf)
+		{
+			Leaf leftLeaf = (Leaf) left;
+			Leaf rightLeaf = (Leaf) right;
+
+			if (leftLeaf.size + rightLeaf.size > order)
+				return;
+
+			System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.size, rightLeaf.size);
+			System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.size, rightLeaf.size);
+
+			leftLeaf.size += rightLeaf.size;
+			leftLeaf.next = rightLeaf.next;
+		}
+
+		else
+		{
+			Branch leftBranch = (Branch) left;
+			Branch rightBranch = (Branch) right;
+
+			if (leftBranch.size + rightBranch.size + 1 > order)
+				return;
+
+			leftBranch.keys[leftBranch.size] = branch.keys[child];
+			System.arraycopy(rightBranch.keys, 0, leftBranch.keys, leftBranch.size + 1, rightBranch.size);
+			System.arraycopy(rightBranch.children, 0, leftBranch.children, leftBranch.size + 1, rightBranch.size + 1);
+
+			leftBranch.size += rightBranch.size + 1;
+		}
+
+		System.arraycopy(branch.keys, child + 1, branch.keys, child, branch.size - child - 1);
+		System.arraycopy(branch.children, child + 2, branch.children, child + 1, branch.size - child - 1);
+
+		branch.children[branch.size--] = null;
+	}
+
+	/**
+	 * Busca binria pela primeira posio cujo ndice no  menor que o especificado.
+	 * @param keys vetor ordenado de ndices onde ser feita a busca.
+	 * @param size quantidade de ndices no vetor.
+	 * @param index ndice do qual deseja encontrar a posio.
+	 * @return aquisio da posio encontrada ou size se todos forem menores.
+	 */
+
+	private static int lowerBound(int keys[], int size, int index)
+	{
+		int low = 0;
+		int high = size;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if (keys[middle] < index)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		return low;
+	}
+
+	/**
+	 * Busca binria pela primeira posio cujo ndice  maior que o especificado.
+	 * @param keys vetor ordenado de ndices onde ser feita a busca.
+	 * @param size quantidade de ndices no vetor.
+	 * @param index ndice do qual deseja encontrar a posio.
+	 * @return aquisio da posio encontrada ou size se nenhum for maior.
+	 */
+
+	private static int upperBound(int keys[], int size, int index)
+	{
+		int low = 0;
+		int high = size;
+
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+
+			if (keys[middle] <= index)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		return low;
+	}
+
+	@Override
+	public Iterator<E> iterator()
+	{
+		return new Iterator<E>()
+		{
+			private Leaf leaf = first;
+			private int position;
+
+			@Override
+			public boolean hasNext()
+			{
+				while (leaf != null && position == leaf.size)
+				{
+					leaf = leaf.next;
+					position = 0;
+				}
+
+				return leaf != null;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public E next()
+			{
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return (E) leaf.values[position++];
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("hasNext", hasNext());
+				description.append("position", position);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size());
+		description.append("order", order);
+
+		for (Leaf leaf = first; leaf != null; leaf = leaf.next)
+			for (int i = 0; i < leaf.size; i++)
+				description.append(String.format("%d: %s", leaf.keys[i], leaf.values[i]));
+
+		return description.toString();
+	}
+
+	/**
+	 * <p><h1>N</h1></p>
+	 *
+	 * <p>Parte comum entre as folhas e os ramos, um vetor ordenado de ndices.
+	 * Possui espao para um ndice a mais que a ordem para que seja dividido aps inserir.</p>
+	 */
+
+	private static abstract class Node
+	{
+		/**
+		 * Vetor ordenado de ndices do n.
+		 */
+		protected final int keys[];
+
+		/**
+		 * Quantidade de ndices no n.
+		 */
+		protected int size;
+
+		/**
+		 * Cria um novo n vazio.
+		 * @param order quantidade mxima de ndices no n.
+		 */
+
+		protected Node(int order)
+		{
+			keys = new int[order + 1];
+		}
+	}
+
+	/**
+	 * <p><h1>Folha</h1></p>
+	 *
+	 * <p>N que guarda os elementos de cada ndice e a ligao com a prxima folha.</p>
+	 */
+
+	private static class Leaf extends Node
+	{
+		/**
+		 * Vetor contendo os elementos na mesma posio dos seus ndices.
+		 */
+		private final Object values[];
+
+		/**
+		 * Prxima folha da rvore em ordem de ndices.
+		 */
+		private Leaf next;
+
+		/**
+		 * Cria uma nova folha vazia.
+		 * @param order quantidade mxima de ndices na folha.
+		 */
+
+		private Leaf(int order)
+		{
+			super(order);
+
+			values = new Object[order + 1];
+		}
+	}
+
+	/**
+	 * <p><h1>Ramo</h1></p>
+	 *
+	 * <p>N que guarda os filhos e os ndices que os separam, onde o ndice na posio i
+	 *  o menor ndice encontrado no filho da posio i + 1.</p>
+	 */
+
+	private static class Branch extends Node
+	{
+		/**
+		 * Vetor contendo os ns filhos desse ramo.
+		 */
+		private final Node children[];
+
+		/**
+		 * Cria um novo ramo vazio.
+		 * @param order quantidade mxima de ndices no ramo.
+		 */
+
+		private Branch(int order)
+		{
+			super(order);
+
+			children = new Node[order + 2];
+		}
+	}
+}
@@ -0,0 +1,265 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.Arrays;
+
+import org.diverproject.util.ObjectDescription;
+
+/**
+ * <p><h1>ndice de Valores</h1></p>
+ *
+ * <p>ndice reverso opcional dos mapeadores, relaciona cada elemento armazenado s suas chaves.
+ * Permite que a verificao e remoo pela referncia do elemento no precisem percorrer
+ * todo o mapeador, bastando localizar o elemento pelo seu cdigo hash nesse ndice.</p>
+ *
+ * <p>Internamente  uma tabela espalhada com endereamento aberto de pares (elemento, chave).
+ * Como um mesmo elemento pode estar em mais de uma chave, os pares podem ter elementos iguais,
+ * que ficam prximos na tabela por possurem o mesmo cdigo hash de sondagem.</p>
+ *
+ * @author Andrew
+ *
+ * @param <K> qual ser o tipo de chave que ser ligado aos elementos.
+ */
+
+class ValueIndex<K>
+{
+	/**
+	 * Capacidade inicial da tabela espalhada do ndice.
+	 */
+	private static final int DEFAULT_SIZE = 16;
+
+	/**
+	 * Vetor contendo os elementos de cada par da tabela.
+	 */
+	private Object values[];
+
+	/**
+	 * Vetor contendo as chaves de cada par da tabela.
+	 */
+	private Object keys[];
+
+	/**
+	 * Vetor contendo o cdigo hash espalhado dos elementos de cada par.
+	 */
+	private int hashes[];
+
+	/**
+	 * Mscara usada para obter um ponto da tabela a partir de um cdigo hash.
+	 */
+	private int mask;
+
+	/**
+	 * Quantidade de pares armazenados no ndice.
+	 */
+	private int size;
+
+	/**
+	 * Constri um novo ndice de valores vazio com a capacidade padro.
+	 */
+
+	public ValueIndex()
+	{
+		allocate(DEFAULT_SIZE);
+	}
+
+	/**
+	 * Remove todos os pares do ndice mantendo a capacidade atual da tabela.
+	 */
+
+	public void clear()
+	{
+		size = 0;
+
+		Arrays.fill(values, null);
+		Arrays.fill(keys, null);
+		Arrays.fill(hashes, 0);
+	}
+
+	/**
+	 * Adiciona um novo par ao ndice, no verifica se o par j existe.
+	 * @param value referncia do elemento que foi armazenado no mapeador.
+	 * @param key chave do mapeador na qual o elemento foi armazenado.
+	 */
+
+	public void add(Object value, K key)
+	{
+		if (++size > (values.length >> 1) + (values.length >> 2))
+			rehash(values.length << 1);
+
+		int hash = hash(value);
+		int slot = hash & mask;
+
+		while (values[slot] != null)
+			slot = (slot + 1) & mask;
+
+		values[slot] = value;
+		keys[slot] = key;
+		hashes[slot] = hash;
+	}
+
+	/**
+	 * Remove um par especfico do ndice, usado quando uma chave  removida do mapeador.
+	 * @param value referncia do elemento que estava armazenado na chave.
+	 * @param key chave do mapeador que deixou de possuir o elemento.
+	 * @return true se o par existir e for removido ou false caso contrrio.
+	 */
+
+	public boolean remove(Object value, K key)
+	{
+		int hash = hash(value);
+		int slot = hash & mask;
+
+		while (values[slot] != null)
+		{
+			if (hashes[slot] == hash && keys[slot].equals(key) && values[slot].equals(value))
+			{
+				delete(slot);
+				return true;
+			}
+
+			slot = (slot + 1) & mask;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Procura por uma das chaves do mapeador que possui um determinado elemento.
+	 * @param value referncia do elemento do qual deseja obter a chave.
+	 * @return aquisio da chave do elemento ou null se no houver.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public K keyOf(Object value)
+	{
+		int hash = hash(value);
+		int slot = hash & mask;
+
+		while (values[slot] != null)
+		{
+			if (hashes[slot] == hash && values[slot].equals(value))
+				return (K) keys[slot];
+
+			slot = (slot + 1) & mask;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Verifica se um determinado elemento est armazenado em alguma chave do mapeador.
+	 * @param value referncia do elemento do qual ser verificado.
+	 * @return true se houver ao menos um par com o elemento ou false caso contrrio.
+	 */
+
+	public boolean contains(Object value)
+	{
+		return keyOf(value) != null;
+	}
+
+	/**
+	 * Quantidade de pares armazenados indica quantas chaves do mapeador foram indexadas.
+	 * @return aquisio do nmero de pares no ndice.
+	 */
+
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Procedimento interno que ir liberar um ponto da tabela e deslocar os pares seguintes.
+	 * @param slot ponto da tabela que est ocupado e dever ser liberado.
+	 */
+
+	private void delete(int slot)
+	{
+		int next = slot;
+
+		while (true)
+		{
+			next = (next + 1) & mask;
+
+			if (values[next] == null)
+				break;
+
+			int home = hashes[next] & mask;
+
+			if (slot <= next ? (slot < home && home <= next) : (slot < home || home <= next))
+				continue;
+
+			values[slot] = values[next];
+			keys[slot] = keys[next];
+			hashes[slot] = hashes[next];
+			slot = next;
+		}
+
+		values[slot] = null;
+		keys[slot] = null;
+		hashes[slot] = 0;
+		size--;
+	}
+
+	/**
+	 * Procedimento interno que ir criar uma nova tabela e reposicionar todos os pares.
+	 * @param capacity nova capacidade da tabela, deve ser uma potncia de dois.
+	 */
+
+	private void rehash(int capacity)
+	{
+		Object oldValues[] = values;
+		Object oldKeys[] = keys;
+		int oldHashes[] = hashes;
+
+		allocate(capacity);
+
+		for (int i = 0; i < oldValues.length; i++)
+			if (oldValues[i] != null)
+			{
+				int slot = oldHashes[i] & mask;
+
+				while (values[slot] != null)
+					slot = (slot + 1) & mask;
+
+				values[slot] = oldValues[i];
+				keys[slot] = oldKeys[i];
+				hashes[slot] = oldHashes[i];
+			}
+	}
+
+	/**
+	 * Procedimento interno que ir criar os vetores da tabela.
+	 * @param capacity capacidade da tabela, deve ser uma potncia de dois.
+	 */
+
+	private void allocate(int capacity)
+	{
+		values = new Object[capacity];
+		keys = new Object[capacity];
+		hashes = new int[capacity];
+		mask = capacity - 1;
+	}
+
+	/**
+	 * Calcula o cdigo hash espalhado de um elemento para localiz-lo na tabela.
+	 * @param value referncia do elemento do qual ser calculado o cdigo.
+	 * @return aquisio do cdigo hash espalhado do elemento.
+	 */
+
+	private static int hash(Object value)
+	{
+		int hash = value.hashCode() * 0x9E3779B9;
+
+		return hash ^ (hash >>> 16);
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("size", size);
+		description.append("length", values.length);
+
+		return description.toString();
+	}
+}
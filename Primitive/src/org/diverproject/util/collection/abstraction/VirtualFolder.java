@@ -16,10 +16,15 @@ import org.diverproject.util.collection.Map;
  * Como uma pasta fsica em disco, ela pode possuir tanto arquivos como pastas dentro dela, e o seu nome.
  * Utilizar isso, apesar de uma adio e remoo mais demorada que outras estruturas a busca  altamente boa.</p>
  *
- * <p>Utiliza uma tabela espalhada para armazenamento dos arquivos de modo que permita uma fcil identificao.
- * Quando maior o nmero de arquivos com o mesmo inicio no nome maior o tempo de procura usando essa estrutura.
- * No caso das pastas  utilizado uma lista dinmica, quanto a performance depende do nmero de pastas.
- * Caso o nome da pasta seja de ordem alfabtica menor ser mais rpido caso contrrio mais demorado.</p>
+ * <p>Utiliza uma tabela espalhada para armazenamento dos arquivos e outra para as pastas de cada nvel,
+ * assim encontrar um arquivo ou pasta pelo nome no depende de quantos existem na mesma pasta.
+ * Os nomes das pastas so internados na pasta raz principal, de modo que pastas com o mesmo nome
+ * em lugares diferentes compartilham a mesma string, e deixam de ser internados quando
+ * no houver mais nenhuma pasta com o nome.</p>
+ *
+ * <p>A pasta raz principal possui ainda um ndice de todos os arquivos pelo caminho completo.
+ * Dessa forma obter ou verificar um caminho a partir dela  feito atravs de uma nica procura
+ * na tabela espalhada, independente da profundidade do caminho e da quantidade de arquivos.</p>
  *
  * <p>Quanto algumas caractersticas exclusivas da estrutura, possui sub-mtodos com pr-fixo <code>sub</code>.
  * So chamados pelos mtodos principais quando uma ao  executada com xito, afim de permitir um <i>listener</i>.
@@ -57,9 +62,19 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 	protected Map<String, E> files;
 
 	/**
-	 * Lista de pastas armazenadas.
+	 * Mapeamento das pastas armazenadas pelo nome.
+	 */
+	private Map<String, VirtualFolder<E>> folders;
+
+	/**
+	 * ndice de todos os arquivos pelo caminho completo, apenas na pasta raz principal.
+	 */
+	private StringMap<E> paths;
+
+	/**
+	 * Nomes de pastas internados e quantas pastas usam cada um, apenas na pasta raz principal.
 	 */
-	protected List<VirtualFolder<E>> folders;
+	private StringMap<Name> names;
 
 	/**
 	 * Constri uma nova pasta virtual, para essa pasta virtual ser considerada como raz.
@@ -82,6 +97,12 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 	{
 		this.name = name;
 		this.parent = parent;
+
+		if (parent == null)
+		{
+			paths = new StringMap<E>();
+			names = new StringMap<Name>();
+		}
 	}
 
 	@Override
@@ -90,15 +111,21 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 		if (folders != null)
 		{
 			for (VirtualFolder<E> folder : folders)
+			{
 				folder.clear();
+				root().release(folder.name);
+			}
 
 			folders = null;
 		}
 
 		if (files != null)
 		{
-			for (E file : files)
-				subClear(file);
+			for (Map.MapItem<String, E> item : files.iterateItems())
+			{
+				unindex(item.getKey());
+				subClear(item.getValue());
+			}
 
 			files = null;
 		}
@@ -107,6 +134,9 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 	@Override
 	public int size()
 	{
+		if (paths != null)
+			return paths.size();
+
 		int size = 0;
 
 		if (files != null)
@@ -132,9 +162,8 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 		{
 			FolderElement element = (FolderElement) file;
 			String filepath = element.getFilePath();
-			Path path = new Path(filepath);
 
-			return contains(path);
+			return contains(filepath);
 		}
 
 		return false;
@@ -143,6 +172,12 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 	@Override
 	public boolean contains(String path)
 	{
+		if (path == null)
+			return false;
+
+		if (paths != null)
+			return paths.containsKey(FileUtil.adaptPath(path));
+
 		return contains(new Path(path));
 	}
 
@@ -165,12 +200,9 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 			return files.containsKey(path.name());
 		}
 
-		if (folders != null)
-			for (VirtualFolder<E> folder : folders)
-				if (folder.name.equals(path.name()))
-					return folder.contains(path);
+		VirtualFolder<E> folder = folders == null ? null : folders.get(path.name());
 
-		return false;
+		return folder != null && folder.contains(path);
 	}
 
 	@Override
@@ -188,6 +220,14 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 		return false;
 	}
 
+	/**
+	 * Chamado internamente para adicionar um arquivo a partir de um caminho especificado.
+	 * As pastas que ainda no existirem no caminho sero criadas.
+	 * @param file referncia do arquivo do qual deve ser adicionado.
+	 * @param path caminho do arquivo do qual deve ser adicionado a essa pasta.
+	 * @return true se conseguir adicionar ou false se o caminho for invlido ou j existir.
+	 */
+
 	@SuppressWarnings("unchecked")
 	private boolean add(FolderElement file, Path path)
 	{
@@ -197,32 +237,26 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 		if (path.isDirectory())
 		{
 			if (folders == null)
-			{
-				VirtualFolder<E> folder = new VirtualFolder<E>(path.name(), this);
+				folders = new StringMap<VirtualFolder<E>>();
 
-				folders = new DynamicList<VirtualFolder<E>>();
-				folders.add(folder);
+			VirtualFolder<E> folder = folders.get(path.name());
 
-				return folder.add(file, path);
+			if (folder == null)
+			{
+				folder = new VirtualFolder<E>(root().intern(path.name()), this);
+				folders.add(folder.name, folder);
 			}
 
-			for (VirtualFolder<E> folder : folders)
-				if (folder.name.equals(path.name()))
-					return folder.add(file, path);
-
-			VirtualFolder<E> folder = new VirtualFolder<E>(path.name(), this);
-			folders.add(folder);
-
 			return folder.add(file, path);
 		}
 
 		if (files == null)
 			files = new StringMap<E>();
 
-		if (files.containsKey(path.name()))
+		if (!files.add(path.name(), (E) file))
 			return false;
 
-		files.add(path.name(), (E) file);
+		index(path.name(), (E) file);
 		subAdd((E) file);
 
 		return true;
@@ -251,7 +285,12 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 				return false;
 
 			E file = files.get(path.name());
+
+			if (file == null)
+				return false;
+
 			files.removeKey(path.name());
+			unindex(path.name());
 
 			subRemove(file);
 			subRemoveClear(this);
@@ -259,17 +298,20 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 			return true;
 		}
 
-		if (folders != null)
-			for (VirtualFolder<E> folder : folders)
-				if (folder.name.equals(path.name()))
-					return folder.remove(path);
+		VirtualFolder<E> folder = folders == null ? null : folders.get(path.name());
 
-		return false;
+		return folder != null && folder.remove(path);
 	}
 
 	@Override
 	public E get(String path)
 	{
+		if (path == null)
+			return null;
+
+		if (paths != null)
+			return paths.get(FileUtil.adaptPath(path));
+
 		return get(new Path(path));
 	}
 
@@ -292,17 +334,9 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 			return files.get(path.name());
 		}
 
-		if (folders != null)
-			for (VirtualFolder<E> folder : folders)
-				if (folder.name.equals(path.name()))
-				{
-					E e = folder.get(path.name());
+		VirtualFolder<E> folder = folders == null ? null : folders.get(path.name());
 
-					if (e != null)
-						return e;
-				}
-
-		return null;
+		return folder == null ? null : folder.get(path);
 	}
 
 	@Override
@@ -311,6 +345,109 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 		return name;
 	}
 
+	/**
+	 * As pastas so mapeadas internamente pelo nome, portanto a lista obtida  apenas uma cpia.
+	 * @return aquisio de uma lista com as pastas alocadas nessa pasta ou null se no houver.
+	 */
+
+	protected List<VirtualFolder<E>> getFolders()
+	{
+		if (folders == null)
+			return null;
+
+		List<VirtualFolder<E>> list = new DynamicList<VirtualFolder<E>>(folders.size());
+
+		for (VirtualFolder<E> folder : folders)
+			list.add(folder);
+
+		return list;
+	}
+
+	/**
+	 * A pasta raz principal  a pasta que contm todas as outras, a que no possui pasta raz.
+	 * @return aquisio da pasta raz principal, podendo ser ela prpria.
+	 */
+
+	protected VirtualFolder<E> root()
+	{
+		VirtualFolder<E> root = this;
+
+		while (root.parent != null)
+			root = root.parent;
+
+		return root;
+	}
+
+	/**
+	 * Constri o caminho completo de um arquivo dessa pasta a partir da pasta raz principal.
+	 * @param file nome do arquivo que est nessa pasta.
+	 * @return aquisio do caminho completo do arquivo.
+	 */
+
+	protected String pathOf(String file)
+	{
+		StringBuilder str = new StringBuilder(file);
+
+		for (VirtualFolder<E> folder = this; folder != null; folder = folder.parent)
+			str.insert(0, '/').insert(0, folder.name);
+
+		return str.toString();
+	}
+
+	/**
+	 * Interna o nome de uma nova pasta, de modo que nomes iguais compartilhem a mesma string.
+	 * Deve ser chamado apenas na pasta raz principal e para cada pasta criada.
+	 * @param name nome da pasta do qual deseja obter a string internada.
+	 * @return aquisio da string internada do nome.
+	 */
+
+	private String intern(String name)
+	{
+		Name interned = names.get(name);
+
+		if (interned == null)
+			names.add(name, interned = new Name(name));
+
+		interned.count++;
+
+		return interned.value;
+	}
+
+	/**
+	 * Libera o nome de uma pasta que foi removida, deixando de internar o nome se no houver
+	 * mais nenhuma pasta com ele. Deve ser chamado apenas na pasta raz principal.
+	 * @param name nome da pasta que foi removida.
+	 */
+
+	private void release(String name)
+	{
+		Name interned = names.get(name);
+
+		if (interned != null && --interned.count == 0)
+			names.removeKey(name);
+	}
+
+	/**
+	 * Adiciona um arquivo dessa pasta ao ndice de caminhos da pasta raz principal.
+	 * @param file nome do arquivo que est nessa pasta.
+	 * @param element referncia do arquivo que foi adicionado.
+	 */
+
+	private void index(String file, E element)
+	{
+		root().paths.add(pathOf(file), element);
+	}
+
+	/**
+	 * Remove um arquivo dessa pasta do ndice de caminhos da pasta raz principal.
+	 * @param file nome do arquivo que estava nessa pasta.
+	 */
+
+	private void unindex(String file)
+	{
+		root().paths.removeKey(pathOf(file));
+	}
+
 	/**
 	 * Quando uma pasta for limpa, ao remover cada arquivo ser chamado esse mtodo.
 	 * @param file referncia do arquivo do qual est sendo removido.
@@ -347,15 +484,12 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 		if (folder.files != null && folder.files.size() == 0)
 			folder.files = null;
 
-		if (folder.folders != null)
-		{
-			for (int i = 0; i < folder.folders.size(); i++)
-				if (folder.folders.get(i).size() == 0)
-					folder.folders.remove(i);
+		if (folder.folders != null && folder.folders.size() == 0)
+			folder.folders = null;
 
-			if (folder.folders.size() == 0)
-				folder.folders = null;
-		}
+		if (folder.parent != null && folder.files == null && folder.folders == null && folder.parent.folders != null)
+			if (folder.parent.folders.removeKey(folder.name))
+				root().release(folder.name);
 
 		subRemoveClear(folder.parent);
 	}
@@ -435,6 +569,21 @@ public class VirtualFolder<E> extends AbstractCollection<E> implements Folder<E>
 		return description.toString();
 	}
 
+	/**
+	 * Nome de pasta internado junto da quantidade de pastas que o utilizam.
+	 */
+
+	private static class Name
+	{
+		private final String value;
+		private int count;
+
+		public Name(String value)
+		{
+			this.value = value;
+		}
+	}
+
 	protected class Path
 	{
 		private int offset;
@@ -0,0 +1,163 @@
+package org.diverproject.util.pool;
+
+import org.diverproject.util.ObjectDescription;
+
+/**
+ * <p><h1>Pool de Vetores de Bytes</h1></p>
+ *
+ * <p>Guarda vetores de bytes usados como espao temporrio, separados em classes de tamanho que so
+ * potncias de dois entre MIN_LENGTH e MAX_LENGTH, cada uma com o seu prprio Pool. Ao obter um vetor
+ *  retornado um vetor da menor classe que comporte o tamanho pedido, portanto o vetor pode ser maior
+ * que o necessrio e o seu contedo no  limpo, podendo conter dados de um uso anterior.</p>
+ *
+ * <p>Vetores maiores que MAX_LENGTH so sempre criados e ao serem devolvidos apenas descartados,
+ * assim como qualquer vetor devolvido que no tenha o tamanho exato de uma das classes.</p>
+ *
+ * @see Pool
+ *
+ * @author Andrew
+ */
+
+public class ByteArrayPool
+{
+	/**
+	 * Tamanho da menor classe de vetores.
+	 */
+	public static final int MIN_LENGTH = 16;
+
+	/**
+	 * Tamanho da maior classe de vetores.
+	 */
+	public static final int MAX_LENGTH = 64 * 1024;
+
+	/**
+	 * Quantidade de bits do tamanho da menor classe.
+	 */
+	private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_LENGTH);
+
+	/**
+	 * Pool compartilhado usado pelas estruturas e streams da biblioteca.
+	 */
+	private static final ByteArrayPool SHARED = new ByteArrayPool();
+
+	/**
+	 * Pools de cada classe de tamanho, do menor para o maior.
+	 */
+	private Pool<byte[]> pools[];
+
+	/**
+	 * Cria um novo pool de vetores de bytes com as capacidades padro de Pool.
+	 */
+
+	public ByteArrayPool()
+	{
+		this(Pool.DEFAULT_CAPACITY, Pool.DEFAULT_LOCAL_CAPACITY);
+	}
+
+	/**
+	 * Cria um novo pool de vetores de bytes com capacidades especificadas para cada classe.
+	 * @param capacity quantidade de vetores que podem ficar na lista compartilhada de cada classe.
+	 * @param localCapacity quantidade de vetores que podem ficar na lista de cada thread por classe.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public ByteArrayPool(int capacity, int localCapacity)
+	{
+		pools = (Pool<byte[]>[]) new Pool<?>[Integer.numberOfTrailingZeros(MAX_LENGTH) - MIN_SHIFT + 1];
+
+		for (int i = 0; i < pools.length; i++)
+		{
+			int length = MIN_LENGTH << i;
+			pools[i] = new Pool<byte[]>(() -> new byte[length], capacity, localCapacity);
+		}
+	}
+
+	/**
+	 * Obtm um vetor de bytes com pelo menos um determinado tamanho.
+	 * @param length quantidade mnima de bytes do vetor.
+	 * @return aquisio de um vetor livre, o contedo do vetor no  limpo.
+	 */
+
+	public byte[] acquire(int length)
+	{
+		if (length > MAX_LENGTH)
+			return new byte[length];
+
+		return pools[classOf(length)].acquire();
+	}
+
+	/**
+	 * Devolve um vetor de bytes obtido atravs de acquire(int) para que possa ser reutilizado.
+	 * @param array vetor que no ser mais usado, se no for de uma classe ser descartado.
+	 */
+
+	public void release(byte array[])
+	{
+		if (array == null || array.length < MIN_LENGTH || array.length > MAX_LENGTH || Integer.bitCount(array.length) != 1)
+			return;
+
+		pools[classOf(array.length)].release(array);
+	}
+
+	/**
+	 * @return aquisio da quantidade de vetores obtidos sem precisar cri-los em todas as classes.
+	 */
+
+	public long getHits()
+	{
+		long hits = 0;
+
+		for (Pool<byte[]> pool : pools)
+			hits += pool.getHits();
+
+		return hits;
+	}
+
+	/**
+	 * @return aquisio da quantidade de vetores criados em todas as classes.
+	 */
+
+	public long getMisses()
+	{
+		long misses = 0;
+
+		for (Pool<byte[]> pool : pools)
+			misses += pool.getMisses();
+
+		return misses;
+	}
+
+	/**
+	 * Procedimento interno que ir obter a classe de tamanho que comporta um vetor.
+	 * @param length quantidade mnima de bytes do vetor.
+	 * @return aquisio do ndice da classe de tamanho.
+	 */
+
+	private static int classOf(int length)
+	{
+		if (length <= MIN_LENGTH)
+			return 0;
+
+		return Integer.SIZE - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+	}
+
+	/**
+	 * @return aquisio do pool de vetores de bytes compartilhado pela biblioteca.
+	 */
+
+	public static ByteArrayPool getShared()
+	{
+		return SHARED;
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("hits", getHits());
+		description.append("misses", getMisses());
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,343 @@
+package org.diverproject.util.pool;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.UtilRuntimeException;
+
+/**
+ * <p><h1>Pool</h1></p>
+ *
+ * <p>Guarda objetos que no esto mais em uso para que possam ser reutilizados, evitando criar
+ * objetos constantemente em procedimentos executados com muita frequncia. Cada thread possui
+ * a sua prpria lista de objetos livres, que no precisa de sincronizao, e quando esta estiver
+ * vazia ou cheia  usada uma lista compartilhada entre as threads com uma capacidade limitada.</p>
+ *
+ * <p>Ao obter um objeto, se no houver nenhum livre um novo objeto  criado pela fbrica do pool.
+ * Ao devolver um objeto que implemente Poolable ele  reiniciado, e caso as duas listas estejam
+ * cheias o objeto  apenas descartado. Um objeto devolvido no deve mais ser usado por quem o
+ * devolveu, e no deve ser devolvido mais de uma vez.</p>
+ *
+ * <p>O pool contabiliza quantos objetos foram obtidos de uma das listas (acertos), quantos precisaram
+ * ser criados (falhas), quantos foram devolvidos e quantos foram descartados por falta de espao.</p>
+ *
+ * @see Poolable
+ * @see ByteArrayPool
+ *
+ * @author Andrew
+ *
+ * @param <E> qual ser o tipo de objeto guardado no pool.
+ */
+
+public class Pool<E>
+{
+	/**
+	 * Capacidade padro da lista compartilhada entre as threads.
+	 */
+	public static final int DEFAULT_CAPACITY = 1024;
+
+	/**
+	 * Capacidade padro da lista de cada thread.
+	 */
+	public static final int DEFAULT_LOCAL_CAPACITY = 64;
+
+	/**
+	 * Fbrica usada para criar novos objetos quando no houver nenhum livre.
+	 */
+	private Supplier<? extends E> factory;
+
+	/**
+	 * Lista de objetos livres da thread que est usando o pool.
+	 */
+	private ThreadLocal<FreeList> local;
+
+	/**
+	 * Lista de objetos livres compartilhada entre as threads.
+	 */
+	private FreeList shared;
+
+	/**
+	 * Quantidade de objetos obtidos das listas de objetos livres.
+	 */
+	private LongAdder hits;
+
+	/**
+	 * Quantidade de objetos que precisaram ser criados pela fbrica.
+	 */
+	private LongAdder misses;
+
+	/**
+	 * Quantidade de objetos devolvidos ao pool.
+	 */
+	private LongAdder releases;
+
+	/**
+	 * Quantidade de objetos devolvidos que foram descartados por falta de espao.
+	 */
+	private LongAdder discards;
+
+	/**
+	 * Cria um novo pool com as capacidades padro.
+	 * @param factory fbrica usada para criar novos objetos quando no houver nenhum livre.
+	 */
+
+	public Pool(Supplier<? extends E> factory)
+	{
+		this(factory, DEFAULT_CAPACITY, DEFAULT_LOCAL_CAPACITY);
+	}
+
+	/**
+	 * Cria um novo pool com capacidades especificadas.
+	 * @param factory fbrica usada para criar novos objetos quando no houver nenhum livre.
+	 * @param capacity quantidade de objetos que podem ficar na lista compartilhada.
+	 * @param localCapacity quantidade de objetos que podem ficar na lista de cada thread.
+	 */
+
+	public Pool(Supplier<? extends E> factory, int capacity, int localCapacity)
+	{
+		if (factory == null)
+			throw new UtilRuntimeException("fbrica do pool no definida");
+
+		if (capacity < 0 || localCapacity < 0)
+			throw new UtilRuntimeException("capacidade invlida (capacity: %d, localCapacity: %d)", capacity, localCapacity);
+
+		this.factory = factory;
+		this.local = ThreadLocal.withInitial(() -> new FreeList(localCapacity));
+		this.shared = new FreeList(capacity);
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.releases = new LongAdder();
+		this.discards = new LongAdder();
+	}
+
+	/**
+	 * Obtm um objeto livre do pool, procurando primeiro na lista da thread e depois
+	 * na lista compartilhada, caso no haja nenhum um novo objeto ser criado.
+	 * @return aquisio de um objeto que no est sendo usado.
+	 */
+
+	@SuppressWarnings("unchecked")
+	public E acquire()
+	{
+		Object element = local.get().pop();
+
+		if (element == null)
+			synchronized (shared)
+			{
+				element = shared.pop();
+			}
+
+		if (element == null)
+		{
+			misses.increment();
+
+			return factory.get();
+		}
+
+		hits.increment();
+
+		return (E) element;
+	}
+
+	/**
+	 * Devolve um objeto ao pool para que possa ser reutilizado, se o objeto implementar
+	 * Poolable ele ser reiniciado. Caso no haja espao o objeto ser descartado.
+	 * @param element referncia do objeto que no ser mais usado, null  ignorado.
+	 */
+
+	public void release(E element)
+	{
+		if (element == null)
+			return;
+
+		if (element instanceof Poolable)
+			((Poolable) element).reset();
+
+		releases.increment();
+
+		if (local.get().push(element))
+			return;
+
+		boolean stored;
+
+		synchronized (shared)
+		{
+			stored = shared.push(element);
+		}
+
+		if (!stored)
+			discards.increment();
+	}
+
+	/**
+	 * Descarta os objetos livres da lista compartilhada e da lista da thread atual.
+	 * As listas das outras threads so mantidas at serem usadas por elas.
+	 */
+
+	public void clear()
+	{
+		local.get().clear();
+
+		synchronized (shared)
+		{
+			shared.clear();
+		}
+	}
+
+	/**
+	 * @return aquisio da quantidade de objetos livres na lista compartilhada.
+	 */
+
+	public int sharedSize()
+	{
+		synchronized (shared)
+		{
+			return shared.size;
+		}
+	}
+
+	/**
+	 * @return aquisio da quantidade de objetos obtidos das listas de objetos livres.
+	 */
+
+	public long getHits()
+	{
+		return hits.sum();
+	}
+
+	/**
+	 * @return aquisio da quantidade de objetos que precisaram ser criados pela fbrica.
+	 */
+
+	public long getMisses()
+	{
+		return misses.sum();
+	}
+
+	/**
+	 * @return aquisio da quantidade de objetos devolvidos ao pool.
+	 */
+
+	public long getReleases()
+	{
+		return releases.sum();
+	}
+
+	/**
+	 * @return aquisio da quantidade de objetos devolvidos que foram descartados.
+	 */
+
+	public long getDiscards()
+	{
+		return discards.sum();
+	}
+
+	/**
+	 * @return aquisio da proporo de objetos obtidos sem precisar cri-los, de 0 a 1.
+	 */
+
+	public double getHitRate()
+	{
+		long hits = getHits();
+		long total = hits + getMisses();
+
+		return total == 0 ? 0 : (double) hits / total;
+	}
+
+	/**
+	 * Reinicia as contagens de acertos, falhas, devolues e descartes.
+	 */
+
+	public void resetMetrics()
+	{
+		hits.reset();
+		misses.reset();
+		releases.reset();
+		discards.reset();
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("hits", getHits());
+		description.append("misses", getMisses());
+		description.append("releases", getReleases());
+		description.append("discards", getDiscards());
+		description.append("shared", sharedSize());
+
+		return description.toString();
+	}
+
+	/**
+	 * <h1>Lista de Objetos Livres</h1>
+	 *
+	 * <p>Pilha de capacidade fixa com os objetos livres, o ltimo objeto devolvido  o primeiro
+	 * a ser obtido novamente, aproveitando que este provavelmente ainda est no cache.</p>
+	 */
+
+	private static class FreeList
+	{
+		/**
+		 * Vetor com os objetos livres.
+		 */
+		private Object elements[];
+
+		/**
+		 * Quantidade de objetos livres.
+		 */
+		private int size;
+
+		/**
+		 * Cria uma nova lista de objetos livres vazia.
+		 * @param capacity quantidade mxima de objetos livres.
+		 */
+
+		private FreeList(int capacity)
+		{
+			elements = new Object[capacity];
+		}
+
+		/**
+		 * @return aquisio do ltimo objeto guardado ou null se estiver vazia.
+		 */
+
+		private Object pop()
+		{
+			if (size == 0)
+				return null;
+
+			Object element = elements[--size];
+			elements[size] = null;
+
+			return element;
+		}
+
+		/**
+		 * @param element objeto que ser guardado.
+		 * @return true se foi guardado ou false se a lista estiver cheia.
+		 */
+
+		private boolean push(Object element)
+		{
+			if (size == elements.length)
+				return false;
+
+			elements[size++] = element;
+
+			return true;
+		}
+
+		/**
+		 * Descarta todos os objetos guardados.
+		 */
+
+		private void clear()
+		{
+			while (size > 0)
+				elements[--size] = null;
+		}
+	}
+}
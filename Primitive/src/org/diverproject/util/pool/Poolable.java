@@ -0,0 +1,22 @@
+package org.diverproject.util.pool;
+
+/**
+ * <p><h1>Reutilizvel</h1></p>
+ *
+ * <p>Objetos que podem ser guardados em um Pool para serem reutilizados em vez de criados novamente.
+ * Ao ser devolvido ao pool o objeto  reiniciado, devendo descartar todas as referncias que possui
+ * para que nenhum objeto deixe de ser coletado por estar preso a um objeto guardado no pool.</p>
+ *
+ * @see Pool
+ *
+ * @author Andrew
+ */
+
+public interface Poolable
+{
+	/**
+	 * Chamado quando o objeto  devolvido ao pool, deve retornar o objeto ao seu estado inicial.
+	 */
+
+	void reset();
+}
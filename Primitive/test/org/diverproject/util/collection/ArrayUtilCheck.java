@@ -0,0 +1,44 @@
+package org.diverproject.util.collection;
+
+/**
+ * <p><h1>Verificao do Utilitrio para Vetores</h1></p>
+ *
+ * <p>Verifica que o redimensionamento de vetores com tipo especificado cria o novo vetor
+ * com o tipo passado e no com o tipo do vetor original, mantendo os elementos copiados.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see ArrayUtil
+ *
+ * @author Andrew
+ */
+
+public class ArrayUtilCheck
+{
+	public static void main(String[] args)
+	{
+		Integer integers[] = new Integer[] { 1, 2, 3 };
+		Number increased[] = ArrayUtil.increseIn(Number.class, (Number[]) integers, 2);
+
+		check(increased.getClass() == Number[].class, "increseIn criou %s", increased.getClass().getSimpleName());
+		check(increased.length == 5 && increased[2].equals(3) && increased[3] == null, "increseIn copiou errado");
+
+		increased[4] = 4.5;
+
+		Number decreased[] = ArrayUtil.decreaseIn(Number.class, (Number[]) integers, 1);
+
+		check(decreased.getClass() == Number[].class, "decreaseIn criou %s", decreased.getClass().getSimpleName());
+		check(decreased.length == 2 && decreased[1].equals(2), "decreaseIn copiou errado");
+
+		check(ArrayUtil.increseIn(Number.class, null, 1) == null, "increseIn com vetor nulo");
+		check(ArrayUtil.decreaseIn(Number.class, integers, 4) == null, "decreaseIn alm do tamanho");
+
+		System.out.println("ArrayUtilCheck: ok");
+	}
+
+	private static void check(boolean condition, String format, Object... args)
+	{
+		if (!condition)
+			throw new IllegalStateException(String.format(format, args));
+	}
+}
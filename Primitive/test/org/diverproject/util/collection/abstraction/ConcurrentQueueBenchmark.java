@@ -0,0 +1,183 @@
+package org.diverproject.util.collection.abstraction;
+
+import org.diverproject.util.collection.Queue;
+
+/**
+ * <p><h1>Comparao das Filas Concorrentes</h1></p>
+ *
+ * <p>Mede o tempo para passar uma quantidade de nmeros por uma fila com 1024 posies, com metade
+ * das threads enfileirando e a outra metade desenfileirando, na fila concorrente com operaes
+ * individuais, na fila concorrente com lotes de 16 elementos e em uma fila esttica onde cada operao
+ *  sincronizada na prpria fila.</p>
+ *
+ * <p>Recebe opcionalmente as quantidades de threads como argumentos, o padro  2, 4, 8, 16 e 32.
+ * Cada medio  repetida e o menor tempo  considerado, no sendo um substituto para o JMH.
+ * Com menos processadores que threads o resultado mede o custo das operaes e no a escalabilidade.</p>
+ *
+ * @see ConcurrentQueue
+ * @see StaticQueue
+ *
+ * @author Andrew
+ */
+
+public class ConcurrentQueueBenchmark
+{
+	/**
+	 * Quantidade de nmeros que passam pela fila em cada medio.
+	 */
+	private static final int COUNT = 2000000;
+
+	/**
+	 * Capacidade das filas medidas.
+	 */
+	private static final int LENGTH = 1024;
+
+	/**
+	 * Quantidade de elementos por operao em lote.
+	 */
+	private static final int BATCH = 16;
+
+	/**
+	 * Quantidade de vezes que cada medio  repetida.
+	 */
+	private static final int ROUNDS = 3;
+
+	public static void main(String[] args) throws InterruptedException
+	{
+		int threads[] = args.length == 0 ? new int[] { 2, 4, 8, 16, 32 } : new int[args.length];
+
+		for (int i = 0; i < args.length; i++)
+			threads[i] = Integer.parseInt(args[i]);
+
+		System.out.printf("%d nmeros, %d processadores%n", COUNT, Runtime.getRuntime().availableProcessors());
+
+		for (int count : threads)
+		{
+			System.out.printf("%d threads%n", count);
+			System.out.printf("  ConcurrentQueue:          %6d ms%n", measure(count, 1, false, () -> new ConcurrentQueue<Integer>(Integer.class, LENGTH)));
+			System.out.printf("  ConcurrentQueue (lote):   %6d ms%n", measure(count, BATCH, false, () -> new ConcurrentQueue<Integer>(Integer.class, LENGTH)));
+			System.out.printf("  StaticQueue sincronizada: %6d ms%n", measure(count, 1, true, () -> new StaticQueue<Integer>(Integer.class, LENGTH)));
+		}
+	}
+
+	/**
+	 * <p><h1>Fbrica de Fila</h1></p>
+	 *
+	 * <p>Cria uma nova fila vazia para cada repetio da medio.</p>
+	 *
+	 * @author Andrew
+	 */
+
+	private interface Factory
+	{
+		Queue<Integer> create();
+	}
+
+	private static long measure(int threads, int batch, boolean locked, Factory factory) throws InterruptedException
+	{
+		long best = Long.MAX_VALUE;
+		int producers = Math.max(threads / 2, 1);
+
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			Queue<Integer> queue = factory.create();
+			Thread workers[] = new Thread[producers * 2];
+			int share = COUNT / producers;
+
+			for (int i = 0; i < producers; i++)
+			{
+				workers[i] = new Thread(() -> produce(queue, batch, locked, share));
+				workers[producers + i] = new Thread(() -> consume(queue, batch, locked, share));
+			}
+
+			long start = System.nanoTime();
+
+			for (Thread worker : workers)
+				worker.start();
+
+			for (Thread worker : workers)
+				worker.join();
+
+			best = Math.min(best, System.nanoTime() - start);
+		}
+
+		return best / 1000000;
+	}
+
+	private static void produce(Queue<Integer> queue, int batch, boolean locked, int count)
+	{
+		Integer value = 1;
+
+		if (batch > 1)
+		{
+			ConcurrentQueue<Integer> concurrent = (ConcurrentQueue<Integer>) queue;
+			Integer values[] = new Integer[batch];
+
+			for (int i = 0; i < batch; i++)
+				values[i] = value;
+
+			for (int sent = 0; sent < count; )
+			{
+				int offered = concurrent.offer(values, 0, Math.min(batch, count - sent));
+
+				if (offered == 0)
+					Thread.yield();
+
+				sent += offered;
+			}
+
+			return;
+		}
+
+		for (int sent = 0; sent < count; sent++)
+			while (!offer(queue, locked, value))
+				Thread.yield();
+	}
+
+	private static void consume(Queue<Integer> queue, int batch, boolean locked, int count)
+	{
+		if (batch > 1)
+		{
+			ConcurrentQueue<Integer> concurrent = (ConcurrentQueue<Integer>) queue;
+			Integer values[] = new Integer[batch];
+
+			for (int received = 0; received < count; )
+			{
+				int polled = concurrent.poll(values, 0, Math.min(batch, count - received));
+
+				if (polled == 0)
+					Thread.yield();
+
+				received += polled;
+			}
+
+			return;
+		}
+
+		for (int received = 0; received < count; received++)
+			while (poll(queue, locked) == null)
+				Thread.yield();
+	}
+
+	private static boolean offer(Queue<Integer> queue, boolean locked, Integer value)
+	{
+		if (!locked)
+			return queue.offer(value);
+
+		synchronized (queue)
+		{
+			return queue.offer(value);
+		}
+	}
+
+	private static Integer poll(Queue<Integer> queue, boolean locked)
+	{
+		if (!locked)
+			return queue.poll();
+
+		synchronized (queue)
+		{
+			return queue.poll();
+		}
+	}
+}
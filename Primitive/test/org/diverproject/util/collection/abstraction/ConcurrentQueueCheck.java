@@ -0,0 +1,119 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <p><h1>Verificao da Fila Concorrente</h1></p>
+ *
+ * <p>Diversas threads enfileiram nmeros enquanto outras desenfileiram, individualmente ou em lotes,
+ * verificando ao final que cada nmero foi desenfileirado exatamente uma vez e que a fila ficou vazia.
+ * As threads cedem o processador quando a fila est cheia ou vazia para que a verificao tambm
+ * termine em mquinas com um nico processador.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see ConcurrentQueue
+ *
+ * @author Andrew
+ */
+
+public class ConcurrentQueueCheck
+{
+	public static void main(String[] args) throws InterruptedException
+	{
+		check(2, 2, 1, 100000);
+		check(64, 4, 1, 400000);
+		check(64, 4, 16, 400000);
+		check(1024, 8, 16, 1000000);
+
+		System.out.println("ConcurrentQueueCheck: ok");
+	}
+
+	/**
+	 * Verifica que todos os nmeros so entregues exatamente uma vez.
+	 * @param length capacidade da fila.
+	 * @param threads quantidade de threads, metade enfileira e metade desenfileira.
+	 * @param batch quantidade de elementos por operao, 1 usa offer e poll individuais.
+	 * @param count quantidade de nmeros que sero enfileirados.
+	 */
+
+	private static void check(int length, int threads, int batch, int count) throws InterruptedException
+	{
+		ConcurrentQueue<Integer> queue = new ConcurrentQueue<Integer>(Integer.class, length);
+		AtomicIntegerArray received = new AtomicIntegerArray(count);
+		int producers = threads / 2;
+		Thread workers[] = new Thread[threads];
+
+		for (int i = 0; i < producers; i++)
+		{
+			int first = i;
+
+			workers[i] = new Thread(() -> produce(queue, first, producers, batch, count));
+			workers[producers + i] = new Thread(() -> consume(queue, received, batch, count / producers + (first < count % producers ? 1 : 0)));
+		}
+
+		for (Thread worker : workers)
+			worker.start();
+
+		for (Thread worker : workers)
+			worker.join();
+
+		for (int i = 0; i < count; i++)
+			if (received.get(i) != 1)
+				throw new IllegalStateException(String.format("%d recebido %d vezes (length: %d, threads: %d, batch: %d)", i, received.get(i), length, threads, batch));
+
+		if (queue.poll() != null)
+			throw new IllegalStateException("elementos a mais na fila");
+	}
+
+	private static void produce(ConcurrentQueue<Integer> queue, int first, int step, int batch, int count)
+	{
+		Integer values[] = new Integer[batch];
+		int pending = 0;
+
+		for (int value = first; value < count || pending > 0; )
+		{
+			while (pending < batch && value < count)
+			{
+				values[pending++] = value;
+				value += step;
+			}
+
+			int offered = batch == 1 ? (queue.offer(values[0]) ? 1 : 0) : queue.offer(values, 0, pending);
+
+			if (offered == 0)
+				Thread.yield();
+
+			System.arraycopy(values, offered, values, 0, pending - offered);
+			pending -= offered;
+		}
+	}
+
+	private static void consume(ConcurrentQueue<Integer> queue, AtomicIntegerArray received, int batch, int expected)
+	{
+		Integer values[] = new Integer[batch];
+
+		for (int total = 0; total < expected; )
+		{
+			int polled;
+
+			if (batch == 1)
+			{
+				Integer value = queue.poll();
+				values[0] = value;
+				polled = value == null ? 0 : 1;
+			}
+
+			else
+				polled = queue.poll(values, 0, Math.min(batch, expected - total));
+
+			if (polled == 0)
+				Thread.yield();
+
+			for (int i = 0; i < polled; i++)
+				received.incrementAndGet(values[i]);
+
+			total += polled;
+		}
+	}
+}
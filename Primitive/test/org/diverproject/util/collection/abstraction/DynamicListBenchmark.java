@@ -0,0 +1,74 @@
+package org.diverproject.util.collection.abstraction;
+
+import org.diverproject.util.collection.Growth;
+
+/**
+ * <p><h1>Comparao das Polticas de Crescimento</h1></p>
+ *
+ * <p>Mede o tempo mdio por adio ao preencher uma lista dinmica com cada poltica de crescimento.
+ * Com o crescimento geomtrico o tempo por adio deve se manter prximo ao aumentar a quantidade
+ * de elementos (custo amortizado constante), enquanto com o passo fixo ele cresce junto da quantidade.
+ * O passo fixo s  medido at a quantidade indicada, pois o seu custo total  quadrtico.</p>
+ *
+ * <p>Recebe opcionalmente as quantidades de elementos como argumentos, o padro  10000, 100000 e 1000000.
+ * Cada medio  repetida e o menor tempo  considerado, no sendo um substituto para o JMH.</p>
+ *
+ * @see Growth
+ * @see DynamicList
+ *
+ * @author Andrew
+ */
+
+public class DynamicListBenchmark
+{
+	/**
+	 * Quantidade mxima de elementos medida com o passo fixo.
+	 */
+	private static final int FIXED_LIMIT = 100000;
+
+	/**
+	 * Quantidade de vezes que cada medio  repetida.
+	 */
+	private static final int ROUNDS = 5;
+
+	public static void main(String[] args)
+	{
+		int counts[] = args.length == 0 ? new int[] { 10000, 100000, 1000000 } : new int[args.length];
+
+		for (int i = 0; i < args.length; i++)
+			counts[i] = Integer.parseInt(args[i]);
+
+		for (int count : counts)
+		{
+			System.out.printf("%d elementos (ns por adio)%n", count);
+			System.out.printf("  GeometricGrowth.HALF:   %8.1f%n", measure(GeometricGrowth.HALF, count));
+			System.out.printf("  GeometricGrowth.DOUBLE: %8.1f%n", measure(GeometricGrowth.DOUBLE, count));
+
+			if (count <= FIXED_LIMIT)
+				System.out.printf("  FixedGrowth(10):        %8.1f%n", measure(new FixedGrowth(10), count));
+		}
+	}
+
+	private static double measure(Growth growth, int count)
+	{
+		Object element = new Object();
+		long best = Long.MAX_VALUE;
+
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			long start = System.nanoTime();
+			DynamicList<Object> list = new DynamicList<Object>();
+			list.setGrowth(growth);
+
+			for (int i = 0; i < count; i++)
+				list.add(element);
+
+			best = Math.min(best, System.nanoTime() - start);
+
+			if (list.size() != count)
+				throw new IllegalStateException("elementos perdidos");
+		}
+
+		return (double) best / count;
+	}
+}
@@ -0,0 +1,103 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.diverproject.util.collection.Growth;
+
+/**
+ * <p><h1>Verificao das Colees Dinmicas</h1></p>
+ *
+ * <p>Executa adies e remoes aleatrias em uma lista dinmica e em um ArrayList do java ao mesmo tempo,
+ * com as polticas de crescimento geomtrica e de passo fixo, comparando os elementos aps cada operao.
+ * Tambm verifica que a pilha dinmica desempilha os elementos na ordem inversa sem ler alm do topo.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see DynamicList
+ * @see DynamicStack
+ *
+ * @author Andrew
+ */
+
+public class DynamicListCheck
+{
+	public static void main(String[] args)
+	{
+		checkList(GeometricGrowth.HALF);
+		checkList(GeometricGrowth.DOUBLE);
+		checkList(new FixedGrowth(10));
+		checkStack();
+
+		System.out.println("DynamicListCheck: ok");
+	}
+
+	private static void checkList(Growth growth)
+	{
+		Random random = new Random(5);
+		DynamicList<String> list = new DynamicList<String>();
+		ArrayList<String> expected = new ArrayList<String>();
+
+		list.setGrowth(growth);
+
+		for (int i = 0; i < 100000; i++)
+		{
+			int operation = random.nextInt(10);
+
+			if (operation < 6 || expected.isEmpty())
+			{
+				String element = Integer.toString(i);
+				check(list.add(element), "add(%s) %s", element, growth);
+				expected.add(element);
+			}
+
+			else if (operation < 8)
+			{
+				int index = random.nextInt(expected.size());
+				check(list.remove(index), "remove(%d) %s", index, growth);
+				expected.remove(index);
+			}
+
+			else
+			{
+				String element = expected.get(random.nextInt(expected.size()));
+				check(list.remove(element), "remove(%s) %s", element, growth);
+				expected.remove(element);
+			}
+
+			check(list.size() == expected.size(), "size %d != %d %s", list.size(), expected.size(), growth);
+			check(!list.remove(expected.size()), "remove alm do tamanho %s", growth);
+		}
+
+		for (int i = 0; i < expected.size(); i++)
+			check(expected.get(i).equals(list.get(i)), "get(%d) %s", i, growth);
+
+		list.trimToSize();
+		check(list.length() == expected.size(), "trimToSize %d != %d", list.length(), expected.size());
+
+		list.ensureCapacity(expected.size() + 1000);
+		check(list.length() >= expected.size() + 1000, "ensureCapacity %d", list.length());
+	}
+
+	private static void checkStack()
+	{
+		DynamicStack<Integer> stack = new DynamicStack<Integer>();
+
+		for (int i = 0; i < 10000; i++)
+			stack.push(i);
+
+		for (int i = 9999; i >= 0; i--)
+		{
+			Integer value = stack.pop();
+			check(value != null && value == i, "pop recebeu %s no lugar de %d", value, i);
+		}
+
+		check(stack.pop() == null, "pop em pilha vazia");
+	}
+
+	private static void check(boolean condition, String format, Object... args)
+	{
+		if (!condition)
+			throw new IllegalStateException(String.format(format, args));
+	}
+}
@@ -0,0 +1,111 @@
+package org.diverproject.util.collection.abstraction;
+
+import org.diverproject.util.collection.Map;
+
+/**
+ * <p><h1>Comparao dos Mapas de Inteiros</h1></p>
+ *
+ * <p>Mede o tempo para adicionar e depois obter chaves sequenciais no mapa espalhado de inteiros,
+ * tanto pelos procedimentos primitivos quanto pelo mapeador com chaves Integer, e nos trs nveis
+ * de mapas de nmeros. Os nveis de mapas de nmeros s so medidos at a quantidade indicada,
+ * pois as suas listas crescem junto da quantidade de chaves.</p>
+ *
+ * <p>Recebe opcionalmente as quantidades de chaves como argumentos, o padro  10000, 100000 e 1000000.
+ * Cada medio  repetida e o menor tempo  considerado, no sendo um substituto para o JMH.</p>
+ *
+ * @see IntHashMap
+ *
+ * @author Andrew
+ */
+
+public class IntHashMapBenchmark
+{
+	/**
+	 * Quantidade mxima de chaves medida nos mapas de nmeros.
+	 */
+	private static final int NUMBER_MAP_LIMIT = 10000;
+
+	/**
+	 * Quantidade de vezes que cada medio  repetida.
+	 */
+	private static final int ROUNDS = 5;
+
+	public static void main(String[] args)
+	{
+		int counts[] = args.length == 0 ? new int[] { 10000, 100000, 1000000 } : new int[args.length];
+
+		for (int i = 0; i < args.length; i++)
+			counts[i] = Integer.parseInt(args[i]);
+
+		for (int count : counts)
+		{
+			System.out.printf("%d chaves%n", count);
+			System.out.printf("  IntHashMap (int):     %6d ms%n", measurePrimitive(count));
+			System.out.printf("  IntHashMap (Integer): %6d ms%n", measure(IntHashMap::new, count));
+
+			if (count > NUMBER_MAP_LIMIT)
+				continue;
+
+			System.out.printf("  IntegerLittleMap:     %6d ms%n", measure(IntegerLittleMap::new, count));
+			System.out.printf("  IntegerAvarageMap:    %6d ms%n", measure(IntegerAvarageMap::new, count));
+			System.out.printf("  IntegerLargeMap:      %6d ms%n", measure(IntegerLargeMap::new, count));
+		}
+	}
+
+	/**
+	 * <p><h1>Fbrica de Mapa</h1></p>
+	 *
+	 * <p>Cria um novo mapeador vazio para cada repetio da medio.</p>
+	 *
+	 * @author Andrew
+	 */
+
+	private interface Factory
+	{
+		Map<Integer, Object> create();
+	}
+
+	private static long measurePrimitive(int count)
+	{
+		long best = Long.MAX_VALUE;
+
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			long start = System.nanoTime();
+			IntHashMap<Object> map = new IntHashMap<Object>();
+
+			for (int i = 0; i < count; i++)
+				map.addInt(i, map);
+
+			for (int i = 0; i < count; i++)
+				if (map.get(i) == null)
+					throw new IllegalStateException("chave perdida: " + i);
+
+			best = Math.min(best, System.nanoTime() - start);
+		}
+
+		return best / 1000000;
+	}
+
+	private static long measure(Factory factory, int count)
+	{
+		long best = Long.MAX_VALUE;
+
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			long start = System.nanoTime();
+			Map<Integer, Object> map = factory.create();
+
+			for (int i = 0; i < count; i++)
+				map.add(i, map);
+
+			for (int i = 0; i < count; i++)
+				if (map.get(i) == null)
+					throw new IllegalStateException("chave perdida: " + i);
+
+			best = Math.min(best, System.nanoTime() - start);
+		}
+
+		return best / 1000000;
+	}
+}
@@ -0,0 +1,121 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.HashMap;
+import java.util.Random;
+
+/**
+ * <p><h1>Verificao do Mapa Espalhado de Inteiros</h1></p>
+ *
+ * <p>Executa operaes aleatrias no mapa espalhado de inteiros e em um HashMap do java ao mesmo tempo,
+ * comparando o resultado de cada operao. Tambm verifica que as chamadas com elementos Integer
+ * so resolvidas sem ambiguidade entre os procedimentos primitivos e os do mapeador.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see IntHashMap
+ *
+ * @author Andrew
+ */
+
+public class IntHashMapCheck
+{
+	public static void main(String[] args)
+	{
+		checkOverloads();
+		checkRandom(new Random(3), 200000, 512);
+		checkRandom(new Random(7), 200000, Integer.MAX_VALUE);
+
+		System.out.println("IntHashMapCheck: ok");
+	}
+
+	/**
+	 * Verifica que com elementos Integer cada chamada possui um nico significado.
+	 */
+
+	private static void checkOverloads()
+	{
+		IntHashMap<Integer> map = new IntHashMap<Integer>();
+
+		check(map.add(1, 2), "add(Integer, Integer) deveria adicionar");
+		check(map.addInt(3, 4), "addInt deveria adicionar");
+		check(map.update(1, 5), "update(Integer, Integer) deveria atualizar");
+		check(map.updateInt(3, 6), "updateInt deveria atualizar");
+		check(map.get(1) == 5 && map.get(3) == 6, "valores atualizados incorretos");
+
+		check(map.remove(6), "remove(E) deveria remover pelo elemento 6");
+		check(!map.containsKey(3), "remove(E) deveria ter removido a chave 3");
+		check(map.removeInt(1) == 5, "removeInt deveria remover pela chave 1");
+		check(map.size() == 0, "mapa deveria estar vazio");
+	}
+
+	/**
+	 * Compara operaes aleatrias com um HashMap do java.
+	 * @param random gerador de nmeros aleatrios usado nas operaes.
+	 * @param operations quantidade de operaes que sero feitas.
+	 * @param range limite das chaves geradas, valores pequenos foram colises e remoes.
+	 */
+
+	private static void checkRandom(Random random, int operations, int range)
+	{
+		IntHashMap<String> map = new IntHashMap<String>();
+		HashMap<Integer, String> expected = new HashMap<Integer, String>();
+
+		for (int i = 0; i < operations; i++)
+		{
+			int key = random.nextInt(range) - range / 2;
+			String value = Integer.toString(random.nextInt());
+
+			switch (random.nextInt(6))
+			{
+				case 0:
+					check(map.addInt(key, value) == !expected.containsKey(key), "addInt(%d)", key);
+					expected.putIfAbsent(key, value);
+					break;
+
+				case 1:
+					check(eq(map.put(key, value), expected.put(key, value)), "put(%d)", key);
+					break;
+
+				case 2:
+					check(eq(map.removeInt(key), expected.remove(key)), "removeInt(%d)", key);
+					break;
+
+				case 3:
+					check(map.updateInt(key, value) == expected.containsKey(key), "updateInt(%d)", key);
+					expected.replace(key, value);
+					break;
+
+				case 4:
+					check(map.removeKey(key) == (expected.remove(key) != null), "removeKey(%d)", key);
+					break;
+
+				default:
+					check(eq(map.get(key), expected.get(key)), "get(%d)", key);
+					check(map.containsKey(key) == expected.containsKey(key), "containsKey(%d)", key);
+			}
+
+			check(map.size() == expected.size(), "size %d != %d", map.size(), expected.size());
+		}
+
+		int count[] = new int[1];
+
+		map.forEachInt((key, value) ->
+		{
+			check(value.equals(expected.get(key)), "forEachInt(%d)", key);
+			count[0]++;
+		});
+
+		check(count[0] == expected.size(), "forEachInt percorreu %d de %d", count[0], expected.size());
+	}
+
+	private static boolean eq(Object a, Object b)
+	{
+		return a == null ? b == null : a.equals(b);
+	}
+
+	private static void check(boolean condition, String format, Object... args)
+	{
+		if (!condition)
+			throw new IllegalStateException(String.format(format, args));
+	}
+}
@@ -0,0 +1,67 @@
+package org.diverproject.util.collection.abstraction;
+
+/**
+ * <p><h1>Verificao da Fila de Passagem</h1></p>
+ *
+ * <p>Uma thread enfileira nmeros sequenciais enquanto a thread principal os desenfileira alternando
+ * entre poll e drainTo, verificando que todos chegam uma nica vez e na mesma ordem. As duas threads
+ * cedem o processador quando a fila est cheia ou vazia para que a verificao tambm termine
+ * em mquinas com um nico processador.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see PipeQueue
+ *
+ * @author Andrew
+ */
+
+public class PipeQueueCheck
+{
+	public static void main(String[] args) throws InterruptedException
+	{
+		check(2, 100000);
+		check(64, 2000000);
+
+		System.out.println("PipeQueueCheck: ok");
+	}
+
+	private static void check(int length, int count) throws InterruptedException
+	{
+		PipeQueue<Integer> queue = new PipeQueue<Integer>(length);
+
+		Thread producer = new Thread(() ->
+		{
+			for (int i = 0; i < count; i++)
+				while (!queue.offer(i))
+					Thread.yield();
+		});
+		producer.start();
+
+		int expected[] = new int[1];
+
+		while (expected[0] < count)
+		{
+			if ((expected[0] & 1) == 0)
+			{
+				Integer value = queue.poll();
+
+				if (value == null)
+					Thread.yield();
+				else if (value != expected[0]++)
+					throw new IllegalStateException(String.format("poll recebeu %d no lugar de %d", value, expected[0] - 1));
+			}
+
+			else if (queue.drainTo(value ->
+			{
+				if (value != expected[0]++)
+					throw new IllegalStateException(String.format("drainTo recebeu %d no lugar de %d", value, expected[0] - 1));
+			}, 7) == 0)
+				Thread.yield();
+		}
+
+		producer.join();
+
+		if (queue.poll() != null)
+			throw new IllegalStateException("elementos a mais na fila");
+	}
+}
@@ -0,0 +1,49 @@
+package org.diverproject.util.collection.abstraction;
+
+/**
+ * <p><h1>Verificao das Listas de Ponto Flutuante</h1></p>
+ *
+ * <p>Verifica que a procura de valores nas listas de double e float compara os bits dos valores,
+ * assim NaN  encontrado e pode ser removido, enquanto 0.0 e -0.0 so considerados valores
+ * diferentes, da mesma forma que Double.equals e Float.equals.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see DoubleList
+ * @see FloatList
+ *
+ * @author Andrew
+ */
+
+public class PrimitiveListCheck
+{
+	public static void main(String[] args)
+	{
+		DoubleList doubles = new DoubleList(new double[] { 1.0, Double.NaN, 0.0, 2.5 });
+
+		check(doubles.indexOf(Double.NaN) == 1, "DoubleList.indexOf(NaN)");
+		check(doubles.contains(Double.NaN), "DoubleList.contains(NaN)");
+		check(doubles.indexOf(2.5) == 3, "DoubleList.indexOf(2.5)");
+		check(doubles.indexOf(-0.0) == -1, "DoubleList.indexOf(-0.0)");
+		check(doubles.removeValue(Double.NaN) && !doubles.contains(Double.NaN), "DoubleList.removeValue(NaN)");
+		check(doubles.size() == 3, "DoubleList.size");
+
+		FloatList floats = new FloatList(new float[] { 1f, Float.NaN, -0f, 2.5f });
+
+		check(floats.indexOf(Float.NaN) == 1, "FloatList.indexOf(NaN)");
+		check(floats.contains(Float.NaN), "FloatList.contains(NaN)");
+		check(floats.indexOf(2.5f) == 3, "FloatList.indexOf(2.5)");
+		check(floats.indexOf(0f) == -1, "FloatList.indexOf(0.0)");
+		check(floats.indexOf(-0f) == 2, "FloatList.indexOf(-0.0)");
+		check(floats.removeValue(Float.NaN) && !floats.contains(Float.NaN), "FloatList.removeValue(NaN)");
+		check(floats.size() == 3, "FloatList.size");
+
+		System.out.println("PrimitiveListCheck: ok");
+	}
+
+	private static void check(boolean condition, String message)
+	{
+		if (!condition)
+			throw new IllegalStateException(message);
+	}
+}
@@ -0,0 +1,117 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.HashMap;
+
+import org.diverproject.util.collection.Map;
+
+/**
+ * <p><h1>Comparao dos Mapas de String</h1></p>
+ *
+ * <p>Mede o tempo para adicionar e depois obter chaves que compartilham o mesmo prefixo ("session:n"),
+ * no mapa de string, no mapa de string simples que separa as chaves pelo primeiro caracter
+ * (assim como o mapa de string antes da tabela espalhada) e em um HashMap do java como referncia.
+ * O mapa de string simples s  medido at a quantidade indicada, pois todas as chaves
+ * ficam na mesma casa e o seu custo total  quadrtico.</p>
+ *
+ * <p>Recebe opcionalmente as quantidades de chaves como argumentos, o padro  10000 e 1000000.
+ * Cada medio  repetida e o menor tempo  considerado, no sendo um substituto para o JMH.</p>
+ *
+ * @see StringMap
+ * @see StringSimpleMap
+ *
+ * @author Andrew
+ */
+
+public class StringMapBenchmark
+{
+	/**
+	 * Quantidade mxima de chaves medida no mapa de string simples.
+	 */
+	private static final int SIMPLE_LIMIT = 10000;
+
+	/**
+	 * Quantidade de vezes que cada medio  repetida.
+	 */
+	private static final int ROUNDS = 3;
+
+	public static void main(String[] args)
+	{
+		int counts[] = args.length == 0 ? new int[] { 10000, 1000000 } : new int[args.length];
+
+		for (int i = 0; i < args.length; i++)
+			counts[i] = Integer.parseInt(args[i]);
+
+		for (int count : counts)
+		{
+			String keys[] = new String[count];
+
+			for (int i = 0; i < count; i++)
+				keys[i] = "session:" + i;
+
+			System.out.printf("%d chaves%n", count);
+			System.out.printf("  StringMap:       %6d ms%n", measure(StringMap::new, keys));
+
+			if (count <= SIMPLE_LIMIT)
+				System.out.printf("  StringSimpleMap: %6d ms%n", measure(StringSimpleMap::new, keys));
+
+			System.out.printf("  HashMap:         %6d ms%n", measureHashMap(keys));
+		}
+	}
+
+	/**
+	 * <p><h1>Fbrica de Mapa</h1></p>
+	 *
+	 * <p>Cria um novo mapeador vazio para cada repetio da medio.</p>
+	 *
+	 * @author Andrew
+	 */
+
+	private interface Factory
+	{
+		Map<String, Object> create();
+	}
+
+	private static long measure(Factory factory, String keys[])
+	{
+		long best = Long.MAX_VALUE;
+
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			long start = System.nanoTime();
+			Map<String, Object> map = factory.create();
+
+			for (String key : keys)
+				map.add(key, key);
+
+			for (String key : keys)
+				if (map.get(key) == null)
+					throw new IllegalStateException("chave perdida: " + key);
+
+			best = Math.min(best, System.nanoTime() - start);
+		}
+
+		return best / 1000000;
+	}
+
+	private static long measureHashMap(String keys[])
+	{
+		long best = Long.MAX_VALUE;
+
+		for (int round = 0; round < ROUNDS; round++)
+		{
+			long start = System.nanoTime();
+			HashMap<String, Object> map = new HashMap<String, Object>();
+
+			for (String key : keys)
+				map.putIfAbsent(key, key);
+
+			for (String key : keys)
+				if (map.get(key) == null)
+					throw new IllegalStateException("chave perdida: " + key);
+
+			best = Math.min(best, System.nanoTime() - start);
+		}
+
+		return best / 1000000;
+	}
+}
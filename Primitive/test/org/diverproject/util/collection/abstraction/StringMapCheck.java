@@ -0,0 +1,105 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.diverproject.util.collection.Map.MapItem;
+
+/**
+ * <p><h1>Verificao do Mapa de String</h1></p>
+ *
+ * <p>Executa operaes aleatrias no mapa de string e em um HashMap do java ao mesmo tempo,
+ * comparando o resultado de cada operao, com chaves que compartilham o mesmo prefixo.
+ * Ao final verifica que a iterao dos itens percorre exatamente os itens esperados,
+ * com e sem o ndice de valores habilitado.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see StringMap
+ *
+ * @author Andrew
+ */
+
+public class StringMapCheck
+{
+	public static void main(String[] args)
+	{
+		checkRandom(false);
+		checkRandom(true);
+
+		System.out.println("StringMapCheck: ok");
+	}
+
+	private static void checkRandom(boolean valueIndex)
+	{
+		Random random = new Random(valueIndex ? 1 : 2);
+		StringMap<Integer> map = new StringMap<Integer>();
+		HashMap<String, Integer> expected = new HashMap<String, Integer>();
+
+		map.setValueIndex(valueIndex);
+
+		for (int i = 0; i < 200000; i++)
+		{
+			String key = "session:" + random.nextInt(2000);
+			Integer value = i;
+
+			switch (random.nextInt(6))
+			{
+				case 0:
+				case 1:
+					check(map.add(key, value) == !expected.containsKey(key), "add(%s)", key);
+					expected.putIfAbsent(key, value);
+					break;
+
+				case 2:
+					check(map.removeKey(key) == (expected.remove(key) != null), "removeKey(%s)", key);
+					break;
+
+				case 3:
+					String other = "session:" + random.nextInt(2000);
+					boolean renamed = expected.containsKey(key) && !expected.containsKey(other);
+					check(map.renameKey(key, other) == renamed, "renameKey(%s, %s)", key, other);
+
+					if (renamed)
+						expected.put(other, expected.remove(key));
+					break;
+
+				case 4:
+					check(map.update(key, value) == expected.containsKey(key), "update(%s)", key);
+					expected.replace(key, value);
+					break;
+
+				default:
+					check(eq(map.get(key), expected.get(key)), "get(%s)", key);
+					check(map.containsKey(key) == expected.containsKey(key), "containsKey(%s)", key);
+			}
+
+			check(map.size() == expected.size(), "size %d != %d", map.size(), expected.size());
+		}
+
+		int count = 0;
+
+		for (Iterator<MapItem<String, Integer>> iterator = map.iteratorItems(); iterator.hasNext(); count++)
+		{
+			MapItem<String, Integer> item = iterator.next();
+			check(item.getValue().equals(expected.get(item.getKey())), "iteratorItems(%s)", item.getKey());
+		}
+
+		check(count == expected.size(), "iteratorItems percorreu %d de %d", count, expected.size());
+
+		for (Integer value : expected.values())
+			check(map.contains(value), "contains(%d)", value);
+	}
+
+	private static boolean eq(Object a, Object b)
+	{
+		return a == null ? b == null : a.equals(b);
+	}
+
+	private static void check(boolean condition, String format, Object... args)
+	{
+		if (!condition)
+			throw new IllegalStateException(String.format(format, args));
+	}
+}
@@ -0,0 +1,104 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.diverproject.util.UtilRuntimeException;
+
+/**
+ * <p><h1>Verificao da Lista de Registros</h1></p>
+ *
+ * <p>Adiciona registros com segmentos pequenos para que atravessem diversos segmentos, verificando
+ * os campos e os bytes de cada registro aps remoes. Tambm verifica que vetores menores que um
+ * registro so recusados por add e putBytes sem alterar o tamanho da lista.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see StructList
+ *
+ * @author Andrew
+ */
+
+public class StructListCheck
+{
+	/**
+	 * Tamanho em bytes de cada registro: um int, um long e um double.
+	 */
+	private static final int RECORD_SIZE = 20;
+
+	public static void main(String[] args)
+	{
+		checkRecords();
+		checkLength();
+
+		System.out.println("StructListCheck: ok");
+	}
+
+	private static void checkRecords()
+	{
+		Random random = new Random(17);
+		StructList list = new StructList(RECORD_SIZE, RECORD_SIZE * 64);
+		int count = 10000;
+
+		for (int i = 0; i < count; i++)
+		{
+			int index = list.add();
+
+			list.putInt(index, 0, i);
+			list.putLong(index, 4, i * 31L);
+			list.putDouble(index, 12, i / 2.0);
+		}
+
+		for (int i = 0; i < count / 2; i++)
+			check(list.remove(random.nextInt(list.size())), "remove");
+
+		for (int i = 0; i < list.size(); i++)
+		{
+			int value = list.getInt(i, 0);
+
+			check(list.getLong(i, 4) == value * 31L, "getLong(%d)", i);
+			check(list.getDouble(i, 12) == value / 2.0, "getDouble(%d)", i);
+		}
+
+		byte bytes[] = new byte[RECORD_SIZE];
+		list.getBytes(0, bytes);
+
+		int copy = list.add(bytes);
+		byte copied[] = new byte[RECORD_SIZE];
+		list.getBytes(copy, copied);
+
+		check(Arrays.equals(bytes, copied), "add(byte[]) copiou errado");
+		check(list.getInt(copy, 0) == list.getInt(0, 0), "add(byte[]) campo diferente");
+	}
+
+	private static void checkLength()
+	{
+		StructList list = new StructList(RECORD_SIZE);
+		list.add(new byte[RECORD_SIZE]);
+
+		try {
+			list.add(new byte[RECORD_SIZE - 1]);
+			throw new IllegalStateException("add aceitou um registro incompleto");
+		} catch (UtilRuntimeException e) {
+			check(list.size() == 1, "add incompleto alterou o tamanho para %d", list.size());
+		}
+
+		boolean refused = false;
+
+		try {
+			list.putBytes(0, new byte[RECORD_SIZE - 1]);
+		} catch (UtilRuntimeException e) {
+			refused = true;
+		}
+
+		check(refused, "putBytes aceitou um registro incompleto");
+
+		check(list.add(new byte[RECORD_SIZE + 4]) == 1, "add com bytes a mais");
+	}
+
+	private static void check(boolean condition, String format, Object... args)
+	{
+		if (!condition)
+			throw new IllegalStateException(String.format(format, args));
+	}
+}
@@ -0,0 +1,116 @@
+package org.diverproject.util.collection.abstraction;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Random;
+
+import org.diverproject.util.collection.FolderElement;
+
+/**
+ * <p><h1>Verificao da Pasta Virtual</h1></p>
+ *
+ * <p>Adiciona e remove arquivos aleatrios em uma pasta virtual e em um HashMap do java ao mesmo tempo,
+ * comparando get e contains tanto a partir da pasta raz principal quanto a partir das pastas internas,
+ * e verificando que a remoo de um arquivo inexistente no  considerada um sucesso.
+ * Ao remover todos os arquivos as pastas vazias e os nomes internados devem ter sido liberados.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see VirtualFolder
+ *
+ * @author Andrew Mello
+ */
+
+public class VirtualFolderCheck
+{
+	public static void main(String[] args) throws ReflectiveOperationException
+	{
+		Random random = new Random(11);
+		VirtualFolder<File> root = new VirtualFolder<File>("root");
+		HashMap<String, File> expected = new HashMap<String, File>();
+
+		for (int i = 0; i < 50000; i++)
+		{
+			String path = String.format("root/a%d/b%d/file%d", random.nextInt(20), random.nextInt(20), random.nextInt(50));
+
+			if (random.nextInt(3) == 0)
+			{
+				check(root.remove(path) == (expected.remove(path) != null), "remove(%s)", path);
+				continue;
+			}
+
+			File file = new File(path);
+			check(root.add(file) == !expected.containsKey(path), "add(%s)", path);
+			expected.putIfAbsent(path, file);
+		}
+
+		check(root.size() == expected.size(), "size %d != %d", root.size(), expected.size());
+
+		for (java.util.Map.Entry<String, File> entry : expected.entrySet())
+		{
+			String path = entry.getKey();
+			check(root.get(path) == entry.getValue(), "get(%s)", path);
+			check(root.contains(path), "contains(%s)", path);
+		}
+
+		for (VirtualFolder<File> folder : root.getFolders())
+			for (VirtualFolder<File> inner : folder.getFolders())
+				for (int i = 0; i < 50; i++)
+				{
+					String path = String.format("%s/%s/file%d", folder.getName(), inner.getName(), i);
+					File file = expected.get("root/" + path);
+					check(folder.get(path) == file, "get(%s) a partir de %s", path, folder.getName());
+					check(!folder.remove(path + ".missing"), "remove(%s.missing)", path);
+				}
+
+		for (String path : expected.keySet())
+			check(root.remove(path), "remove(%s)", path);
+
+		check(root.size() == 0, "size %d aps remover tudo", root.size());
+		check(root.getFolders() == null, "pastas vazias no foram removidas");
+
+		Field names = VirtualFolder.class.getDeclaredField("names");
+		names.setAccessible(true);
+
+		check(((StringMap<?>) names.get(root)).size() == 0, "nomes internados no foram liberados");
+
+		root.add(new File("root/a/b/file"));
+		root.add(new File("root/b/a/file"));
+		root.clear();
+
+		check(root.size() == 0, "size %d aps limpar", root.size());
+		check(((StringMap<?>) names.get(root)).size() == 0, "nomes internados no foram liberados ao limpar");
+
+		System.out.println("VirtualFolderCheck: ok");
+	}
+
+	/**
+	 * <p><h1>Arquivo</h1></p>
+	 *
+	 * <p>Elemento de pasta usado apenas para a verificao, possui somente o seu caminho.</p>
+	 *
+	 * @author Andrew Mello
+	 */
+
+	private static class File implements FolderElement
+	{
+		private final String path;
+
+		public File(String path)
+		{
+			this.path = path;
+		}
+
+		@Override
+		public String getFilePath()
+		{
+			return path;
+		}
+	}
+
+	private static void check(boolean condition, String format, Object... args)
+	{
+		if (!condition)
+			throw new IllegalStateException(String.format(format, args));
+	}
+}
@@ -6,7 +6,7 @@ import static org.diverproject.log.LogSystem.logNotice;
 import static org.diverproject.log.LogSystem.logWarning;
 
 import org.diverproject.util.collection.Map;
-import org.diverproject.util.collection.abstraction.StringMap;
+import org.diverproject.util.collection.abstraction.ConcurrentStringMap;
 
 /***
  * <h1>Sistema de Servios</h1>
@@ -27,7 +27,8 @@ public final class ServiceSystem extends SystemBase
 
 
 	/**
-	 * Lista que ir armazenar os servios.
+	 * Lista que ir armazenar os servios, pode ser alterada por outras threads
+	 * enquanto os servios so atualizados sem que a atualizao seja bloqueada.
 	 */
 	private Map<String, Service> services;
 
@@ -38,7 +39,7 @@ public final class ServiceSystem extends SystemBase
 
 	public ServiceSystem()
 	{
-		services = new StringMap<Service>();
+		services = new ConcurrentStringMap<Service>();
 
 		logNotice("%s: sistema para servios instanciado.\n", getSystemName());
 	}
@@ -99,7 +100,11 @@ public final class ServiceSystem extends SystemBase
 
 	public void delete(Service service)
 	{
-		if (service == null);
+		if (service == null)
+		{
+			logWarning("Service System: servio nulo.\n");
+			return;
+		}
 
 		switch (service.getState())
 		{
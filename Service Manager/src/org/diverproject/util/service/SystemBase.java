@@ -3,11 +3,13 @@ package org.diverproject.util.service;
 import static org.diverproject.log.LogSystem.logError;
 import static org.diverproject.log.LogSystem.logWarning;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import org.diverproject.util.BitWise;
 import org.diverproject.util.ObjectDescription;
 import org.diverproject.util.UtilException;
 import org.diverproject.util.collection.Queue;
-import org.diverproject.util.collection.abstraction.DynamicQueue;
+import org.diverproject.util.collection.abstraction.ConcurrentQueue;
 
 /**
  * <h1>Base para Sistema</h1>
@@ -69,11 +71,23 @@ public abstract class SystemBase
 		"USE_LOG",
 	};
 
+	/**
+	 * Quantidade mxima de excees que podem ficar na fila aguardando serem obtidas,
+	 * ao ser alcanada as novas excees so descartadas e contadas at que a fila seja consumida.
+	 */
+	public static final int MAX_EXCEPTIONS = 1024;
+
 	/**
 	 * Exceo que foi gerada durante a atualizao do sistema.
+	 * Pode ser usada por diversas threads do sistema ao mesmo tempo.
 	 */
 	private Queue<UtilException> exceptions;
 
+	/**
+	 * Quantidade de excees descartadas por terem ocorrido enquanto a fila estava cheia.
+	 */
+	private AtomicLong discarded;
+
 	/**
 	 * Armazenamento e controle das propriedades da base do sistema.
 	 */
@@ -87,7 +101,8 @@ public abstract class SystemBase
 	public SystemBase()
 	{
 		properties = new BitWise(PROPERTIE_NAMES);
-		exceptions = new DynamicQueue<UtilException>();
+		exceptions = new ConcurrentQueue<UtilException>(UtilException.class, MAX_EXCEPTIONS);
+		discarded = new AtomicLong();
 	}
 
 	/**
@@ -155,9 +170,21 @@ public abstract class SystemBase
 		return exceptions.poll();
 	}
 
+	/**
+	 * Quando a fila de excees estiver cheia as novas excees so descartadas.
+	 * @return aquisio da quantidade de excees que j foram descartadas desse sistema.
+	 */
+
+	public final long getDiscardedExceptions()
+	{
+		return discarded.get();
+	}
+
 	/**
 	 * Permite definir uma nova exceo causada internamente no sistema.
-	 * Novas excees so colocadas no final da fila de excees.
+	 * Novas excees so colocadas no final da fila de excees, caso a fila esteja
+	 * cheia a exceo  descartada e contada em getDiscardedExceptions(),
+	 * sendo que um aviso  registrado apenas no primeiro descarte.
 	 * @param e exceo que foi gerada internamente.
 	 */
 
@@ -171,6 +198,9 @@ public abstract class SystemBase
 			else if (properties.is(PROPERTIE_EXCEPTION_SIGNAL))
 				logError("%s: %s", getSystemName(), e.getMessage());
 		}
+
+		else if (discarded.incrementAndGet() == 1)
+			logWarning("%s: fila de excees cheia, novas excees sero descartadas", getSystemName());
 	}
 
 	/**
@@ -192,6 +222,7 @@ public abstract class SystemBase
 		toString(description);
 
 		description.append("exceptions", exceptions.size());
+		description.append("discarded", discarded.get());
 		description.append(properties.toStringProperties());
 
 		return description.toString();
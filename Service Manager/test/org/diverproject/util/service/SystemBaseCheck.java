@@ -0,0 +1,67 @@
+package org.diverproject.util.service;
+
+import org.diverproject.util.UtilException;
+
+/**
+ * <p><h1>Verificao da Base para Sistema</h1></p>
+ *
+ * <p>Coloca mais excees do que a fila de excees comporta e verifica que as excees excedentes
+ * so descartadas e contadas, enquanto as que couberam na fila so obtidas na mesma ordem.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see SystemBase
+ *
+ * @author Andrew
+ */
+
+public class SystemBaseCheck
+{
+	public static void main(String[] args) throws UtilException
+	{
+		SystemBase system = new SystemBase()
+		{
+			@Override
+			public String getSystemName()
+			{
+				return "SystemBaseCheck";
+			}
+
+			@Override
+			public void update(long delay)
+			{
+			}
+
+			@Override
+			public void shutdown()
+			{
+			}
+		};
+
+		for (int i = 0; i < SystemBase.MAX_EXCEPTIONS + 10; i++)
+			system.putException(new UtilException(Integer.toString(i)));
+
+		check(system.getDiscardedExceptions() == 10, "%d excees descartadas no lugar de 10", system.getDiscardedExceptions());
+
+		for (int i = 0; i < SystemBase.MAX_EXCEPTIONS; i++)
+		{
+			UtilException e = system.getException();
+			check(e != null && e.getMessage().equals(Integer.toString(i)), "exceo %d fora de ordem", i);
+		}
+
+		check(system.getException() == null, "excees a mais na fila");
+
+		system.putException(new UtilException("nova"));
+
+		check(system.getException().getMessage().equals("nova"), "exceo no enfileirada aps esvaziar a fila");
+		check(system.getDiscardedExceptions() == 10, "exceo descartada aps esvaziar a fila");
+
+		System.out.println("SystemBaseCheck: ok");
+	}
+
+	private static void check(boolean condition, String format, Object... args)
+	{
+		if (!condition)
+			throw new IllegalStateException(String.format(format, args));
+	}
+}
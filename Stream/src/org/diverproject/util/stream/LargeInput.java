@@ -0,0 +1,35 @@
+package org.diverproject.util.stream;
+
+/**
+ * <h1>Entrada Grande</h1>
+ *
+ * <p>Entrada de dados cujo tamanho pode ultrapassar o limite de um int (2 GB), como arquivos grandes.
+ * Como os mtodos de Stream trabalham com int, estes iro saturar em Integer.MAX_VALUE, enquanto os
+ * mtodos desta interface permitem obter e definir a posio de leitura e o tamanho com long.</p>
+ *
+ * @see Input
+ *
+ * @author Andrew Mello
+ */
+
+public interface LargeInput extends Input
+{
+	/**
+	 * @return aquisio da posio atual de leitura da entrada de dados.
+	 */
+
+	long offsetLong();
+
+	/**
+	 * @return aquisio da quantidade total de bytes da entrada de dados.
+	 */
+
+	long lengthLong();
+
+	/**
+	 * Move a posio de leitura para uma posio qualquer da entrada de dados.
+	 * @param offset nova posio de leitura, deve estar entre zero e lengthLong().
+	 */
+
+	void seek(long offset);
+}
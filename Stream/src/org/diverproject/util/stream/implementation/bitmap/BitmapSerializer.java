@@ -0,0 +1,141 @@
+package org.diverproject.util.stream.implementation.bitmap;
+
+import org.diverproject.util.UtilRuntimeException;
+import org.diverproject.util.collection.abstraction.IntBitmap;
+import org.diverproject.util.stream.Input;
+import org.diverproject.util.stream.Output;
+import org.diverproject.util.stream.StreamRuntimeException;
+
+/**
+ * <h1>Serializador de Bitmap</h1>
+ *
+ * <p>Permite escrever um bitmap de inteiros em uma sada de dados e carreg-lo novamente de uma entrada.
+ * Cada bloco do bitmap  escrito na sua prpria representao, sem precisar percorrer os valores,
+ * de modo que o tamanho serializado  prximo da memria ocupada pelo bitmap.</p>
+ *
+ * <p>O formato  formado por um cabealho com o nmero mgico e a quantidade de blocos, seguido
+ * de cada bloco: os 16 bits mais altos dos valores (short), o tipo do bloco (byte), a quantidade
+ * de valores ou de sequncias (int) e por fim os valores (short), os pares de sequncias (short)
+ * ou os 1024 longs de um bitmap. Os chars so escritos como short pois a sada escreve um char
+ * em um nico byte.</p>
+ *
+ * @see IntBitmap
+ * @see Output
+ * @see Input
+ *
+ * @author Andrew
+ */
+
+public class BitmapSerializer
+{
+	/**
+	 * Nmero mgico que identifica o inicio de um bitmap serializado ("RBM1").
+	 */
+	public static final int MAGIC = 0x52424D31;
+
+	/**
+	 * Construtor privado pois deve ser utilizada apenas de forma esttica.
+	 */
+
+	private BitmapSerializer()
+	{
+
+	}
+
+	/**
+	 * Escreve todos os blocos de um bitmap de inteiros em uma sada de dados.
+	 * @param bitmap referncia do bitmap que ser escrito.
+	 * @param output referncia da sada de dados onde o bitmap ser escrito,
+	 * no ser liberada nem fechada ao final da escrita.
+	 */
+
+	public static void write(IntBitmap bitmap, Output output)
+	{
+		int chunks = bitmap.chunks();
+
+		output.putInt(MAGIC);
+		output.putInt(chunks);
+
+		for (int i = 0; i < chunks; i++)
+		{
+			int type = bitmap.chunkType(i);
+			int length = bitmap.chunkLength(i);
+
+			output.putShort((short) bitmap.chunkKey(i));
+			output.putByte((byte) type);
+			output.putInt(length);
+
+			if (type == IntBitmap.BITMAP)
+			{
+				for (long word : bitmap.chunkWords(i))
+					output.putLong(word);
+			}
+
+			else
+			{
+				char chars[] = bitmap.chunkChars(i);
+				int count = type == IntBitmap.RUN ? length * 2 : length;
+
+				for (int j = 0; j < count; j++)
+					output.putShort((short) chars[j]);
+			}
+		}
+	}
+
+	/**
+	 * L um bitmap de inteiros que foi escrito por <code>write(IntBitmap, Output)</code>.
+	 * @param input referncia da entrada de dados posicionada no inicio do bitmap.
+	 * @return aquisio de um novo bitmap com os blocos lidos.
+	 */
+
+	public static IntBitmap read(Input input)
+	{
+		if (input.getInt() != MAGIC)
+			throw new StreamRuntimeException("entrada no contm um bitmap");
+
+		int chunks = input.getInt();
+
+		if (chunks < 0 || chunks > Character.MAX_VALUE + 1)
+			throw new StreamRuntimeException("quantidade de blocos invlida (chunks: %d)", chunks);
+
+		IntBitmap bitmap = new IntBitmap();
+
+		try {
+
+			for (int i = 0; i < chunks; i++)
+			{
+				int key = input.getShort() & 0xFFFF;
+				int type = input.getByte();
+				int length = input.getInt();
+
+				if (type == IntBitmap.BITMAP)
+				{
+					long words[] = new long[IntBitmap.BITMAP_WORDS];
+
+					for (int j = 0; j < words.length; j++)
+						words[j] = input.getLong();
+
+					bitmap.appendChunk(key, words);
+				}
+
+				else
+				{
+					if (length <= 0 || length > Character.MAX_VALUE + 1)
+						throw new StreamRuntimeException("bloco %d com tamanho invlido (length: %d)", key, length);
+
+					char chars[] = new char[type == IntBitmap.RUN ? length * 2 : length];
+
+					for (int j = 0; j < chars.length; j++)
+						chars[j] = (char) input.getShort();
+
+					bitmap.appendChunk(key, type, chars, length);
+				}
+			}
+
+		} catch (UtilRuntimeException e) {
+			throw new StreamRuntimeException(e);
+		}
+
+		return bitmap;
+	}
+}
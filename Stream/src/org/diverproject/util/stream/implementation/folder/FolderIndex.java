@@ -0,0 +1,157 @@
+package org.diverproject.util.stream.implementation.folder;
+
+import java.util.Arrays;
+import java.util.function.ToLongFunction;
+
+import org.diverproject.util.FileUtil;
+import org.diverproject.util.collection.FolderElement;
+import org.diverproject.util.collection.abstraction.VirtualFolder;
+import org.diverproject.util.stream.Output;
+import org.diverproject.util.stream.StreamRuntimeException;
+
+/**
+ * <h1>ndice de Pasta</h1>
+ *
+ * <p>Permite escrever o contedo de uma pasta virtual em um ndice binrio compacto atravs de uma sada.
+ * Assim em vez de montar a pasta novamente adicionando arquivo por arquivo a cada inicializao
+ * o ndice pode ser aberto por uma pasta mapeada, que ir consultar os caminhos diretamente nos bytes.</p>
+ *
+ * <p>O ndice  formado por um cabealho com o nmero mgico, a quantidade de arquivos, o tamanho da
+ * tabela de caminhos e o nome da pasta, seguido de um vetor de deslocamentos dos caminhos, um vetor
+ * com um valor long para cada arquivo e por fim a tabela com os caminhos ordenados um aps o outro.
+ * Os caminhos so escritos em ISO-8859-1, um byte por caracter, para que possam ser comparados
+ * diretamente com os caracteres de uma string sem ser necessrio decodific-los.</p>
+ *
+ * @see MappedFolder
+ * @see VirtualFolder
+ * @see Output
+ *
+ * @author Andrew
+ */
+
+public class FolderIndex
+{
+	/**
+	 * Nmero mgico que identifica o inicio de um ndice de pasta ("VFI1").
+	 */
+	public static final int MAGIC = 0x56464931;
+
+	/**
+	 * Tamanho em bytes do cabealho antes do nome da pasta.
+	 */
+	public static final int HEADER_SIZE = 16;
+
+	/**
+	 * Maior valor de caracter que pode ser escrito em um nico byte.
+	 */
+	private static final char MAX_CHAR = 0xFF;
+
+	/**
+	 * Construtor privado pois deve ser utilizada apenas de forma esttica.
+	 */
+
+	private FolderIndex()
+	{
+
+	}
+
+	/**
+	 * Escreve o ndice de uma pasta virtual contendo apenas os caminhos dos arquivos.
+	 * O valor de todos os arquivos no ndice ser zero.
+	 * @param folder referncia da pasta virtual que ter os seus arquivos indexados.
+	 * @param output referncia da sada de dados onde o ndice ser escrito.
+	 */
+
+	public static <E> void write(VirtualFolder<E> folder, Output output)
+	{
+		write(folder, null, output);
+	}
+
+	/**
+	 * Escreve o ndice de uma pasta virtual contendo os caminhos dos arquivos e um valor para cada um,
+	 * como o deslocamento do arquivo dentro de um pacote ou um identificador usado pela aplicao.
+	 * @param folder referncia da pasta virtual que ter os seus arquivos indexados,
+	 * todos os seus elementos devem ser FolderElement para que o caminho possa ser obtido.
+	 * @param value funo que obtm o valor que ser guardado junto de cada arquivo,
+	 * se for nulo o valor de todos os arquivos ser zero.
+	 * @param output referncia da sada de dados onde o ndice ser escrito,
+	 * no ser liberada nem fechada ao final da escrita.
+	 */
+
+	public static <E> void write(VirtualFolder<E> folder, ToLongFunction<? super E> value, Output output)
+	{
+		int count = folder.size();
+		String paths[] = new String[count];
+		long values[] = new long[count];
+		Integer order[] = new Integer[count];
+		int i = 0;
+
+		for (E element : folder)
+		{
+			if (i == count)
+				throw new StreamRuntimeException("pasta alterada durante a indexao");
+
+			if (!(element instanceof FolderElement))
+				throw new StreamRuntimeException("elemento %s no  um FolderElement", element);
+
+			paths[i] = FileUtil.adaptPath(((FolderElement) element).getFilePath());
+			values[i] = value == null ? 0 : value.applyAsLong(element);
+			order[i] = i;
+			i++;
+		}
+
+		if (i != count)
+			throw new StreamRuntimeException("pasta alterada durante a indexao");
+
+		Arrays.sort(order, (first, second) -> paths[first].compareTo(paths[second]));
+
+		int offsets[] = new int[count + 1];
+
+		for (i = 0; i < count; i++)
+		{
+			checkLatin(paths[order[i]]);
+			offsets[i + 1] = offsets[i] + paths[order[i]].length();
+		}
+
+		String name = folder.getName();
+
+		checkLatin(name);
+
+		output.putInt(MAGIC);
+		output.putInt(count);
+		output.putInt(offsets[count]);
+		output.putInt(name.length());
+		putLatin(output, name);
+		output.putInts(offsets);
+
+		for (i = 0; i < count; i++)
+			output.putLong(values[order[i]]);
+
+		for (i = 0; i < count; i++)
+			putLatin(output, paths[order[i]]);
+	}
+
+	/**
+	 * Verifica se todos os caracteres de uma string podem ser escritos em um nico byte.
+	 * @param str string contendo o nome da pasta ou o caminho de um arquivo.
+	 */
+
+	private static void checkLatin(String str)
+	{
+		for (int i = 0; i < str.length(); i++)
+			if (str.charAt(i) > MAX_CHAR)
+				throw new StreamRuntimeException("caminho '%s' possui caracteres fora do ISO-8859-1", str);
+	}
+
+	/**
+	 * Escreve os caracteres de uma string usando um nico byte para cada um.
+	 * @param output referncia da sada de dados onde a string ser escrita.
+	 * @param str string contendo apenas caracteres ISO-8859-1 que ser escrita.
+	 */
+
+	private static void putLatin(Output output, String str)
+	{
+		for (int i = 0; i < str.length(); i++)
+			output.putByte((byte) str.charAt(i));
+	}
+}
@@ -0,0 +1,317 @@
+package org.diverproject.util.stream.implementation.folder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.diverproject.util.FileUtil;
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.collection.Folder;
+import org.diverproject.util.collection.abstraction.AbstractCollection;
+import org.diverproject.util.stream.StreamRuntimeException;
+import org.diverproject.util.stream.implementation.input.InputMapped;
+
+/**
+ * <h1>Pasta Mapeada</h1>
+ *
+ * <p>Visualizao somente leitura de um ndice de pasta escrito por FolderIndex. Ao ser aberta apenas
+ * o cabealho do ndice  lido, os caminhos continuam nos bytes do arquivo mapeado em memria
+ * e so consultados atravs de uma busca binria na tabela de caminhos ordenada.
+ * Dessa forma nenhum objeto  criado por arquivo e a abertura independe da quantidade de arquivos.</p>
+ *
+ * <p>Os elementos dessa pasta so os prprios caminhos dos arquivos, que s so criados como string
+ * quando obtidos, e junto de cada caminho h um valor long definido ao escrever o ndice.
+ * Como as consultas posicionam a entrada de dados, uma pasta mapeada no deve ser usada
+ * por mais de uma thread ao mesmo tempo.</p>
+ *
+ * @see FolderIndex
+ * @see Folder
+ * @see InputMapped
+ *
+ * @author Andrew
+ */
+
+public class MappedFolder extends AbstractCollection<String> implements Folder<String>
+{
+	/**
+	 * Entrada de dados mapeada de onde os caminhos sero lidos.
+	 */
+	private InputMapped input;
+
+	/**
+	 * Nome da pasta raz do ndice.
+	 */
+	private String name;
+
+	/**
+	 * Posio na entrada do vetor de deslocamentos dos caminhos.
+	 */
+	private long offsets;
+
+	/**
+	 * Posio na entrada do vetor de valores dos arquivos.
+	 */
+	private long values;
+
+	/**
+	 * Posio na entrada da tabela de caminhos.
+	 */
+	private long data;
+
+	/**
+	 * Cria uma nova pasta mapeada a partir de um arquivo de ndice que ser mapeado em memria.
+	 * @param path caminho parcial ou completo do arquivo de ndice.
+	 * @throws IOException ocorre apenas se houver algum problema ao mapear o arquivo.
+	 */
+
+	public MappedFolder(String path) throws IOException
+	{
+		this(new InputMapped(path));
+	}
+
+	/**
+	 * Cria uma nova pasta mapeada a partir de uma entrada de dados mapeada posicionada no inicio do ndice.
+	 * A entrada precisa ser mapeada pois as consultas se posicionam diretamente em qualquer parte do ndice.
+	 * @param input referncia da entrada de dados mapeada contendo o ndice da pasta.
+	 */
+
+	public MappedFolder(InputMapped input)
+	{
+		this.input = input;
+
+		long base = input.offsetLong();
+
+		if (input.getInt() != FolderIndex.MAGIC)
+			throw new StreamRuntimeException("entrada no contm um ndice de pasta");
+
+		size = input.getInt();
+		input.getInt();
+		name = new String(input.getBytes(input.getInt()), StandardCharsets.ISO_8859_1);
+
+		offsets = base + FolderIndex.HEADER_SIZE + name.length();
+		values = offsets + (size + 1) * Integer.BYTES;
+		data = values + size * Long.BYTES;
+
+		setGeneric(String.class);
+	}
+
+	/**
+	 * Uma pasta mapeada  somente leitura, portanto no pode ser limpa.
+	 */
+
+	@Override
+	public void clear()
+	{
+		throw new StreamRuntimeException("pasta mapeada  somente leitura");
+	}
+
+	@Override
+	public int length()
+	{
+		return size;
+	}
+
+	@Override
+	public boolean contains(String path)
+	{
+		return indexOf(path) != -1;
+	}
+
+	/**
+	 * Uma pasta mapeada  somente leitura, portanto nenhum arquivo pode ser adicionado.
+	 * @return sempre false.
+	 */
+
+	@Override
+	public boolean add(String element)
+	{
+		return false;
+	}
+
+	/**
+	 * Uma pasta mapeada  somente leitura, portanto nenhum arquivo pode ser removido.
+	 * @return sempre false.
+	 */
+
+	@Override
+	public boolean remove(String path)
+	{
+		return false;
+	}
+
+	@Override
+	public String get(String path)
+	{
+		int entry = indexOf(path);
+
+		return entry == -1 ? null : getPath(entry);
+	}
+
+	@Override
+	public String getName()
+	{
+		return name;
+	}
+
+	/**
+	 * Procura um arquivo no ndice atravs de uma busca binria pelo seu caminho,
+	 * os caracteres do caminho so comparados diretamente com os bytes da tabela.
+	 * @param path caminho completo do arquivo incluindo o nome da pasta raz.
+	 * @return aquisio do nmero do arquivo no ndice ou -1 se no for encontrado.
+	 */
+
+	public int indexOf(String path)
+	{
+		if (path == null)
+			return -1;
+
+		path = FileUtil.adaptPath(path);
+
+		int low = 0;
+		int high = size - 1;
+
+		while (low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			int compare = compare(middle, path);
+
+			if (compare < 0)
+				low = middle + 1;
+			else if (compare > 0)
+				high = middle - 1;
+			else
+				return middle;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Obtm o caminho de um arquivo do ndice, uma nova string  criada a cada chamada.
+	 * @param entry nmero do arquivo no ndice, de acordo com a ordem dos caminhos.
+	 * @return aquisio do caminho completo do arquivo.
+	 */
+
+	public String getPath(int entry)
+	{
+		check(entry);
+		input.seek(offsets + (long) entry * Integer.BYTES);
+
+		int start = input.getInt();
+		int end = input.getInt();
+
+		input.seek(data + start);
+
+		return new String(input.getBytes(end - start), StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Obtm o valor que foi definido para um arquivo ao escrever o ndice.
+	 * @param entry nmero do arquivo no ndice, de acordo com a ordem dos caminhos.
+	 * @return aquisio do valor long guardado junto do arquivo.
+	 */
+
+	public long getValue(int entry)
+	{
+		check(entry);
+		input.seek(values + (long) entry * Long.BYTES);
+
+		return input.getLong();
+	}
+
+	/**
+	 * Fecha a entrada de dados do ndice, aps isso a pasta no poder mais ser consultada.
+	 */
+
+	public void close()
+	{
+		input.close();
+	}
+
+	/**
+	 * Compara o caminho de um arquivo do ndice com um caminho especificado.
+	 * @param entry nmero do arquivo no ndice do qual o caminho ser comparado.
+	 * @param path caminho do qual deseja comparar com o do arquivo.
+	 * @return menor que zero se o caminho do arquivo vier antes, zero se forem iguais
+	 * ou maior que zero se o caminho do arquivo vier depois.
+	 */
+
+	private int compare(int entry, String path)
+	{
+		input.seek(offsets + (long) entry * Integer.BYTES);
+
+		int start = input.getInt();
+		int length = input.getInt() - start;
+		int limit = Math.min(length, path.length());
+
+		input.seek(data + start);
+
+		for (int i = 0; i < limit; i++)
+		{
+			int difference = (input.read() & 0xFF) - path.charAt(i);
+
+			if (difference != 0)
+				return difference;
+		}
+
+		return length - path.length();
+	}
+
+	/**
+	 * Verifica se um nmero de arquivo  vlido para esse ndice.
+	 * @param entry nmero do arquivo no ndice do qual deseja verificar.
+	 */
+
+	private void check(int entry)
+	{
+		if (entry < 0 || entry >= size)
+			throw new StreamRuntimeException("arquivo %d invlido (size: %d)", entry, size);
+	}
+
+	@Override
+	public Iterator<String> iterator()
+	{
+		return new Iterator<String>()
+		{
+			private int iteration;
+
+			@Override
+			public boolean hasNext()
+			{
+				return iteration < size;
+			}
+
+			@Override
+			public String next()
+			{
+				if (iteration >= size)
+					throw new NoSuchElementException();
+
+				return getPath(iteration++);
+			}
+
+			@Override
+			public String toString()
+			{
+				ObjectDescription description = new ObjectDescription(getClass());
+
+				description.append("iteration", iteration);
+				description.append("size", size);
+
+				return description.toString();
+			}
+		};
+	}
+
+	@Override
+	public String toString()
+	{
+		ObjectDescription description = new ObjectDescription(getClass());
+
+		description.append("name", name);
+		description.append("size", size());
+
+		return description.toString();
+	}
+}
@@ -0,0 +1,363 @@
+package org.diverproject.util.stream.implementation.input;
+
+import static org.diverproject.util.Util.format;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.stream.StreamRuntimeException;
+
+/**
+ * <h1>Entrada com Janela de Leitura</h1>
+ *
+ * <p>Entrada de dados que l os bytes de uma fonte sequencial (stream, reader ou socket) em blocos,
+ * guardando-os em uma janela interna de onde todas as leituras so feitas. Assim a fonte  acessada
+ * apenas quando a janela se esgota, e os tipos primitivos so montados diretamente da janela.</p>
+ *
+ * <p>A janela tambm permite voltar a leitura: mark() marca a posio atual e reset() retorna a ela,
+ * desde que os bytes lidos desde a marca ainda caibam na janela. Ao ser criada a marca fica no inicio
+ * da entrada, de modo que reset() volta ao inicio enquanto a janela no tiver sido descartada.</p>
+ *
+ * <p>As classes que herdam devem apenas definir como os bytes da fonte so obtidos atravs de fill().</p>
+ *
+ * @see GenericInput
+ * @see InputStream
+ * @see InputReader
+ *
+ * @author Andrew
+ */
+
+public abstract class BufferedInput extends GenericInput
+{
+	/**
+	 * Tamanho padro da janela de leitura.
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Tamanho mnimo da janela de leitura.
+	 */
+	public static final int MIN_BUFFER_SIZE = 16;
+
+	/**
+	 * Janela com os bytes obtidos da fonte.
+	 */
+	private byte buffer[];
+
+	/**
+	 * Visualizao da janela para leitura de tipos primitivos na ordem normal.
+	 */
+	private ByteBuffer view;
+
+	/**
+	 * Visualizao da janela para leitura de tipos primitivos na ordem invertida.
+	 */
+	private ByteBuffer invertedView;
+
+	/**
+	 * Posio na janela do prximo byte que ser lido.
+	 */
+	private int position;
+
+	/**
+	 * Quantidade de bytes vlidos na janela.
+	 */
+	private int limit;
+
+	/**
+	 * Posio na entrada de dados do primeiro byte da janela.
+	 */
+	private int bufferOffset;
+
+	/**
+	 * Posio na entrada de dados marcada para retornar com reset() ou -1 se no houver.
+	 */
+	private int mark;
+
+	/**
+	 * Cria uma nova entrada com janela de leitura do tamanho padro.
+	 */
+
+	public BufferedInput()
+	{
+		this(DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Cria uma nova entrada com janela de leitura de tamanho especificado.
+	 * @param size quantidade de bytes da janela de leitura.
+	 */
+
+	public BufferedInput(int size)
+	{
+		if (size < MIN_BUFFER_SIZE)
+			throw new StreamRuntimeException("janela mnima  de %d bytes", MIN_BUFFER_SIZE);
+
+		wrap(new byte[size]);
+	}
+
+	/**
+	 * Obtm os prximos bytes da fonte de dados para a janela de leitura.
+	 * @param buffer vetor onde os bytes obtidos devero ser colocados.
+	 * @param offset posio no vetor do primeiro byte que ser obtido.
+	 * @param length quantidade mxima de bytes que podem ser obtidos.
+	 * @return quantidade de bytes obtidos ou -1 se a fonte de dados chegou ao fim.
+	 * @throws IOException apenas se houver algum problema para ler a fonte de dados.
+	 */
+
+	protected abstract int fill(byte buffer[], int offset, int length) throws IOException;
+
+	/**
+	 * Procedimento interno que define o vetor usado como janela e cria as suas visualizaes.
+	 * @param buffer vetor que ser usado como janela de leitura.
+	 */
+
+	private void wrap(byte buffer[])
+	{
+		this.buffer = buffer;
+		this.view = ByteBuffer.wrap(buffer);
+		this.invertedView = ByteBuffer.wrap(buffer).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Procedimento interno que descarta os bytes da janela que no sero mais lidos nem esto marcados,
+	 * e em seguida obtm mais bytes da fonte de dados. Caso a marca ocupe toda a janela ela  descartada.
+	 * @return true se conseguir obter mais bytes ou false se a fonte de dados chegou ao fim.
+	 */
+
+	private boolean refill()
+	{
+		if (buffer == null)
+			throw new StreamRuntimeException("stream fechada");
+
+		if (limit == buffer.length && mark == bufferOffset)
+			mark = -1;
+
+		int start = mark == -1 ? position : mark - bufferOffset;
+
+		if (start > 0)
+		{
+			System.arraycopy(buffer, start, buffer, 0, limit - start);
+
+			limit -= start;
+			position -= start;
+			bufferOffset += start;
+		}
+
+		try {
+
+			int read = fill(buffer, limit, buffer.length - limit);
+
+			if (read < 0)
+				return false;
+
+			limit += read;
+
+		} catch (IOException e) {
+			throw new StreamRuntimeException(e);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Procedimento interno que garante uma quantidade de bytes na janela a partir da posio de leitura.
+	 * @param bytes quantidade de bytes que sero lidos, no pode ser maior que MIN_BUFFER_SIZE.
+	 * @return aquisio da visualizao da janela na ordem de bytes atual.
+	 */
+
+	private ByteBuffer ensure(int bytes)
+	{
+		while (limit - position < bytes)
+			if (!refill())
+				throw new StreamRuntimeException("fim dos dados");
+
+		return isInverted() ? invertedView : view;
+	}
+
+	@Override
+	public byte getByte()
+	{
+		if (position == limit)
+			ensure(Byte.BYTES);
+
+		return buffer[position++];
+	}
+
+	@Override
+	public byte read()
+	{
+		return getByte();
+	}
+
+	@Override
+	public short getShort()
+	{
+		short value = ensure(Short.BYTES).getShort(position);
+		position += Short.BYTES;
+
+		return value;
+	}
+
+	@Override
+	public int getInt()
+	{
+		int value = ensure(Integer.BYTES).getInt(position);
+		position += Integer.BYTES;
+
+		return value;
+	}
+
+	@Override
+	public long getLong()
+	{
+		long value = ensure(Long.BYTES).getLong(position);
+		position += Long.BYTES;
+
+		return value;
+	}
+
+	@Override
+	public float getFloat()
+	{
+		float value = ensure(Float.BYTES).getFloat(position);
+		position += Float.BYTES;
+
+		return value;
+	}
+
+	@Override
+	public double getDouble()
+	{
+		double value = ensure(Double.BYTES).getDouble(position);
+		position += Double.BYTES;
+
+		return value;
+	}
+
+	@Override
+	public void getBytes(byte[] array)
+	{
+		for (int i = 0, count; i < array.length; i += count)
+		{
+			if (position == limit)
+				ensure(Byte.BYTES);
+
+			count = Math.min(array.length - i, limit - position);
+			System.arraycopy(buffer, position, array, i, count);
+			position += count;
+		}
+	}
+
+	@Override
+	public int offset()
+	{
+		return bufferOffset + position;
+	}
+
+	@Override
+	public void skipe(int bytes)
+	{
+		if (bytes < 0)
+		{
+			if (position + bytes < 0)
+				throw new StreamRuntimeException("posio fora da janela de leitura (bytes: %d)", bytes);
+
+			position += bytes;
+			return;
+		}
+
+		while (bytes > 0)
+		{
+			if (position == limit)
+				ensure(Byte.BYTES);
+
+			int count = Math.min(bytes, limit - position);
+
+			position += count;
+			bytes -= count;
+		}
+	}
+
+	/**
+	 * Marca a posio de leitura atual para que seja possvel voltar a ela atravs de reset().
+	 * Os bytes lidos a partir da marca ficam na janela at que ocupem a janela inteira.
+	 */
+
+	public void mark()
+	{
+		mark = offset();
+	}
+
+	/**
+	 * Volta a leitura para a posio marcada, que inicialmente  o inicio da entrada de dados.
+	 * Caso os bytes desde a marca no caibam mais na janela no ser possvel voltar a ela.
+	 */
+
+	@Override
+	public void reset()
+	{
+		if (mark == -1)
+			throw new StreamRuntimeException("marca fora da janela de leitura");
+
+		position = mark - bufferOffset;
+	}
+
+	/**
+	 * @return aquisio do tamanho da janela de leitura.
+	 */
+
+	public int getBufferSize()
+	{
+		return buffer == null ? 0 : buffer.length;
+	}
+
+	/**
+	 * Redimensiona a janela de leitura mantendo os bytes que ainda no foram lidos ou que esto marcados.
+	 * @param size quantidade de bytes da janela, deve comportar os bytes que sero mantidos.
+	 */
+
+	public void setBufferSize(int size)
+	{
+		if (buffer == null)
+			throw new StreamRuntimeException("stream fechada");
+
+		int start = mark == -1 ? position : mark - bufferOffset;
+
+		if (size < MIN_BUFFER_SIZE || size < limit - start)
+			throw new StreamRuntimeException("janela deve ter ao menos %d bytes", Math.max(MIN_BUFFER_SIZE, limit - start));
+
+		byte resized[] = new byte[size];
+		System.arraycopy(buffer, start, resized, 0, limit - start);
+
+		wrap(resized);
+
+		limit -= start;
+		position -= start;
+		bufferOffset += start;
+	}
+
+	/**
+	 * Descarta a janela de leitura, deve ser chamado pelas classes que herdam ao fechar a entrada.
+	 */
+
+	protected void release()
+	{
+		buffer = null;
+		view = null;
+		invertedView = null;
+		position = 0;
+		limit = 0;
+	}
+
+	@Override
+	protected void toString(ObjectDescription description)
+	{
+		super.toString(description);
+
+		description.append("window", format("%d/%d", limit - position, getBufferSize()));
+		description.append("mark", mark);
+	}
+}
@@ -9,6 +9,7 @@ import static org.diverproject.util.lang.Bits.makeShort;
 import java.io.ByteArrayOutputStream;
 
 import org.diverproject.util.lang.IntUtil;
+import org.diverproject.util.pool.ByteArrayPool;
 import org.diverproject.util.stream.Input;
 import org.diverproject.util.stream.implementation.GenericStream;
 
@@ -19,8 +20,12 @@ import org.diverproject.util.stream.implementation.GenericStream;
  * Ela ir implementar todos os mtodos que so formados chamando outros mtodos de si mesmo.
  * Assim, os mtodos que no dependem de si prprio devero ser obrigatoriamente implementados.</p>
  *
+ * <p>A leitura de strings utiliza vetores temporrios do pool compartilhado de vetores de bytes,
+ * de modo que apenas a prpria string  criada a cada leitura.</p>
+ *
  * @see GenericStream
  * @see Input
+ * @see ByteArrayPool
  *
  * @author Andrew
  */
@@ -135,7 +140,7 @@ public abstract class GenericInput extends GenericStream implements Input
 	@Override
 	public String getString(int length)
 	{
-		return new String(getBytes(length));
+		return readString(length);
 	}
 
 	@Override
@@ -261,12 +266,31 @@ public abstract class GenericInput extends GenericStream implements Input
 	public String getString()
 	{
 		int size = IntUtil.parseByte(getByte());
-		byte data[] = new byte[size];
 
-		for (int i = 0; i < data.length; i++)
-			data[i] = getByte();
+		return readString(size);
+	}
+
+	/**
+	 * Procedimento interno que ir ler uma string de tamanho fixo usando um vetor temporrio do pool.
+	 * @param length quantidade de bytes que sero lidos para formar a string.
+	 * @return aquisio da string formada pelos bytes lidos.
+	 */
+
+	private String readString(int length)
+	{
+		ByteArrayPool pool = ByteArrayPool.getShared();
+		byte buffer[] = pool.acquire(length);
 
-		return new String(data);
+		try {
+
+			for (int i = 0; i < length; i++)
+				buffer[i] = getByte();
+
+			return new String(buffer, 0, length);
+
+		} finally {
+			pool.release(buffer);
+		}
 	}
 
 	@Override
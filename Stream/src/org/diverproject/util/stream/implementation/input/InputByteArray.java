@@ -3,6 +3,8 @@ package org.diverproject.util.stream.implementation.input;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import org.diverproject.util.stream.StreamRuntimeException;
 
@@ -14,7 +16,11 @@ import org.diverproject.util.stream.StreamRuntimeException;
  * Por exemplo, comunicaes com arquivos escreve seus bytes consecutivamente sem pulos como fluxo de dados.
  * Nesse caso a fonte de fluxo ser esse vetor de bytes especificado e este ser usado diretamente ou copiado.</p>
  *
+ * <p>Os tipos primitivos so lidos diretamente do vetor atravs de um ByteBuffer em cada ordem de bytes,
+ * sem passar por read() byte a byte, assim como os vetores de tipos primitivos que so copiados de uma vez.</p>
+ *
  * @see GenericInput
+ * @see ByteBuffer
  *
  * @author Andrew Mello
  */
@@ -36,6 +42,16 @@ public class InputByteArray extends GenericInput
 	 */
 	private byte[] data;
 
+	/**
+	 * Visualizao do vetor de dados para leitura de tipos primitivos na ordem normal.
+	 */
+	private ByteBuffer buffer;
+
+	/**
+	 * Visualizao do vetor de dados para leitura de tipos primitivos na ordem invertida.
+	 */
+	private ByteBuffer invertedBuffer;
+
 	/**
 	 * Cria um novo leitor de dados em vetor a partir de um vetor de dados para ser feito a leitura.
 	 * Para esse caso os bytes sero vinculados a entrada de dados e no sero clonados (padro).
@@ -61,6 +77,7 @@ public class InputByteArray extends GenericInput
 			this.data = data;
 
 		this.length = data.length;
+		this.wrap();
 	}
 
 	/**
@@ -78,6 +95,7 @@ public class InputByteArray extends GenericInput
 				length = data.length;
 			}
 			fis.close();
+			wrap();
 
 		} catch (IOException e) {
 			throw new StreamRuntimeException(e);
@@ -96,12 +114,38 @@ public class InputByteArray extends GenericInput
 
 			fis.read((data = new byte[fis.available()]));
 			length = data.length;
+			wrap();
 
 		} catch (IOException e) {
 			throw new StreamRuntimeException(e);
 		}
 	}
 
+	/**
+	 * Procedimento interno que cria as visualizaes do vetor de dados usadas pelos tipos primitivos.
+	 */
+
+	private void wrap()
+	{
+		buffer = ByteBuffer.wrap(data);
+		invertedBuffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Procedimento interno que verifica se h bytes suficientes para uma leitura e obtm a visualizao
+	 * do vetor de dados na ordem de bytes atual, os dados devem ser lidos a partir do offset.
+	 * @param bytes quantidade de bytes que sero lidos.
+	 * @return aquisio da visualizao do vetor de dados na ordem atual.
+	 */
+
+	private ByteBuffer view(int bytes)
+	{
+		if (space() < bytes)
+			throw new StreamRuntimeException("fim do buffer");
+
+		return isInverted() ? invertedBuffer : buffer;
+	}
+
 	@Override
 	public byte getByte()
 	{
@@ -117,6 +161,111 @@ public class InputByteArray extends GenericInput
 		return getByte();
 	}
 
+	@Override
+	public short getShort()
+	{
+		short value = view(Short.BYTES).getShort(offset);
+		offset += Short.BYTES;
+
+		return value;
+	}
+
+	@Override
+	public int getInt()
+	{
+		int value = view(Integer.BYTES).getInt(offset);
+		offset += Integer.BYTES;
+
+		return value;
+	}
+
+	@Override
+	public long getLong()
+	{
+		long value = view(Long.BYTES).getLong(offset);
+		offset += Long.BYTES;
+
+		return value;
+	}
+
+	@Override
+	public float getFloat()
+	{
+		float value = view(Float.BYTES).getFloat(offset);
+		offset += Float.BYTES;
+
+		return value;
+	}
+
+	@Override
+	public double getDouble()
+	{
+		double value = view(Double.BYTES).getDouble(offset);
+		offset += Double.BYTES;
+
+		return value;
+	}
+
+	@Override
+	public void getBytes(byte[] array)
+	{
+		if (space() < array.length)
+			throw new StreamRuntimeException("fim do buffer");
+
+		System.arraycopy(data, offset, array, 0, array.length);
+		offset += array.length;
+	}
+
+	@Override
+	public void getShorts(short[] array)
+	{
+		ByteBuffer buffer = view(array.length * Short.BYTES);
+		buffer.position(offset);
+		buffer.asShortBuffer().get(array);
+
+		offset += array.length * Short.BYTES;
+	}
+
+	@Override
+	public void getInts(int[] array)
+	{
+		ByteBuffer buffer = view(array.length * Integer.BYTES);
+		buffer.position(offset);
+		buffer.asIntBuffer().get(array);
+
+		offset += array.length * Integer.BYTES;
+	}
+
+	@Override
+	public void getLongs(long[] array)
+	{
+		ByteBuffer buffer = view(array.length * Long.BYTES);
+		buffer.position(offset);
+		buffer.asLongBuffer().get(array);
+
+		offset += array.length * Long.BYTES;
+	}
+
+	@Override
+	public void getFloats(float[] array)
+	{
+		ByteBuffer buffer = view(array.length * Float.BYTES);
+		buffer.position(offset);
+		buffer.asFloatBuffer().get(array);
+
+		offset += array.length * Float.BYTES;
+	}
+
+	@Override
+	public void getDoubles(double[] array)
+	{
+		ByteBuffer buffer = view(array.length * Double.BYTES);
+		buffer.position(offset);
+		buffer.asDoubleBuffer().get(array);
+
+		offset += array.length * Double.BYTES;
+	}
+
 	@Override
 	public int offset()
 	{
@@ -139,6 +288,8 @@ public class InputByteArray extends GenericInput
 	public void close()
 	{
 		data = null;
+		buffer = null;
+		invertedBuffer = null;
 		System.gc();
 	}
 
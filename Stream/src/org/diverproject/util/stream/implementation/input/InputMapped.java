@@ -4,9 +4,14 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.diverproject.util.ObjectDescription;
+import org.diverproject.util.stream.LargeInput;
 import org.diverproject.util.stream.StreamRuntimeException;
 
 /**
@@ -16,7 +21,20 @@ import org.diverproject.util.stream.StreamRuntimeException;
  * Objetos desse tipo podero ser obtidos atravs da especificao de um arquivo ou stream.
  * Com a stream do arquivo ser possvel obter o canal do arquivo e deste criar o mapa.</p>
  *
+ * <p>Os tipos primitivos e os vetores de tipos primitivos so lidos diretamente do mapa,
+ * cuja ordem de bytes acompanha a inverso definida na entrada de dados.</p>
+ *
+ * <p>Como um mapa pode ter no mximo 2 GB o arquivo  mapeado em segmentos de SEGMENT_SIZE bytes,
+ * e a leitura passa de um segmento para o seguinte sem que isso seja percebido. Os valores que
+ * ficam divididos entre dois segmentos so lidos byte a byte. Para arquivos maiores que 2 GB
+ * a posio e o tamanho devem ser obtidos atravs dos mtodos de LargeInput.</p>
+ *
+ * <p>Opcionalmente ao avanar para o segmento seguinte o prximo segmento pode ser carregado em memria
+ * por uma nica thread em segundo plano, compartilhada pelas entradas mapeadas, adiantando a leitura
+ * do disco em leituras sequenciais. Cada segmento  carregado no mximo uma vez.</p>
+ *
  * @see GenericInput
+ * @see LargeInput
  * @see File
  * @see InputStream
  * @see FileChannel
@@ -25,18 +43,64 @@ import org.diverproject.util.stream.StreamRuntimeException;
  * @author Andrew Mello
  */
 
-public class InputMapped extends GenericInput
+public class InputMapped extends GenericInput implements LargeInput
 {
+	/**
+	 * Tamanho padro dos segmentos mapeados de um arquivo.
+	 */
+	public static final int SEGMENT_SIZE = 1 << 30;
+
+	/**
+	 * Thread em segundo plano compartilhada que carrega os segmentos em memria.
+	 */
+	private static final ExecutorService PREFETCHER = Executors.newSingleThreadExecutor(runnable ->
+	{
+		Thread thread = new Thread(runnable, "InputMapped-prefetch");
+		thread.setDaemon(true);
+
+		return thread;
+	});
+
 	/**
 	 * Stream da entrada de dados para fechar se houver.
 	 */
 	private FileInputStream fis;
 
 	/**
-	 * Referncia do mapa contendo os bytes que podero ser lidos nesse input.
+	 * Segmentos mapeados contendo os bytes que podero ser lidos nesse input.
+	 */
+	private MappedByteBuffer segments[];
+
+	/**
+	 * Tamanho dos segmentos, exceto o ltimo que pode ser menor.
+	 */
+	private long segmentSize;
+
+	/**
+	 * ndice do segmento que est sendo lido.
+	 */
+	private int segment;
+
+	/**
+	 * Referncia do segmento que est sendo lido.
 	 */
 	private MappedByteBuffer map;
 
+	/**
+	 * Quantidade total de bytes mapeados.
+	 */
+	private long length;
+
+	/**
+	 * Carregamento do prximo segmento em segundo plano.
+	 */
+	private boolean prefetch;
+
+	/**
+	 * Segmentos que j foram carregados ou aguardam para serem carregados em segundo plano.
+	 */
+	private boolean prefetched[];
+
 	/**
 	 * Cria uma nova estrutura de stream para entrada de dados no sistema atravs de um arquivo.
 	 * @param path string contendo o caminho parcial ou completo do arquivo que ser lido.
@@ -81,48 +145,301 @@ public class InputMapped extends GenericInput
 
 	public InputMapped(FileChannel channel) throws IOException
 	{
-		this(channel.map(FileChannel.MapMode.READ_ONLY, channel.position(), channel.size()));
+		this(channel, SEGMENT_SIZE);
+	}
+
+	/**
+	 * Cria uma nova estrutura de stream para entrada de dados no sistema atravs de um canal de arquivo,
+	 * mapeando os bytes a partir da posio atual do canal em segmentos de um tamanho especificado.
+	 * @param channel referncia do canal do arquivo que contm os bytes para o input.
+	 * @param segmentSize quantidade de bytes de cada segmento mapeado.
+	 * @throws IOException ocorre apenas se houver algum problema durante a leitura.
+	 */
+
+	public InputMapped(FileChannel channel, int segmentSize) throws IOException
+	{
+		if (segmentSize < Long.BYTES)
+			throw new StreamRuntimeException("segmento muito pequeno (segmentSize: %d)", segmentSize);
+
+		long start = channel.position();
+		long length = channel.size() - start;
+		int count = (int) Math.max(1, (length + segmentSize - 1) / segmentSize);
+
+		this.segments = new MappedByteBuffer[count];
+		this.segmentSize = segmentSize;
+		this.length = length;
+
+		for (int i = 0; i < count; i++)
+		{
+			long offset = (long) i * segmentSize;
+			long size = Math.min(segmentSize, length - offset);
+
+			segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start + offset, size);
+		}
+
+		this.map = segments[0];
 	}
 
 	/**
-	 * Cria uma nova estrutura de stream para entrada de dados no sistema travs de um mapa.
+	 * Cria uma nova estrutura de stream para entrada de dados no sistema atravs de um mapa.
 	 * Esse mapa pode ser obtido atravs de um FileChannel de um InputStream criado.
 	 * @param map referncia do mapa que contm os bytes que podero ser usados como input.
 	 */
 
 	public InputMapped(MappedByteBuffer map)
 	{
+		this.segments = new MappedByteBuffer[] { map };
+		this.segmentSize = Math.max(map.capacity(), 1);
+		this.length = map.capacity();
 		this.map = map;
 	}
 
+	/**
+	 * Procedimento interno que ir selecionar um segmento para leitura a partir de uma posio nele.
+	 * Se o carregamento em segundo plano estiver habilitado e a leitura avanar para o segmento
+	 * seguinte, o prximo segmento ser carregado.
+	 * @param index ndice do segmento que ser lido.
+	 * @param position posio de leitura dentro do segmento.
+	 */
+
+	private void select(int index, int position)
+	{
+		boolean forward = index == segment + 1;
+
+		segment = index;
+		map = segments[index];
+		map.position(position);
+
+		if (forward && prefetch)
+			prefetch(index + 1);
+	}
+
+	/**
+	 * Procedimento interno que ir carregar um segmento em memria atravs da thread em segundo plano.
+	 * @param index ndice do segmento que ser carregado, se no existir ou j tiver sido
+	 * carregado ou aguardar para ser carregado nada ser feito.
+	 */
+
+	private void prefetch(int index)
+	{
+		if (index >= segments.length)
+			return;
+
+		if (prefetched == null)
+			prefetched = new boolean[segments.length];
+
+		if (prefetched[index])
+			return;
+
+		MappedByteBuffer next = segments[index];
+
+		prefetched[index] = true;
+		PREFETCHER.execute(() -> next.load());
+	}
+
+	/**
+	 * Procedimento interno que obtm o segmento de onde o prximo byte ser lido,
+	 * passando para o segmento seguinte se todos os bytes do atual j foram lidos.
+	 * @return aquisio do segmento na ordem de bytes atual.
+	 */
+
+	private MappedByteBuffer current()
+	{
+		if (!map.hasRemaining() && segment + 1 < segments.length)
+			select(segment + 1, 0);
+
+		ByteOrder order = isInverted() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+
+		if (map.order() != order)
+			map.order(order);
+
+		return map;
+	}
+
 	@Override
 	public byte getByte()
 	{
-		return map.get();
+		return current().get();
 	}
 
 	@Override
 	public byte read()
 	{
-		return map.get();
+		return current().get();
+	}
+
+	@Override
+	public short getShort()
+	{
+		MappedByteBuffer map = current();
+
+		return map.remaining() >= Short.BYTES ? map.getShort() : super.getShort();
+	}
+
+	@Override
+	public int getInt()
+	{
+		MappedByteBuffer map = current();
+
+		return map.remaining() >= Integer.BYTES ? map.getInt() : super.getInt();
+	}
+
+	@Override
+	public long getLong()
+	{
+		MappedByteBuffer map = current();
+
+		return map.remaining() >= Long.BYTES ? map.getLong() : super.getLong();
+	}
+
+	@Override
+	public float getFloat()
+	{
+		MappedByteBuffer map = current();
+
+		return map.remaining() >= Float.BYTES ? map.getFloat() : super.getFloat();
+	}
+
+	@Override
+	public double getDouble()
+	{
+		MappedByteBuffer map = current();
+
+		return map.remaining() >= Double.BYTES ? map.getDouble() : super.getDouble();
+	}
+
+	@Override
+	public void getBytes(byte[] array)
+	{
+		for (int i = 0, count; i < array.length; i += count)
+		{
+			MappedByteBuffer map = current();
+
+			count = Math.min(array.length - i, Math.max(map.remaining(), 1));
+			map.get(array, i, count);
+		}
+	}
+
+	@Override
+	public void getShorts(short[] array)
+	{
+		MappedByteBuffer map = current();
+
+		if (map.remaining() < array.length * Short.BYTES)
+			super.getShorts(array);
+
+		else
+		{
+			map.asShortBuffer().get(array);
+			map.position(map.position() + array.length * Short.BYTES);
+		}
+	}
+
+	@Override
+	public void getInts(int[] array)
+	{
+		MappedByteBuffer map = current();
+
+		if (map.remaining() < array.length * Integer.BYTES)
+			super.getInts(array);
+
+		else
+		{
+			map.asIntBuffer().get(array);
+			map.position(map.position() + array.length * Integer.BYTES);
+		}
+	}
+
+	@Override
+	public void getLongs(long[] array)
+	{
+		MappedByteBuffer map = current();
+
+		if (map.remaining() < array.length * Long.BYTES)
+			super.getLongs(array);
+
+		else
+		{
+			map.asLongBuffer().get(array);
+			map.position(map.position() + array.length * Long.BYTES);
+		}
+	}
+
+	@Override
+	public void getFloats(float[] array)
+	{
+		MappedByteBuffer map = current();
+
+		if (map.remaining() < array.length * Float.BYTES)
+			super.getFloats(array);
+
+		else
+		{
+			map.asFloatBuffer().get(array);
+			map.position(map.position() + array.length * Float.BYTES);
+		}
+	}
+
+	@Override
+	public void getDoubles(double[] array)
+	{
+		MappedByteBuffer map = current();
+
+		if (map.remaining() < array.length * Double.BYTES)
+			super.getDoubles(array);
+
+		else
+		{
+			map.asDoubleBuffer().get(array);
+			map.position(map.position() + array.length * Double.BYTES);
+		}
+	}
+
+	@Override
+	public long offsetLong()
+	{
+		return segment * segmentSize + map.position();
+	}
+
+	@Override
+	public long lengthLong()
+	{
+		return length;
+	}
+
+	@Override
+	public void seek(long offset)
+	{
+		if (offset < 0 || offset > length)
+			throw new StreamRuntimeException("posio invlida (offset: %d, length: %d)", offset, length);
+
+		int index = (int) Math.min(offset / segmentSize, segments.length - 1);
+
+		select(index, (int) (offset - index * segmentSize));
 	}
 
 	@Override
 	public int offset()
 	{
-		return map.position();
+		return (int) Math.min(offsetLong(), Integer.MAX_VALUE);
 	}
 
 	@Override
 	public int length()
 	{
-		return map.capacity();
+		return (int) Math.min(length, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public int space()
+	{
+		return (int) Math.min(length - offsetLong(), Integer.MAX_VALUE);
 	}
 
 	@Override
 	public boolean isClosed()
 	{
-		return !map.hasRemaining();
+		return offsetLong() == length;
 	}
 
 	@Override
@@ -138,18 +455,55 @@ public class InputMapped extends GenericInput
 			}
 		}
 
-		map.position(length());
+		seek(length);
 	}
 
 	@Override
 	public void skipe(int bytes)
 	{
-		map.position(offset() + bytes);
+		seek(offsetLong() + bytes);
 	}
 
 	@Override
 	public void reset()
 	{
-		map.position(0);
+		seek(0);
+	}
+
+	/**
+	 * Permite saber se o prximo segmento  carregado em segundo plano ao entrar em um segmento.
+	 * @return true se estiver habilitado ou false caso contrrio.
+	 */
+
+	public boolean isPrefetch()
+	{
+		return prefetch;
+	}
+
+	/**
+	 * Definir o carregamento em segundo plano far com que, sempre que a leitura avanar para o segmento
+	 * seguinte, o prximo segmento seja carregado em memria por outra thread atravs de MappedByteBuffer.load().
+	 * Indicado para leituras sequenciais de arquivos grandes, ao habilitar o prximo segmento j  carregado.
+	 * @param prefetch true para habilitar ou false para desabilitar.
+	 */
+
+	public void setPrefetch(boolean prefetch)
+	{
+		this.prefetch = prefetch;
+
+		if (prefetch)
+			prefetch(segment + 1);
+	}
+
+	@Override
+	protected void toString(ObjectDescription description)
+	{
+		description.append("offset", offsetLong());
+		description.append("length", length);
+		description.append("segment", segment);
+		description.append("segments", segments.length);
+		description.append("prefetch", prefetch);
+		description.append("closed", isClosed());
+		description.append("inverted", isInverted());
 	}
 }
@@ -16,13 +16,16 @@ import org.diverproject.util.stream.StreamRuntimeException;
  * Podendo ainda ser especificado atravs de um objeto File representando um arquivo ou o path dele.
  * Caso seja por um arquivo ir criar esse InputStream para que possa ser usado internamente.</p>
  *
- * @see GenericInput
+ * <p>Os caracteres so obtidos do reader em blocos e convertidos em bytes para uma janela de leitura,
+ * de onde os dados so lidos sem precisar acessar o reader a cada byte.</p>
+ *
+ * @see BufferedInput
  * @see InputReader
  *
  * @author Andrew
  */
 
-public class InputReader extends GenericInput
+public class InputReader extends BufferedInput
 {
 	/**
 	 * Stream para entrada de dados quando bytes forem lidos.
@@ -30,14 +33,14 @@ public class InputReader extends GenericInput
 	private BufferedReader reader;
 
 	/**
-	 * Quantidade de bytes que j foram lidos.
+	 * Quantidade limite de bytes que podem ser lidos.
 	 */
-	private int offset;
+	private int length;
 
 	/**
-	 * Quantidade limite de bytes que podem ser lidos.
+	 * Vetor temporrio para os caracteres obtidos do reader.
 	 */
-	private int length;
+	private char chars[];
 
 	/**
 	 * Cria uma nova stream atravs de uma stream de entrada de dados a partir de um arquivo especifico.
@@ -72,38 +75,41 @@ public class InputReader extends GenericInput
 
 	public InputReader(BufferedReader br)
 	{
-		this.reader = br;
-		this.length = -1;
+		this(br, DEFAULT_BUFFER_SIZE);
 	}
 
-	@Override
-	public byte getByte()
-	{
-		return read();
-	}
+	/**
+	 * Cria uma nova stream atravs de um reader com uma janela de leitura de tamanho especificado.
+	 * @param br referncia do reader que ser usado para ler os dados.
+	 * @param bufferSize quantidade de bytes da janela de leitura.
+	 */
 
-	@Override
-	public byte read()
+	public InputReader(BufferedReader br, int bufferSize)
 	{
-		try {
-			offset++;
-			return (byte) reader.read();
-		} catch (IOException e) {
-			offset--;
-			throw new StreamRuntimeException(e);
-		}
+		super(bufferSize);
+
+		this.reader = br;
+		this.length = -1;
 	}
 
 	@Override
-	public int offset()
+	protected int fill(byte[] buffer, int offset, int length) throws IOException
 	{
-		return offset;
+		if (chars == null || chars.length < length)
+			chars = new char[length];
+
+		int read = reader.read(chars, 0, length);
+
+		for (int i = 0; i < read; i++)
+			buffer[offset + i] = (byte) chars[i];
+
+		return read;
 	}
 
 	@Override
 	public int length()
 	{
-		return length == -1 ? offset : length;
+		return length == -1 ? offset() : length;
 	}
 
 	@Override
@@ -118,27 +124,13 @@ public class InputReader extends GenericInput
 		try {
 			reader.close();
 			reader = null;
+			chars = null;
+			release();
 		} catch (IOException e) {
 			throw new StreamRuntimeException(e);
 		}
 	}
 
-	@Override
-	public void skipe(int bytes)
-	{
-		try {
-			reader.skip(bytes);
-		} catch (IOException e) {
-			throw new StreamRuntimeException(e);
-		}
-	}
-
-	@Override
-	public void reset()
-	{
-		throw new UnsupportedOperationException();
-	}
-
 	@Override
 	protected void toString(ObjectDescription description)
 	{
@@ -14,23 +14,26 @@ import org.diverproject.util.stream.StreamRuntimeException;
  * Podendo ainda ser especificado atravs de um objeto File representando um arquivo ou o path dele.
  * Caso seja por um arquivo ir criar esse InputStream para que possa ser usado internamente.</p>
  *
- * @see GenericInput
+ * <p>Os bytes so obtidos do InputStream em blocos para uma janela de leitura, de modo que cada
+ * chamada ao InputStream traz vrios bytes que sero lidos diretamente da janela.</p>
+ *
+ * @see BufferedInput
  * @see InputStream
  *
  * @author Andrew
  */
 
-public class InputStream extends GenericInput
+public class InputStream extends BufferedInput
 {
 	/**
-	 * Quantidade de bytes j escritos.
+	 * Limite de dados que podero ser lidos.
 	 */
-	private int offset;
+	private int length;
 
 	/**
-	 * Limite de dados que podero ser lidos.
+	 * Quantidade de bytes j obtidos da stream para a janela de leitura.
 	 */
-	private int length;
+	private int filled;
 
 	/**
 	 * Stream para entrada de dados quando bytes forem lidos.
@@ -79,36 +82,42 @@ public class InputStream extends GenericInput
 
 	public InputStream(java.io.InputStream is, int length)
 	{
-		this.stream = is;
-		this.length = length;
+		this(is, length, DEFAULT_BUFFER_SIZE);
 	}
 
-	@Override
-	public byte getByte()
+	/**
+	 * Cria uma nova stream atravs de uma stream de entrada de dados pr-especificada.
+	 * @param is referncia da stream que ser usada para escrever os dados.
+	 * @param length quantos bytes podem ser lidos nessa stream (limite),
+	 * caso no haja limite deve ser especificado com o valor 0 (zero).
+	 * @param bufferSize quantidade de bytes da janela de leitura.
+	 */
+
+	public InputStream(java.io.InputStream is, int length, int bufferSize)
 	{
-		return read();
+		super(bufferSize);
+
+		this.stream = is;
+		this.length = length;
 	}
 
 	@Override
-	public byte read()
+	protected int fill(byte[] buffer, int offset, int length) throws IOException
 	{
-		try {
-
-			if (length > 0 && offset >= length)
+		if (this.length > 0)
+		{
+			if (filled >= this.length)
 				throw new StreamRuntimeException("limite de dados");
 
-			offset++;
-			return (byte) stream.read();
-
-		} catch (IOException e) {
-			throw new StreamRuntimeException(e);
+			length = Math.min(length, this.length - filled);
 		}
-	}
 
-	@Override
-	public int offset()
-	{
-		return offset;
+		int read = stream.read(buffer, offset, length);
+
+		if (read > 0)
+			filled += read;
+
+		return read;
 	}
 
 	@Override
@@ -129,24 +138,9 @@ public class InputStream extends GenericInput
 		try {
 			stream.close();
 			stream = null;
+			release();
 		} catch (IOException e) {
 			throw new StreamRuntimeException(e);
 		}
 	}
-
-	@Override
-	public void skipe(int bytes)
-	{
-		try {
-			stream.skip(bytes);
-		} catch (IOException e) {
-			throw new StreamRuntimeException(e);
-		}
-	}
-
-	@Override
-	public void reset()
-	{
-		throw new UnsupportedOperationException();
-	}
 }
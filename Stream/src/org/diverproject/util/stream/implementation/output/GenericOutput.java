@@ -1,6 +1,5 @@
 package org.diverproject.util.stream.implementation.output;
 
-import org.diverproject.util.lang.ByteUtil;
 import org.diverproject.util.stream.Output;
 import org.diverproject.util.stream.implementation.GenericStream;
 
@@ -11,6 +10,9 @@ import org.diverproject.util.stream.implementation.GenericStream;
  * Ela ir implementar todos os mtodos que so formados chamando outros mtodos de si mesmo.
  * Assim, os mtodos que no dependem de si prprio devero ser obrigatoriamente implementados.</p>
  *
+ * <p>Os tipos primitivos so escritos byte a byte por write(byte) sem criar vetores intermedirios,
+ * sendo que as sadas com acesso direto aos seus dados podem sobrescrever esses mtodos.</p>
+ *
  * @see GenericStream
  * @see Output
  *
@@ -66,7 +68,17 @@ public abstract class GenericOutput extends GenericStream implements Output
 	@Override
 	public void putShort(short value)
 	{
-		putBytes(ByteUtil.parseShort(value));
+		if (isInverted())
+		{
+			write((byte) value);
+			write((byte) (value >> 8));
+		}
+
+		else
+		{
+			write((byte) (value >> 8));
+			write((byte) value);
+		}
 	}
 
 	@Override
@@ -79,7 +91,13 @@ public abstract class GenericOutput extends GenericStream implements Output
 	@Override
 	public void putInt(int value)
 	{
-		putBytes(ByteUtil.parseInt(value));
+		if (isInverted())
+			for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE)
+				write((byte) (value >> shift));
+
+		else
+			for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE)
+				write((byte) (value >> shift));
 	}
 
 	@Override
@@ -92,7 +110,13 @@ public abstract class GenericOutput extends GenericStream implements Output
 	@Override
 	public void putLong(long value)
 	{
-		putBytes(ByteUtil.parseLong(value));
+		if (isInverted())
+			for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE)
+				write((byte) (value >> shift));
+
+		else
+			for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE)
+				write((byte) (value >> shift));
 	}
 
 	@Override
@@ -105,7 +129,7 @@ public abstract class GenericOutput extends GenericStream implements Output
 	@Override
 	public void putFloat(float value)
 	{
-		putBytes(ByteUtil.parseFloat(value));
+		putInt(Float.floatToIntBits(value));
 	}
 
 	@Override
@@ -118,7 +142,7 @@ public abstract class GenericOutput extends GenericStream implements Output
 	@Override
 	public void putDouble(double value)
 	{
-		putBytes(ByteUtil.parseDouble(value));
+		putLong(Double.doubleToLongBits(value));
 	}
 
 	@Override
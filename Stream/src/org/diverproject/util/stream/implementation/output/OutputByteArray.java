@@ -1,5 +1,8 @@
 package org.diverproject.util.stream.implementation.output;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
 import org.diverproject.util.ObjectDescription;
 import org.diverproject.util.lang.ByteUtil;
 import org.diverproject.util.stream.StreamRuntimeException;
@@ -13,7 +16,11 @@ import org.diverproject.util.stream.implementation.input.InputByteArray;
  * Por exemplo, comunicaes com arquivos escreve seus bytes consecutivamente sem pulos como fluxo de dados.
  * Nesse caso a fonte de fluxo ser esse vetor de bytes especificado e este ser usado diretamente ou copiado.</p>
  *
+ * <p>Os tipos primitivos so escritos diretamente no vetor atravs de um ByteBuffer em cada ordem de bytes,
+ * sem passar por write(byte) byte a byte, assim como os vetores de tipos primitivos que so copiados de uma vez.</p>
+ *
  * @see GenericOutput
+ * @see ByteBuffer
  *
  * @author Andrew Mello
  */
@@ -45,6 +52,16 @@ public class OutputByteArray extends GenericOutput
 	 */
 	private byte internalBuffer[];
 
+	/**
+	 * Visualizao do vetor interno para escrita de tipos primitivos na ordem normal.
+	 */
+	private ByteBuffer buffer;
+
+	/**
+	 * Visualizao do vetor interno para escrita de tipos primitivos na ordem invertida.
+	 */
+	private ByteBuffer invertedBuffer;
+
 	/**
 	 * Cria um novo escritor de dados em vetor a partir de um vetor os os dados sero escritos.
 	 * @param length quantidade de bytes que podero ser escritos dentro desse buffer.
@@ -53,6 +70,8 @@ public class OutputByteArray extends GenericOutput
 	public OutputByteArray(int length)
 	{
 		this.internalBuffer = new byte[length];
+		this.length = length;
+		this.wrap();
 	}
 
 	/**
@@ -80,6 +99,27 @@ public class OutputByteArray extends GenericOutput
 			this.internalBuffer = data;
 
 		this.length = data.length;
+		this.wrap();
+	}
+
+	/**
+	 * Procedimento interno que cria as visualizaes do vetor interno usadas pelos tipos primitivos.
+	 */
+
+	private void wrap()
+	{
+		buffer = ByteBuffer.wrap(internalBuffer);
+		invertedBuffer = ByteBuffer.wrap(internalBuffer).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	/**
+	 * Procedimento interno que obtm a visualizao do vetor interno na ordem de bytes atual.
+	 * @return aquisio da visualizao do vetor interno, os dados devem ser escritos a partir do offset.
+	 */
+
+	private ByteBuffer view()
+	{
+		return isInverted() ? invertedBuffer : buffer;
 	}
 
 	@Override
@@ -98,6 +138,104 @@ public class OutputByteArray extends GenericOutput
 		internalBuffer[offset++] = b;
 	}
 
+	@Override
+	public void putBytes(byte... values)
+	{
+		if (isInverted())
+		{
+			super.putBytes(values);
+			return;
+		}
+
+		System.arraycopy(values, 0, internalBuffer, offset, values.length);
+		offset += values.length;
+	}
+
+	@Override
+	public void putShort(short value)
+	{
+		view().putShort(offset, value);
+		offset += Short.BYTES;
+	}
+
+	@Override
+	public void putShorts(short... values)
+	{
+		ByteBuffer buffer = view();
+		buffer.position(offset);
+		buffer.asShortBuffer().put(values);
+
+		offset += values.length * Short.BYTES;
+	}
+
+	@Override
+	public void putInt(int value)
+	{
+		view().putInt(offset, value);
+		offset += Integer.BYTES;
+	}
+
+	@Override
+	public void putInts(int... values)
+	{
+		ByteBuffer buffer = view();
+		buffer.position(offset);
+		buffer.asIntBuffer().put(values);
+
+		offset += values.length * Integer.BYTES;
+	}
+
+	@Override
+	public void putLong(long value)
+	{
+		view().putLong(offset, value);
+		offset += Long.BYTES;
+	}
+
+	@Override
+	public void putLongs(long... values)
+	{
+		ByteBuffer buffer = view();
+		buffer.position(offset);
+		buffer.asLongBuffer().put(values);
+
+		offset += values.length * Long.BYTES;
+	}
+
+	@Override
+	public void putFloat(float value)
+	{
+		view().putFloat(offset, value);
+		offset += Float.BYTES;
+	}
+
+	@Override
+	public void putFloats(float... values)
+	{
+		ByteBuffer buffer = view();
+		buffer.position(offset);
+		buffer.asFloatBuffer().put(values);
+
+		offset += values.length * Float.BYTES;
+	}
+
+	@Override
+	public void putDouble(double value)
+	{
+		view().putDouble(offset, value);
+		offset += Double.BYTES;
+	}
+
+	@Override
+	public void putDoubles(double... values)
+	{
+		ByteBuffer buffer = view();
+		buffer.position(offset);
+		buffer.asDoubleBuffer().put(values);
+
+		offset += values.length * Double.BYTES;
+	}
+
 	@Override
 	public int offset()
 	{
@@ -120,6 +258,8 @@ public class OutputByteArray extends GenericOutput
 	public void close()
 	{
 		internalBuffer = null;
+		buffer = null;
+		invertedBuffer = null;
 		System.gc();
 	}
 
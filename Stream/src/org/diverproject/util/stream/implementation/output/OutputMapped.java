@@ -1,11 +1,16 @@
 package org.diverproject.util.stream.implementation.output;
 
 import static org.diverproject.util.Util.format;
-import static org.diverproject.util.Util.i;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 
 import org.diverproject.util.ObjectDescription;
 import org.diverproject.util.stream.StreamRuntimeException;
@@ -13,13 +18,19 @@ import org.diverproject.util.stream.StreamRuntimeException;
 /**
  * <h1>Sada Mapeada</h1>
  *
- * <p>A entrada de dados mapeada  feito atravs de um MappedByteBuffer onde os dados so obtidos.
- * Objetos desse tipo podero ser obtidos atravs da especificao de um arquivo ou stream.
- * Com a stream do arquivo ser possvel obter o canal do arquivo e deste criar o mapa.</p>
+ * <p>A sada de dados mapeada  feita atravs de um MappedByteBuffer onde os dados so escritos.
+ * O arquivo  mapeado em regies a partir da posio de escrita, e quando no houver mais espao
+ * na regio atual uma nova regio  mapeada a partir da posio atual com o dobro do tamanho,
+ * at MAX_REGION_SIZE. Assim as escritas so feitas diretamente na memria sem chamadas ao sistema.</p>
+ *
+ * <p>O mapeamento aumenta o tamanho do arquivo at o fim da regio mapeada, por isso ao fechar
+ * a sada o arquivo  truncado para a quantidade de bytes que foram de fato escritos. A liberao
+ * dos dados (flush) fora a gravao em disco de todas as pginas modificadas do arquivo.</p>
  *
  * @see GenericOutput
  * @see File
- * @see FileOutputStream
+ * @see FileChannel
+ * @see MappedByteBuffer
  *
  * @author Andrew Mello
  */
@@ -27,44 +38,59 @@ import org.diverproject.util.stream.StreamRuntimeException;
 public class OutputMapped extends GenericOutput
 {
 	/**
-	 * Tamanho interno mnimo do buffer que ser aceito para escrita de dados.
+	 * Tamanho mnimo da regio mapeada que ser aceito para escrita de dados.
 	 */
 	public static final int MIN_BUFFER_SIZE = 32;
 
 	/**
-	 * Tamanho interno padro do buffer que ser utilizado para escrita de dados.
+	 * Tamanho padro da primeira regio mapeada para escrita de dados.
 	 */
-	public static final int DEFAULT_BUFFEER_SIZE = 1024;
+	public static final int DEFAULT_BUFFEER_SIZE = 1024 * 1024;
 
 	/**
-	 * Buffer com bytes mapeados do arquivo que ser escrito.
+	 * Tamanho mximo que uma regio mapeada pode alcanar ao ser dobrada.
 	 */
-	private byte[] buffer;
+	public static final int MAX_REGION_SIZE = 256 * 1024 * 1024;
 
 	/**
-	 * Stream para sada de dados de um arquivo em disco.
+	 * Arquivo aberto para leitura e escrita de onde o canal  obtido.
 	 */
-	private FileOutputStream fos;
+	private RandomAccessFile file;
 
 	/**
-	 * At quantos bytes podem ser escritos neste arquivo.
+	 * Canal do arquivo usado para mapear as regies.
 	 */
-	private int length;
+	private FileChannel channel;
+
+	/**
+	 * Regio do arquivo mapeada atualmente, a sua posio  a posio de escrita na regio.
+	 */
+	private MappedByteBuffer map;
+
+	/**
+	 * Posio no arquivo onde a regio mapeada atual se inicia.
+	 */
+	private long mapOffset;
+
+	/**
+	 * Tamanho da prxima regio que ser mapeada.
+	 */
+	private int regionSize;
 
 	/**
-	 * Ponteiro de escrita dos dados no buffer interno.
+	 * Quantidade de bytes escritos no arquivo, maior posio j alcanada pela escrita.
 	 */
-	private int bufferOffset;
+	private long written;
 
 	/**
-	 * Se habilitado escreve os dados sempre houver um flush nos dados.
+	 * At quantos bytes podem ser escritos neste arquivo.
 	 */
-	private boolean partialFlush;
+	private int length;
 
 	/**
-	 * Cria um novo escritor de dados em vetor a partir de um arquivo os os dados sero escritos.
+	 * Cria um novo escritor de dados mapeado a partir de um arquivo onde os dados sero escritos.
 	 * @param path caminho completo ou parcial do arquivo do qual ser escrito por essa sada.
-	 * @throws IOException apenas se houver algum problema para iniciar a stream do arquivo.
+	 * @throws IOException apenas se houver algum problema para abrir ou mapear o arquivo.
 	 */
 
 	public OutputMapped(String path) throws IOException
@@ -73,46 +99,249 @@ public class OutputMapped extends GenericOutput
 	}
 
 	/**
-	 * Cria um novo escritor de dados em vetor a partir de um arquivo os os dados sero escritos.
+	 * Cria um novo escritor de dados mapeado a partir de um arquivo onde os dados sero escritos.
+	 * Caso o arquivo j exista o seu contedo ser descartado, assim como em um FileOutputStream.
 	 * @param file referncia de um objeto que represente um arquivo em disco no Java.
-	 * @throws IOException apenas se houver algum problema para iniciar a stream do arquivo.
+	 * @throws IOException apenas se houver algum problema para abrir ou mapear o arquivo.
 	 */
 
 	public OutputMapped(File file) throws IOException
 	{
-		fos = new FileOutputStream(file);
-		buffer = new byte[DEFAULT_BUFFEER_SIZE];
-		length = Integer.MAX_VALUE;
+		this.file = new RandomAccessFile(file, "rw");
+		this.file.setLength(0);
+		this.channel = this.file.getChannel();
+		this.regionSize = DEFAULT_BUFFEER_SIZE;
+		this.length = Integer.MAX_VALUE;
+
+		remap(0, 0);
 	}
 
 	@Override
 	public void flush()
 	{
-		forceFlush(partialFlush);
+		forceFlush(true);
 	}
 
 	@Override
 	public void write(byte b)
 	{
-		if (space() == 0)
+		reserve(Byte.BYTES).put(b);
+	}
+
+	/**
+	 * Procedimento interno que ir mapear uma nova regio do arquivo, substituindo a regio atual.
+	 * A regio atual s  liberada aps a nova ser mapeada, assim uma falha mantm a regio atual.
+	 * O tamanho da regio  dobrado a cada novo mapeamento at alcanar MAX_REGION_SIZE.
+	 * @param offset posio no arquivo onde a nova regio ir se iniciar.
+	 * @param bytes quantidade mnima de bytes que a nova regio deve possuir.
+	 */
+
+	private void remap(long offset, int bytes)
+	{
+		if (channel == null || !channel.isOpen())
+			throw new StreamRuntimeException("stream fechada");
+
+		int size = Math.max(regionSize, bytes);
+
+		MappedByteBuffer region;
+
+		try {
+			region = channel.map(FileChannel.MapMode.READ_WRITE, offset, size);
+		} catch (IOException e) {
+			throw new StreamRuntimeException(e, "falha ao mapear %d bytes em %d", size, offset);
+		}
+
+		unmap(map);
+
+		map = region;
+		mapOffset = offset;
+
+		if (regionSize < MAX_REGION_SIZE)
+			regionSize = Math.min(regionSize * 2, MAX_REGION_SIZE);
+	}
+
+	/**
+	 * Procedimento interno que garante espao na regio mapeada para a escrita de uma quantidade de bytes,
+	 * mapeando uma nova regio a partir da posio atual caso no haja espao suficiente.
+	 * @param bytes quantidade de bytes que sero escritos.
+	 * @return aquisio da regio mapeada na ordem de bytes atual, posicionada para a escrita.
+	 */
+
+	private MappedByteBuffer reserve(int bytes)
+	{
+		if (space() < bytes)
 			throw new StreamRuntimeException("espao mximo alcanado");
 
-		buffer[bufferOffset++] = b;
+		if (map.remaining() < bytes)
+			remap(position(), bytes);
+
+		ByteOrder order = isInverted() ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+
+		if (map.order() != order)
+			map.order(order);
+
+		return map;
+	}
+
+	/**
+	 * Procedimento interno que calcula quantos elementos de um vetor podem ser escritos de uma nica vez.
+	 * @param bytes quantidade de bytes de cada elemento.
+	 * @param left quantidade de elementos que ainda precisam ser escritos.
+	 * @return aquisio da quantidade de elementos que cabem na regio mapeada e no limite da sada.
+	 */
+
+	private int fit(int bytes, int left)
+	{
+		int count = Math.min(reserve(bytes).remaining(), space()) / bytes;
+
+		return Math.min(count, left);
+	}
+
+	/**
+	 * Procedimento interno que avana a posio de escrita na regio mapeada aps uma escrita em bloco.
+	 * @param bytes quantidade de bytes que foram escritos.
+	 */
+
+	private void advance(int bytes)
+	{
+		map.position(map.position() + bytes);
+	}
+
+	/**
+	 * @return aquisio da posio de escrita no arquivo.
+	 */
 
-		if (bufferOffset == buffer.length)
-			flush();
+	private long position()
+	{
+		return mapOffset + map.position();
+	}
+
+	/**
+	 * Procedimento interno que move a posio de escrita no arquivo, mantendo a regio mapeada
+	 * se a posio estiver dentro da mesma ou mapeando uma nova regio a partir da posio.
+	 * @param position nova posio de escrita no arquivo.
+	 */
+
+	private void seek(long position)
+	{
+		if (position < 0)
+			throw new StreamRuntimeException("posio invlida (position: %d)", position);
+
+		written = Math.max(written, position());
+
+		if (position >= mapOffset && position <= mapOffset + map.capacity())
+			map.position((int) (position - mapOffset));
+		else
+			remap(position, 0);
 	}
 
 	@Override
-	public int offset()
+	public void putBytes(byte... values)
 	{
-		try {
-			return fos == null ? 0 : i(fos.getChannel().position());
-		} catch (IOException e) {
-			return 0;
+		if (isInverted())
+		{
+			super.putBytes(values);
+			return;
+		}
+
+		for (int i = 0, count; i < values.length; i += count)
+		{
+			count = fit(Byte.BYTES, values.length - i);
+			map.put(values, i, count);
+		}
+	}
+
+	@Override
+	public void putShort(short value)
+	{
+		reserve(Short.BYTES).putShort(value);
+	}
+
+	@Override
+	public void putShorts(short... values)
+	{
+		for (int i = 0, count; i < values.length; i += count)
+		{
+			count = fit(Short.BYTES, values.length - i);
+			map.asShortBuffer().put(values, i, count);
+			advance(count * Short.BYTES);
+		}
+	}
+
+	@Override
+	public void putInt(int value)
+	{
+		reserve(Integer.BYTES).putInt(value);
+	}
+
+	@Override
+	public void putInts(int... values)
+	{
+		for (int i = 0, count; i < values.length; i += count)
+		{
+			count = fit(Integer.BYTES, values.length - i);
+			map.asIntBuffer().put(values, i, count);
+			advance(count * Integer.BYTES);
+		}
+	}
+
+	@Override
+	public void putLong(long value)
+	{
+		reserve(Long.BYTES).putLong(value);
+	}
+
+	@Override
+	public void putLongs(long... values)
+	{
+		for (int i = 0, count; i < values.length; i += count)
+		{
+			count = fit(Long.BYTES, values.length - i);
+			map.asLongBuffer().put(values, i, count);
+			advance(count * Long.BYTES);
 		}
 	}
 
+	@Override
+	public void putFloat(float value)
+	{
+		reserve(Float.BYTES).putFloat(value);
+	}
+
+	@Override
+	public void putFloats(float... values)
+	{
+		for (int i = 0, count; i < values.length; i += count)
+		{
+			count = fit(Float.BYTES, values.length - i);
+			map.asFloatBuffer().put(values, i, count);
+			advance(count * Float.BYTES);
+		}
+	}
+
+	@Override
+	public void putDouble(double value)
+	{
+		reserve(Double.BYTES).putDouble(value);
+	}
+
+	@Override
+	public void putDoubles(double... values)
+	{
+		for (int i = 0, count; i < values.length; i += count)
+		{
+			count = fit(Double.BYTES, values.length - i);
+			map.asDoubleBuffer().put(values, i, count);
+			advance(count * Double.BYTES);
+		}
+	}
+
+	@Override
+	public int offset()
+	{
+		return map == null ? (int) written : (int) position();
+	}
+
 	@Override
 	public int length()
 	{
@@ -122,22 +351,28 @@ public class OutputMapped extends GenericOutput
 	@Override
 	public boolean isClosed()
 	{
-		return fos == null || buffer == null || !fos.getChannel().isOpen();
+		return channel == null || !channel.isOpen();
 	}
 
 	@Override
 	public void close()
 	{
-		if (fos == null || buffer == null)
+		if (isClosed())
 			return;
 
 		try {
 
-			forceFlush(true);
+			if (map != null)
+				written = Math.max(written, position());
+
+			unmap(map);
+			map = null;
+
+			channel.truncate(written);
+			file.close();
 
-			fos.close();
-			buffer = null;
-			fos = null;
+			channel = null;
+			file = null;
 
 		} catch (IOException e) {
 			throw new StreamRuntimeException(e.getMessage());
@@ -147,49 +382,38 @@ public class OutputMapped extends GenericOutput
 	@Override
 	public void skipe(int bytes)
 	{
-		try {
-
-			if (bytes > 0)
-				putBytes(new byte[bytes]);
-			else
-			{
-				forceFlush(true);
-				fos.getChannel().position(fos.getChannel().position() + bytes);
-			}
-
-		} catch (IOException e) {
-			throw new StreamRuntimeException(e.getMessage());
-		}
+		if (bytes > 0)
+			putBytes(new byte[bytes]);
+		else
+			seek(position() + bytes);
 	}
 
 	@Override
 	public void reset()
 	{
-		try {
-
-			forceFlush(true);
-			fos.getChannel().position(0);
-
-		} catch (IOException e) {
-			throw new StreamRuntimeException(e.getMessage());
-		}
+		seek(0);
 	}
 
-	public void forceFlush(boolean fosForceFlush)
-	{
-		if (buffer == null)
-			throw new StreamRuntimeException("buffer fechado");
+	/**
+	 * Fora a gravao em disco das pginas modificadas da regio mapeada atual e
+	 * do restante do arquivo, incluindo as regies que j foram liberadas ao mapear novas regies.
+	 * @param force true para forar a gravao ou false para apenas verificar a stream.
+	 */
 
-		if (fos == null || !fos.getChannel().isOpen())
+	public void forceFlush(boolean force)
+	{
+		if (isClosed())
 			throw new StreamRuntimeException("stream fechada");
 
+		if (!force)
+			return;
+
 		try {
 
-			fos.write(buffer, 0, bufferOffset);
-			bufferOffset = 0;
+			if (map != null)
+				map.force();
 
-			if (fosForceFlush)
-				fos.flush();
+			channel.force(false);
 
 		} catch (IOException e) {
 			throw new StreamRuntimeException(e.getMessage());
@@ -207,33 +431,68 @@ public class OutputMapped extends GenericOutput
 	}
 
 	/**
-	 * Libera os dados em buffer (por garantia) e redimensiona o buffer interno para escrita dos dados.
-	 * Existe um tamanho mnimo do buffer porm no h limite para o tamanho mximo do mesmo.
-	 * @param size quantidade de bytes que o buffer interno da stream ir utilizar.
+	 * Define o tamanho da prxima regio do arquivo que ser mapeada, as seguintes continuaro dobrando.
+	 * Existe um tamanho mnimo da regio e o mximo inicial  o mesmo que MAX_REGION_SIZE.
+	 * @param size quantidade de bytes da prxima regio mapeada.
 	 */
 
 	public void setBufferSize(int size)
 	{
-		if (size < MIN_BUFFER_SIZE)
-			throw new StreamRuntimeException("buffer mnimo  de %d bytes", MIN_BUFFER_SIZE);
+		if (size < MIN_BUFFER_SIZE || size > MAX_REGION_SIZE)
+			throw new StreamRuntimeException("regio deve ter entre %d e %d bytes", MIN_BUFFER_SIZE, MAX_REGION_SIZE);
+
+		regionSize = size;
+	}
+
+	/**
+	 * Procedimento interno que libera o mapeamento de uma regio antes de ser coletada, necessrio
+	 * para que o arquivo possa ser truncado em sistemas que no permitem alterar arquivos mapeados.
+	 * Caso a verso do Java no permita a liberao a regio ser liberada pela coleta de lixo.
+	 * @param map referncia da regio mapeada que no ser mais usada, se for nula nada ser feito.
+	 */
+
+	private static void unmap(MappedByteBuffer map)
+	{
+		if (map == null)
+			return;
+
+		try {
 
-		flush();
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
 
-		buffer = new byte[size];
+			try {
+
+				Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+				Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+				theUnsafe.setAccessible(true);
+				invokeCleaner.invoke(theUnsafe.get(null), map);
+
+			} catch (NoSuchMethodException e) {
+
+				Method cleaner = map.getClass().getMethod("cleaner");
+				cleaner.setAccessible(true);
+
+				Object clean = cleaner.invoke(map);
+
+				if (clean != null)
+					clean.getClass().getMethod("clean").invoke(clean);
+			}
+
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// Liberao imediata indisponvel ou recusada, a regio ser liberada pela coleta de lixo.
+		}
 	}
 
 	@Override
 	protected void toString(ObjectDescription description)
 	{
-		if (isClosed())
+		if (isClosed() || map == null)
 		{
 			description.append("closed");
 			return;
 		}
 
-		if (buffer != null)
-			description.append("buffer", format("%d/%d", bufferOffset, buffer.length));
-
+		description.append("region", format("%d/%d", map.position(), map.capacity()));
 		description.append("offset", offset());
 		description.append("length", length());
 		description.append("space", space());
@@ -0,0 +1,155 @@
+package org.diverproject.util.stream.implementation.folder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.diverproject.util.collection.FolderElement;
+import org.diverproject.util.collection.abstraction.VirtualFolder;
+import org.diverproject.util.stream.StreamRuntimeException;
+import org.diverproject.util.stream.implementation.output.OutputMapped;
+
+/**
+ * <p><h1>Verificao da Pasta Mapeada</h1></p>
+ *
+ * <p>Escreve o ndice de uma pasta virtual com arquivos aleatrios e o abre atravs de uma pasta mapeada,
+ * verificando que cada caminho  encontrado com o seu valor, que caminhos inexistentes no so encontrados
+ * e que a iterao percorre os caminhos em ordem. Tambm verifica que indexar uma pasta com elementos
+ * que no so FolderElement resulta em uma exceo de stream.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see FolderIndex
+ * @see MappedFolder
+ *
+ * @author Andrew
+ */
+
+public class MappedFolderCheck
+{
+	public static void main(String[] args) throws IOException
+	{
+		checkIndex();
+		checkElements();
+
+		System.out.println("MappedFolderCheck: ok");
+	}
+
+	private static void checkIndex() throws IOException
+	{
+		Random random = new Random(13);
+		VirtualFolder<Entry> folder = new VirtualFolder<Entry>("data");
+		TreeMap<String, Long> expected = new TreeMap<String, Long>();
+
+		for (int i = 0; i < 20000; i++)
+		{
+			String path = String.format("data/f%d/s%d/file%d.bin", random.nextInt(30), random.nextInt(30), random.nextInt(100));
+			long value = random.nextLong();
+
+			if (folder.add(new Entry(path, value)))
+				expected.put(path, value);
+		}
+
+		File file = File.createTempFile("mapped-folder", ".idx");
+		file.deleteOnExit();
+
+		OutputMapped output = new OutputMapped(file);
+		FolderIndex.write(folder, entry -> entry.value, output);
+		output.close();
+
+		MappedFolder mapped = new MappedFolder(file.getPath());
+
+		check(mapped.size() == expected.size(), "size %d != %d", mapped.size(), expected.size());
+		check("data".equals(mapped.getName()), "nome %s", mapped.getName());
+
+		String shuffled[] = expected.keySet().toArray(new String[expected.size()]);
+		Collections.shuffle(Arrays.asList(shuffled), random);
+
+		for (String path : shuffled)
+		{
+			int entry = mapped.indexOf(path);
+
+			check(entry != -1, "indexOf(%s)", path);
+			check(path.equals(mapped.get(path)), "get(%s)", path);
+			check(mapped.getValue(entry) == expected.get(path), "getValue(%s)", path);
+			check(!mapped.contains(path + "x"), "contains(%sx)", path);
+		}
+
+		check(!mapped.contains("data/missing"), "contains(data/missing)");
+
+		Iterator<String> iterator = mapped.iterator();
+
+		for (String path : expected.keySet())
+			check(path.equals(iterator.next()), "iterao fora de ordem em %s", path);
+
+		check(!iterator.hasNext(), "iterao com caminhos a mais");
+
+		mapped.close();
+	}
+
+	private static void checkElements() throws IOException
+	{
+		VirtualFolder<Object> folder = new VirtualFolder<Object>("data")
+		{
+			@Override
+			public int size()
+			{
+				return 1;
+			}
+
+			@Override
+			public Iterator<Object> iterator()
+			{
+				return Arrays.<Object>asList("data/file").iterator();
+			}
+		};
+
+		File file = File.createTempFile("mapped-folder", ".idx");
+		file.deleteOnExit();
+
+		OutputMapped output = new OutputMapped(file);
+
+		try {
+			FolderIndex.write(folder, output);
+			throw new IllegalStateException("elemento que no  FolderElement foi indexado");
+		} catch (StreamRuntimeException e) {
+			output.close();
+		}
+	}
+
+	/**
+	 * <p><h1>Entrada</h1></p>
+	 *
+	 * <p>Elemento de pasta usado apenas para a verificao, possui o seu caminho e um valor.</p>
+	 *
+	 * @author Andrew
+	 */
+
+	private static class Entry implements FolderElement
+	{
+		private final String path;
+		private final long value;
+
+		public Entry(String path, long value)
+		{
+			this.path = path;
+			this.value = value;
+		}
+
+		@Override
+		public String getFilePath()
+		{
+			return path;
+		}
+	}
+
+	private static void check(boolean condition, String format, Object... args)
+	{
+		if (!condition)
+			throw new IllegalStateException(String.format(format, args));
+	}
+}
@@ -0,0 +1,146 @@
+package org.diverproject.util.stream.implementation.output;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.diverproject.util.stream.StreamRuntimeException;
+
+/**
+ * <p><h1>Verificao da Sada Mapeada</h1></p>
+ *
+ * <p>Escreve os mesmos dados aleatrios em uma sada mapeada e em uma sada por vetor de bytes,
+ * usando regies pequenas para que as escritas atravessem diversos mapeamentos, e compara o arquivo
+ * gerado com o vetor aps voltar ao inicio, sobrescrever e fechar a sada mapeada.
+ * Tambm verifica o limite de bytes da sada e que fechar mais de uma vez no falha.</p>
+ *
+ * <p>Termina normalmente se todas as verificaes passarem ou lana uma exceo na primeira falha.</p>
+ *
+ * @see OutputMapped
+ *
+ * @author Andrew Mello
+ */
+
+public class OutputMappedCheck
+{
+	public static void main(String[] args) throws IOException
+	{
+		for (int region : new int[] { OutputMapped.MIN_BUFFER_SIZE, 100, 4096 })
+			checkRandom(region);
+
+		checkLength();
+
+		System.out.println("OutputMappedCheck: ok");
+	}
+
+	private static void checkRandom(int region) throws IOException
+	{
+		Random random = new Random(region);
+		File file = File.createTempFile("output-mapped", ".bin");
+		file.deleteOnExit();
+
+		OutputMapped mapped = new OutputMapped(file);
+		OutputByteArray array = new OutputByteArray(1 << 24);
+		mapped.setBufferSize(region);
+
+		for (int i = 0; i < 20000; i++)
+		{
+			boolean inverted = random.nextBoolean();
+			mapped.setInvert(inverted);
+			array.setInvert(inverted);
+
+			switch (random.nextInt(6))
+			{
+				case 0:
+					int value = random.nextInt();
+					mapped.putInt(value);
+					array.putInt(value);
+					break;
+
+				case 1:
+					long large = random.nextLong();
+					mapped.putLong(large);
+					array.putLong(large);
+					break;
+
+				case 2:
+					int ints[] = new int[random.nextInt(300)];
+					for (int j = 0; j < ints.length; j++)
+						ints[j] = random.nextInt();
+					mapped.putInts(ints);
+					array.putInts(ints);
+					break;
+
+				case 3:
+					byte bytes[] = new byte[random.nextInt(500)];
+					random.nextBytes(bytes);
+					mapped.putBytes(bytes);
+					array.putBytes(bytes);
+					break;
+
+				case 4:
+					mapped.write((byte) i);
+					array.write((byte) i);
+					break;
+
+				default:
+					int skip = random.nextInt(50);
+					mapped.skipe(skip);
+					array.skipe(skip);
+			}
+
+			check(mapped.offset() == array.offset(), "posio %d != %d (region: %d)", mapped.offset(), array.offset(), region);
+
+			if (random.nextInt(5000) == 0)
+				mapped.flush();
+		}
+
+		int end = array.offset();
+		array.flush();
+		byte expected[] = array.getFlushedArray();
+
+		mapped.reset();
+		mapped.setInvert(false);
+		mapped.putInt(0x01020304);
+		mapped.close();
+		mapped.close();
+
+		expected[0] = 1;
+		expected[1] = 2;
+		expected[2] = 3;
+		expected[3] = 4;
+
+		byte written[] = Files.readAllBytes(file.toPath());
+
+		check(written.length == end, "arquivo com %d bytes no lugar de %d (region: %d)", written.length, end, region);
+		check(Arrays.equals(expected, written), "contedo diferente (region: %d)", region);
+		check(mapped.toString() != null, "toString aps fechar");
+	}
+
+	private static void checkLength() throws IOException
+	{
+		File file = File.createTempFile("output-mapped", ".bin");
+		file.deleteOnExit();
+
+		OutputMapped mapped = new OutputMapped(file);
+		mapped.setLength(10);
+		mapped.putLong(1L);
+
+		try {
+			mapped.putInt(1);
+			throw new IllegalStateException("limite de bytes ignorado");
+		} catch (StreamRuntimeException e) {
+			mapped.close();
+		}
+
+		check(file.length() == 8, "arquivo com %d bytes no lugar de 8", file.length());
+	}
+
+	private static void check(boolean condition, String format, Object... args)
+	{
+		if (!condition)
+			throw new IllegalStateException(String.format(format, args));
+	}
+}